@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.examples.ga.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedChromosome;
+import org.apache.commons.math4.ga.crossover.CrossoverPolicy;
+import org.apache.commons.math4.ga.crossover.CycleArrayCrossover;
+import org.apache.commons.math4.ga.crossover.CycleCrossover;
+import org.apache.commons.math4.ga.crossover.NPointArrayCrossover;
+import org.apache.commons.math4.ga.crossover.NPointCrossover;
+import org.apache.commons.math4.ga.crossover.OnePointBinaryCrossover;
+import org.apache.commons.math4.ga.crossover.OnePointCrossover;
+import org.apache.commons.math4.ga.crossover.OrderedArrayCrossover;
+import org.apache.commons.math4.ga.crossover.OrderedCrossover;
+import org.apache.commons.math4.ga.crossover.UniformArrayCrossover;
+import org.apache.commons.math4.ga.crossover.UniformCrossover;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.decoder.TransparentListChromosomeDecoder;
+import org.apache.commons.math4.ga.utils.ChromosomeRepresentationUtils;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the crossover of one pair of parents by each crossover policy. The
+ * list and array based implementations of the same policy are measured on
+ * parents of the same length.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class CrossoverBenchmark {
+
+    /** Number of crossover points of the n-point policies. */
+    private static final int CROSSOVER_POINTS = 2;
+
+    /** Mixing ratio of the uniform policies. */
+    private static final double RATIO = 0.5;
+
+    /** Number of genes of the parents. */
+    @Param({"100", "1000", "10000"})
+    private int genomeLength;
+
+    /** Binary parents. */
+    private BinaryChromosome<String> binary1;
+    /** Binary parents. */
+    private BinaryChromosome<String> binary2;
+    /** Real-valued list parents, permutations of the same distinct genes. */
+    private RealValuedChromosome<List<Double>> list1;
+    /** Real-valued list parents, permutations of the same distinct genes. */
+    private RealValuedChromosome<List<Double>> list2;
+    /** Real-valued array parents. */
+    private RealValuedArrayChromosome<double[]> array1;
+    /** Real-valued array parents. */
+    private RealValuedArrayChromosome<double[]> array2;
+    /** Permutation parents. */
+    private IntegralValuedArrayChromosome<int[]> permutation1;
+    /** Permutation parents. */
+    private IntegralValuedArrayChromosome<int[]> permutation2;
+
+    /** One point crossover of binary chromosomes. */
+    private final CrossoverPolicy<String> onePointBinary = new OnePointBinaryCrossover<>();
+    /** One point crossover of lists. */
+    private final CrossoverPolicy<List<Double>> onePoint = new OnePointCrossover<>();
+    /** N-point crossover of lists. */
+    private final CrossoverPolicy<List<Double>> nPoint = new NPointCrossover<>(CROSSOVER_POINTS);
+    /** N-point crossover of arrays. */
+    private final CrossoverPolicy<double[]> nPointArray = new NPointArrayCrossover<>(CROSSOVER_POINTS);
+    /** Uniform crossover of lists. */
+    private final CrossoverPolicy<List<Double>> uniform = new UniformCrossover<>(RATIO);
+    /** Uniform crossover of arrays. */
+    private final CrossoverPolicy<double[]> uniformArray = new UniformArrayCrossover<>(RATIO);
+    /** Ordered crossover of lists. */
+    private final CrossoverPolicy<List<Double>> ordered = new OrderedCrossover<>();
+    /** Ordered crossover of permutations. */
+    private final CrossoverPolicy<int[]> orderedArray = new OrderedArrayCrossover<>();
+    /** Cycle crossover of lists. */
+    private final CrossoverPolicy<List<Double>> cycle = new CycleCrossover<>();
+    /** Cycle crossover of permutations. */
+    private final CrossoverPolicy<int[]> cycleArray = new CycleArrayCrossover<>();
+
+    /**
+     * Creates the parents.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        binary1 = BinaryChromosome.randomChromosome(genomeLength, c -> 0, c -> "");
+        binary2 = BinaryChromosome.randomChromosome(genomeLength, c -> 0, c -> "");
+        final UniformRandomProvider random = RandomSource.XO_RO_SHI_RO_128_PP.create(42L);
+        // the permutation policies require both parents to contain the same genes
+        final List<Double> genes = ChromosomeRepresentationUtils.randomPermutation(genomeLength);
+        final TransparentListChromosomeDecoder<Double> listDecoder = new TransparentListChromosomeDecoder<>();
+        list1 = new RealValuedChromosome<>(genes, c -> 0, listDecoder);
+        final List<Double> shuffled = new ArrayList<>(genomeLength);
+        for (int index : permutation(random)) {
+            shuffled.add(genes.get(index));
+        }
+        list2 = new RealValuedChromosome<>(shuffled, c -> 0, listDecoder);
+        array1 = RealValuedArrayChromosome.randomChromosome(genomeLength, c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, 1);
+        array2 = RealValuedArrayChromosome.randomChromosome(genomeLength, c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, 1);
+        permutation1 = new IntegralValuedArrayChromosome<>(permutation(random), c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, genomeLength);
+        permutation2 = new IntegralValuedArrayChromosome<>(permutation(random), c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, genomeLength);
+    }
+
+    /**
+     * Creates a random permutation of the genome indices.
+     * @param random random generator
+     * @return permutation
+     */
+    private int[] permutation(UniformRandomProvider random) {
+        final int[] values = new int[genomeLength];
+        for (int i = 0; i < genomeLength; i++) {
+            values[i] = i;
+        }
+        for (int i = genomeLength - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+
+    /**
+     * One point crossover of binary chromosomes.
+     * @return offspring
+     */
+    @Benchmark
+    public ChromosomePair<String> onePointBinary() {
+        return onePointBinary.crossover(binary1, binary2, 1.0);
+    }
+
+    /**
+     * One point crossover of lists.
+     * @return offspring
+     */
+    @Benchmark
+    public ChromosomePair<List<Double>> onePoint() {
+        return onePoint.crossover(list1, list2, 1.0);
+    }
+
+    /**
+     * N-point crossover of lists.
+     * @return offspring
+     */
+    @Benchmark
+    public ChromosomePair<List<Double>> nPoint() {
+        return nPoint.crossover(list1, list2, 1.0);
+    }
+
+    /**
+     * N-point crossover of arrays.
+     * @return offspring
+     */
+    @Benchmark
+    public ChromosomePair<double[]> nPointArray() {
+        return nPointArray.crossover(array1, array2, 1.0);
+    }
+
+    /**
+     * Uniform crossover of lists.
+     * @return offspring
+     */
+    @Benchmark
+    public ChromosomePair<List<Double>> uniform() {
+        return uniform.crossover(list1, list2, 1.0);
+    }
+
+    /**
+     * Uniform crossover of arrays.
+     * @return offspring
+     */
+    @Benchmark
+    public ChromosomePair<double[]> uniformArray() {
+        return uniformArray.crossover(array1, array2, 1.0);
+    }
+
+    /**
+     * Ordered crossover of lists.
+     * @return offspring
+     */
+    @Benchmark
+    public ChromosomePair<List<Double>> ordered() {
+        return ordered.crossover(list1, list2, 1.0);
+    }
+
+    /**
+     * Ordered crossover of permutations.
+     * @return offspring
+     */
+    @Benchmark
+    public ChromosomePair<int[]> orderedArray() {
+        return orderedArray.crossover(permutation1, permutation2, 1.0);
+    }
+
+    /**
+     * Cycle crossover of lists.
+     * @return offspring
+     */
+    @Benchmark
+    public ChromosomePair<List<Double>> cycle() {
+        return cycle.crossover(list1, list2, 1.0);
+    }
+
+    /**
+     * Cycle crossover of permutations.
+     * @return offspring
+     */
+    @Benchmark
+    public ChromosomePair<int[]> cycleArray() {
+        return cycleArray.crossover(permutation1, permutation2, 1.0);
+    }
+
+}
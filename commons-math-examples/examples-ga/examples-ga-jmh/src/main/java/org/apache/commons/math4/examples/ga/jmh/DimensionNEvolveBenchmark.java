@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.examples.ga.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math4.examples.ga.mathfunctions.dimensionN.DimensionNCoordinate;
+import org.apache.commons.math4.examples.ga.mathfunctions.dimensionN.DimensionNDecoder;
+import org.apache.commons.math4.examples.ga.mathfunctions.dimensionN.DimensionNFitnessFunction;
+import org.apache.commons.math4.examples.ga.mathfunctions.utils.Constants;
+import org.apache.commons.math4.ga.AbstractGeneticAlgorithm;
+import org.apache.commons.math4.ga.AdaptiveGeneticAlgorithm;
+import org.apache.commons.math4.ga.GeneticAlgorithm;
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.convergence.FixedGenerationCount;
+import org.apache.commons.math4.ga.crossover.OnePointBinaryCrossover;
+import org.apache.commons.math4.ga.crossover.rategenerator.AdaptiveLinearMaximumRankBasedCrossoverRateGenerator;
+import org.apache.commons.math4.ga.listener.ConvergenceListenerRegistry;
+import org.apache.commons.math4.ga.mutation.BinaryMutation;
+import org.apache.commons.math4.ga.mutation.rategenerator.AdaptiveLinearMutationRateGenerator;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.selection.TournamentSelection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a fixed number of generations of the n-dimensional math function
+ * example, evolved by {@link GeneticAlgorithm} or
+ * {@link AdaptiveGeneticAlgorithm}. The genome length is the number of
+ * dimensions times {@link Constants#CHROMOSOME_LENGTH_PER_DIMENSION} bits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class DimensionNEvolveBenchmark {
+
+    /** Number of generations evolved per invocation. */
+    private static final int GENERATIONS = 20;
+
+    /** Size of the tournaments. */
+    private static final int TOURNAMENT_SIZE = 4;
+
+    /** Number of chromosomes in the population. */
+    @Param({"100", "1000"})
+    private int populationSize;
+
+    /** Number of dimensions of the function. */
+    @Param({"10", "100"})
+    private int dimension;
+
+    /** Genetic algorithm implementation. */
+    @Param({"STANDARD", "ADAPTIVE"})
+    private String algorithm;
+
+    /** The genetic algorithm. */
+    private AbstractGeneticAlgorithm<DimensionNCoordinate> ga;
+
+    /** Unevaluated initial population. */
+    private Population<DimensionNCoordinate> initial;
+
+    /**
+     * Creates the genetic algorithm.
+     */
+    @Setup(Level.Trial)
+    public void setupAlgorithm() {
+        if ("ADAPTIVE".equals(algorithm)) {
+            ga = new AdaptiveGeneticAlgorithm<>(new OnePointBinaryCrossover<DimensionNCoordinate>(),
+                    new AdaptiveLinearMaximumRankBasedCrossoverRateGenerator<>(Constants.CROSSOVER_RATE / 2,
+                            Constants.CROSSOVER_RATE),
+                    new BinaryMutation<>(), new AdaptiveLinearMutationRateGenerator<>(0,
+                            Constants.AVERAGE_MUTATION_RATE),
+                    new TournamentSelection<>(TOURNAMENT_SIZE), Constants.ELITISM_RATE);
+        } else {
+            ga = new GeneticAlgorithm<>(new OnePointBinaryCrossover<DimensionNCoordinate>(),
+                    Constants.CROSSOVER_RATE, new BinaryMutation<>(), Constants.AVERAGE_MUTATION_RATE,
+                    new TournamentSelection<>(TOURNAMENT_SIZE), Constants.ELITISM_RATE);
+        }
+        // no listeners
+        ga.setConvergenceListenerRegistry(new ConvergenceListenerRegistry<>());
+    }
+
+    /**
+     * Creates a new initial population, since evolving caches the fitness of
+     * its chromosomes.
+     */
+    @Setup(Level.Invocation)
+    public void setupPopulation() {
+        initial = new ListPopulation<>(populationSize);
+        final DimensionNFitnessFunction fitnessFunction = new DimensionNFitnessFunction();
+        final DimensionNDecoder decoder = new DimensionNDecoder();
+        for (int i = 0; i < populationSize; i++) {
+            initial.addChromosome(BinaryChromosome.<DimensionNCoordinate>randomChromosome(
+                    dimension * Constants.CHROMOSOME_LENGTH_PER_DIMENSION, fitnessFunction, decoder));
+        }
+    }
+
+    /**
+     * Evolves the initial population.
+     * @return final population
+     */
+    @Benchmark
+    public Population<DimensionNCoordinate> evolve() {
+        return ga.evolve(initial, new FixedGenerationCount<>(GENERATIONS));
+    }
+
+}
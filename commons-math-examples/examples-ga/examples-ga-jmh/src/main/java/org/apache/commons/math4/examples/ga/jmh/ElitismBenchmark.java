@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.examples.ga.jmh;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math4.ga.chromosome.AbstractChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the top-k elitism of {@link ListPopulation#nextGeneration(double)}
+ * with the previous approach of fully sorting the chromosome list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class ElitismBenchmark {
+
+    /** Number of chromosomes in the population. */
+    @Param({"10000", "100000", "1000000"})
+    private int populationSize;
+
+    /** Fraction of chromosomes surviving to the next generation. */
+    @Param({"0.01", "0.1"})
+    private double elitismRate;
+
+    /** Population with evaluated chromosomes. */
+    private ListPopulation<Double> population;
+
+    /** Chromosomes of the population in their original order. */
+    private List<Chromosome<Double>> chromosomes;
+
+    /**
+     * Creates a population of chromosomes with random and already evaluated
+     * fitness.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final UniformRandomProvider random = RandomSource.XO_RO_SHI_RO_128_PP.create(42L);
+        chromosomes = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            final double fitness = random.nextDouble();
+            final Chromosome<Double> chromosome = new AbstractChromosome<Double>(c -> fitness, c -> fitness) {
+            };
+            chromosome.evaluate();
+            chromosomes.add(chromosome);
+        }
+        population = new ListPopulation<>(chromosomes, populationSize);
+    }
+
+    /**
+     * Elitism by top-k selection, as implemented by the population.
+     * @return next generation
+     */
+    @Benchmark
+    public Population<Double> topK() {
+        return population.nextGeneration(elitismRate);
+    }
+
+    /**
+     * Elitism by sorting a copy of the whole chromosome list.
+     * @return next generation
+     */
+    @Benchmark
+    public Population<Double> fullSort() {
+        final List<Chromosome<Double>> sorted = new ArrayList<>(chromosomes);
+        Collections.sort(sorted);
+        final ListPopulation<Double> nextGeneration = new ListPopulation<>(populationSize);
+        final int boundIndex = (int) Math.ceil((1.0 - elitismRate) * sorted.size());
+        for (int i = boundIndex; i < sorted.size(); i++) {
+            nextGeneration.addChromosome(sorted.get(i));
+        }
+        return nextGeneration;
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.examples.ga.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedChromosome;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.decoder.TransparentListChromosomeDecoder;
+import org.apache.commons.math4.ga.mutation.BinaryMutation;
+import org.apache.commons.math4.ga.mutation.IntegralValuedArrayMutation;
+import org.apache.commons.math4.ga.mutation.MutationPolicy;
+import org.apache.commons.math4.ga.mutation.RealValuedArrayMutation;
+import org.apache.commons.math4.ga.mutation.RealValuedMutation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the mutation of one chromosome by each mutation policy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class MutationBenchmark {
+
+    /** Upper bound of the integral genes. */
+    private static final int MAX_ALLELE = 100;
+
+    /** Number of genes of the chromosome. */
+    @Param({"100", "1000", "10000"})
+    private int genomeLength;
+
+    /** Average fraction of mutated genes. */
+    @Param({"0.01", "0.1"})
+    private double mutationRate;
+
+    /** Binary chromosome. */
+    private BinaryChromosome<String> binary;
+    /** Real-valued list chromosome. */
+    private RealValuedChromosome<List<Double>> list;
+    /** Real-valued array chromosome. */
+    private RealValuedArrayChromosome<double[]> array;
+    /** Integral-valued array chromosome. */
+    private IntegralValuedArrayChromosome<int[]> integralArray;
+
+    /** Mutation of binary chromosomes. */
+    private final MutationPolicy<String> binaryMutation = new BinaryMutation<>();
+    /** Mutation of real-valued lists. */
+    private final MutationPolicy<List<Double>> realValuedMutation = new RealValuedMutation<>();
+    /** Mutation of real-valued arrays. */
+    private final MutationPolicy<double[]> realValuedArrayMutation = new RealValuedArrayMutation<>();
+    /** Mutation of integral-valued arrays. */
+    private final MutationPolicy<int[]> integralValuedArrayMutation =
+            new IntegralValuedArrayMutation<>(0, MAX_ALLELE);
+
+    /**
+     * Creates the chromosomes.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        binary = BinaryChromosome.randomChromosome(genomeLength, c -> 0, c -> "");
+        list = RealValuedChromosome.randomChromosome(genomeLength, c -> 0, new TransparentListChromosomeDecoder<>(),
+                0, 1);
+        array = RealValuedArrayChromosome.randomChromosome(genomeLength, c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, 1);
+        integralArray = IntegralValuedArrayChromosome.randomChromosome(genomeLength, c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, MAX_ALLELE);
+    }
+
+    /**
+     * Mutation of a binary chromosome.
+     * @return mutated chromosome
+     */
+    @Benchmark
+    public Chromosome<String> binary() {
+        return binaryMutation.mutate(binary, mutationRate);
+    }
+
+    /**
+     * Mutation of a real-valued list chromosome.
+     * @return mutated chromosome
+     */
+    @Benchmark
+    public Chromosome<List<Double>> realValued() {
+        return realValuedMutation.mutate(list, mutationRate);
+    }
+
+    /**
+     * Mutation of a real-valued array chromosome.
+     * @return mutated chromosome
+     */
+    @Benchmark
+    public Chromosome<double[]> realValuedArray() {
+        return realValuedArrayMutation.mutate(array, mutationRate);
+    }
+
+    /**
+     * Mutation of an integral-valued array chromosome.
+     * @return mutated chromosome
+     */
+    @Benchmark
+    public Chromosome<int[]> integralValuedArray() {
+        return integralValuedArrayMutation.mutate(integralArray, mutationRate);
+    }
+
+}
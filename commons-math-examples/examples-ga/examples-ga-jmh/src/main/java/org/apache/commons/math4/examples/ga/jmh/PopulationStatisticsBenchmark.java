@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.examples.ga.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math4.ga.chromosome.AbstractChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.internal.stats.PopulationStatisticalSummaryImpl;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.stats.PopulationStatisticalSummary;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the computation of {@link PopulationStatisticalSummaryImpl} and the
+ * rank look-up used by the adaptive rate generators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class PopulationStatisticsBenchmark {
+
+    /** Number of chromosomes in the population. */
+    @Param({"1000", "10000", "100000"})
+    private int populationSize;
+
+    /** Population with evaluated chromosomes. */
+    private ListPopulation<Double> population;
+
+    /** Summary of the population. */
+    private PopulationStatisticalSummary<Double> summary;
+
+    /** Chromosome whose rank is looked up. */
+    private Chromosome<Double> chromosome;
+
+    /**
+     * Creates a population of chromosomes with random and already evaluated
+     * fitness.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final UniformRandomProvider random = RandomSource.XO_RO_SHI_RO_128_PP.create(42L);
+        population = new ListPopulation<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            final double fitness = random.nextDouble();
+            final Chromosome<Double> c = new AbstractChromosome<Double>(f -> fitness, f -> fitness) {
+            };
+            c.evaluate();
+            population.addChromosome(c);
+        }
+        summary = new PopulationStatisticalSummaryImpl<>(population);
+        chromosome = population.getFittestChromosome();
+    }
+
+    /**
+     * Computes the summary of the population.
+     * @return summary
+     */
+    @Benchmark
+    public PopulationStatisticalSummary<Double> summary() {
+        return new PopulationStatisticalSummaryImpl<>(population);
+    }
+
+    /**
+     * Looks up the rank of a chromosome.
+     * @return rank
+     */
+    @Benchmark
+    public int findRank() {
+        return summary.findRank(chromosome);
+    }
+
+}
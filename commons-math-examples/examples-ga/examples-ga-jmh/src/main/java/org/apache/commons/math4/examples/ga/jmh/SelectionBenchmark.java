@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.examples.ga.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math4.ga.chromosome.AbstractChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.selection.IndexTournamentSelection;
+import org.apache.commons.math4.ga.selection.LinearRankingSelection;
+import org.apache.commons.math4.ga.selection.RouletteWheelSelection;
+import org.apache.commons.math4.ga.selection.StochasticUniversalSampling;
+import org.apache.commons.math4.ga.selection.TournamentSelection;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the selection of the parents of one generation, i.e. as many
+ * parents as there are chromosomes in the population.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class SelectionBenchmark {
+
+    /** Number of individuals drawn to a tournament. */
+    private static final int ARITY = 2;
+
+    /** Selection pressure of the linear ranking. */
+    private static final double SELECTION_PRESSURE = 1.5;
+
+    /** Number of chromosomes in the population. */
+    @Param({"100", "1000", "10000"})
+    private int populationSize;
+
+    /** Population with evaluated chromosomes. */
+    private ListPopulation<Double> population;
+
+    /** Fitness of the population. */
+    private double[] fitness;
+
+    /** Indices of the selected parents. */
+    private int[] parents;
+
+    /** Selection policy of chromosome pairs. */
+    private final TournamentSelection<Double> tournament = new TournamentSelection<>(ARITY);
+    /** Tournament selection of indices. */
+    private final IndexTournamentSelection<Double> indexTournament = new IndexTournamentSelection<>(ARITY);
+    /** Linear ranking selection of indices. */
+    private final LinearRankingSelection<Double> linearRanking = new LinearRankingSelection<>(SELECTION_PRESSURE);
+    /** Stochastic universal sampling of indices. */
+    private final StochasticUniversalSampling<Double> stochasticUniversalSampling =
+            new StochasticUniversalSampling<>();
+    /** Roulette wheel selection of indices. */
+    private final RouletteWheelSelection<Double> rouletteWheel = new RouletteWheelSelection<>();
+
+    /**
+     * Creates a population of chromosomes with random and already evaluated
+     * fitness.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final UniformRandomProvider random = RandomSource.XO_RO_SHI_RO_128_PP.create(42L);
+        population = new ListPopulation<>(populationSize);
+        fitness = new double[populationSize];
+        parents = new int[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            final double value = random.nextDouble();
+            final Chromosome<Double> chromosome = new AbstractChromosome<Double>(c -> value, c -> value) {
+            };
+            chromosome.evaluate();
+            population.addChromosome(chromosome);
+            fitness[i] = value;
+        }
+    }
+
+    /**
+     * Tournament selection of one pair at a time.
+     * @param blackhole consumes the selected pairs
+     */
+    @Benchmark
+    public void tournament(Blackhole blackhole) {
+        for (int i = 0; i < populationSize / 2; i++) {
+            blackhole.consume(tournament.select(population));
+        }
+    }
+
+    /**
+     * Tournament selection of all parents from the population, including the
+     * fitness snapshot.
+     * @return selected parents
+     */
+    @Benchmark
+    public List<Chromosome<Double>> indexTournamentPopulation() {
+        return indexTournament.select(population, populationSize);
+    }
+
+    /**
+     * Tournament selection of all parents from the fitness snapshot.
+     * @return selected parents
+     */
+    @Benchmark
+    public int[] indexTournament() {
+        indexTournament.select(fitness, parents);
+        return parents;
+    }
+
+    /**
+     * Linear ranking selection of all parents from the fitness snapshot.
+     * @return selected parents
+     */
+    @Benchmark
+    public int[] linearRanking() {
+        linearRanking.select(fitness, parents);
+        return parents;
+    }
+
+    /**
+     * Stochastic universal sampling of all parents from the fitness snapshot.
+     * @return selected parents
+     */
+    @Benchmark
+    public int[] stochasticUniversalSampling() {
+        stochasticUniversalSampling.select(fitness, parents);
+        return parents;
+    }
+
+    /**
+     * Roulette wheel selection of all parents from the fitness snapshot.
+     * @return selected parents
+     */
+    @Benchmark
+    public int[] rouletteWheel() {
+        rouletteWheel.select(fitness, parents);
+        return parents;
+    }
+
+}
@@ -20,30 +20,26 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
-import org.apache.commons.math4.ga.chromosome.Chromosome;
-import org.apache.commons.math4.ga.decoder.Decoder;
+import org.apache.commons.math4.ga.decoder.AbstractBinaryChromosomeDecoder;
 
 /**
  * Decoder to convert chromosome's binary genotype to phenotype
  * {@link DimensionNCoordinate}.
  */
-public class DimensionNDecoder implements Decoder<DimensionNCoordinate> {
+public class DimensionNDecoder extends AbstractBinaryChromosomeDecoder<DimensionNCoordinate> {
 
     /**
      * decode the binary representation of chromosome to
      * {@link DimensionNCoordinate}.
-     * @param chromosome The {@link Chromosome}
+     * @param chromosome The {@link BinaryChromosome}
      */
     @Override
-    public DimensionNCoordinate decode(Chromosome<DimensionNCoordinate> chromosome) {
-        final BinaryChromosome<DimensionNCoordinate> binaryChromosome =
-                (BinaryChromosome<DimensionNCoordinate>) chromosome;
-        final long length = binaryChromosome.getLength();
+    protected DimensionNCoordinate decode(BinaryChromosome<DimensionNCoordinate> chromosome) {
+        final long length = chromosome.getLength();
         final List<Double> coordinates = new ArrayList<>();
 
         for (int i = 0; i < length; i += 12) {
-            final String dimensionStrValue = binaryChromosome.getStringRepresentation(i, i + 12);
-            coordinates.add(Integer.parseUnsignedInt(dimensionStrValue, 2) / 100d);
+            coordinates.add(chromosome.getAlleleBits(i, 12) / 100d);
         }
 
         return new DimensionNCoordinate(coordinates);
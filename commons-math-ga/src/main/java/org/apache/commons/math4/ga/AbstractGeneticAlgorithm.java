@@ -17,12 +17,36 @@
 
 package org.apache.commons.math4.ga;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import org.apache.commons.math4.ga.checkpoint.Checkpoint;
+import org.apache.commons.math4.ga.chromosome.AbstractChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
 import org.apache.commons.math4.ga.convergence.StoppingCondition;
 import org.apache.commons.math4.ga.crossover.CrossoverPolicy;
+import org.apache.commons.math4.ga.fitness.BatchFitnessFunction;
+import org.apache.commons.math4.ga.fitness.FitnessFunction;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
 import org.apache.commons.math4.ga.listener.ConvergenceListenerRegistry;
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics;
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics.Operation;
 import org.apache.commons.math4.ga.mutation.MutationPolicy;
 import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.selection.AbstractIndexSelectionPolicy;
 import org.apache.commons.math4.ga.selection.SelectionPolicy;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +61,9 @@ public abstract class AbstractGeneticAlgorithm<P> {
     /** instance of logger. **/
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGeneticAlgorithm.class);
 
+    /** number of evaluation batches submitted per worker thread. **/
+    private static final int BATCHES_PER_WORKER = 4;
+
     /** the crossover policy used by the algorithm. */
     private final CrossoverPolicy<P> crossoverPolicy;
 
@@ -55,6 +82,18 @@ public abstract class AbstractGeneticAlgorithm<P> {
     /** The elitism rate having default value of .25. */
     private double elitismRate = .25;
 
+    /**
+     * The executor used to evaluate fitness of chromosomes in parallel,
+     * {@code null} if fitness is evaluated lazily by the calling thread.
+     */
+    private Executor executor;
+
+    /** the registry notified about the population of every generation. */
+    private ConvergenceListenerRegistry<P> convergenceListenerRegistry = ConvergenceListenerRegistry.getInstance();
+
+    /** the metrics receiving operator counters and timers. */
+    private EvolutionMetrics metrics = EvolutionMetrics.NONE;
+
     /**
      * @param crossoverPolicy The {@link CrossoverPolicy}
      * @param mutationPolicy  The {@link MutationPolicy}
@@ -84,6 +123,26 @@ public abstract class AbstractGeneticAlgorithm<P> {
         this.elitismRate = elitismRate;
     }
 
+    /**
+     * @param crossoverPolicy The {@link CrossoverPolicy}
+     * @param mutationPolicy  The {@link MutationPolicy}
+     * @param selectionPolicy The {@link SelectionPolicy}
+     * @param elitismRate     The elitism rate
+     * @param executor        The {@link Executor} used to evaluate fitness of
+     *                        chromosomes in parallel batches
+     */
+    protected AbstractGeneticAlgorithm(final CrossoverPolicy<P> crossoverPolicy,
+            final MutationPolicy<P> mutationPolicy,
+            final SelectionPolicy<P> selectionPolicy,
+            double elitismRate,
+            Executor executor) {
+        this(crossoverPolicy, mutationPolicy, selectionPolicy, elitismRate);
+        if (executor == null) {
+            throw new GeneticException(GeneticException.NULL_ARGUMENT, "executor");
+        }
+        this.executor = executor;
+    }
+
     /**
      * Returns the crossover policy.
      * @return crossover policy
@@ -133,20 +192,44 @@ public abstract class AbstractGeneticAlgorithm<P> {
         Population<P> current = initial;
 
         LOGGER.info("Starting evolution process.");
+        evaluate(current);
+        metrics.generationCompleted(generationsEvolved);
         // check if stopping condition is satisfied otherwise produce the next
         // generation of population.
         while (!condition.isSatisfied(current)) {
             // notify interested listener
-            ConvergenceListenerRegistry.<P>getInstance().notifyAll(generationsEvolved, current);
+            convergenceListenerRegistry.notifyAll(generationsEvolved, current);
 
             current = nextGeneration(current);
+            evaluate(current);
             this.generationsEvolved++;
+            metrics.generationCompleted(generationsEvolved);
         }
-        LOGGER.info("Population convergence achieved after generations: " + generationsEvolved);
+        LOGGER.info("Population convergence achieved after generations: {}", generationsEvolved);
 
         return current;
     }
 
+    /**
+     * Resumes an evolution from a {@link Checkpoint}. The random generator of the
+     * calling thread and the generation counter are restored before evolution
+     * continues with the checkpointed population, so that a sequential evolution
+     * resumed with an equivalent stopping condition produces the same results as
+     * the uninterrupted one. Note that stateful stopping conditions such as
+     * {@link org.apache.commons.math4.ga.convergence.FixedGenerationCount
+     * FixedGenerationCount} start counting from the checkpoint.
+     *
+     * @param checkpoint the checkpoint to resume from
+     * @param condition  the stopping condition used to stop evolution.
+     * @return the population that satisfies the stopping condition.
+     */
+    public Population<P> evolve(final Checkpoint<P> checkpoint, final StoppingCondition<P> condition) {
+        RandomProviderManager.restoreState(checkpoint.getRandomState());
+        this.generationsEvolved = checkpoint.getGeneration();
+        LOGGER.info("Resuming evolution from generation {}.", generationsEvolved);
+        return evolve(checkpoint.getPopulation(), condition);
+    }
+
     /**
      * Evolve the given population into the next generation.
      * <ol>
@@ -169,6 +252,167 @@ public abstract class AbstractGeneticAlgorithm<P> {
      */
     protected abstract Population<P> nextGeneration(Population<P> current);
 
+    /**
+     * Returns the source of parent pairs for one generation. A selection policy
+     * extending {@link AbstractIndexSelectionPolicy} selects the parents of all
+     * pairs at once from a fitness snapshot of the current population, any other
+     * policy selects each pair on demand.
+     *
+     * @param current the current population
+     * @param pairs   the number of pairs required for the generation
+     * @return the source of parent pairs
+     */
+    protected Supplier<ChromosomePair<P>> parentSelector(final Population<P> current, final int pairs) {
+        if (!(selectionPolicy instanceof AbstractIndexSelectionPolicy)) {
+            return () -> selectionPolicy.select(current);
+        }
+        final List<Chromosome<P>> parents =
+                ((AbstractIndexSelectionPolicy<P>) selectionPolicy).select(current, 2 * pairs);
+        final Iterator<Chromosome<P>> iterator = parents.iterator();
+        return () -> new ChromosomePair<>(iterator.next(), iterator.next());
+    }
+
+    /**
+     * Computes the fitness of all chromosomes of the given population before it
+     * is used for selection.
+     * <ul>
+     * <li>Unevaluated chromosomes whose fitness function is a
+     * {@link BatchFitnessFunction} are decoded and evaluated with one call per
+     * fitness function.</li>
+     * <li>If an {@link Executor} has been configured the remaining chromosomes
+     * are split into batches which are evaluated in parallel.</li>
+     * <li>Otherwise fitness is left to be computed lazily on first access unless
+     * {@link EvolutionMetrics metrics} are enabled, in which case the
+     * chromosomes are evaluated sequentially so that the evaluation time can be
+     * measured.</li>
+     * </ul>
+     * As fitness is cached by each chromosome and the fitness function does not
+     * depend on evaluation order, the evolution produces the same results as
+     * sequential evaluation. Only the chromosomes whose fitness was not cached
+     * yet are recorded by the {@link Operation#EVALUATION} metric, so a
+     * population may be passed to this method several times.
+     *
+     * @param population the population to evaluate
+     */
+    protected void evaluate(final Population<P> population) {
+        final boolean timed = metrics.isEnabled();
+        final int evaluations = timed ? countUnevaluated(population) : 0;
+        if (timed && evaluations == 0) {
+            return;
+        }
+        final long start = timed ? System.nanoTime() : 0;
+        evaluateInBatches(population);
+        if (executor != null) {
+            evaluateInParallel(population);
+        } else if (timed) {
+            for (Chromosome<P> chromosome : population) {
+                chromosome.evaluate();
+            }
+        }
+        if (timed) {
+            metrics.record(Operation.EVALUATION, evaluations, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Counts the chromosomes whose fitness has not been computed yet. Fitness is
+     * assumed not to be cached by chromosomes not extending
+     * {@link AbstractChromosome}.
+     * @param population the population
+     * @return number of chromosomes to evaluate
+     */
+    private int countUnevaluated(final Population<P> population) {
+        int count = 0;
+        for (Chromosome<P> chromosome : population) {
+            if (!(chromosome instanceof AbstractChromosome) ||
+                !((AbstractChromosome<P>) chromosome).isEvaluated()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Evaluates the unevaluated chromosomes having a {@link BatchFitnessFunction}
+     * with a single call per fitness function.
+     * @param population the population to evaluate
+     */
+    @SuppressWarnings("unchecked")
+    private void evaluateInBatches(final Population<P> population) {
+        Map<BatchFitnessFunction<P>, List<AbstractChromosome<P>>> batches = null;
+        for (Chromosome<P> chromosome : population) {
+            if (chromosome instanceof AbstractChromosome) {
+                final AbstractChromosome<P> abstractChromosome = (AbstractChromosome<P>) chromosome;
+                final FitnessFunction<P> fitnessFunction = abstractChromosome.getFitnessFunction();
+                if (fitnessFunction instanceof BatchFitnessFunction && !abstractChromosome.isEvaluated()) {
+                    if (batches == null) {
+                        batches = new IdentityHashMap<>();
+                    }
+                    batches.computeIfAbsent((BatchFitnessFunction<P>) fitnessFunction, f -> new ArrayList<>())
+                            .add(abstractChromosome);
+                }
+            }
+        }
+        if (batches == null) {
+            return;
+        }
+        for (List<AbstractChromosome<P>> batch : batches.values()) {
+            AbstractChromosome.evaluate(batch);
+        }
+    }
+
+    /**
+     * Evaluates the chromosomes of the population in parallel batches using
+     * the configured executor.
+     * @param population the population to evaluate
+     */
+    private void evaluateInParallel(final Population<P> population) {
+        final List<Chromosome<P>> chromosomes = new ArrayList<>(population.getPopulationSize());
+        for (Chromosome<P> chromosome : population) {
+            chromosomes.add(chromosome);
+        }
+        forEachIndex(chromosomes.size(), i -> chromosomes.get(i).evaluate());
+    }
+
+    /**
+     * Applies the task to every index in {@code [0, size)}. If an executor has
+     * been configured the indices are split into contiguous batches which run
+     * in parallel, otherwise the task is applied sequentially by the calling
+     * thread. The task must be safe to run concurrently for distinct indices.
+     * @param size the number of indices
+     * @param task the task applied to each index
+     */
+    protected void forEachIndex(final int size, final IntConsumer task) {
+        if (executor == null) {
+            for (int i = 0; i < size; i++) {
+                task.accept(i);
+            }
+            return;
+        }
+        final int workers = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() :
+                Runtime.getRuntime().availableProcessors();
+        final int batchSize = Math.max(1, (int) Math.ceil((double) size / (workers * BATCHES_PER_WORKER)));
+
+        final List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < size; from += batchSize) {
+            final int start = from;
+            final int end = Math.min(from + batchSize, size);
+            batches.add(CompletableFuture.runAsync(() -> {
+                for (int i = start; i < end; i++) {
+                    task.accept(i);
+                }
+            }, executor));
+        }
+        try {
+            CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new GeneticException(e.getCause());
+        }
+    }
+
     /**
      * Returns the elitism rate.
      * @return elitism rate
@@ -177,4 +421,46 @@ public abstract class AbstractGeneticAlgorithm<P> {
         return elitismRate;
     }
 
+    /**
+     * Returns the registry notified about the population of every generation.
+     * @return convergence listener registry
+     */
+    public ConvergenceListenerRegistry<P> getConvergenceListenerRegistry() {
+        return convergenceListenerRegistry;
+    }
+
+    /**
+     * Attaches a registry to this algorithm instance. By default the process-wide
+     * {@link ConvergenceListenerRegistry#getInstance() instance} is notified.
+     * @param convergenceListenerRegistry the {@link ConvergenceListenerRegistry}
+     */
+    public void setConvergenceListenerRegistry(ConvergenceListenerRegistry<P> convergenceListenerRegistry) {
+        this.convergenceListenerRegistry = Objects.requireNonNull(convergenceListenerRegistry);
+    }
+
+    /**
+     * Returns the metrics receiving operator counters and timers.
+     * @return evolution metrics
+     */
+    public EvolutionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Attaches metrics to this algorithm instance. By default
+     * {@link EvolutionMetrics#NONE no} metrics are recorded.
+     * @param metrics the {@link EvolutionMetrics}
+     */
+    public void setMetrics(EvolutionMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns the executor used for parallel fitness evaluation.
+     * @return executor, or {@code null} if fitness is evaluated lazily
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
 }
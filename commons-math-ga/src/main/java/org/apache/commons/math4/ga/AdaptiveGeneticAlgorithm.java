@@ -17,18 +17,21 @@
 
 package org.apache.commons.math4.ga;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 import org.apache.commons.math4.ga.chromosome.Chromosome;
 import org.apache.commons.math4.ga.chromosome.ChromosomePair;
 import org.apache.commons.math4.ga.crossover.CrossoverPolicy;
 import org.apache.commons.math4.ga.crossover.rategenerator.CrossoverRateGenerator;
 import org.apache.commons.math4.ga.internal.stats.PopulationStatisticalSummaryImpl;
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics;
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics.Operation;
 import org.apache.commons.math4.ga.mutation.MutationPolicy;
 import org.apache.commons.math4.ga.mutation.rategenerator.MutationRateGenerator;
 import org.apache.commons.math4.ga.population.Population;
 import org.apache.commons.math4.ga.selection.SelectionPolicy;
 import org.apache.commons.math4.ga.stats.PopulationStatisticalSummary;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * An implementation of Genetic Algorithm. The probability of crossover and
@@ -40,9 +43,6 @@ import org.slf4j.LoggerFactory;
  */
 public class AdaptiveGeneticAlgorithm<P> extends AbstractGeneticAlgorithm<P> {
 
-    /** instance of logger. **/
-    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGeneticAlgorithm.class);
-
     /** The crossover rate generator. **/
     private final CrossoverRateGenerator<P> crossoverRateGenerator;
 
@@ -85,13 +85,36 @@ public class AdaptiveGeneticAlgorithm<P> extends AbstractGeneticAlgorithm<P> {
         this.mutationRateGenerator = mutationProbabilityGenerator;
     }
 
+    /**
+     * @param crossoverPolicy               crossover policy
+     * @param crossoverProbabilityGenerator crossover probability generator
+     * @param mutationPolicy                mutation policy
+     * @param mutationProbabilityGenerator  mutation probability generator
+     * @param selectionPolicy               selection policy
+     * @param elitismRate                   elitism rate
+     * @param executor                      executor used for fitness evaluation
+     */
+    public AdaptiveGeneticAlgorithm(CrossoverPolicy<P> crossoverPolicy,
+            CrossoverRateGenerator<P> crossoverProbabilityGenerator,
+            MutationPolicy<P> mutationPolicy,
+            MutationRateGenerator<P> mutationProbabilityGenerator,
+            SelectionPolicy<P> selectionPolicy,
+            double elitismRate,
+            Executor executor) {
+        super(crossoverPolicy, mutationPolicy, selectionPolicy, elitismRate, executor);
+        this.crossoverRateGenerator = crossoverProbabilityGenerator;
+        this.mutationRateGenerator = mutationProbabilityGenerator;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected Population<P> nextGeneration(Population<P> current) {
-
-        LOGGER.debug("Reproducing next generation.");
+        final EvolutionMetrics metrics = getMetrics();
+        final boolean timed = metrics.isEnabled();
+        long selectionNanos = 0;
+        long crossoverNanos = 0;
 
         // compute statistics of current generation chromosomes.
         PopulationStatisticalSummary<P> populationStats = new PopulationStatisticalSummaryImpl<>(current);
@@ -100,26 +123,33 @@ public class AdaptiveGeneticAlgorithm<P> extends AbstractGeneticAlgorithm<P> {
         // generation.
         final Population<P> nextGeneration = current.nextGeneration(getElitismRate());
 
-        LOGGER.debug(
-                "No of Elite chromosomes selected from previous generation: " + nextGeneration.getPopulationSize());
-
         final int maxOffspringCount = nextGeneration.getPopulationLimit() - nextGeneration.getPopulationSize();
 
         // Initialize an empty population for offsprings.
         final Population<P> offspringPopulation = current.nextGeneration(0);
 
+        final long selectorStart = timed ? System.nanoTime() : 0;
+        final Supplier<ChromosomePair<P>> parents = parentSelector(current, (maxOffspringCount + 1) / 2);
+        if (timed) {
+            selectionNanos += System.nanoTime() - selectorStart;
+        }
+
         // perform crossover and generate new offsprings
         while (offspringPopulation.getPopulationSize() < maxOffspringCount) {
+            final long start = timed ? System.nanoTime() : 0;
 
             // select parent chromosomes
-            ChromosomePair<P> pair = getSelectionPolicy().select(current);
-            LOGGER.debug("Selected Chromosomes: \r\n" + pair.toString());
+            ChromosomePair<P> pair = parents.get();
+            final long selected = timed ? System.nanoTime() : 0;
 
             final double crossoverRate = crossoverRateGenerator.generate(pair.getFirst(), pair.getSecond(),
                     populationStats, getGenerationsEvolved());
             // apply crossover policy to create two offspring
             pair = getCrossoverPolicy().crossover(pair.getFirst(), pair.getSecond(), crossoverRate);
-            LOGGER.debug("Offsprings after Crossover: \r\n" + pair.toString());
+            if (timed) {
+                selectionNanos += selected - start;
+                crossoverNanos += System.nanoTime() - selected;
+            }
 
             // add the first chromosome to the population
             offspringPopulation.addChromosome(pair.getFirst());
@@ -129,18 +159,24 @@ public class AdaptiveGeneticAlgorithm<P> extends AbstractGeneticAlgorithm<P> {
                 offspringPopulation.addChromosome(pair.getSecond());
             }
         }
-        LOGGER.debug("Performing adaptive mutation of offsprings.");
 
         // recompute the statistics of the offspring population.
+        evaluate(offspringPopulation);
         populationStats = new PopulationStatisticalSummaryImpl<>(offspringPopulation);
 
         // apply mutation policy to the offspring chromosomes and add the mutated
         // chromosomes to next generation.
+        final long mutationStart = timed ? System.nanoTime() : 0;
         for (Chromosome<P> chromosome : offspringPopulation) {
             nextGeneration.addChromosome(getMutationPolicy().mutate(chromosome,
                     mutationRateGenerator.generate(chromosome, populationStats, getGenerationsEvolved())));
         }
-        LOGGER.debug("New Generation: \r\n" + nextGeneration.toString());
+        if (timed) {
+            final int offspring = offspringPopulation.getPopulationSize();
+            metrics.record(Operation.MUTATION, offspring, System.nanoTime() - mutationStart);
+            metrics.record(Operation.SELECTION, offspring, selectionNanos);
+            metrics.record(Operation.CROSSOVER, offspring, crossoverNanos);
+        }
 
         return nextGeneration;
     }
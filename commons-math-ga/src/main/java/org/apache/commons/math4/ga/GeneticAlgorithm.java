@@ -16,14 +16,17 @@
  */
 package org.apache.commons.math4.ga;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 import org.apache.commons.math4.ga.chromosome.ChromosomePair;
 import org.apache.commons.math4.ga.crossover.CrossoverPolicy;
 import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics;
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics.Operation;
 import org.apache.commons.math4.ga.mutation.MutationPolicy;
 import org.apache.commons.math4.ga.population.Population;
 import org.apache.commons.math4.ga.selection.SelectionPolicy;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Implementation of a genetic algorithm. All factors that govern the operation
@@ -34,9 +37,6 @@ import org.slf4j.LoggerFactory;
  */
 public class GeneticAlgorithm<P> extends AbstractGeneticAlgorithm<P> {
 
-    /** instance of logger. **/
-    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGeneticAlgorithm.class);
-
     /** crossover rate string. **/
     private static final String CROSSOVER_RATE = "CROSSOVER_RATE";
 
@@ -91,6 +91,31 @@ public class GeneticAlgorithm<P> extends AbstractGeneticAlgorithm<P> {
         this.mutationRate = mutationRate;
     }
 
+    /**
+     * Create a new genetic algorithm which evaluates fitness of chromosomes in
+     * parallel.
+     * @param crossoverPolicy The {@link CrossoverPolicy}
+     * @param crossoverRate   The crossover rate as a percentage (0-1 inclusive)
+     * @param mutationPolicy  The {@link MutationPolicy}
+     * @param mutationRate    The mutation rate as a percentage (0-1 inclusive)
+     * @param selectionPolicy The {@link SelectionPolicy}
+     * @param elitismRate     The rate of elitism
+     * @param executor        The {@link Executor} used for fitness evaluation
+     */
+    public GeneticAlgorithm(final CrossoverPolicy<P> crossoverPolicy,
+            final double crossoverRate,
+            final MutationPolicy<P> mutationPolicy,
+            final double mutationRate,
+            final SelectionPolicy<P> selectionPolicy,
+            final double elitismRate,
+            final Executor executor) {
+        super(crossoverPolicy, mutationPolicy, selectionPolicy, elitismRate, executor);
+
+        checkValidity(crossoverRate, mutationRate);
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+    }
+
     private void checkValidity(final double crossoverRateInput, final double inputMutationRate) {
         if (crossoverRateInput < 0 || crossoverRateInput > 1) {
             throw new GeneticException(GeneticException.OUT_OF_RANGE, crossoverRateInput, CROSSOVER_RATE, 0, 1);
@@ -124,30 +149,57 @@ public class GeneticAlgorithm<P> extends AbstractGeneticAlgorithm<P> {
      */
     @Override
     protected Population<P> nextGeneration(final Population<P> current) {
-
-        LOGGER.debug("Reproducing next generation.");
         final Population<P> nextGeneration = current.nextGeneration(getElitismRate());
+        final EvolutionMetrics metrics = getMetrics();
+        final boolean timed = metrics.isEnabled();
+        long selectionNanos = 0;
+        long crossoverNanos = 0;
+        long mutationNanos = 0;
+        int pairs = 0;
+
+        final long selectorStart = timed ? System.nanoTime() : 0;
+        final Supplier<ChromosomePair<P>> parents = parentSelector(current,
+                (nextGeneration.getPopulationLimit() - nextGeneration.getPopulationSize()) / 2);
+        if (timed) {
+            selectionNanos += System.nanoTime() - selectorStart;
+        }
 
         while (nextGeneration.getPopulationSize() < nextGeneration.getPopulationLimit() - 1) {
+            long start = timed ? System.nanoTime() : 0;
 
             // select parent chromosomes
-            ChromosomePair<P> pair = getSelectionPolicy().select(current);
-            LOGGER.debug("Selected Chromosomes: \r\n" + pair.toString());
+            ChromosomePair<P> pair = parents.get();
+            if (timed) {
+                final long now = System.nanoTime();
+                selectionNanos += now - start;
+                start = now;
+            }
 
             // apply crossover policy to create two offspring
             pair = getCrossoverPolicy().crossover(pair.getFirst(), pair.getSecond(), crossoverRate);
-            LOGGER.debug("Offsprings after Crossover: \r\n" + pair.toString());
+            if (timed) {
+                final long now = System.nanoTime();
+                crossoverNanos += now - start;
+                start = now;
+            }
 
             // apply mutation policy to the chromosomes
             pair = new ChromosomePair<>(getMutationPolicy().mutate(pair.getFirst(), mutationRate),
                     getMutationPolicy().mutate(pair.getSecond(), mutationRate));
-            LOGGER.debug("Offsprings after Mutation: \r\n" + pair.toString());
+            if (timed) {
+                mutationNanos += System.nanoTime() - start;
+            }
 
             // add the chromosomes to the population
             nextGeneration.addChromosome(pair.getFirst());
             nextGeneration.addChromosome(pair.getSecond());
+            pairs++;
+        }
+        if (timed) {
+            metrics.record(Operation.SELECTION, 2 * pairs, selectionNanos);
+            metrics.record(Operation.CROSSOVER, 2 * pairs, crossoverNanos);
+            metrics.record(Operation.MUTATION, 2 * pairs, mutationNanos);
         }
-        LOGGER.debug("New Generation : \r\n" + nextGeneration.toString());
 
         return nextGeneration;
     }
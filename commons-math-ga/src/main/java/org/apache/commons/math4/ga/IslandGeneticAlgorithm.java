@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.ga;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.convergence.StoppingCondition;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.listener.ConvergenceListenerRegistry;
+import org.apache.commons.math4.ga.migration.MigrationTopology;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Island model (multi-deme) genetic algorithm. Every island population is
+ * evolved independently by its own worker, using its own
+ * {@link AbstractGeneticAlgorithm} created by the configured factory. Since the
+ * workers run concurrently, the factory must return a new instance on every
+ * call: algorithms hold per-run state (metrics, listener registries, rankings)
+ * that must not be shared between islands. After every migration interval the workers
+ * are synchronized and the fittest chromosomes of each island replace the
+ * least fit chromosomes of the islands selected by the
+ * {@link MigrationTopology}.
+ * <p>
+ * The stopping condition is checked once per migration interval against the
+ * union of all islands.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class IslandGeneticAlgorithm<P> {
+
+    /** instance of logger. **/
+    private static final Logger LOGGER = LoggerFactory.getLogger(IslandGeneticAlgorithm.class);
+
+    /** migration interval string. **/
+    private static final String MIGRATION_INTERVAL = "MIGRATION_INTERVAL";
+
+    /** the factory creating the algorithm used to evolve each island. */
+    private final Supplier<? extends AbstractGeneticAlgorithm<P>> algorithmFactory;
+
+    /** the topology used for migration. */
+    private final MigrationTopology topology;
+
+    /** number of generations evolved between two migrations. */
+    private final int migrationInterval;
+
+    /** number of chromosomes emigrating from an island to every destination. */
+    private final int migrationSize;
+
+    /**
+     * The executor running the island workers, {@code null} if a dedicated
+     * thread is created per island.
+     */
+    private final Executor executor;
+
+    /** the number of generations evolved by every island in the last run. */
+    private int generationsEvolved;
+
+    /** the registry notified about the population of every generation. */
+    private ConvergenceListenerRegistry<P> convergenceListenerRegistry = ConvergenceListenerRegistry.getInstance();
+
+    /**
+     * Create an island model genetic algorithm which runs every island on a
+     * dedicated thread.
+     * @param algorithmFactory  the factory creating a new algorithm for every island
+     * @param topology          the {@link MigrationTopology}
+     * @param migrationInterval number of generations between two migrations
+     * @param migrationSize     number of emigrants per destination island
+     */
+    public IslandGeneticAlgorithm(final Supplier<? extends AbstractGeneticAlgorithm<P>> algorithmFactory,
+            final MigrationTopology topology,
+            final int migrationInterval,
+            final int migrationSize) {
+        this(algorithmFactory, topology, migrationInterval, migrationSize, null);
+    }
+
+    /**
+     * Create an island model genetic algorithm.
+     * @param algorithmFactory  the factory creating a new algorithm for every island
+     * @param topology          the {@link MigrationTopology}
+     * @param migrationInterval number of generations between two migrations
+     * @param migrationSize     number of emigrants per destination island
+     * @param executor          the {@link Executor} running the island workers
+     */
+    public IslandGeneticAlgorithm(final Supplier<? extends AbstractGeneticAlgorithm<P>> algorithmFactory,
+            final MigrationTopology topology,
+            final int migrationInterval,
+            final int migrationSize,
+            final Executor executor) {
+        this.algorithmFactory = Objects.requireNonNull(algorithmFactory);
+        this.topology = Objects.requireNonNull(topology);
+        if (migrationInterval <= 0) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, migrationInterval, MIGRATION_INTERVAL, 1,
+                    Integer.MAX_VALUE);
+        }
+        if (migrationSize < 0) {
+            throw new GeneticException(GeneticException.TOO_SMALL, migrationSize, 0);
+        }
+        this.migrationInterval = migrationInterval;
+        this.migrationSize = migrationSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the factory creating the algorithm used to evolve each island.
+     * @return algorithm factory
+     */
+    public Supplier<? extends AbstractGeneticAlgorithm<P>> getAlgorithmFactory() {
+        return algorithmFactory;
+    }
+
+    /**
+     * Returns the migration topology.
+     * @return topology
+     */
+    public MigrationTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Returns the number of generations evolved between two migrations.
+     * @return migration interval
+     */
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    /**
+     * Returns the number of emigrants per destination island.
+     * @return migration size
+     */
+    public int getMigrationSize() {
+        return migrationSize;
+    }
+
+    /**
+     * Returns the number of generations evolved by every island to reach the
+     * {@link StoppingCondition} in the last run.
+     * @return number of generations evolved
+     */
+    public int getGenerationsEvolved() {
+        return generationsEvolved;
+    }
+
+    /**
+     * Returns the registry notified about the population of every generation.
+     * @return convergence listener registry
+     */
+    public ConvergenceListenerRegistry<P> getConvergenceListenerRegistry() {
+        return convergenceListenerRegistry;
+    }
+
+    /**
+     * Attaches a registry to this algorithm instance. By default the process-wide
+     * {@link ConvergenceListenerRegistry#getInstance() instance} is notified.
+     * @param convergenceListenerRegistry the {@link ConvergenceListenerRegistry}
+     */
+    public void setConvergenceListenerRegistry(ConvergenceListenerRegistry<P> convergenceListenerRegistry) {
+        this.convergenceListenerRegistry = Objects.requireNonNull(convergenceListenerRegistry);
+    }
+
+    /**
+     * Evolve the given island populations concurrently until the stopping
+     * condition is satisfied by the union of all islands.
+     * @param initial   the initial, seed populations of the islands
+     * @param condition the stopping condition used to stop evolution
+     * @return the island populations that satisfy the stopping condition
+     * @throws GeneticException if the factory returns the same algorithm
+     * instance for two islands
+     */
+    public List<Population<P>> evolve(final List<? extends Population<P>> initial,
+            final StoppingCondition<P> condition) {
+        if (initial.isEmpty()) {
+            throw new GeneticException(GeneticException.NO_DATA);
+        }
+        final List<Population<P>> islands = new ArrayList<>(initial);
+        final List<AbstractGeneticAlgorithm<P>> algorithms = createAlgorithms(islands.size());
+        final ExecutorService dedicatedExecutor = executor == null ?
+                Executors.newFixedThreadPool(islands.size(), runnable -> {
+                    final Thread thread = new Thread(runnable);
+                    thread.setDaemon(true);
+                    return thread;
+                }) :
+                null;
+        final Executor islandExecutor = executor == null ? dedicatedExecutor : executor;
+
+        this.generationsEvolved = 0;
+        LOGGER.info("Starting evolution process of {} islands.", islands.size());
+        try {
+            runEpoch(islands, algorithms, islandExecutor, 0);
+            Population<P> archipelago = merge(islands);
+            while (!condition.isSatisfied(archipelago)) {
+                // notify interested listener
+                convergenceListenerRegistry.notifyAll(generationsEvolved, archipelago);
+
+                runEpoch(islands, algorithms, islandExecutor, migrationInterval);
+                this.generationsEvolved += migrationInterval;
+                migrate(islands);
+                archipelago = merge(islands);
+            }
+        } finally {
+            if (dedicatedExecutor != null) {
+                dedicatedExecutor.shutdown();
+            }
+        }
+        LOGGER.info("Population convergence achieved after generations: {}", generationsEvolved);
+
+        return islands;
+    }
+
+    /**
+     * Creates one algorithm per island.
+     * @param islandCount number of islands
+     * @return the algorithms, indexed by island
+     */
+    private List<AbstractGeneticAlgorithm<P>> createAlgorithms(final int islandCount) {
+        final List<AbstractGeneticAlgorithm<P>> algorithms = new ArrayList<>(islandCount);
+        final Map<AbstractGeneticAlgorithm<P>, Boolean> distinct = new IdentityHashMap<>(islandCount);
+        for (int i = 0; i < islandCount; i++) {
+            final AbstractGeneticAlgorithm<P> algorithm = Objects.requireNonNull(algorithmFactory.get());
+            if (distinct.put(algorithm, Boolean.TRUE) != null) {
+                throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT,
+                        "algorithm factory must return a new instance for every island");
+            }
+            algorithms.add(algorithm);
+        }
+        return algorithms;
+    }
+
+    /**
+     * Evolves every island for the given number of generations, one worker per
+     * island.
+     * @param islands       the island populations, updated in place
+     * @param algorithms    the algorithms evolving the islands, indexed by island
+     * @param islandExecutor executor running the workers
+     * @param generations   number of generations to evolve
+     */
+    private void runEpoch(final List<Population<P>> islands,
+            final List<AbstractGeneticAlgorithm<P>> algorithms,
+            final Executor islandExecutor,
+            final int generations) {
+        final List<CompletableFuture<Void>> workers = new ArrayList<>(islands.size());
+        for (int i = 0; i < islands.size(); i++) {
+            final int island = i;
+            final AbstractGeneticAlgorithm<P> algorithm = algorithms.get(island);
+            workers.add(CompletableFuture.runAsync(() -> {
+                Population<P> current = islands.get(island);
+                algorithm.evaluate(current);
+                for (int generation = 0; generation < generations; generation++) {
+                    current = algorithm.nextGeneration(current);
+                    algorithm.evaluate(current);
+                }
+                islands.set(island, current);
+            }, islandExecutor));
+        }
+        try {
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new GeneticException(e.getCause());
+        }
+    }
+
+    /**
+     * Exchanges the fittest chromosomes of every island with the destinations
+     * provided by the topology. Immigrants replace the least fit residents.
+     * @param islands the island populations, updated in place
+     */
+    private void migrate(final List<Population<P>> islands) {
+        if (migrationSize == 0) {
+            return;
+        }
+        final int islandCount = islands.size();
+        final List<List<Chromosome<P>>> residents = new ArrayList<>(islandCount);
+        final List<List<Chromosome<P>>> immigrants = new ArrayList<>(islandCount);
+        for (Population<P> island : islands) {
+            final List<Chromosome<P>> chromosomes = new ArrayList<>(island.getPopulationSize());
+            for (Chromosome<P> chromosome : island) {
+                chromosomes.add(chromosome);
+            }
+            // Sort the chromosomes according to descending order of fitness.
+            Collections.sort(chromosomes, Collections.reverseOrder());
+            residents.add(chromosomes);
+            immigrants.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < islandCount; i++) {
+            final List<Chromosome<P>> source = residents.get(i);
+            final List<Chromosome<P>> emigrants = source.subList(0, Math.min(migrationSize, source.size()));
+            for (int destination : topology.getDestinations(i, islandCount)) {
+                immigrants.get(destination).addAll(emigrants);
+            }
+        }
+
+        for (int i = 0; i < islandCount; i++) {
+            final List<Chromosome<P>> island = residents.get(i);
+            final List<Chromosome<P>> arrivals = immigrants.get(i);
+            if (arrivals.isEmpty()) {
+                continue;
+            }
+            final int arrivalCount = Math.min(arrivals.size(), island.size());
+            final List<Chromosome<P>> chromosomes = new ArrayList<>(island.size());
+            chromosomes.addAll(island.subList(0, island.size() - arrivalCount));
+            chromosomes.addAll(arrivals.subList(0, arrivalCount));
+            islands.set(i, new ListPopulation<>(chromosomes, islands.get(i).getPopulationLimit()));
+        }
+    }
+
+    /**
+     * Returns the union of all islands as a single population.
+     * @param islands the island populations
+     * @return population containing the chromosomes of all islands
+     */
+    private Population<P> merge(final List<Population<P>> islands) {
+        final List<Chromosome<P>> chromosomes = new ArrayList<>();
+        int populationLimit = 0;
+        for (Population<P> island : islands) {
+            for (Chromosome<P> chromosome : island) {
+                chromosomes.add(chromosome);
+            }
+            populationLimit += island.getPopulationLimit();
+        }
+        return new ListPopulation<>(chromosomes, populationLimit);
+    }
+
+}
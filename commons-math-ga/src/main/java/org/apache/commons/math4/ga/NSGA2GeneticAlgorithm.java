@@ -0,0 +1,512 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.math4.ga.crossover.CrossoverPolicy;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics;
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics.Operation;
+import org.apache.commons.math4.ga.multiobjective.NonDominatedSorting;
+import org.apache.commons.math4.ga.multiobjective.ObjectiveFunction;
+import org.apache.commons.math4.ga.mutation.MutationPolicy;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.selection.SelectionPolicy;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Multi-objective genetic algorithm NSGA-II (K. Deb et al., "A fast and elitist
+ * multiobjective genetic algorithm: NSGA-II", 2002).
+ * <p>
+ * Every generation, offspring are created from parents chosen by binary
+ * tournaments under the crowded comparison operator (lower non-dominated rank
+ * first, larger crowding distance second). Parents and offspring are then
+ * ranked together and the best of them, whole fronts first, survive. The
+ * algorithm is therefore elitist by construction and does not use an elitism
+ * rate.
+ * <p>
+ * Objective vectors are computed by an {@link ObjectiveFunction} once per
+ * chromosome, in parallel if an {@link Executor} is configured, and cached as
+ * long as the chromosome survives. The scalar fitness of the chromosomes is not
+ * used by the algorithm; it is only evaluated by stopping conditions and
+ * listeners which ask for it. After evolution, {@link #getParetoFront(Population)}
+ * returns the non-dominated chromosomes of the final population.
+ * <p>
+ * Each generation is ranked into an immutable snapshot which is handed to the
+ * crowded tournaments; the algorithm only keeps a reference to the snapshot of
+ * the population ranked last, so that the objective vectors of surviving
+ * chromosomes are not computed again.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class NSGA2GeneticAlgorithm<P> extends AbstractGeneticAlgorithm<P> {
+
+    /** crossover rate string. **/
+    private static final String CROSSOVER_RATE = "CROSSOVER_RATE";
+
+    /** mutation rate string. **/
+    private static final String MUTATION_RATE = "MUTATION_RATE";
+
+    /** the rate of crossover for the algorithm. */
+    private final double crossoverRate;
+
+    /** the rate of mutation for the algorithm. */
+    private final double mutationRate;
+
+    /** the function computing the objective vectors. */
+    private final ObjectiveFunction<P> objectiveFunction;
+
+    /** the crowded tournament selection. */
+    private final CrowdedTournamentSelection<P> crowdedSelection;
+
+    /** the ranking of the population which has been ranked last. */
+    private volatile Ranking<P> lastRanking;
+
+    /**
+     * Create a new NSGA-II algorithm.
+     * @param crossoverPolicy   The {@link CrossoverPolicy}
+     * @param crossoverRate     The crossover rate as a percentage (0-1 inclusive)
+     * @param mutationPolicy    The {@link MutationPolicy}
+     * @param mutationRate      The mutation rate as a percentage (0-1 inclusive)
+     * @param objectiveFunction The {@link ObjectiveFunction}
+     */
+    public NSGA2GeneticAlgorithm(final CrossoverPolicy<P> crossoverPolicy,
+            final double crossoverRate,
+            final MutationPolicy<P> mutationPolicy,
+            final double mutationRate,
+            final ObjectiveFunction<P> objectiveFunction) {
+        this(crossoverPolicy, crossoverRate, mutationPolicy, mutationRate, objectiveFunction,
+                new CrowdedTournamentSelection<>(objectiveFunction));
+    }
+
+    /**
+     * Create a new NSGA-II algorithm which computes objective vectors in
+     * parallel.
+     * @param crossoverPolicy   The {@link CrossoverPolicy}
+     * @param crossoverRate     The crossover rate as a percentage (0-1 inclusive)
+     * @param mutationPolicy    The {@link MutationPolicy}
+     * @param mutationRate      The mutation rate as a percentage (0-1 inclusive)
+     * @param objectiveFunction The {@link ObjectiveFunction}
+     * @param executor          The {@link Executor} used for objective evaluation
+     */
+    public NSGA2GeneticAlgorithm(final CrossoverPolicy<P> crossoverPolicy,
+            final double crossoverRate,
+            final MutationPolicy<P> mutationPolicy,
+            final double mutationRate,
+            final ObjectiveFunction<P> objectiveFunction,
+            final Executor executor) {
+        this(crossoverPolicy, crossoverRate, mutationPolicy, mutationRate, objectiveFunction,
+                new CrowdedTournamentSelection<>(objectiveFunction), executor);
+    }
+
+    /**
+     * @param crossoverPolicy   The {@link CrossoverPolicy}
+     * @param crossoverRate     The crossover rate
+     * @param mutationPolicy    The {@link MutationPolicy}
+     * @param mutationRate      The mutation rate
+     * @param objectiveFunction The {@link ObjectiveFunction}
+     * @param selectionPolicy   The crowded tournament selection
+     */
+    private NSGA2GeneticAlgorithm(final CrossoverPolicy<P> crossoverPolicy,
+            final double crossoverRate,
+            final MutationPolicy<P> mutationPolicy,
+            final double mutationRate,
+            final ObjectiveFunction<P> objectiveFunction,
+            final CrowdedTournamentSelection<P> selectionPolicy) {
+        super(crossoverPolicy, mutationPolicy, selectionPolicy, 0);
+        checkValidity(crossoverRate, mutationRate, objectiveFunction);
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+        this.objectiveFunction = objectiveFunction;
+        this.crowdedSelection = selectionPolicy;
+    }
+
+    /**
+     * @param crossoverPolicy   The {@link CrossoverPolicy}
+     * @param crossoverRate     The crossover rate
+     * @param mutationPolicy    The {@link MutationPolicy}
+     * @param mutationRate      The mutation rate
+     * @param objectiveFunction The {@link ObjectiveFunction}
+     * @param selectionPolicy   The crowded tournament selection
+     * @param executor          The {@link Executor} used for objective evaluation
+     */
+    private NSGA2GeneticAlgorithm(final CrossoverPolicy<P> crossoverPolicy,
+            final double crossoverRate,
+            final MutationPolicy<P> mutationPolicy,
+            final double mutationRate,
+            final ObjectiveFunction<P> objectiveFunction,
+            final CrowdedTournamentSelection<P> selectionPolicy,
+            final Executor executor) {
+        super(crossoverPolicy, mutationPolicy, selectionPolicy, 0, executor);
+        checkValidity(crossoverRate, mutationRate, objectiveFunction);
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+        this.objectiveFunction = objectiveFunction;
+        this.crowdedSelection = selectionPolicy;
+    }
+
+    private static void checkValidity(final double crossoverRateInput, final double inputMutationRate,
+            final Object objectiveFunctionInput) {
+        if (crossoverRateInput < 0 || crossoverRateInput > 1) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, crossoverRateInput, CROSSOVER_RATE, 0, 1);
+        }
+        if (inputMutationRate < 0 || inputMutationRate > 1) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, inputMutationRate, MUTATION_RATE, 0, 1);
+        }
+        if (objectiveFunctionInput == null) {
+            throw new GeneticException(GeneticException.NULL_ARGUMENT, "objectiveFunction");
+        }
+    }
+
+    /**
+     * Ranks the population: computes the objective vectors of the chromosomes
+     * which have none yet, their non-dominated ranks and crowding distances.
+     * The population returned by {@link #nextGeneration(Population)} is already
+     * ranked.
+     * @param population the population to evaluate
+     */
+    @Override
+    protected void evaluate(final Population<P> population) {
+        lastRanking = rankingOf(population);
+    }
+
+    /**
+     * Returns the ranking of the population, reusing the ranking of the
+     * population ranked last if it is the same population. The state of the
+     * algorithm is not changed.
+     * @param population the population
+     * @return the ranking
+     */
+    private Ranking<P> rankingOf(final Population<P> population) {
+        final Ranking<P> last = lastRanking;
+        if (last != null && last.population == population) {
+            return last;
+        }
+        final List<Chromosome<P>> chromosomes = new ArrayList<>(population.getPopulationSize());
+        for (Chromosome<P> chromosome : population) {
+            chromosomes.add(chromosome);
+        }
+        return rank(population, chromosomes, last);
+    }
+
+    /**
+     * Evolves the current population into the next generation.
+     * <ol>
+     * <li>Create as many offspring as the population limit by applying the
+     * crossover and mutation policies to parents chosen by crowded binary
+     * tournaments,</li>
+     * <li>rank parents and offspring together,</li>
+     * <li>fill the next generation with whole fronts, in order of rank, and
+     * complete it with the least crowded members of the first front which does
+     * not fit.</li>
+     * </ol>
+     * @param current the current population
+     * @return the population for the next generation.
+     */
+    @Override
+    protected Population<P> nextGeneration(final Population<P> current) {
+        final Ranking<P> ranking = rankingOf(current);
+        final EvolutionMetrics metrics = getMetrics();
+        final boolean timed = metrics.isEnabled();
+        long selectionNanos = 0;
+        long crossoverNanos = 0;
+        long mutationNanos = 0;
+
+        final Population<P> nextGeneration = current.nextGeneration(0);
+        final int limit = nextGeneration.getPopulationLimit();
+        final List<Chromosome<P>> combined = new ArrayList<>(ranking.chromosomes);
+        final int parentCount = combined.size();
+        while (combined.size() - parentCount < limit) {
+            long start = timed ? System.nanoTime() : 0;
+            ChromosomePair<P> pair = crowdedSelection.select(ranking);
+            if (timed) {
+                final long now = System.nanoTime();
+                selectionNanos += now - start;
+                start = now;
+            }
+            pair = getCrossoverPolicy().crossover(pair.getFirst(), pair.getSecond(), crossoverRate);
+            if (timed) {
+                final long now = System.nanoTime();
+                crossoverNanos += now - start;
+                start = now;
+            }
+            combined.add(getMutationPolicy().mutate(pair.getFirst(), mutationRate));
+            if (combined.size() - parentCount < limit) {
+                combined.add(getMutationPolicy().mutate(pair.getSecond(), mutationRate));
+            }
+            if (timed) {
+                mutationNanos += System.nanoTime() - start;
+            }
+        }
+        if (timed) {
+            final int offspring = combined.size() - parentCount;
+            metrics.record(Operation.SELECTION, offspring, selectionNanos);
+            metrics.record(Operation.CROSSOVER, offspring, crossoverNanos);
+            metrics.record(Operation.MUTATION, offspring, mutationNanos);
+        }
+
+        // environmental selection; ranks and crowding distances of the survivors
+        // are kept for the tournaments of the next generation
+        final Ranking<P> combinedRanking = rank(null, combined, ranking);
+        final int[] order = NonDominatedSorting.crowdedOrder(combinedRanking.ranks, combinedRanking.crowding);
+        final int survivors = Math.min(limit, order.length);
+        final List<Chromosome<P>> chromosomes = new ArrayList<>(survivors);
+        final double[][] objectives = new double[survivors][];
+        final int[] ranks = new int[survivors];
+        final double[] crowding = new double[survivors];
+        for (int i = 0; i < survivors; i++) {
+            final int survivor = order[i];
+            final Chromosome<P> chromosome = combined.get(survivor);
+            chromosomes.add(chromosome);
+            objectives[i] = combinedRanking.objectives[survivor];
+            ranks[i] = combinedRanking.ranks[survivor];
+            crowding[i] = combinedRanking.crowding[survivor];
+            nextGeneration.addChromosome(chromosome);
+        }
+        lastRanking = new Ranking<>(nextGeneration, chromosomes, objectives, ranks, crowding);
+        return nextGeneration;
+    }
+
+    /**
+     * Computes the missing objective vectors and ranks the chromosomes.
+     * @param population  the ranked population, {@code null} if the chromosomes
+     *                    do not form a population
+     * @param chromosomes the chromosomes
+     * @param known       a ranking whose objective vectors are reused, or
+     *                    {@code null}
+     * @return the ranking
+     */
+    private Ranking<P> rank(final Population<P> population, final List<Chromosome<P>> chromosomes,
+            final Ranking<P> known) {
+        final int size = chromosomes.size();
+        final double[][] objectives = new double[size][];
+        final int[] missing = new int[size];
+        int missingCount = 0;
+        for (int i = 0; i < size; i++) {
+            objectives[i] = known == null ? null : known.objectivesByChromosome.get(chromosomes.get(i));
+            if (objectives[i] == null) {
+                missing[missingCount++] = i;
+            }
+        }
+
+        final EvolutionMetrics metrics = getMetrics();
+        final long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        forEachIndex(missingCount, i -> {
+            final int index = missing[i];
+            objectives[index] = objectiveFunction.compute(chromosomes.get(index).decode());
+        });
+        if (metrics.isEnabled()) {
+            metrics.record(Operation.EVALUATION, missingCount, System.nanoTime() - start);
+        }
+
+        final int[] ranks = NonDominatedSorting.sort(objectives);
+        final double[] crowding = NonDominatedSorting.crowdingDistance(objectives, ranks);
+        return new Ranking<>(population, chromosomes, objectives, ranks, crowding);
+    }
+
+    /**
+     * Returns the non-dominated chromosomes of the population, e.g. of the
+     * population returned by {@link #evolve(Population,
+     * org.apache.commons.math4.ga.convergence.StoppingCondition) evolve}.
+     * The population is ranked if it is not the population ranked last; the
+     * state of the algorithm is not changed.
+     * @param population the population
+     * @return the chromosomes of the first front
+     */
+    public List<Chromosome<P>> getParetoFront(final Population<P> population) {
+        final Ranking<P> ranking = rankingOf(population);
+        final List<Chromosome<P>> front = new ArrayList<>();
+        for (int i = 0; i < ranking.ranks.length; i++) {
+            if (ranking.ranks[i] == 0) {
+                front.add(ranking.chromosomes.get(i));
+            }
+        }
+        return front;
+    }
+
+    /**
+     * Returns the objective vector of a chromosome of the population ranked
+     * last, i.e. of the population returned by the last call to
+     * {@link #evolve(Population, org.apache.commons.math4.ga.convergence.StoppingCondition)
+     * evolve}.
+     * @param chromosome the chromosome
+     * @return a copy of the objective vector
+     */
+    public double[] getObjectives(final Chromosome<P> chromosome) {
+        final Ranking<P> ranking = lastRanking;
+        final double[] objectives = ranking == null ? null : ranking.objectivesByChromosome.get(chromosome);
+        if (objectives != null) {
+            return objectives.clone();
+        }
+        throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT, "chromosome has not been ranked");
+    }
+
+    /**
+     * Returns the crossover rate.
+     * @return crossover rate
+     */
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+
+    /**
+     * Returns the mutation rate.
+     * @return mutation rate
+     */
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    /**
+     * Returns the objective function.
+     * @return objective function
+     */
+    public ObjectiveFunction<P> getObjectiveFunction() {
+        return objectiveFunction;
+    }
+
+    /**
+     * Immutable ranking of the chromosomes of a population.
+     * @param <P> phenotype of chromosome
+     */
+    private static final class Ranking<P> {
+
+        /** the ranked population, {@code null} for a set of chromosomes. */
+        private final Population<P> population;
+
+        /** the ranked chromosomes. */
+        private final List<Chromosome<P>> chromosomes;
+
+        /** the objective vector of each chromosome. */
+        private final double[][] objectives;
+
+        /** the non-dominated rank of each chromosome. */
+        private final int[] ranks;
+
+        /** the crowding distance of each chromosome. */
+        private final double[] crowding;
+
+        /** the objective vectors by chromosome identity. */
+        private final Map<Chromosome<P>, double[]> objectivesByChromosome;
+
+        /**
+         * @param population  the ranked population, or {@code null}
+         * @param chromosomes the ranked chromosomes
+         * @param objectives  the objective vector of each chromosome
+         * @param ranks       the non-dominated rank of each chromosome
+         * @param crowding    the crowding distance of each chromosome
+         */
+        Ranking(final Population<P> population, final List<Chromosome<P>> chromosomes,
+                final double[][] objectives, final int[] ranks, final double[] crowding) {
+            this.population = population;
+            this.chromosomes = Collections.unmodifiableList(chromosomes);
+            this.objectives = objectives;
+            this.ranks = ranks;
+            this.crowding = crowding;
+            final Map<Chromosome<P>, double[]> map = new IdentityHashMap<>(objectives.length);
+            for (int i = 0; i < objectives.length; i++) {
+                map.put(chromosomes.get(i), objectives[i]);
+            }
+            this.objectivesByChromosome = Collections.unmodifiableMap(map);
+        }
+    }
+
+    /**
+     * Binary tournament under the crowded comparison operator. The algorithm
+     * passes the ranking of the current generation with every selection.
+     * @param <P> phenotype of chromosome
+     */
+    private static final class CrowdedTournamentSelection<P> implements SelectionPolicy<P> {
+
+        /** the function computing the objective vectors. */
+        private final ObjectiveFunction<P> objectiveFunction;
+
+        /**
+         * @param objectiveFunction the function computing the objective vectors
+         *                          of populations selected from directly
+         */
+        CrowdedTournamentSelection(final ObjectiveFunction<P> objectiveFunction) {
+            this.objectiveFunction = objectiveFunction;
+        }
+
+        /**
+         * Ranks the population and selects two chromosomes from it.
+         * @param population the population from which the chromosomes are chosen.
+         * @return the selected chromosomes.
+         */
+        @Override
+        public ChromosomePair<P> select(final Population<P> population) {
+            final List<Chromosome<P>> chromosomes = new ArrayList<>(population.getPopulationSize());
+            for (Chromosome<P> chromosome : population) {
+                chromosomes.add(chromosome);
+            }
+            final double[][] objectives = new double[chromosomes.size()][];
+            for (int i = 0; i < objectives.length; i++) {
+                objectives[i] = objectiveFunction.compute(chromosomes.get(i).decode());
+            }
+            final int[] ranks = NonDominatedSorting.sort(objectives);
+            final double[] crowding = NonDominatedSorting.crowdingDistance(objectives, ranks);
+            return select(new Ranking<>(population, chromosomes, objectives, ranks, crowding));
+        }
+
+        /**
+         * Selects two chromosomes of a ranking.
+         * @param ranking the ranking
+         * @return the selected chromosomes
+         */
+        ChromosomePair<P> select(final Ranking<P> ranking) {
+            final UniformRandomProvider random = RandomProviderManager.getRandomProvider();
+            return new ChromosomePair<>(ranking.chromosomes.get(tournament(ranking, random)),
+                    ranking.chromosomes.get(tournament(ranking, random)));
+        }
+
+        /**
+         * Runs one tournament between two distinct chromosomes, if possible.
+         * @param ranking the ranking
+         * @param random  the random generator
+         * @return the index of the winner
+         */
+        private int tournament(final Ranking<P> ranking, final UniformRandomProvider random) {
+            final int size = ranking.ranks.length;
+            if (size == 0) {
+                throw new GeneticException(GeneticException.NO_DATA);
+            }
+            final int first = random.nextInt(size);
+            if (size == 1) {
+                return first;
+            }
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            if (ranking.ranks[first] != ranking.ranks[second]) {
+                return ranking.ranks[first] < ranking.ranks[second] ? first : second;
+            }
+            return ranking.crowding[first] >= ranking.crowding[second] ? first : second;
+        }
+    }
+
+}
@@ -0,0 +1,388 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.math4.ga.convergence.StoppingCondition;
+import org.apache.commons.math4.ga.crossover.CrossoverPolicy;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.listener.ConvergenceListenerRegistry;
+import org.apache.commons.math4.ga.mutation.MutationPolicy;
+import org.apache.commons.math4.ga.population.ConcurrentPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.selection.SelectionPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Steady-state (asynchronous) genetic algorithm. Instead of building complete
+ * generations, a number of workers continuously select parents from a shared
+ * {@link ConcurrentPopulation}, create and evaluate offspring and insert them
+ * in place of the least fit chromosomes. A slow fitness evaluation therefore
+ * only delays the worker performing it.
+ * <p>
+ * Evolution is measured in evaluations. Every time the number of evaluated
+ * offspring reaches a multiple of the population limit, one generation is
+ * considered to be evolved: the {@link StoppingCondition} is checked and the
+ * registered convergence listeners are notified.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class SteadyStateGeneticAlgorithm<P> {
+
+    /** instance of logger. **/
+    private static final Logger LOGGER = LoggerFactory.getLogger(SteadyStateGeneticAlgorithm.class);
+
+    /** crossover rate string. **/
+    private static final String CROSSOVER_RATE = "CROSSOVER_RATE";
+
+    /** mutation rate string. **/
+    private static final String MUTATION_RATE = "MUTATION_RATE";
+
+    /** the crossover policy used by the algorithm. */
+    private final CrossoverPolicy<P> crossoverPolicy;
+
+    /** the rate of crossover for the algorithm. */
+    private final double crossoverRate;
+
+    /** the mutation policy used by the algorithm. */
+    private final MutationPolicy<P> mutationPolicy;
+
+    /** the rate of mutation for the algorithm. */
+    private final double mutationRate;
+
+    /** the selection policy used by the algorithm. */
+    private final SelectionPolicy<P> selectionPolicy;
+
+    /**
+     * The executor running the workers, {@code null} if dedicated threads are
+     * created for every run.
+     */
+    private final Executor executor;
+
+    /** number of concurrent workers. */
+    private final int workerCount;
+
+    /** number of offspring evaluated in the last run. */
+    private final AtomicLong evaluations = new AtomicLong();
+
+    /** the number of generations evolved in the last run. */
+    private int generationsEvolved;
+
+    /** indicates whether the workers should stop. */
+    private volatile boolean stopped;
+
+    /** the registry notified about the population of every generation. */
+    private ConvergenceListenerRegistry<P> convergenceListenerRegistry = ConvergenceListenerRegistry.getInstance();
+
+    /**
+     * Create a steady-state genetic algorithm with one dedicated worker thread
+     * per available processor.
+     * @param crossoverPolicy The {@link CrossoverPolicy}
+     * @param crossoverRate   The crossover rate as a percentage (0-1 inclusive)
+     * @param mutationPolicy  The {@link MutationPolicy}
+     * @param mutationRate    The mutation rate as a percentage (0-1 inclusive)
+     * @param selectionPolicy The {@link SelectionPolicy}
+     */
+    public SteadyStateGeneticAlgorithm(final CrossoverPolicy<P> crossoverPolicy,
+            final double crossoverRate,
+            final MutationPolicy<P> mutationPolicy,
+            final double mutationRate,
+            final SelectionPolicy<P> selectionPolicy) {
+        this(crossoverPolicy, crossoverRate, mutationPolicy, mutationRate, selectionPolicy, null,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a steady-state genetic algorithm.
+     * @param crossoverPolicy The {@link CrossoverPolicy}
+     * @param crossoverRate   The crossover rate as a percentage (0-1 inclusive)
+     * @param mutationPolicy  The {@link MutationPolicy}
+     * @param mutationRate    The mutation rate as a percentage (0-1 inclusive)
+     * @param selectionPolicy The {@link SelectionPolicy}
+     * @param executor        The {@link Executor} running the workers, or
+     *                        {@code null} to run every worker on a dedicated
+     *                        thread
+     * @param workerCount     The number of concurrent workers
+     */
+    public SteadyStateGeneticAlgorithm(final CrossoverPolicy<P> crossoverPolicy,
+            final double crossoverRate,
+            final MutationPolicy<P> mutationPolicy,
+            final double mutationRate,
+            final SelectionPolicy<P> selectionPolicy,
+            final Executor executor,
+            final int workerCount) {
+        if (crossoverRate < 0 || crossoverRate > 1) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, crossoverRate, CROSSOVER_RATE, 0, 1);
+        }
+        if (mutationRate < 0 || mutationRate > 1) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, mutationRate, MUTATION_RATE, 0, 1);
+        }
+        if (workerCount <= 0) {
+            throw new GeneticException(GeneticException.NOT_STRICTLY_POSITIVE, workerCount);
+        }
+        this.crossoverPolicy = Objects.requireNonNull(crossoverPolicy);
+        this.crossoverRate = crossoverRate;
+        this.mutationPolicy = Objects.requireNonNull(mutationPolicy);
+        this.mutationRate = mutationRate;
+        this.selectionPolicy = Objects.requireNonNull(selectionPolicy);
+        this.executor = executor;
+        this.workerCount = workerCount;
+    }
+
+    /**
+     * Returns the crossover policy.
+     * @return crossover policy
+     */
+    public CrossoverPolicy<P> getCrossoverPolicy() {
+        return crossoverPolicy;
+    }
+
+    /**
+     * Returns the crossover rate.
+     * @return crossover rate
+     */
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+
+    /**
+     * Returns the mutation policy.
+     * @return mutation policy
+     */
+    public MutationPolicy<P> getMutationPolicy() {
+        return mutationPolicy;
+    }
+
+    /**
+     * Returns the mutation rate.
+     * @return mutation rate
+     */
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    /**
+     * Returns the selection policy.
+     * @return selection policy
+     */
+    public SelectionPolicy<P> getSelectionPolicy() {
+        return selectionPolicy;
+    }
+
+    /**
+     * Returns the number of concurrent workers.
+     * @return worker count
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Returns the number of offspring evaluated in the last run.
+     * @return number of evaluations
+     */
+    public long getEvaluations() {
+        return evaluations.get();
+    }
+
+    /**
+     * Returns the number of generations, i.e. multiples of the population limit
+     * in evaluations, evolved to reach the {@link StoppingCondition} in the last
+     * run.
+     * @return number of generations evolved
+     */
+    public int getGenerationsEvolved() {
+        return generationsEvolved;
+    }
+
+    /**
+     * Returns the registry notified about the population of every generation.
+     * @return convergence listener registry
+     */
+    public ConvergenceListenerRegistry<P> getConvergenceListenerRegistry() {
+        return convergenceListenerRegistry;
+    }
+
+    /**
+     * Attaches a registry to this algorithm instance. By default the process-wide
+     * {@link ConvergenceListenerRegistry#getInstance() instance} is notified.
+     * @param convergenceListenerRegistry the {@link ConvergenceListenerRegistry}
+     */
+    public void setConvergenceListenerRegistry(ConvergenceListenerRegistry<P> convergenceListenerRegistry) {
+        this.convergenceListenerRegistry = Objects.requireNonNull(convergenceListenerRegistry);
+    }
+
+    /**
+     * Evolve the given population until the stopping condition is satisfied.
+     * @param initial   the initial, seed population
+     * @param condition the stopping condition used to stop evolution
+     * @return the population that satisfies the stopping condition
+     */
+    public ConcurrentPopulation<P> evolve(final Population<P> initial, final StoppingCondition<P> condition) {
+        final List<Chromosome<P>> chromosomes = new ArrayList<>(initial.getPopulationSize());
+        for (Chromosome<P> chromosome : initial) {
+            chromosomes.add(chromosome);
+        }
+        final ConcurrentPopulation<P> population = new ConcurrentPopulation<>(chromosomes,
+                initial.getPopulationLimit());
+        final long generationSize = population.getPopulationLimit();
+
+        final ExecutorService dedicatedExecutor = executor == null ?
+                Executors.newFixedThreadPool(workerCount, runnable -> {
+                    final Thread thread = new Thread(runnable);
+                    thread.setDaemon(true);
+                    return thread;
+                }) :
+                null;
+        final Executor workerExecutor = executor == null ? dedicatedExecutor : executor;
+
+        this.evaluations.set(0);
+        this.generationsEvolved = 0;
+        this.stopped = false;
+        LOGGER.info("Starting steady-state evolution process with {} workers.", workerCount);
+        try {
+            join(evaluateAll(chromosomes, workerExecutor));
+            if (condition.isSatisfied(population)) {
+                return population;
+            }
+            convergenceListenerRegistry.notifyAll(generationsEvolved, population);
+
+            final List<CompletableFuture<Void>> workers = new ArrayList<>(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(CompletableFuture.runAsync(() -> reproduce(population, condition, generationSize),
+                        workerExecutor));
+            }
+            join(workers);
+        } finally {
+            this.stopped = true;
+            if (dedicatedExecutor != null) {
+                dedicatedExecutor.shutdown();
+            }
+        }
+        LOGGER.info("Population convergence achieved after evaluations: {}", evaluations.get());
+
+        return population;
+    }
+
+    /**
+     * Worker loop: repeatedly selects parents, creates offspring, evaluates them
+     * and inserts them into the population until evolution is stopped.
+     * @param population     the shared population
+     * @param condition      the stopping condition
+     * @param generationSize number of evaluations per generation
+     */
+    private void reproduce(final ConcurrentPopulation<P> population,
+            final StoppingCondition<P> condition,
+            final long generationSize) {
+        try {
+            while (!stopped) {
+                // select parent chromosomes
+                ChromosomePair<P> pair = population.select(selectionPolicy);
+
+                // apply crossover policy to create two offspring
+                pair = crossoverPolicy.crossover(pair.getFirst(), pair.getSecond(), crossoverRate);
+
+                // apply mutation policy to the chromosomes
+                insert(population, mutationPolicy.mutate(pair.getFirst(), mutationRate), condition, generationSize);
+                insert(population, mutationPolicy.mutate(pair.getSecond(), mutationRate), condition,
+                        generationSize);
+            }
+        } finally {
+            // the loop only ends normally once stopped, so this stops the other workers on failure
+            stopped = true;
+        }
+    }
+
+    /**
+     * Evaluates the offspring outside of any lock, inserts it into the population
+     * and checks the stopping condition when a generation has been completed.
+     * @param population     the shared population
+     * @param offspring      the offspring
+     * @param condition      the stopping condition
+     * @param generationSize number of evaluations per generation
+     */
+    private void insert(final ConcurrentPopulation<P> population,
+            final Chromosome<P> offspring,
+            final StoppingCondition<P> condition,
+            final long generationSize) {
+        if (stopped) {
+            return;
+        }
+        population.replaceWorst(offspring);
+        if (evaluations.incrementAndGet() % generationSize == 0) {
+            synchronized (this) {
+                this.generationsEvolved++;
+                if (condition.isSatisfied(population)) {
+                    stopped = true;
+                } else {
+                    // notify interested listener
+                    convergenceListenerRegistry.notifyAll(generationsEvolved, population);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates the fitness of the given chromosomes using the workers.
+     * @param chromosomes    chromosomes to evaluate
+     * @param workerExecutor executor running the workers
+     * @return the evaluation tasks
+     */
+    private List<CompletableFuture<Void>> evaluateAll(final List<Chromosome<P>> chromosomes,
+            final Executor workerExecutor) {
+        final List<CompletableFuture<Void>> tasks = new ArrayList<>(workerCount);
+        final int size = chromosomes.size();
+        final int batchSize = Math.max(1, (int) Math.ceil((double) size / workerCount));
+        for (int from = 0; from < size; from += batchSize) {
+            final List<Chromosome<P>> batch = chromosomes.subList(from, Math.min(from + batchSize, size));
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (Chromosome<P> chromosome : batch) {
+                    chromosome.evaluate();
+                }
+            }, workerExecutor));
+        }
+        return tasks;
+    }
+
+    /**
+     * Waits for the completion of all tasks and rethrows the first failure.
+     * @param tasks the tasks to wait for
+     */
+    private static void join(final List<CompletableFuture<Void>> tasks) {
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new GeneticException(e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+
+/**
+ * {@link ChromosomeCodec} for {@link BinaryChromosome}s which writes the
+ * length followed by the packed allele blocks.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class BinaryChromosomeCodec<P> implements ChromosomeCodec<P> {
+
+    /** chromosome providing the fitness function and decoder. */
+    private final BinaryChromosome<P> prototype;
+
+    /**
+     * @param prototype chromosome providing the fitness function and decoder of
+     *                  the decoded chromosomes
+     */
+    public BinaryChromosomeCodec(BinaryChromosome<P> prototype) {
+        this.prototype = Objects.requireNonNull(prototype);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void encode(Chromosome<P> chromosome, DataOutput output) throws IOException {
+        final BinaryChromosome<P> binaryChromosome = (BinaryChromosome<P>) chromosome;
+        final long[] representation = binaryChromosome.getRepresentation();
+        output.writeLong(binaryChromosome.getLength());
+        output.writeInt(representation.length);
+        for (long block : representation) {
+            output.writeLong(block);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BinaryChromosome<P> decode(DataInput input, double fitness) throws IOException {
+        final long length = input.readLong();
+        final long[] representation = new long[input.readInt()];
+        for (int i = 0; i < representation.length; i++) {
+            representation[i] = input.readLong();
+        }
+        return new BinaryChromosome<>(representation, length, false, prototype.getFitnessFunction(),
+                prototype.getDecoder(), fitness);
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.checkpoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math4.ga.chromosome.AbstractChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+
+/**
+ * Snapshot of an evolution: the population of a generation with the cached
+ * fitness of its chromosomes, the generation counter and the state of the
+ * random generator of the evolving thread.
+ * <p>
+ * The binary format consists of a header (magic number, format version,
+ * generation, random generator state, population limit and size) followed by
+ * an evaluated flag, the fitness if the flag is set and the
+ * {@link ChromosomeCodec codec} encoded genotype of every chromosome.
+ * Chromosomes are immutable, hence creating a checkpoint only copies
+ * references and the expensive encoding can be performed by another thread.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public final class Checkpoint<P> {
+
+    /** identifies checkpoint files ("GACP"). */
+    private static final int MAGIC = 0x47414350;
+
+    /** version of the binary format. */
+    private static final int VERSION = 1;
+
+    /** size of the stream buffers. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** the generation of the population. */
+    private final int generation;
+
+    /** the chromosomes of the population. */
+    private final List<Chromosome<P>> chromosomes;
+
+    /** the population limit. */
+    private final int populationLimit;
+
+    /** the state of the random generator. */
+    private final byte[] randomState;
+
+    /**
+     * @param generation  the generation of the population
+     * @param population  the population
+     * @param randomState the state of the random generator of the evolving
+     *                    thread
+     */
+    public Checkpoint(int generation, Population<P> population, byte[] randomState) {
+        this.generation = generation;
+        this.chromosomes = new ArrayList<>(population.getPopulationSize());
+        for (Chromosome<P> chromosome : population) {
+            this.chromosomes.add(chromosome);
+        }
+        this.populationLimit = population.getPopulationLimit();
+        this.randomState = randomState.clone();
+    }
+
+    /**
+     * Returns the generation of the population.
+     * @return generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns a new population holding the chromosomes of the checkpoint.
+     * @return population
+     */
+    public Population<P> getPopulation() {
+        return new ListPopulation<>(chromosomes, populationLimit);
+    }
+
+    /**
+     * Returns the state of the random generator of the evolving thread.
+     * @return random generator state
+     */
+    public byte[] getRandomState() {
+        return randomState.clone();
+    }
+
+    /**
+     * Writes the checkpoint to the stream.
+     * @param output the output stream
+     * @param codec  the codec of the chromosomes
+     * @throws IOException if the checkpoint cannot be written
+     */
+    public void write(OutputStream output, ChromosomeCodec<P> codec) throws IOException {
+        final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output, BUFFER_SIZE));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(generation);
+        data.writeInt(randomState.length);
+        data.write(randomState);
+        data.writeInt(populationLimit);
+        data.writeInt(chromosomes.size());
+        for (Chromosome<P> chromosome : chromosomes) {
+            final boolean evaluated = isEvaluated(chromosome);
+            data.writeBoolean(evaluated);
+            if (evaluated) {
+                data.writeDouble(chromosome.evaluate());
+            }
+            codec.encode(chromosome, data);
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes the checkpoint to the file. The checkpoint is first written to a
+     * temporary file in the same directory which then replaces the file, so
+     * that an interrupted write never destroys the previous checkpoint.
+     * @param file  the checkpoint file
+     * @param codec the codec of the chromosomes
+     * @throws IOException if the checkpoint cannot be written
+     */
+    public void write(Path file, ChromosomeCodec<P> codec) throws IOException {
+        final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temporary)) {
+            write(output, codec);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a checkpoint from the stream.
+     * @param <P>   phenotype of chromosome
+     * @param input the input stream
+     * @param codec the codec of the chromosomes
+     * @return the checkpoint
+     * @throws IOException if the checkpoint cannot be read
+     */
+    public static <P> Checkpoint<P> read(InputStream input, ChromosomeCodec<P> codec) throws IOException {
+        final DataInputStream data = new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a checkpoint");
+        }
+        final int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint version: " + version);
+        }
+        final int generation = data.readInt();
+        final byte[] randomState = new byte[data.readInt()];
+        data.readFully(randomState);
+        final int populationLimit = data.readInt();
+        final int size = data.readInt();
+        final List<Chromosome<P>> chromosomes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final double fitness = data.readBoolean() ? data.readDouble() : Double.NaN;
+            chromosomes.add(codec.decode(data, fitness));
+        }
+        return new Checkpoint<>(generation, new ListPopulation<>(chromosomes, populationLimit), randomState);
+    }
+
+    /**
+     * Reads a checkpoint from the file.
+     * @param <P>   phenotype of chromosome
+     * @param file  the checkpoint file
+     * @param codec the codec of the chromosomes
+     * @return the checkpoint
+     * @throws IOException if the checkpoint cannot be read
+     */
+    public static <P> Checkpoint<P> read(Path file, ChromosomeCodec<P> codec) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return read(input, codec);
+        }
+    }
+
+    /**
+     * Indicates whether the fitness of the chromosome is known without
+     * evaluating it.
+     * @param <P>        phenotype of chromosome
+     * @param chromosome the chromosome
+     * @return true if the fitness is cached
+     */
+    private static <P> boolean isEvaluated(Chromosome<P> chromosome) {
+        return !(chromosome instanceof AbstractChromosome) || ((AbstractChromosome<P>) chromosome).isEvaluated();
+    }
+
+}
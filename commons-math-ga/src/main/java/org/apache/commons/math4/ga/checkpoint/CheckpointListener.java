@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.checkpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.listener.ConvergenceListener;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+
+/**
+ * Convergence listener writing a {@link Checkpoint} every {@code interval}
+ * generations. The snapshot, including the state of the random generator, is
+ * taken on the evolution thread, hence the listener
+ * {@link #requiresSynchronousNotification() requires} a synchronous
+ * {@link org.apache.commons.math4.ga.listener.ConvergenceListenerRegistry
+ * ConvergenceListenerRegistry}. The checkpoint is then encoded and written
+ * asynchronously. A checkpoint is
+ * skipped if the previous one is still being written; a failed write is
+ * reported by the next notification.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class CheckpointListener<P> implements ConvergenceListener<P> {
+
+    /** the checkpoint file. */
+    private final Path file;
+
+    /** the codec of the chromosomes. */
+    private final ChromosomeCodec<P> codec;
+
+    /** number of generations between two checkpoints. */
+    private final int interval;
+
+    /** the executor writing the checkpoints. */
+    private final Executor executor;
+
+    /** the last submitted write. */
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+    /** number of checkpoints written. */
+    private final AtomicInteger written = new AtomicInteger();
+
+    /** number of checkpoints skipped as the previous write was still running. */
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    /**
+     * Creates a listener writing the checkpoints by a dedicated daemon thread.
+     * @param file     the checkpoint file
+     * @param codec    the codec of the chromosomes
+     * @param interval number of generations between two checkpoints
+     */
+    public CheckpointListener(Path file, ChromosomeCodec<P> codec, int interval) {
+        this(file, codec, interval, Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * @param file     the checkpoint file
+     * @param codec    the codec of the chromosomes
+     * @param interval number of generations between two checkpoints
+     * @param executor the executor writing the checkpoints
+     */
+    public CheckpointListener(Path file, ChromosomeCodec<P> codec, int interval, Executor executor) {
+        if (interval <= 0) {
+            throw new GeneticException(GeneticException.NOT_STRICTLY_POSITIVE, interval);
+        }
+        this.file = Objects.requireNonNull(file);
+        this.codec = Objects.requireNonNull(codec);
+        this.interval = interval;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Captures a checkpoint of the population every {@code interval}
+     * generations and submits it for writing.
+     * @param generation current generation
+     * @param population population of chromosome
+     */
+    @Override
+    public synchronized void notify(int generation, Population<P> population) {
+        if (generation % interval != 0) {
+            return;
+        }
+        if (!pending.isDone()) {
+            skipped.incrementAndGet();
+            return;
+        }
+        await();
+        final Checkpoint<P> checkpoint = new Checkpoint<>(generation, population,
+                RandomProviderManager.saveState());
+        pending = CompletableFuture.runAsync(() -> {
+            try {
+                checkpoint.write(file, codec);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            written.incrementAndGet();
+        }, executor);
+    }
+
+    /**
+     * Returns true: the random generator state captured by a checkpoint is the
+     * one of the notifying thread.
+     * @return true
+     */
+    @Override
+    public boolean requiresSynchronousNotification() {
+        return true;
+    }
+
+    /**
+     * Waits until the last submitted checkpoint has been written.
+     * @throws GeneticException if the checkpoint could not be written
+     */
+    public void await() {
+        final CompletableFuture<Void> last;
+        synchronized (this) {
+            last = pending;
+        }
+        try {
+            last.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() :
+                    e.getCause();
+            throw new GeneticException(cause);
+        }
+    }
+
+    /**
+     * Returns the number of checkpoints written.
+     * @return checkpoints written
+     */
+    public int getCheckpointsWritten() {
+        return written.get();
+    }
+
+    /**
+     * Returns the number of checkpoints skipped because the previous one was
+     * still being written.
+     * @return checkpoints skipped
+     */
+    public int getCheckpointsSkipped() {
+        return skipped.get();
+    }
+
+}
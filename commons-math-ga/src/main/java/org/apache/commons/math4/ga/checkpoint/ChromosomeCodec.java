@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.commons.math4.ga.chromosome.AbstractChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+
+/**
+ * Writes and reads the genotype of chromosomes in binary form. The fitness
+ * function and decoder of a chromosome cannot be persisted, so implementations
+ * create the decoded chromosomes from a prototype supplied by the application.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public interface ChromosomeCodec<P> {
+
+    /**
+     * Writes the genotype of the chromosome.
+     * @param chromosome the chromosome
+     * @param output     the output
+     * @throws IOException if the genotype cannot be written
+     */
+    void encode(Chromosome<P> chromosome, DataOutput output) throws IOException;
+
+    /**
+     * Reads a genotype and creates the chromosome.
+     * @param input   the input
+     * @param fitness the fitness of the chromosome stored with the genotype, or
+     *                {@code NaN} if the chromosome has not been evaluated
+     * @return the chromosome
+     * @throws IOException if the genotype cannot be read
+     */
+    AbstractChromosome<P> decode(DataInput input, double fitness) throws IOException;
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.IntegralValuedChromosome;
+
+/**
+ * {@link ChromosomeCodec} for {@link IntegralValuedChromosome}s which writes the length
+ * followed by the alleles.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class IntegralValuedChromosomeCodec<P> implements ChromosomeCodec<P> {
+
+    /** chromosome providing the fitness function, decoder and allele range. */
+    private final IntegralValuedChromosome<P> prototype;
+
+    /**
+     * @param prototype chromosome providing the fitness function, decoder and
+     *                  allele range of the decoded chromosomes
+     */
+    public IntegralValuedChromosomeCodec(IntegralValuedChromosome<P> prototype) {
+        this.prototype = Objects.requireNonNull(prototype);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void encode(Chromosome<P> chromosome, DataOutput output) throws IOException {
+        final List<Integer> representation = ((IntegralValuedChromosome<P>) chromosome).getRepresentation();
+        output.writeInt(representation.size());
+        for (int allele : representation) {
+            output.writeInt(allele);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntegralValuedChromosome<P> decode(DataInput input, double fitness) throws IOException {
+        final int length = input.readInt();
+        final List<Integer> representation = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            representation.add(input.readInt());
+        }
+        return new IntegralValuedChromosome<>(representation, prototype.getFitnessFunction(),
+                prototype.getDecoder(), prototype.getMin(), prototype.getMax(), fitness);
+    }
+
+}
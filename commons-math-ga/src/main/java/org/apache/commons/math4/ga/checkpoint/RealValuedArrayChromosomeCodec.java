@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+
+/**
+ * {@link ChromosomeCodec} for {@link RealValuedArrayChromosome}s which writes the
+ * length followed by the alleles.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class RealValuedArrayChromosomeCodec<P> implements ChromosomeCodec<P> {
+
+    /** chromosome providing the fitness function, decoder and allele range. */
+    private final RealValuedArrayChromosome<P> prototype;
+
+    /**
+     * @param prototype chromosome providing the fitness function, decoder and
+     *                  allele range of the decoded chromosomes
+     */
+    public RealValuedArrayChromosomeCodec(RealValuedArrayChromosome<P> prototype) {
+        this.prototype = Objects.requireNonNull(prototype);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void encode(Chromosome<P> chromosome, DataOutput output) throws IOException {
+        final RealValuedArrayChromosome<P> arrayChromosome = (RealValuedArrayChromosome<P>) chromosome;
+        final int length = arrayChromosome.getLength();
+        output.writeInt(length);
+        for (int i = 0; i < length; i++) {
+            output.writeDouble(arrayChromosome.getAllele(i));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RealValuedArrayChromosome<P> decode(DataInput input, double fitness) throws IOException {
+        final double[] representation = new double[input.readInt()];
+        for (int i = 0; i < representation.length; i++) {
+            representation[i] = input.readDouble();
+        }
+        return new RealValuedArrayChromosome<>(representation, false, prototype.getFitnessFunction(),
+                prototype.getDecoder(), prototype.getMin(), prototype.getMax(), fitness);
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedChromosome;
+
+/**
+ * {@link ChromosomeCodec} for {@link RealValuedChromosome}s which writes the length
+ * followed by the alleles.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class RealValuedChromosomeCodec<P> implements ChromosomeCodec<P> {
+
+    /** chromosome providing the fitness function, decoder and allele range. */
+    private final RealValuedChromosome<P> prototype;
+
+    /**
+     * @param prototype chromosome providing the fitness function, decoder and
+     *                  allele range of the decoded chromosomes
+     */
+    public RealValuedChromosomeCodec(RealValuedChromosome<P> prototype) {
+        this.prototype = Objects.requireNonNull(prototype);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void encode(Chromosome<P> chromosome, DataOutput output) throws IOException {
+        final List<Double> representation = ((RealValuedChromosome<P>) chromosome).getRepresentation();
+        output.writeInt(representation.size());
+        for (double allele : representation) {
+            output.writeDouble(allele);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RealValuedChromosome<P> decode(DataInput input, double fitness) throws IOException {
+        final int length = input.readInt();
+        final List<Double> representation = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            representation.add(input.readDouble());
+        }
+        return new RealValuedChromosome<>(representation, prototype.getFitnessFunction(),
+                prototype.getDecoder(), prototype.getMin(), prototype.getMax(), fitness);
+    }
+
+}
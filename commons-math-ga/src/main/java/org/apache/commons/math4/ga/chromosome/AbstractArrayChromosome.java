@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.chromosome;
+
+import java.lang.reflect.Array;
+import java.util.Objects;
+
+import org.apache.commons.math4.ga.decoder.AbstractArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.fitness.FitnessFunction;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+
+/**
+ * This class represents an abstract chromosome containing an immutable
+ * primitive array of allele/genes. Compared to {@link AbstractListChromosome}
+ * the alleles are not boxed and the representation is copied using
+ * {@link System#arraycopy(Object, int, Object, int, int)}.
+ * @param <A> type of the primitive array representation e.g. double[]
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public abstract class AbstractArrayChromosome<A, P> extends AbstractChromosome<P> {
+
+    /** Array of allele/genes. */
+    private final A representation;
+
+    /** length of the chromosome. */
+    private final int length;
+
+    /**
+     * @param representation  Internal representation of chromosome genotype. The
+     *                        array is referenced, subclasses are responsible for
+     *                        copying it if required.
+     * @param fitnessFunction The {@link FitnessFunction}
+     * @param decoder         The instance of {@link AbstractArrayChromosomeDecoder}
+     */
+    protected AbstractArrayChromosome(final A representation,
+            final FitnessFunction<P> fitnessFunction,
+            final AbstractArrayChromosomeDecoder<A, P> decoder) {
+        this(representation, fitnessFunction, decoder, Double.NaN);
+    }
+
+    /**
+     * @param representation  Internal representation of chromosome genotype. The
+     *                        array is referenced, subclasses are responsible for
+     *                        copying it if required.
+     * @param fitnessFunction The {@link FitnessFunction}
+     * @param decoder         The instance of {@link AbstractArrayChromosomeDecoder}
+     * @param fitness         The fitness computed earlier, or {@code NaN}
+     */
+    protected AbstractArrayChromosome(final A representation,
+            final FitnessFunction<P> fitnessFunction,
+            final AbstractArrayChromosomeDecoder<A, P> decoder,
+            final double fitness) {
+        super(fitnessFunction, decoder, fitness);
+        Objects.requireNonNull(representation);
+        if (!representation.getClass().isArray()) {
+            throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT,
+                    representation.getClass().getSimpleName());
+        }
+        this.representation = representation;
+        this.length = Array.getLength(representation);
+    }
+
+    /**
+     * Returns the inner representation of the chromosome without copying it. The
+     * returned array must not be modified.
+     * @return the representation of the chromosome
+     */
+    protected A getInternalRepresentation() {
+        return representation;
+    }
+
+    /**
+     * Returns a copy of the inner representation of the chromosome.
+     * @return the representation of the chromosome
+     */
+    public abstract A getRepresentation();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object getGenotype() {
+        return representation;
+    }
+
+    /**
+     * Returns the length of the chromosome.
+     * @return the length of the chromosome
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * returns the decoder.
+     * @return decoder
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public AbstractArrayChromosomeDecoder<A, P> getDecoder() {
+        return (AbstractArrayChromosomeDecoder<A, P>) super.getDecoder();
+    }
+
+    /**
+     * Creates a new instance of the same class as <code>this</code> is, with a
+     * given <code>chromosomeRepresentation</code>. This is needed in crossover
+     * and mutation operators, where we need a new instance of the same class, but
+     * with different array representation.
+     * @param chromosomeRepresentation the inner array representation of the new
+     *                                 chromosome.
+     * @param copyRepresentation       if {@code true}, the representation will be
+     *                                 copied, otherwise it will be referenced and
+     *                                 must not be modified afterwards.
+     * @return new instance with the given representation
+     */
+    public abstract AbstractArrayChromosome<A, P> newChromosome(A chromosomeRepresentation,
+            boolean copyRepresentation);
+
+}
@@ -16,11 +16,16 @@
  */
 package org.apache.commons.math4.ga.chromosome;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 import org.apache.commons.math4.ga.decoder.Decoder;
+import org.apache.commons.math4.ga.fitness.BatchFitnessFunction;
+import org.apache.commons.math4.ga.fitness.CachingFitnessFunction;
 import org.apache.commons.math4.ga.fitness.FitnessFunction;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
 
 /**
  * Individual in a population. Chromosomes are compared based on their fitness.
@@ -34,11 +39,14 @@ import org.apache.commons.math4.ga.fitness.FitnessFunction;
  */
 public abstract class AbstractChromosome<P> implements Chromosome<P> {
 
-    /** Value assigned when no fitness has been computed yet. */
-    private static final double NO_FITNESS = Double.NEGATIVE_INFINITY;
-
     /** Cached value of the fitness of this chromosome. */
-    private double fitness = NO_FITNESS;
+    private double fitness;
+
+    /**
+     * Whether {@link #fitness} holds the computed fitness. It is written after
+     * the fitness, so that a thread reading {@code true} also reads the fitness.
+     */
+    private volatile boolean evaluated;
 
     /** Fitness function to evaluate fitness of chromosome. **/
     private final FitnessFunction<P> fitnessFunction;
@@ -54,16 +62,33 @@ public abstract class AbstractChromosome<P> implements Chromosome<P> {
      * @param decoder         The {@link Decoder}
      */
     protected AbstractChromosome(final FitnessFunction<P> fitnessFunction, final Decoder<P> decoder) {
+        this(fitnessFunction, decoder, Double.NaN);
+    }
+
+    /**
+     * @param fitnessFunction The {@link FitnessFunction}
+     * @param decoder         The {@link Decoder}
+     * @param fitness         The fitness of the chromosome computed earlier, e.g.
+     *                        restored from a checkpoint, or {@code NaN} if it has
+     *                        to be computed by the fitness function
+     */
+    protected AbstractChromosome(final FitnessFunction<P> fitnessFunction,
+            final Decoder<P> decoder,
+            final double fitness) {
         this.fitnessFunction = Objects.requireNonNull(fitnessFunction);
         this.decoder = Objects.requireNonNull(decoder);
         this.id = UUID.randomUUID().toString();
+        if (!Double.isNaN(fitness)) {
+            this.fitness = fitness;
+            this.evaluated = true;
+        }
     }
 
     /**
      * returns fitness function.
      * @return fitnessFunction
      */
-    protected FitnessFunction<P> getFitnessFunction() {
+    public FitnessFunction<P> getFitnessFunction() {
         return fitnessFunction;
     }
 
@@ -89,18 +114,76 @@ public abstract class AbstractChromosome<P> implements Chromosome<P> {
      * chromosome.
      * <p>
      * Computation of fitness is usually very time-consuming task, therefore the
-     * fitness is cached.
+     * fitness is cached. A {@link CachingFitnessFunction} is looked up by
+     * {@link #getGenotype() genotype}, before decoding the chromosome.
      * @return the fitness
      */
     @Override
     public double evaluate() {
-        if (this.fitness == NO_FITNESS) {
+        if (!this.evaluated) {
             // no cache - compute the fitness
-            this.fitness = fitnessFunction.compute(decode());
+            final Object genotype = getGenotype();
+            if (genotype != null && fitnessFunction instanceof CachingFitnessFunction) {
+                this.fitness = ((CachingFitnessFunction<P>) fitnessFunction)
+                        .compute(genotype, this::decode);
+            } else {
+                this.fitness = fitnessFunction.compute(decode());
+            }
+            this.evaluated = true;
         }
         return this.fitness;
     }
 
+    /**
+     * Returns the genotype of this chromosome, which together with the decoder
+     * determines its phenotype. It is compared by content, arrays included, and
+     * must not be modified. By default, it returns null -- the genotype is then
+     * unknown and a {@link CachingFitnessFunction} is looked up by phenotype.
+     * @return the genotype, or null
+     */
+    protected Object getGenotype() {
+        return null;
+    }
+
+    /**
+     * Indicates whether the fitness of this chromosome has already been
+     * computed and cached.
+     * @return true if the fitness is cached
+     */
+    public boolean isEvaluated() {
+        return this.evaluated;
+    }
+
+    /**
+     * Computes and caches the fitness of the chromosomes with a single call to
+     * their common batch fitness function.
+     * @param <P>         phenotype of chromosome
+     * @param chromosomes chromosomes sharing the same {@link BatchFitnessFunction}
+     */
+    public static <P> void evaluate(final List<? extends AbstractChromosome<P>> chromosomes) {
+        if (chromosomes.isEmpty()) {
+            return;
+        }
+        final FitnessFunction<P> fitnessFunction = chromosomes.get(0).getFitnessFunction();
+        if (!(fitnessFunction instanceof BatchFitnessFunction)) {
+            throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT, fitnessFunction);
+        }
+        final List<P> phenotypes = new ArrayList<>(chromosomes.size());
+        for (AbstractChromosome<P> chromosome : chromosomes) {
+            if (chromosome.getFitnessFunction() != fitnessFunction) {
+                throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT, chromosome.getFitnessFunction());
+            }
+            phenotypes.add(chromosome.decode());
+        }
+        final double[] fitness = new double[chromosomes.size()];
+        ((BatchFitnessFunction<P>) fitnessFunction).compute(phenotypes, fitness);
+        for (int i = 0; i < fitness.length; i++) {
+            final AbstractChromosome<P> chromosome = chromosomes.get(i);
+            chromosome.fitness = fitness[i];
+            chromosome.evaluated = true;
+        }
+    }
+
     /**
      * Decodes the chromosome genotype and returns the phenotype.
      * @return phenotype
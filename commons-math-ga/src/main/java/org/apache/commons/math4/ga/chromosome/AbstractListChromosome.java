@@ -76,7 +76,24 @@ public abstract class AbstractListChromosome<T, P> extends AbstractChromosome<P>
             final boolean copyList,
             final FitnessFunction<P> fitnessFunction,
             final AbstractListChromosomeDecoder<T, P> decoder) {
-        super(fitnessFunction, decoder);
+        this(representation, copyList, fitnessFunction, decoder, Double.NaN);
+    }
+
+    /**
+     * @param representation  Internal representation of chromosome genotype as an
+     *                        array of generic T
+     * @param copyList        if {@code true}, the representation will be copied,
+     *                        otherwise it will be referenced.
+     * @param fitnessFunction The {@link FitnessFunction}
+     * @param decoder         The instance of {@link AbstractListChromosomeDecoder}
+     * @param fitness         The fitness computed earlier, or {@code NaN}
+     */
+    protected AbstractListChromosome(final List<T> representation,
+            final boolean copyList,
+            final FitnessFunction<P> fitnessFunction,
+            final AbstractListChromosomeDecoder<T, P> decoder,
+            final double fitness) {
+        super(fitnessFunction, decoder, fitness);
         Objects.requireNonNull(representation);
         this.representation = Collections.unmodifiableList(copyList ? new ArrayList<>(representation) : representation);
     }
@@ -89,6 +106,14 @@ public abstract class AbstractListChromosome<T, P> extends AbstractChromosome<P>
         return representation;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object getGenotype() {
+        return representation;
+    }
+
     /**
      * Returns the length of the chromosome.
      * @return the length of the chromosome
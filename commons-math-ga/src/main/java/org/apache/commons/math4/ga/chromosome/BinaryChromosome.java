@@ -97,7 +97,44 @@ public class BinaryChromosome<P> extends AbstractChromosome<P> {
             long length,
             FitnessFunction<P> fitnessFunction,
             Decoder<P> decoder) {
-        super(fitnessFunction, decoder);
+        this(inputRepresentation, length, true, fitnessFunction, decoder);
+    }
+
+    /**
+     * @param inputRepresentation Internal representation of chromosome.
+     * @param length              length of chromosome
+     * @param copyRepresentation  if {@code true}, the representation will be
+     *                            copied, otherwise it will be referenced and must
+     *                            not be modified afterwards.
+     * @param fitnessFunction     The {@link FitnessFunction}
+     * @param decoder             The {@link Decoder}
+     */
+    public BinaryChromosome(long[] inputRepresentation,
+            long length,
+            boolean copyRepresentation,
+            FitnessFunction<P> fitnessFunction,
+            Decoder<P> decoder) {
+        this(inputRepresentation, length, copyRepresentation, fitnessFunction, decoder, Double.NaN);
+    }
+
+    /**
+     * @param inputRepresentation Internal representation of chromosome.
+     * @param length              length of chromosome
+     * @param copyRepresentation  if {@code true}, the representation will be
+     *                            copied, otherwise it will be referenced and must
+     *                            not be modified afterwards.
+     * @param fitnessFunction     The {@link FitnessFunction}
+     * @param decoder             The {@link Decoder}
+     * @param fitness             The fitness computed earlier, e.g. restored from
+     *                            a checkpoint, or {@code NaN}
+     */
+    public BinaryChromosome(long[] inputRepresentation,
+            long length,
+            boolean copyRepresentation,
+            FitnessFunction<P> fitnessFunction,
+            Decoder<P> decoder,
+            double fitness) {
+        super(fitnessFunction, decoder, fitness);
         Objects.requireNonNull(inputRepresentation);
         checkMaximumLength(length);
         if (length <= (inputRepresentation.length - 1) * Long.SIZE || length > inputRepresentation.length * Long.SIZE) {
@@ -105,8 +142,7 @@ public class BinaryChromosome<P> extends AbstractChromosome<P> {
                     "provided length does not match expected representation");
         }
         this.length = length;
-        this.representation = new long[inputRepresentation.length];
-        System.arraycopy(inputRepresentation, 0, representation, 0, inputRepresentation.length);
+        this.representation = copyRepresentation ? inputRepresentation.clone() : inputRepresentation;
     }
 
     /**
@@ -178,9 +214,58 @@ public class BinaryChromosome<P> extends AbstractChromosome<P> {
      * @return representation
      */
     public long[] getRepresentation() {
-        final long[] clonedRepresentation = new long[representation.length];
-        System.arraycopy(representation, 0, clonedRepresentation, 0, representation.length);
-        return clonedRepresentation;
+        return representation.clone();
+    }
+
+    /**
+     * Returns the allele at the given index.
+     * @param index allele/gene index
+     * @return {@code true} if the allele is 1, {@code false} otherwise
+     */
+    public boolean getAllele(long index) {
+        if (index < 0 || index >= length) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, index, "index", 0, length - 1);
+        }
+        final long offsettedIndex = getOffset() + index;
+        final long alleleBlock = representation[(int) (offsettedIndex / Long.SIZE)];
+        return ((alleleBlock >>> (Long.SIZE - 1 - offsettedIndex % Long.SIZE)) & 1L) != 0;
+    }
+
+    /**
+     * Returns the alleles from start(inclusive) to start + count(exclusive) as
+     * an unsigned binary number, the first allele being the most significant
+     * bit. The bits are read directly from the packed representation without
+     * creating any intermediate string.
+     * @param start start allele/gene index(inclusive)
+     * @param count number of alleles to read, between 1 and 64
+     * @return the alleles as an unsigned binary number
+     */
+    public long getAlleleBits(long start, int count) {
+        if (count <= 0 || count > Long.SIZE) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, count, "count", 1, Long.SIZE);
+        }
+        if (start < 0 || start + count > length) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, start, "start", 0, length - count);
+        }
+        final long offsettedStart = getOffset() + start;
+        final int blockIndex = (int) (offsettedStart / Long.SIZE);
+        final int blockAlleleIndex = (int) (offsettedStart % Long.SIZE);
+
+        final long bits = (representation[blockIndex] << blockAlleleIndex) >>> (Long.SIZE - count);
+        final int remainingCount = blockAlleleIndex + count - Long.SIZE;
+        if (remainingCount <= 0) {
+            return bits;
+        }
+        // the alleles span two allele blocks.
+        return bits | (representation[blockIndex + 1] >>> (Long.SIZE - remainingCount));
+    }
+
+    /**
+     * Returns the number of unused leading bits of the first allele block.
+     * @return offset
+     */
+    private int getOffset() {
+        return (int) (length % Long.SIZE == 0 ? 0 : Long.SIZE - length % Long.SIZE);
     }
 
     /**
@@ -209,7 +294,7 @@ public class BinaryChromosome<P> extends AbstractChromosome<P> {
         if (end - start > Integer.MAX_VALUE) {
             throw new GeneticException(GeneticException.LENGTH_TOO_LARGE, end - start);
         }
-        final int offset = (int) (length % Long.SIZE == 0 ? 0 : Long.SIZE - length % Long.SIZE);
+        final int offset = getOffset();
         final long offsettedStart = offset + start;
         final long offsettedEnd = offset + end;
         final int startAlleleBlockIndex = (int) (offsettedStart / Long.SIZE);
@@ -267,6 +352,14 @@ public class BinaryChromosome<P> extends AbstractChromosome<P> {
         return zeroPrefix.toString();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object getGenotype() {
+        return new Object[] {representation, length};
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -285,6 +378,21 @@ public class BinaryChromosome<P> extends AbstractChromosome<P> {
         return new BinaryChromosome<P>(chromosomeRepresentation, chromosomeLength, getFitnessFunction(), getDecoder());
     }
 
+    /**
+     * Creates a new chromosome with provided parameters.
+     * @param chromosomeRepresentation the representation
+     * @param chromosomeLength         length of chromosome
+     * @param copyRepresentation       if {@code true}, the representation will
+     *                                 be copied, otherwise it will be referenced.
+     * @return chromosome
+     */
+    public BinaryChromosome<P> newChromosome(long[] chromosomeRepresentation,
+            long chromosomeLength,
+            boolean copyRepresentation) {
+        return new BinaryChromosome<P>(chromosomeRepresentation, chromosomeLength, copyRepresentation,
+                getFitnessFunction(), getDecoder());
+    }
+
     /**
      * Creates an instance of Binary Chromosome with random binary representation.
      * @param <P>             phenotype fo chromosome
@@ -297,7 +405,7 @@ public class BinaryChromosome<P> extends AbstractChromosome<P> {
             FitnessFunction<P> fitnessFunction,
             Decoder<P> decoder) {
         return new BinaryChromosome<P>(ChromosomeRepresentationUtils.randomBinaryRepresentation(length), length,
-                fitnessFunction, decoder);
+                false, fitnessFunction, decoder);
     }
 
 }
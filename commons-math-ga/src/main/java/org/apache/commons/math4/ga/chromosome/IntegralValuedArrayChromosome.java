@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.chromosome;
+
+import org.apache.commons.math4.ga.decoder.AbstractArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.fitness.FitnessFunction;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.ChromosomeRepresentationUtils;
+
+/**
+ * Chromosome represented by a primitive array of integral values. It is the
+ * array based counterpart of {@link IntegralValuedChromosome}. The acceptable
+ * integral values should belong to the range min(inclusive) to max(exclusive).
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class IntegralValuedArrayChromosome<P> extends AbstractArrayChromosome<int[], P> {
+
+    /** minimum acceptable value of allele. **/
+    private final int min;
+
+    /** maximum acceptable value of allele. **/
+    private final int max;
+
+    /**
+     * @param representation  Internal representation of chromosome.
+     * @param fitnessFunction The {@link FitnessFunction}
+     * @param decoder         The {@link AbstractArrayChromosomeDecoder}
+     * @param min             minimum inclusive value of allele
+     * @param max             maximum exclusive value of allele
+     */
+    public IntegralValuedArrayChromosome(int[] representation,
+            FitnessFunction<P> fitnessFunction,
+            AbstractArrayChromosomeDecoder<int[], P> decoder,
+            int min,
+            int max) {
+        this(representation, true, fitnessFunction, decoder, min, max);
+    }
+
+    /**
+     * @param representation     Internal representation of chromosome.
+     * @param copyRepresentation if {@code true}, the representation will be
+     *                           copied, otherwise it will be referenced.
+     * @param fitnessFunction    The {@link FitnessFunction}
+     * @param decoder            The {@link AbstractArrayChromosomeDecoder}
+     * @param min                minimum inclusive value of allele
+     * @param max                maximum exclusive value of allele
+     */
+    public IntegralValuedArrayChromosome(int[] representation,
+            boolean copyRepresentation,
+            FitnessFunction<P> fitnessFunction,
+            AbstractArrayChromosomeDecoder<int[], P> decoder,
+            int min,
+            int max) {
+        this(representation, copyRepresentation, fitnessFunction, decoder, min, max, Double.NaN);
+    }
+
+    /**
+     * @param representation     Internal representation of chromosome.
+     * @param copyRepresentation if {@code true}, the representation will be
+     *                           copied, otherwise it will be referenced.
+     * @param fitnessFunction    The {@link FitnessFunction}
+     * @param decoder            The {@link AbstractArrayChromosomeDecoder}
+     * @param min                minimum inclusive value of allele
+     * @param max                maximum exclusive value of allele
+     * @param fitness            The fitness computed earlier, e.g. restored from
+     *                           a checkpoint, or {@code NaN}
+     */
+    public IntegralValuedArrayChromosome(int[] representation,
+            boolean copyRepresentation,
+            FitnessFunction<P> fitnessFunction,
+            AbstractArrayChromosomeDecoder<int[], P> decoder,
+            int min,
+            int max,
+            double fitness) {
+        super(copyRepresentation ? representation.clone() : representation, fitnessFunction, decoder, fitness);
+        this.min = min;
+        this.max = max;
+        checkValidity();
+    }
+
+    /**
+     * Returns the minimum acceptable value of allele.
+     * @return minimum value
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the maximum acceptable value of allele.
+     * @return maximum value
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the allele at the given index.
+     * @param index allele/gene index
+     * @return allele value
+     */
+    public int getAllele(int index) {
+        return getInternalRepresentation()[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] getRepresentation() {
+        return getInternalRepresentation().clone();
+    }
+
+    /**
+     * Asserts that <code>representation</code> can represent a valid chromosome.
+     */
+    private void checkValidity() {
+        if (min >= max) {
+            throw new GeneticException(GeneticException.TOO_LARGE, min, max);
+        }
+        for (int i : getInternalRepresentation()) {
+            if (i < min || i >= max) {
+                throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT, i);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntegralValuedArrayChromosome<P> newChromosome(int[] chromosomeRepresentation,
+            boolean copyRepresentation) {
+        return new IntegralValuedArrayChromosome<>(chromosomeRepresentation, copyRepresentation,
+                getFitnessFunction(), getDecoder(), this.min, this.max);
+    }
+
+    /**
+     * Creates an instance of Integral valued array chromosome with random
+     * representation.
+     * @param <P>             phenotype fo chromosome
+     * @param length          length of chromosome
+     * @param fitnessFunction The {@link FitnessFunction}
+     * @param decoder         The {@link AbstractArrayChromosomeDecoder}
+     * @param min             minimum inclusive value of allele
+     * @param max             maximum exclusive value of allele
+     * @return an integral-valued array chromosome
+     */
+    public static <P> IntegralValuedArrayChromosome<P> randomChromosome(int length,
+            FitnessFunction<P> fitnessFunction,
+            AbstractArrayChromosomeDecoder<int[], P> decoder,
+            int min,
+            int max) {
+        return new IntegralValuedArrayChromosome<>(
+                ChromosomeRepresentationUtils.randomIntegralArrayRepresentation(length, min, max), false,
+                fitnessFunction, decoder, min, max);
+    }
+
+}
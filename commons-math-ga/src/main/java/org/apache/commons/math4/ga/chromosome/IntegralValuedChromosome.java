@@ -49,7 +49,25 @@ public class IntegralValuedChromosome<P> extends AbstractListChromosome<Integer,
             AbstractListChromosomeDecoder<Integer, P> decoder,
             int min,
             int max) {
-        super(representation, fitnessFunction, decoder);
+        this(representation, fitnessFunction, decoder, min, max, Double.NaN);
+    }
+
+    /**
+     * @param representation  Internal representation of chromosome.
+     * @param fitnessFunction The {@link FitnessFunction}
+     * @param decoder         The {@link AbstractListChromosomeDecoder}
+     * @param min             minimum inclusive value of allele
+     * @param max             maximum exclusive value of allele
+     * @param fitness         The fitness computed earlier, e.g. restored from a
+     *                        checkpoint, or {@code NaN}
+     */
+    public IntegralValuedChromosome(List<Integer> representation,
+            FitnessFunction<P> fitnessFunction,
+            AbstractListChromosomeDecoder<Integer, P> decoder,
+            int min,
+            int max,
+            double fitness) {
+        super(representation, true, fitnessFunction, decoder, fitness);
         this.min = min;
         this.max = max;
         checkValidity();
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.chromosome;
+
+import org.apache.commons.math4.ga.decoder.AbstractArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.fitness.FitnessFunction;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.ChromosomeRepresentationUtils;
+
+/**
+ * Chromosome represented by a primitive array of real values. It is the array
+ * based counterpart of {@link RealValuedChromosome}. The acceptable real values
+ * should belong to the range min(inclusive) to max(exclusive).
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class RealValuedArrayChromosome<P> extends AbstractArrayChromosome<double[], P> {
+
+    /** minimum acceptable value of allele. **/
+    private final double min;
+
+    /** maximum acceptable value of allele. **/
+    private final double max;
+
+    /**
+     * @param representation  an array of real values
+     * @param fitnessFunction the fitness function
+     * @param decoder         the {@link AbstractArrayChromosomeDecoder}
+     */
+    public RealValuedArrayChromosome(final double[] representation,
+            FitnessFunction<P> fitnessFunction,
+            AbstractArrayChromosomeDecoder<double[], P> decoder) {
+        this(representation, true, fitnessFunction, decoder, 0, 1d);
+    }
+
+    /**
+     * @param representation  an array of real values
+     * @param fitnessFunction the fitness function
+     * @param decoder         the {@link AbstractArrayChromosomeDecoder}
+     * @param min             minimum inclusive value of allele
+     * @param max             maximum exclusive value of allele
+     */
+    public RealValuedArrayChromosome(final double[] representation,
+            FitnessFunction<P> fitnessFunction,
+            AbstractArrayChromosomeDecoder<double[], P> decoder,
+            double min,
+            double max) {
+        this(representation, true, fitnessFunction, decoder, min, max);
+    }
+
+    /**
+     * @param representation     an array of real values
+     * @param copyRepresentation if {@code true}, the representation will be
+     *                           copied, otherwise it will be referenced.
+     * @param fitnessFunction    the fitness function
+     * @param decoder            the {@link AbstractArrayChromosomeDecoder}
+     * @param min                minimum inclusive value of allele
+     * @param max                maximum exclusive value of allele
+     */
+    public RealValuedArrayChromosome(final double[] representation,
+            boolean copyRepresentation,
+            FitnessFunction<P> fitnessFunction,
+            AbstractArrayChromosomeDecoder<double[], P> decoder,
+            double min,
+            double max) {
+        this(representation, copyRepresentation, fitnessFunction, decoder, min, max, Double.NaN);
+    }
+
+    /**
+     * @param representation     an array of real values
+     * @param copyRepresentation if {@code true}, the representation will be
+     *                           copied, otherwise it will be referenced.
+     * @param fitnessFunction    the fitness function
+     * @param decoder            the {@link AbstractArrayChromosomeDecoder}
+     * @param min                minimum inclusive value of allele
+     * @param max                maximum exclusive value of allele
+     * @param fitness            the fitness computed earlier, e.g. restored from
+     *                           a checkpoint, or {@code NaN}
+     */
+    public RealValuedArrayChromosome(final double[] representation,
+            boolean copyRepresentation,
+            FitnessFunction<P> fitnessFunction,
+            AbstractArrayChromosomeDecoder<double[], P> decoder,
+            double min,
+            double max,
+            double fitness) {
+        super(copyRepresentation ? representation.clone() : representation, fitnessFunction, decoder, fitness);
+        this.min = min;
+        this.max = max;
+        checkValidity();
+    }
+
+    /**
+     * Return the minimum allele value.
+     * @return minimum
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the maximum allele value.
+     * @return maximum
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the allele at the given index.
+     * @param index allele/gene index
+     * @return allele value
+     */
+    public double getAllele(int index) {
+        return getInternalRepresentation()[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double[] getRepresentation() {
+        return getInternalRepresentation().clone();
+    }
+
+    /**
+     * Asserts that <code>representation</code> can represent a valid chromosome.
+     */
+    private void checkValidity() {
+        if (min >= max) {
+            throw new GeneticException(GeneticException.TOO_LARGE, min, max);
+        }
+        for (double i : getInternalRepresentation()) {
+            if (i < min || i >= max) {
+                throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT, i);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RealValuedArrayChromosome<P> newChromosome(double[] chromosomeRepresentation,
+            boolean copyRepresentation) {
+        return new RealValuedArrayChromosome<>(chromosomeRepresentation, copyRepresentation, getFitnessFunction(),
+                getDecoder(), this.min, this.max);
+    }
+
+    /**
+     * Creates an instance of RealValued array chromosome with randomly generated
+     * representation.
+     * @param <P>             phenotype of chromosome
+     * @param length          length of chromosome genotype
+     * @param fitnessFunction The {@link FitnessFunction}
+     * @param decoder         The {@link AbstractArrayChromosomeDecoder}
+     * @param min             minimum inclusive value generated as allele
+     * @param max             maximum exclusive value generated as allele
+     * @return A real-valued array chromosome
+     */
+    public static <P> RealValuedArrayChromosome<P> randomChromosome(int length,
+            FitnessFunction<P> fitnessFunction,
+            AbstractArrayChromosomeDecoder<double[], P> decoder,
+            double min,
+            double max) {
+        return new RealValuedArrayChromosome<>(
+                ChromosomeRepresentationUtils.randomDoubleArrayRepresentation(length, min, max), false,
+                fitnessFunction, decoder, min, max);
+    }
+
+}
@@ -66,7 +66,25 @@ public class RealValuedChromosome<P> extends AbstractListChromosome<Double, P> {
             AbstractListChromosomeDecoder<Double, P> decoder,
             double min,
             double max) {
-        super(representation, fitnessFunction, decoder);
+        this(representation, fitnessFunction, decoder, min, max, Double.NaN);
+    }
+
+    /**
+     * @param representation  an array of real values
+     * @param fitnessFunction the fitness function
+     * @param decoder         the {@link AbstractListChromosomeDecoder}
+     * @param min             minimum inclusive value of allele
+     * @param max             maximum exclusive value of allele
+     * @param fitness         the fitness computed earlier, e.g. restored from a
+     *                        checkpoint, or {@code NaN}
+     */
+    public RealValuedChromosome(final List<Double> representation,
+            FitnessFunction<P> fitnessFunction,
+            AbstractListChromosomeDecoder<Double, P> decoder,
+            double min,
+            double max,
+            double fitness) {
+        super(representation, true, fitnessFunction, decoder, fitness);
         this.min = min;
         this.max = max;
         checkValidity();
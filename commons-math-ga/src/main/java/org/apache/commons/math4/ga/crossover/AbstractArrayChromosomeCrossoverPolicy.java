@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.crossover;
+
+import java.lang.reflect.Array;
+
+import org.apache.commons.math4.ga.chromosome.AbstractArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+
+/**
+ * An abstraction of crossover policy for array chromosomes. The children are
+ * created from copies of the parent representations and the genes are
+ * exchanged in place, so a crossover only allocates the two child arrays.
+ * @param <A> type of the primitive array representation e.g. double[]
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public abstract class AbstractArrayChromosomeCrossoverPolicy<A, P> extends AbstractChromosomeCrossoverPolicy<P> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public ChromosomePair<P> crossover(final Chromosome<P> first, final Chromosome<P> second) {
+        // check for validity.
+        checkValidity(first, second);
+
+        final AbstractArrayChromosome<A, P> firstArrayChromosome = (AbstractArrayChromosome<A, P>) first;
+        final AbstractArrayChromosome<A, P> secondArrayChromosome = (AbstractArrayChromosome<A, P>) second;
+
+        final A child1Rep = firstArrayChromosome.getRepresentation();
+        final A child2Rep = secondArrayChromosome.getRepresentation();
+
+        mate(child1Rep, child2Rep, firstArrayChromosome.getLength());
+
+        return new ChromosomePair<>(firstArrayChromosome.newChromosome(child1Rep, false),
+                secondArrayChromosome.newChromosome(child2Rep, false));
+    }
+
+    /**
+     * Validates the chromosome pair.
+     * @param first  first chromosome
+     * @param second second chromosome
+     */
+    protected void checkValidity(final Chromosome<P> first, final Chromosome<P> second) {
+        if (!(first instanceof AbstractArrayChromosome<?, ?> && second instanceof AbstractArrayChromosome<?, ?>)) {
+            throw new GeneticException(GeneticException.INVALID_FIXED_LENGTH_CHROMOSOME);
+        }
+        final AbstractArrayChromosome<?, ?> firstArrayChromosome = (AbstractArrayChromosome<?, ?>) first;
+        final AbstractArrayChromosome<?, ?> secondArrayChromosome = (AbstractArrayChromosome<?, ?>) second;
+
+        final int length = firstArrayChromosome.getLength();
+        if (length != secondArrayChromosome.getLength()) {
+            throw new GeneticException(GeneticException.SIZE_MISMATCH, secondArrayChromosome.getLength(), length);
+        }
+    }
+
+    /**
+     * Performs mating between two representations. On entry the arguments hold
+     * copies of the parent representations, on exit they must hold the children
+     * representations.
+     * @param child1Rep representation of the first child
+     * @param child2Rep representation of the second child
+     * @param length    length of the representations
+     */
+    protected abstract void mate(A child1Rep, A child2Rep, int length);
+
+    /**
+     * Exchanges the genes in the range [from, to) between the two representations.
+     * @param child1Rep representation of the first child
+     * @param child2Rep representation of the second child
+     * @param from      inclusive start index
+     * @param to        exclusive end index
+     */
+    protected void exchange(A child1Rep, A child2Rep, int from, int to) {
+        if (child1Rep instanceof double[]) {
+            final double[] c1 = (double[]) child1Rep;
+            final double[] c2 = (double[]) child2Rep;
+            for (int i = from; i < to; i++) {
+                final double tmp = c1[i];
+                c1[i] = c2[i];
+                c2[i] = tmp;
+            }
+        } else if (child1Rep instanceof int[]) {
+            final int[] c1 = (int[]) child1Rep;
+            final int[] c2 = (int[]) child2Rep;
+            for (int i = from; i < to; i++) {
+                final int tmp = c1[i];
+                c1[i] = c2[i];
+                c2[i] = tmp;
+            }
+        } else {
+            final int count = to - from;
+            final Object tmp = Array.newInstance(child1Rep.getClass().getComponentType(), count);
+            System.arraycopy(child1Rep, from, tmp, 0, count);
+            System.arraycopy(child2Rep, from, child1Rep, from, count);
+            System.arraycopy(tmp, 0, child2Rep, from, count);
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.crossover;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+
+/**
+ * Cycle Crossover [CX] of permutation chromosomes with {@code int[]}
+ * representation, e.g. {@link org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome
+ * IntegralValuedArrayChromosome}s. The genes of each parent must be a
+ * permutation of {@code 0..length-1}.
+ * <p>
+ * The offspring are identical to the ones produced by {@link CycleCrossover}
+ * for the same random numbers, but the position of a gene in the first parent
+ * is looked up in a per-thread table instead of a linear search, so a crossover
+ * takes O(n) time.
+ *
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class CycleArrayCrossover<P> extends AbstractArrayChromosomeCrossoverPolicy<int[], P> {
+
+    /** If the start index shall be chosen randomly. */
+    private final boolean randomStart;
+
+    /**
+     * Creates a new {@link CycleArrayCrossover} policy.
+     */
+    public CycleArrayCrossover() {
+        this(false);
+    }
+
+    /**
+     * Creates a new {@link CycleArrayCrossover} policy using the given
+     * {@code randomStart} behavior.
+     *
+     * @param randomStart whether the start index shall be chosen randomly or be set
+     *                    to 0
+     */
+    public CycleArrayCrossover(final boolean randomStart) {
+        this.randomStart = randomStart;
+    }
+
+    /**
+     * Returns whether the starting index is chosen randomly or set to zero.
+     *
+     * @return {@code true} if the starting index is chosen randomly, {@code false}
+     *         otherwise
+     */
+    public boolean isRandomStart() {
+        return randomStart;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void mate(final int[] child1Rep, final int[] child2Rep, final int length) {
+        final PermutationScratch scratch = PermutationScratch.of(child1Rep, child2Rep, length);
+        final int[] parent1Rep = scratch.parent1();
+        final int[] parent2Rep = scratch.parent2();
+        // position of every gene in the first parent
+        final int[] positions = scratch.table1(length, -1);
+        for (int i = 0; i < length; i++) {
+            PermutationScratch.checkGene(parent1Rep[i], length);
+            positions[parent1Rep[i]] = i;
+        }
+        final int[] visited = scratch.table2(length, 0);
+
+        // determine the starting index
+        int start = randomStart ? RandomProviderManager.getRandomProvider().nextInt(length) : 0;
+        int cycle = 1;
+        int visitedCount = 0;
+
+        while (visitedCount < length) {
+            int idx = start;
+            do {
+                visited[idx] = 1;
+                visitedCount++;
+                // odd cycles keep the genes of the respective parent, even cycles swap them
+                if (cycle % 2 == 0) {
+                    child1Rep[idx] = parent2Rep[idx];
+                    child2Rep[idx] = parent1Rep[idx];
+                }
+                // get the index in the first parent of the item in the second parent
+                final int item = parent2Rep[idx];
+                PermutationScratch.checkGene(item, length);
+                idx = positions[item];
+                if (idx < 0 || idx != start && visited[idx] != 0) {
+                    throw new GeneticException(GeneticException.DIFFERENT_ORIG_AND_PERMUTED_DATA);
+                }
+            } while (idx != start);
+            cycle++;
+
+            // find next starting index: last one + 1 until we find an unvisited index
+            idx = (start + 1) % length;
+            while (visited[idx] != 0 && visitedCount < length) {
+                idx = (idx + 1) % length;
+            }
+            start = idx;
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.crossover;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * N-point crossover policy for {@link org.apache.commons.math4.ga.chromosome.AbstractArrayChromosome
+ * AbstractArrayChromosome}. It is the array
+ * based counterpart of {@link NPointCrossover} and consumes the same random
+ * numbers, so both produce the same offspring for the same parents.
+ * <p>
+ * The chromosomes must have same lengths.
+ *
+ * @param <A> type of the primitive array representation e.g. double[]
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class NPointArrayCrossover<A, P> extends AbstractArrayChromosomeCrossoverPolicy<A, P> {
+
+    /** The number of crossover points. */
+    private final int crossoverPoints;
+
+    /**
+     * Creates a new {@link NPointArrayCrossover} policy using the given number of
+     * points.
+     * <p>
+     * <b>Note</b>: the number of crossover points must be &lt;
+     * <code>chromosome length - 1</code>. This condition can only be checked at
+     * runtime, as the chromosome length is not known in advance.
+     *
+     * @param crossoverPoints the number of crossover points
+     */
+    public NPointArrayCrossover(final int crossoverPoints) {
+        if (crossoverPoints <= 0) {
+            throw new GeneticException(GeneticException.NOT_STRICTLY_POSITIVE, crossoverPoints);
+        }
+        this.crossoverPoints = crossoverPoints;
+    }
+
+    /**
+     * Returns the number of crossover points used by this {@link CrossoverPolicy}.
+     *
+     * @return the number of crossover points
+     */
+    public int getCrossoverPoints() {
+        return crossoverPoints;
+    }
+
+    /**
+     * Performs a N-point crossover. N random crossover points are selected and are
+     * used to divide the parent chromosomes into segments. Every second segment is
+     * exchanged between the children.
+     *
+     * @param child1Rep representation of the first child
+     * @param child2Rep representation of the second child
+     * @param length    length of the representations
+     */
+    @Override
+    protected void mate(final A child1Rep, final A child2Rep, final int length) {
+        if (crossoverPoints >= length) {
+            throw new GeneticException(GeneticException.TOO_LARGE, crossoverPoints, length);
+        }
+
+        final UniformRandomProvider random = RandomProviderManager.getRandomProvider();
+
+        boolean swapped = false;
+        int remainingPoints = crossoverPoints;
+        int lastIndex = 0;
+        for (int i = 0; i < crossoverPoints; i++, remainingPoints--) {
+            // select the next crossover point at random
+            final int crossoverIndex = 1 + lastIndex + random.nextInt(length - lastIndex - remainingPoints);
+            if (swapped) {
+                exchange(child1Rep, child2Rep, lastIndex, crossoverIndex);
+            }
+            swapped = !swapped;
+            lastIndex = crossoverIndex;
+        }
+
+        // last segment
+        if (swapped) {
+            exchange(child1Rep, child2Rep, lastIndex, length);
+        }
+    }
+}
@@ -42,13 +42,10 @@ public class OnePointBinaryCrossover<P> extends AbstractChromosomeCrossoverPolic
 
         final long alleleCount = firstChromosome.getLength();
 
-        // array representations of the parents
-        final long[] parent1Rep = firstChromosome.getRepresentation();
-        final long[] parent2Rep = secondChromosome.getRepresentation();
-
-        // and of the children
-        final long[] child1Rep = new long[parent1Rep.length];
-        final long[] child2Rep = new long[parent2Rep.length];
+        // the children start as copies of the parents, the alleles after the
+        // crossover point are exchanged in place.
+        final long[] child1Rep = firstChromosome.getRepresentation();
+        final long[] child2Rep = secondChromosome.getRepresentation();
 
         // select a crossover point at random (0 and length makes no sense)
         final long crossoverIndex = 1 + (RandomProviderManager.getRandomProvider().nextLong(alleleCount - 1));
@@ -57,57 +54,29 @@ public class OnePointBinaryCrossover<P> extends AbstractChromosomeCrossoverPolic
         final long offsettedCrossoverIndex = crossoverIndex + offset;
 
         final int crossoverBlockIndex = (int) (offsettedCrossoverIndex / Long.SIZE);
-        final int crossoverBlockAlleleIndex = (int) offsettedCrossoverIndex % Long.SIZE;
-
-        if (crossoverBlockAlleleIndex == 0) {
-            // if the offsetted-crossover index is divisible by
-            // Long.SIZE then first copy all
-            // elements of previous array elements.
-            for (int i = 0; i < crossoverBlockIndex; i++) {
-                child1Rep[i] = parent1Rep[i];
-                child2Rep[i] = parent2Rep[i];
-            }
-            // copy all elements from crossover block index.
-            for (int i = crossoverBlockIndex; i < parent1Rep.length; i++) {
-                child1Rep[i] = parent2Rep[i];
-                child2Rep[i] = parent1Rep[i];
-            }
-        } else {
-            // copy all parent array elements to child till crossover block index - 1.
-            for (int i = 0; i < crossoverBlockIndex; i++) {
-                child1Rep[i] = parent1Rep[i];
-                child2Rep[i] = parent2Rep[i];
-            }
-            // do exchange of alleles of the array element indexed at crossover block index.
-            final long parent1CrossoverBlockRep = parent1Rep[crossoverBlockIndex];
-            final long parent2CrossoverBlockRep = parent2Rep[crossoverBlockIndex];
-            final long leftMask = Long.MIN_VALUE >> crossoverBlockAlleleIndex - 1;
-            final long rightMask = crossoverBlockAlleleIndex != 1 ?
-                    (long) Math.pow(2, Long.SIZE - crossoverBlockAlleleIndex) - 1 :
-                    Long.MAX_VALUE;
-
-            final long child1CrossoverBlockRep = (parent1CrossoverBlockRep & leftMask) |
-                    (parent2CrossoverBlockRep & rightMask);
-            final long child2CrossoverBlockRep = (parent2CrossoverBlockRep & leftMask) |
-                    (parent1CrossoverBlockRep & rightMask);
-
-            child1Rep[crossoverBlockIndex] = child1CrossoverBlockRep;
-            child2Rep[crossoverBlockIndex] = child2CrossoverBlockRep;
+        final int crossoverBlockAlleleIndex = (int) (offsettedCrossoverIndex % Long.SIZE);
+
+        int swapFromBlockIndex = crossoverBlockIndex;
+        if (crossoverBlockAlleleIndex != 0) {
+            // do exchange of alleles of the array element indexed at crossover block
+            // index: the leading alleles are kept, the trailing ones are exchanged.
+            final long rightMask = -1L >>> crossoverBlockAlleleIndex;
+            final long exchanged = (child1Rep[crossoverBlockIndex] ^ child2Rep[crossoverBlockIndex]) & rightMask;
+            child1Rep[crossoverBlockIndex] ^= exchanged;
+            child2Rep[crossoverBlockIndex] ^= exchanged;
+            swapFromBlockIndex++;
+        }
 
-            // Copy all the alleles which belong to array elements having index >
-            // crossover block index.
-            if (crossoverBlockIndex < parent1Rep.length - 1) {
-                for (int i = crossoverBlockIndex + 1; i < parent1Rep.length; i++) {
-                    child1Rep[i] = parent2Rep[i];
-                    child2Rep[i] = parent1Rep[i];
-                }
-            }
+        // exchange all the alleles which belong to array elements following the
+        // crossover block.
+        for (int i = swapFromBlockIndex; i < child1Rep.length; i++) {
+            final long tmp = child1Rep[i];
+            child1Rep[i] = child2Rep[i];
+            child2Rep[i] = tmp;
         }
 
-        final BinaryChromosome<P> childChromosome1 = new BinaryChromosome<>(child1Rep, alleleCount,
-                firstChromosome.getFitnessFunction(), firstChromosome.getDecoder());
-        final BinaryChromosome<P> childChromosome2 = new BinaryChromosome<>(child2Rep, alleleCount,
-                secondChromosome.getFitnessFunction(), secondChromosome.getDecoder());
+        final BinaryChromosome<P> childChromosome1 = firstChromosome.newChromosome(child1Rep, alleleCount, false);
+        final BinaryChromosome<P> childChromosome2 = secondChromosome.newChromosome(child2Rep, alleleCount, false);
 
         return new ChromosomePair<>(childChromosome1, childChromosome2);
     }
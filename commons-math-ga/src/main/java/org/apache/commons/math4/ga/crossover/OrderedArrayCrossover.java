@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.crossover;
+
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Order 1 Crossover [OX1] of permutation chromosomes with {@code int[]}
+ * representation, e.g. {@link org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome
+ * IntegralValuedArrayChromosome}s. The genes of each parent must be a
+ * permutation of {@code 0..length-1}.
+ * <p>
+ * The offspring are identical to the ones produced by {@link OrderedCrossover}
+ * for the same random numbers, but membership of genes is tracked in per-thread
+ * tables indexed by gene value instead of hash sets of boxed genes.
+ *
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class OrderedArrayCrossover<P> extends AbstractArrayChromosomeCrossoverPolicy<int[], P> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void mate(final int[] child1Rep, final int[] child2Rep, final int length) {
+        final PermutationScratch scratch = PermutationScratch.of(child1Rep, child2Rep, length);
+        final int[] parent1Rep = scratch.parent1();
+        final int[] parent2Rep = scratch.parent2();
+        // genes already present in each child
+        final int[] child1Genes = scratch.table1(length, 0);
+        final int[] child2Genes = scratch.table2(length, 0);
+
+        final UniformRandomProvider random = RandomProviderManager.getRandomProvider();
+        // choose random points, making sure that lb < ub.
+        final int a = random.nextInt(length);
+        int b;
+        do {
+            b = random.nextInt(length);
+        } while (a == b);
+        // determine the lower and upper bounds
+        final int lb = Math.min(a, b);
+        final int ub = Math.max(a, b);
+
+        // the slices between lb and ub stay in place
+        for (int i = lb; i <= ub; i++) {
+            PermutationScratch.checkGene(parent1Rep[i], length);
+            PermutationScratch.checkGene(parent2Rep[i], length);
+            child1Genes[parent1Rep[i]] = 1;
+            child2Genes[parent2Rep[i]] = 1;
+        }
+
+        // fill the children after the slice with the genes of the other parent
+        int position1 = (ub + 1) % length;
+        int position2 = position1;
+        for (int i = 1; i <= length; i++) {
+            final int idx = (ub + i) % length;
+            final int item1 = parent1Rep[idx];
+            final int item2 = parent2Rep[idx];
+            PermutationScratch.checkGene(item1, length);
+            PermutationScratch.checkGene(item2, length);
+
+            if (child1Genes[item2] == 0) {
+                child1Rep[position1] = item2;
+                child1Genes[item2] = 1;
+                position1 = (position1 + 1) % length;
+            }
+            if (child2Genes[item1] == 0) {
+                child2Rep[position2] = item1;
+                child2Genes[item1] = 1;
+                position2 = (position2 + 1) % length;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.crossover;
+
+import java.util.Arrays;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+
+/**
+ * Per-thread scratch buffers of the permutation crossover policies working on
+ * {@code int[]} representations. The buffers grow to the largest genome length
+ * seen by a thread and are then reused, so that a crossover only allocates the
+ * children representations created by
+ * {@link AbstractArrayChromosomeCrossoverPolicy}.
+ * @since 4.0
+ */
+final class PermutationScratch {
+
+    /** per-thread scratch buffers. */
+    private static final ThreadLocal<PermutationScratch> SCRATCH = ThreadLocal.withInitial(PermutationScratch::new);
+
+    /** copy of the first parent. */
+    private int[] parent1 = new int[0];
+
+    /** copy of the second parent. */
+    private int[] parent2 = new int[0];
+
+    /** first buffer indexed by gene value or position. */
+    private int[] table1 = new int[0];
+
+    /** second buffer indexed by gene value or position. */
+    private int[] table2 = new int[0];
+
+    /**
+     * Creates the scratch buffers.
+     */
+    private PermutationScratch() {
+    }
+
+    /**
+     * Returns the scratch buffers of the calling thread holding copies of the
+     * parents.
+     * @param parent1Rep representation of the first parent
+     * @param parent2Rep representation of the second parent
+     * @param length     length of the representations
+     * @return scratch buffers
+     */
+    static PermutationScratch of(int[] parent1Rep, int[] parent2Rep, int length) {
+        final PermutationScratch scratch = SCRATCH.get();
+        if (scratch.parent1.length < length) {
+            scratch.parent1 = new int[length];
+            scratch.parent2 = new int[length];
+            scratch.table1 = new int[length];
+            scratch.table2 = new int[length];
+        }
+        System.arraycopy(parent1Rep, 0, scratch.parent1, 0, length);
+        System.arraycopy(parent2Rep, 0, scratch.parent2, 0, length);
+        return scratch;
+    }
+
+    /**
+     * Returns the copy of the first parent.
+     * @return first parent
+     */
+    int[] parent1() {
+        return parent1;
+    }
+
+    /**
+     * Returns the copy of the second parent.
+     * @return second parent
+     */
+    int[] parent2() {
+        return parent2;
+    }
+
+    /**
+     * Returns the first table, filled with {@code value}.
+     * @param length number of entries to fill
+     * @param value  fill value
+     * @return first table
+     */
+    int[] table1(int length, int value) {
+        Arrays.fill(table1, 0, length, value);
+        return table1;
+    }
+
+    /**
+     * Returns the second table, filled with {@code value}.
+     * @param length number of entries to fill
+     * @param value  fill value
+     * @return second table
+     */
+    int[] table2(int length, int value) {
+        Arrays.fill(table2, 0, length, value);
+        return table2;
+    }
+
+    /**
+     * Checks that a gene is a valid element of a permutation of
+     * {@code 0..length-1}.
+     * @param gene   the gene
+     * @param length length of the permutation
+     */
+    static void checkGene(int gene, int length) {
+        if (gene < 0 || gene >= length) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, gene, "gene", 0, length - 1);
+        }
+    }
+
+}
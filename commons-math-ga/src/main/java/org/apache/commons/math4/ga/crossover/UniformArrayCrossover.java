@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.crossover;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Uniform crossover policy for {@link org.apache.commons.math4.ga.chromosome.AbstractArrayChromosome
+ * AbstractArrayChromosome}. It is the array
+ * based counterpart of {@link UniformCrossover}: each gene is exchanged between
+ * the children if a uniform random number is less than the mixing ratio.
+ * Consecutive exchanged genes are processed as a single run.
+ * <p>
+ * The chromosomes must have same lengths.
+ *
+ * @param <A> type of the primitive array representation e.g. double[]
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class UniformArrayCrossover<A, P> extends AbstractArrayChromosomeCrossoverPolicy<A, P> {
+
+    /** The mixing ratio. */
+    private final double ratio;
+
+    /**
+     * Creates a new {@link UniformArrayCrossover} policy using the given mixing
+     * ratio.
+     *
+     * @param ratio the mixing ratio
+     */
+    public UniformArrayCrossover(final double ratio) {
+        if (ratio < 0.0d || ratio > 1.0d) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, ratio, UniformCrossover.CROSSOVER_RATE, 0.0d,
+                    1.0d);
+        }
+        this.ratio = ratio;
+    }
+
+    /**
+     * Returns the mixing ratio used by this {@link CrossoverPolicy}.
+     *
+     * @return the mixing ratio
+     */
+    public double getRatio() {
+        return ratio;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void mate(final A child1Rep, final A child2Rep, final int length) {
+        final UniformRandomProvider random = RandomProviderManager.getRandomProvider();
+
+        // start of the current run of exchanged genes, -1 if none.
+        int runStart = -1;
+        for (int index = 0; index < length; index++) {
+            if (random.nextDouble() < ratio) {
+                if (runStart < 0) {
+                    runStart = index;
+                }
+            } else if (runStart >= 0) {
+                exchange(child1Rep, child2Rep, runStart, index);
+                runStart = -1;
+            }
+        }
+        if (runStart >= 0) {
+            exchange(child1Rep, child2Rep, runStart, length);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.decoder;
+
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+
+/**
+ * An abstract Decoder of {@link BinaryChromosome}. Implementations are expected
+ * to read the alleles directly from the packed representation using
+ * {@link BinaryChromosome#getAllele(long)} and
+ * {@link BinaryChromosome#getAlleleBits(long, int)} instead of going through
+ * the string representation.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public abstract class AbstractBinaryChromosomeDecoder<P> implements Decoder<P> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public P decode(Chromosome<P> chromosome) {
+        checkValidity(chromosome);
+
+        return decode((BinaryChromosome<P>) chromosome);
+    }
+
+    /**
+     * Checks validity of {@link Chromosome}.
+     * @param chromosome the {@link Chromosome}
+     */
+    protected void checkValidity(Chromosome<P> chromosome) {
+        if (!BinaryChromosome.class.isAssignableFrom(chromosome.getClass())) {
+            throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT, chromosome.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Decodes the chromosome genotype and returns the phenotype.
+     * @param chromosome The binary chromosome to decode
+     * @return decoded phenotype of chromosome
+     */
+    protected abstract P decode(BinaryChromosome<P> chromosome);
+
+}
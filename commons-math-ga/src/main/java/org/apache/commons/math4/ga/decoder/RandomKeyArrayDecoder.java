@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.decoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.math4.ga.chromosome.AbstractArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+
+/**
+ * Random key decoder of {@link RealValuedArrayChromosome}s. The keys are
+ * copied into a per-thread scratch buffer and their indices are sorted once, so
+ * decoding takes O(n log n) time and only allocates the resulting permutation.
+ * The permutation is the same as the one produced by {@link RandomKeyDecoder}
+ * for the same keys.
+ * @param <U> type of the permutation element
+ * @since 4.0
+ */
+public final class RandomKeyArrayDecoder<U> extends AbstractArrayChromosomeDecoder<double[], List<U>> {
+
+    /** base sequence for decoding chromosome. **/
+    private final List<U> baseSequence;
+
+    /**
+     * @param baseSequence the unpermuted sequence
+     */
+    public RandomKeyArrayDecoder(List<U> baseSequence) {
+        this.baseSequence = Collections.unmodifiableList(Objects.requireNonNull(baseSequence));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void checkValidity(Chromosome<List<U>> chromosome) {
+        if (!(chromosome instanceof RealValuedArrayChromosome)) {
+            throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT, chromosome.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<U> decode(AbstractArrayChromosome<double[], List<U>> chromosome) {
+        final RealValuedArrayChromosome<List<U>> keyChromosome = (RealValuedArrayChromosome<List<U>>) chromosome;
+        final int sequenceLength = baseSequence.size();
+        if (keyChromosome.getLength() != sequenceLength) {
+            throw new GeneticException(GeneticException.SIZE_MISMATCH, keyChromosome.getLength(), sequenceLength);
+        }
+
+        final RandomKeySorter sorter = RandomKeySorter.get(sequenceLength);
+        final double[] keys = sorter.keys();
+        for (int i = 0; i < sequenceLength; i++) {
+            keys[i] = keyChromosome.getAllele(i);
+        }
+        final int[] indices = sorter.sortIndices(sequenceLength);
+
+        final List<U> res = new ArrayList<>(sequenceLength);
+        for (int i = 0; i < sequenceLength; i++) {
+            res.add(baseSequence.get(indices[i]));
+        }
+        return res;
+    }
+
+}
@@ -48,25 +48,24 @@ public final class RandomKeyDecoder<U> extends AbstractListChromosomeDecoder<Dou
     @Override
     protected List<U> decode(AbstractListChromosome<Double, List<U>> chromosome) {
         final List<Double> representation = chromosome.getRepresentation();
-        final List<Double> sortedRepresentation = new ArrayList<>(representation);
-        Collections.sort(sortedRepresentation);
-
         final int sequenceLength = baseSequence.size();
 
-        // the size of the three lists must be equal
+        // the size of the two lists must be equal
         if (representation.size() != sequenceLength) {
             throw new GeneticException(GeneticException.SIZE_MISMATCH, representation.size(), sequenceLength);
         }
 
-        // do not modify the original representation
-        final List<Double> representationCopy = new ArrayList<>(representation);
+        // sort the indices of the keys, equal keys keep their relative order
+        final RandomKeySorter sorter = RandomKeySorter.get(sequenceLength);
+        final double[] keys = sorter.keys();
+        for (int i = 0; i < sequenceLength; i++) {
+            keys[i] = representation.get(i);
+        }
+        final int[] indices = sorter.sortIndices(sequenceLength);
 
-        // now find the indices in the original repr and use them for permuting
         final List<U> res = new ArrayList<>(sequenceLength);
         for (int i = 0; i < sequenceLength; i++) {
-            final int index = representationCopy.indexOf(sortedRepresentation.get(i));
-            res.add(baseSequence.get(index));
-            representationCopy.set(index, null);
+            res.add(baseSequence.get(indices[i]));
         }
 
         return res;
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.decoder;
+
+/**
+ * Sorts the indices of random keys. The keys and indices are kept in per-thread
+ * scratch buffers which are reused across calls, so sorting does not allocate
+ * once the buffers have grown to the genome length.
+ * <p>
+ * Indices of equal keys are ordered by ascending index, i.e. the order matches
+ * a stable sort of the keys.
+ * @since 4.0
+ */
+final class RandomKeySorter {
+
+    /** ranges smaller than this are sorted by insertion sort. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /** per-thread scratch buffers. */
+    private static final ThreadLocal<RandomKeySorter> SCRATCH = ThreadLocal.withInitial(RandomKeySorter::new);
+
+    /** buffer of the keys. */
+    private double[] keys = new double[0];
+
+    /** buffer of the indices. */
+    private int[] indices = new int[0];
+
+    /**
+     * Creates the scratch buffers.
+     */
+    private RandomKeySorter() {
+    }
+
+    /**
+     * Returns the scratch buffer of the calling thread able to hold
+     * {@code length} keys. The returned buffer must be filled with the keys
+     * before calling {@link #sortIndices(int)}.
+     * @param length number of keys
+     * @return the scratch sorter of the calling thread
+     */
+    static RandomKeySorter get(int length) {
+        final RandomKeySorter sorter = SCRATCH.get();
+        if (sorter.keys.length < length) {
+            sorter.keys = new double[length];
+            sorter.indices = new int[length];
+        }
+        return sorter;
+    }
+
+    /**
+     * Returns the key buffer.
+     * @return keys
+     */
+    double[] keys() {
+        return keys;
+    }
+
+    /**
+     * Sorts the indices of the first {@code length} keys by ascending key.
+     * @param length number of keys
+     * @return the sorted indices; the buffer is only valid until the next call
+     *         on the calling thread
+     */
+    int[] sortIndices(int length) {
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+        }
+        sort(0, length - 1);
+        return indices;
+    }
+
+    /**
+     * Quicksort of the indices in the inclusive range [lo, hi].
+     * @param lo lower bound
+     * @param hi upper bound
+     */
+    private void sort(int lo, int hi) {
+        int low = lo;
+        int high = hi;
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            // median of three as pivot
+            final int mid = (low + high) >>> 1;
+            if (less(indices[mid], indices[low])) {
+                swap(mid, low);
+            }
+            if (less(indices[high], indices[low])) {
+                swap(high, low);
+            }
+            if (less(indices[high], indices[mid])) {
+                swap(high, mid);
+            }
+            final int pivot = indices[mid];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (less(indices[i], pivot)) {
+                    i++;
+                }
+                while (less(pivot, indices[j])) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            // recurse into the smaller part to bound the stack depth
+            if (j - low < high - i) {
+                sort(low, j);
+                low = i;
+            } else {
+                sort(i, high);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            final int index = indices[i];
+            int j = i - 1;
+            while (j >= low && less(index, indices[j])) {
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            indices[j + 1] = index;
+        }
+    }
+
+    /**
+     * Compares two indices by key, then by index.
+     * @param a first index
+     * @param b second index
+     * @return true if {@code a} sorts before {@code b}
+     */
+    private boolean less(int a, int b) {
+        final int comparison = Double.compare(keys[a], keys[b]);
+        return comparison < 0 || comparison == 0 && a < b;
+    }
+
+    /**
+     * Swaps two positions of the index buffer.
+     * @param i first position
+     * @param j second position
+     */
+    private void swap(int i, int j) {
+        final int tmp = indices[i];
+        indices[i] = indices[j];
+        indices[j] = tmp;
+    }
+
+}
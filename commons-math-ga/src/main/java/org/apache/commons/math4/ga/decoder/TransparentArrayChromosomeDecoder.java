@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.decoder;
+
+import org.apache.commons.math4.ga.chromosome.AbstractArrayChromosome;
+
+/**
+ * A concrete implementation of transparent decoder for array chromosomes.
+ * Treats a copy of the genotype as phenotype.
+ * @param <A> type of the primitive array representation e.g. double[]
+ * @since 4.0
+ */
+public final class TransparentArrayChromosomeDecoder<A> extends AbstractArrayChromosomeDecoder<A, A> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected A decode(AbstractArrayChromosome<A, A> chromosome) {
+        return chromosome.getRepresentation();
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.fitness;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A fitness function evaluating a whole batch of phenotypes at once, e.g. as a
+ * vectorized matrix operation or with a single round trip to an external
+ * simulation. {@link org.apache.commons.math4.ga.AbstractGeneticAlgorithm
+ * AbstractGeneticAlgorithm} detects chromosomes using such a function and
+ * evaluates all their unevaluated chromosomes of a generation in one call.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public interface BatchFitnessFunction<P> extends FitnessFunction<P> {
+
+    /**
+     * Computes the fitness values of the phenotypes.
+     * @param decodedChromosomes chromosomes decoded as phenotypes
+     * @param fitness            receives the fitness value of the phenotype at
+     *                           the same index; its length is the number of
+     *                           phenotypes
+     */
+    void compute(List<P> decodedChromosomes, double[] fitness);
+
+    /**
+     * Computes the fitness value of a single phenotype as a batch of one.
+     * @param decodedChromosome chromosome decoded as phenotype
+     * @return fitness value
+     */
+    @Override
+    default double compute(P decodedChromosome) {
+        final double[] fitness = new double[1];
+        compute(Collections.singletonList(decodedChromosome), fitness);
+        return fitness[0];
+    }
+
+}
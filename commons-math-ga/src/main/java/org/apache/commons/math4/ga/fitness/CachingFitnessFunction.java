@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.fitness;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+
+/**
+ * A {@link FitnessFunction} decorator which memoizes the fitness of the
+ * genotypes it has already evaluated. Offspring which are an exact copy of an
+ * earlier individual are then neither decoded nor evaluated again by the
+ * decorated function.
+ * <p>
+ * {@link org.apache.commons.math4.ga.chromosome.AbstractChromosome
+ * AbstractChromosome}s using this function look their fitness up by genotype
+ * via {@link #compute(Object, Supplier)}, so the phenotype is decoded only on a
+ * cache miss. The chromosomes sharing a cache must therefore decode equal
+ * genotypes to equal phenotypes. When called directly with a phenotype, the
+ * cache is keyed by the phenotype, which must honour the
+ * {@code hashCode()}/{@code equals()} contract; array phenotypes are copied and
+ * compared by content. The number of cached entries is bounded; when the bound
+ * is exceeded the least recently used entry (or the oldest entry, if access
+ * order is disabled) is evicted.
+ * <p>
+ * This class is thread-safe provided the decorated function is. The decorated
+ * function is called outside of any lock, so concurrent requests for the same
+ * phenotype may both be computed.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class CachingFitnessFunction<P> implements FitnessFunction<P> {
+
+    /** the decorated fitness function. **/
+    private final FitnessFunction<P> fitnessFunction;
+
+    /** maximum number of cached entries. **/
+    private final int maximumSize;
+
+    /** cached fitness values, guarded by itself. **/
+    private final Map<Object, Double> cache;
+
+    /** number of fitness values found in cache. **/
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /** number of fitness values computed by the decorated function. **/
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates a cache with least recently used eviction.
+     * @param fitnessFunction the decorated fitness function
+     * @param maximumSize     maximum number of cached entries
+     */
+    public CachingFitnessFunction(FitnessFunction<P> fitnessFunction, int maximumSize) {
+        this(fitnessFunction, maximumSize, true);
+    }
+
+    /**
+     * @param fitnessFunction the decorated fitness function
+     * @param maximumSize     maximum number of cached entries
+     * @param accessOrder     if {@code true} the least recently used entry is
+     *                        evicted first, otherwise the oldest inserted entry.
+     */
+    public CachingFitnessFunction(FitnessFunction<P> fitnessFunction, int maximumSize, boolean accessOrder) {
+        this.fitnessFunction = Objects.requireNonNull(fitnessFunction);
+        if (maximumSize <= 0) {
+            throw new GeneticException(GeneticException.NOT_STRICTLY_POSITIVE, maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.cache = new LinkedHashMap<Object, Double>(16, 0.75f, accessOrder) {
+            /** serial version id. **/
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Double> eldest) {
+                return size() > CachingFitnessFunction.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double compute(P decodedChromosome) {
+        Objects.requireNonNull(decodedChromosome);
+        final Object key = decodedChromosome.getClass().isArray() ?
+                new ArrayKey(copyArray(decodedChromosome)) : decodedChromosome;
+        return lookup(key, () -> decodedChromosome);
+    }
+
+    /**
+     * Computes the fitness of the chromosome with the given genotype, decoding
+     * it only if the fitness is not cached.
+     * @param genotype  the genotype, compared by content (arrays included); it
+     *                  must identify the phenotype and must not be modified
+     *                  afterwards
+     * @param phenotype supplies the decoded chromosome on a cache miss
+     * @return the fitness
+     */
+    public double compute(Object genotype, Supplier<P> phenotype) {
+        return lookup(new GenotypeKey(genotype), phenotype);
+    }
+
+    /**
+     * Looks the fitness up and computes it on a cache miss.
+     * @param key       the cache key
+     * @param phenotype supplies the decoded chromosome on a cache miss
+     * @return the fitness
+     */
+    private double lookup(Object key, Supplier<P> phenotype) {
+        Double fitness;
+        synchronized (cache) {
+            fitness = cache.get(key);
+        }
+        if (fitness != null) {
+            hitCount.incrementAndGet();
+            return fitness;
+        }
+
+        missCount.incrementAndGet();
+        final double value = fitnessFunction.compute(phenotype.get());
+        synchronized (cache) {
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of fitness values served from the cache.
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of fitness values computed by the decorated function.
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the current number of cached entries.
+     * @return cache size
+     */
+    public int getSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Returns the maximum number of cached entries.
+     * @return maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Removes all cached entries and resets the counters.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    /**
+     * Copies the array and its nested arrays, so that a fitness function
+     * modifying its argument does not corrupt the cache key.
+     * @param array the array
+     * @return the copy
+     */
+    private static Object copyArray(Object array) {
+        final int length = Array.getLength(array);
+        final Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        if (copy instanceof Object[]) {
+            final Object[] elements = (Object[]) copy;
+            for (int i = 0; i < length; i++) {
+                if (elements[i] != null && elements[i].getClass().isArray()) {
+                    elements[i] = copyArray(elements[i]);
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Cache key comparing a genotype by content.
+     */
+    private static final class GenotypeKey extends ArrayKey {
+
+        /**
+         * @param genotype the genotype
+         */
+        GenotypeKey(Object genotype) {
+            super(Objects.requireNonNull(genotype));
+        }
+    }
+
+    /**
+     * Cache key comparing an array phenotype by content.
+     */
+    private static class ArrayKey {
+
+        /** array wrapped for {@link Arrays#deepEquals(Object[], Object[])}. **/
+        private final Object[] array;
+
+        /** hash code of the array content. **/
+        private final int hash;
+
+        /**
+         * @param array array phenotype
+         */
+        ArrayKey(Object array) {
+            this.array = new Object[] {array};
+            this.hash = Arrays.deepHashCode(this.array);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || obj.getClass() != getClass()) {
+                return false;
+            }
+            final ArrayKey other = (ArrayKey) obj;
+            return hash == other.hash && Arrays.deepEquals(array, other.array);
+        }
+    }
+
+}
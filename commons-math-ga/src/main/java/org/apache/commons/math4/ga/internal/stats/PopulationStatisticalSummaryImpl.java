@@ -16,11 +16,7 @@
  */
 package org.apache.commons.math4.ga.internal.stats;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
 
 import org.apache.commons.math4.ga.chromosome.Chromosome;
@@ -29,6 +25,9 @@ import org.apache.commons.math4.ga.stats.PopulationStatisticalSummary;
 
 /**
  * This class represents an implementation of population statistical summary.
+ * The minimum, maximum, mean and variance of fitness are computed in a single
+ * pass over the population. The sorted fitness values required for
+ * {@link #findRank(Chromosome)} are computed lazily on the first rank query.
  * @param <P> phenotype of chromosome
  * @since 4.0
  */
@@ -41,7 +40,7 @@ public class PopulationStatisticalSummaryImpl<P> implements PopulationStatistica
     private final double minFitness;
 
     /** mean fitness of the population. **/
-    private double meanFitness;
+    private final double meanFitness;
 
     /** variance of population fitness. **/
     private final double variance;
@@ -49,51 +48,41 @@ public class PopulationStatisticalSummaryImpl<P> implements PopulationStatistica
     /** population size. **/
     private final int populationSize;
 
-    /** a map of chromosome Id and corresponding rank in population. **/
-    private final Map<String, Integer> chromosomeIdRankMap = new HashMap<>();
+    /** fitness of the chromosomes in population order. **/
+    private final double[] fitness;
+
+    /** fitness of the chromosomes in ascending order, computed on demand. **/
+    private volatile double[] sortedFitness;
 
     /**
      * @param population current population {@link Population} of chromosomes
      */
     public PopulationStatisticalSummaryImpl(Population<P> population) {
+        Objects.requireNonNull(population);
 
-        // Fetch all chromosomes.
-        List<Chromosome<P>> chromosomes = getChromosomes(Objects.requireNonNull(population));
-
-        // Sort all chromosomes.
-        Collections.sort(chromosomes);
-
-        this.populationSize = chromosomes.size();
-        this.maxFitness = chromosomes.get(chromosomes.size() - 1).evaluate();
-        this.minFitness = chromosomes.get(0).evaluate();
-        this.meanFitness = calculateMeanFitness(chromosomes);
-        this.variance = calculateVariance(chromosomes);
-
-        updateChromosomeIdRankMap(chromosomes);
+        this.populationSize = population.getPopulationSize();
+        this.fitness = new double[populationSize];
 
-    }
-
-    /**
-     * Updates chromosome Id and rank.
-     * @param chromosomes list of chromosomes
-     */
-    private void updateChromosomeIdRankMap(List<Chromosome<P>> chromosomes) {
-        for (int rank = 0; rank < chromosomes.size(); rank++) {
-            this.chromosomeIdRankMap.put(chromosomes.get(rank).getId(), rank);
-        }
-    }
-
-    /**
-     * Fetches chromosomes.
-     * @param population
-     * @return list of chromosomes
-     */
-    private List<Chromosome<P>> getChromosomes(Population<P> population) {
-        List<Chromosome<P>> chromosomes = new ArrayList<>(population.getPopulationSize());
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double mean = 0;
+        double sumOfSquaredDeviation = 0;
+        int count = 0;
         for (Chromosome<P> chromosome : population) {
-            chromosomes.add(chromosome);
+            final double value = chromosome.evaluate();
+            fitness[count++] = value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            // Welford's online update of mean and variance.
+            final double delta = value - mean;
+            mean += delta / count;
+            sumOfSquaredDeviation += delta * (value - mean);
         }
-        return chromosomes;
+
+        this.minFitness = count == 0 ? Double.NaN : min;
+        this.maxFitness = count == 0 ? Double.NaN : max;
+        this.meanFitness = count == 0 ? Double.NaN : mean;
+        this.variance = count == 0 ? Double.NaN : sumOfSquaredDeviation / count;
     }
 
     /**
@@ -137,41 +126,42 @@ public class PopulationStatisticalSummaryImpl<P> implements PopulationStatistica
     }
 
     /**
-     * Calculate mean fitness.
-     * @param chromosomes list of chromosomes
-     * @return returns mean fitness
+     * {@inheritDoc}
+     * <p>
+     * The rank is the number of chromosomes in the population with a strictly
+     * lower fitness, so chromosomes with equal fitness share the same rank.
      */
-    private double calculateMeanFitness(List<Chromosome<P>> chromosomes) {
-        double sum = 0.0;
-        for (Chromosome<P> chromosome : chromosomes) {
-            sum += chromosome.evaluate();
+    @Override
+    public int findRank(Chromosome<P> chromosome) {
+        final double[] sorted = getSortedFitness();
+        final double value = chromosome.evaluate();
+
+        // lower bound binary search.
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (Double.compare(sorted[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
-        return sum / chromosomes.size();
+        return low;
     }
 
     /**
-     * Calculate variance of population fitness.
-     * @param chromosomes List of chromosomes
-     * @return fitness variance
+     * Returns the fitness values in ascending order, sorting them on first use.
+     * @return sorted fitness values
      */
-    private double calculateVariance(List<Chromosome<P>> chromosomes) {
-        if (this.meanFitness == 0) {
-            this.meanFitness = calculateMeanFitness(chromosomes);
+    private double[] getSortedFitness() {
+        double[] sorted = sortedFitness;
+        if (sorted == null) {
+            sorted = fitness.clone();
+            Arrays.sort(sorted);
+            sortedFitness = sorted;
         }
-        double sumOfSquare = 0.0;
-        for (Chromosome<P> chromosome : chromosomes) {
-            sumOfSquare += Math.pow(chromosome.evaluate(), 2);
-        }
-
-        return (sumOfSquare / chromosomes.size()) - Math.pow(this.meanFitness, 2);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public int findRank(Chromosome<P> chromosome) {
-        return chromosomeIdRankMap.get(chromosome.getId());
+        return sorted;
     }
 
 }
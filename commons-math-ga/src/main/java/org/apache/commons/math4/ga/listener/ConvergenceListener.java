@@ -34,4 +34,14 @@ public interface ConvergenceListener<P> {
      */
     void notify(int generation, Population<P> population);
 
+    /**
+     * Indicates whether the listener must be notified by the evolution thread,
+     * e.g. because it captures state confined to that thread. Asynchronous
+     * {@link ConvergenceListenerRegistry registries} reject such listeners.
+     * @return true if the listener must be notified synchronously
+     */
+    default boolean requiresSynchronousNotification() {
+        return false;
+    }
+
 }
@@ -17,16 +17,30 @@
 
 package org.apache.commons.math4.ga.listener;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
 import org.apache.commons.math4.ga.population.Population;
 
 /**
  * This class is the default implementation of ConvergenceListenerRegistry. It
  * will be responsible for registering the interested listeners and notifying
  * all when required.
+ * <p>
+ * A process-wide instance is available via {@link #getInstance()} and is used by
+ * the algorithms unless a registry is attached to the algorithm instance, which
+ * keeps the listeners of concurrent runs apart. A registry may notify only every
+ * N-th generation, and may dispatch the notifications asynchronously through a
+ * bounded queue served by a single daemon thread. When the queue is full the
+ * notification is dropped instead of blocking the evolution. The dispatcher
+ * thread terminates once it has been idle for {@value #DISPATCHER_KEEP_ALIVE_SECONDS}
+ * seconds, so registries which are no longer used do not retain threads.
  * @param <P> phenotype of chromosome
  * @since 4.0
  */
@@ -38,36 +52,123 @@ public final class ConvergenceListenerRegistry<P> {
     @SuppressWarnings("rawtypes")
     private static final ConvergenceListenerRegistry INSTANCE = new ConvergenceListenerRegistry<>();
 
+    /** idle time after which the dispatcher thread terminates. **/
+    private static final long DISPATCHER_KEEP_ALIVE_SECONDS = 10;
+
+    /** sampling interval string. **/
+    private static final String SAMPLING_INTERVAL = "SAMPLING_INTERVAL";
+
     /**
      * List of registered listeners.
      */
-    private final List<ConvergenceListener<P>> listeners = new ArrayList<>();
+    private final List<ConvergenceListener<P>> listeners = new CopyOnWriteArrayList<>();
+
+    /** listeners are notified every {@code samplingInterval} generations. **/
+    private final int samplingInterval;
+
+    /** executor dispatching notifications, {@code null} for synchronous dispatch. **/
+    private final ThreadPoolExecutor dispatcher;
+
+    /** number of notifications dropped because the dispatch queue was full. **/
+    private final AtomicLong droppedNotifications = new AtomicLong();
+
+    /**
+     * Creates a registry notifying the listeners synchronously every generation.
+     */
+    public ConvergenceListenerRegistry() {
+        this(1);
+    }
 
     /**
-     * private constructor to construct the singleton instance.
+     * Creates a registry notifying the listeners synchronously every
+     * {@code samplingInterval} generations.
+     * @param samplingInterval number of generations between two notifications
      */
-    private ConvergenceListenerRegistry() {
+    public ConvergenceListenerRegistry(int samplingInterval) {
+        this(samplingInterval, 0);
+    }
+
+    /**
+     * Creates a registry notifying the listeners every {@code samplingInterval}
+     * generations.
+     * @param samplingInterval number of generations between two notifications
+     * @param queueCapacity    capacity of the asynchronous dispatch queue, or 0
+     *                         to notify synchronously on the evolution thread
+     */
+    public ConvergenceListenerRegistry(int samplingInterval, int queueCapacity) {
+        if (samplingInterval <= 0) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, samplingInterval, SAMPLING_INTERVAL, 1,
+                    Integer.MAX_VALUE);
+        }
+        if (queueCapacity < 0) {
+            throw new GeneticException(GeneticException.TOO_SMALL, queueCapacity, 0);
+        }
+        this.samplingInterval = samplingInterval;
+        if (queueCapacity == 0) {
+            this.dispatcher = null;
+        } else {
+            this.dispatcher = new ThreadPoolExecutor(1, 1, DISPATCHER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), ConvergenceListenerRegistry::newDispatcherThread,
+                    (runnable, executor) -> droppedNotifications.incrementAndGet());
+            this.dispatcher.allowCoreThreadTimeOut(true);
+        }
     }
 
     /**
      * Registers the interested ConvergenceListener passed as an argument.
      * @param convergenceListener The {@link ConvergenceListener}
+     * @throws GeneticException if the listener
+     *         {@link ConvergenceListener#requiresSynchronousNotification() requires}
+     *         synchronous notifications and this registry is asynchronous
      */
     public void addConvergenceListener(ConvergenceListener<P> convergenceListener) {
+        if (dispatcher != null && convergenceListener.requiresSynchronousNotification()) {
+            throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT,
+                    "listener requires synchronous notifications");
+        }
         this.listeners.add(convergenceListener);
     }
 
     /**
      * Notifies all registered ConvergenceListeners about the population statistics.
+     * Notifications for generations which are not a multiple of the sampling
+     * interval are skipped.
+     * @param generation current generation
+     * @param population population of chromosomes
+     */
+    public void notifyAll(int generation, Population<P> population) {
+        if (generation % samplingInterval != 0 || listeners.isEmpty()) {
+            return;
+        }
+        if (dispatcher == null) {
+            dispatch(generation, population);
+        } else {
+            dispatcher.execute(() -> dispatch(generation, population));
+        }
+    }
+
+    /**
+     * Notifies all registered ConvergenceListeners.
      * @param generation current generation
      * @param population population of chromosomes
      */
-    public synchronized void notifyAll(int generation, Population<P> population) {
+    private synchronized void dispatch(int generation, Population<P> population) {
         for (ConvergenceListener<P> convergenceListener : listeners) {
             convergenceListener.notify(generation, population);
         }
     }
 
+    /**
+     * Creates the daemon thread dispatching notifications.
+     * @param runnable the dispatch loop
+     * @return the thread
+     */
+    private static Thread newDispatcherThread(Runnable runnable) {
+        final Thread thread = new Thread(runnable, "convergence-listener-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    }
+
     /**
      * Add instance of convergence listener.
      * @param convergenceListeners list of {@link ConvergenceListener}
@@ -78,6 +179,48 @@ public final class ConvergenceListenerRegistry<P> {
         }
     }
 
+    /**
+     * Returns the number of generations between two notifications.
+     * @return sampling interval
+     */
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * Returns true if notifications are dispatched asynchronously.
+     * @return true if asynchronous
+     */
+    public boolean isAsynchronous() {
+        return dispatcher != null;
+    }
+
+    /**
+     * Returns the number of notifications dropped because the dispatch queue was
+     * full.
+     * @return number of dropped notifications
+     */
+    public long getDroppedNotifications() {
+        return droppedNotifications.get();
+    }
+
+    /**
+     * Waits for the queued notifications to be dispatched and stops the
+     * dispatcher thread of an asynchronous registry. Later notifications are
+     * dropped.
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return true if all queued notifications have been dispatched
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        if (dispatcher == null) {
+            return true;
+        }
+        dispatcher.shutdown();
+        return dispatcher.awaitTermination(timeout, unit);
+    }
+
     /**
      * Returns instance of this class.
      * @param <P> The phenotype of chromosome
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.metrics;
+
+/**
+ * This interface receives counters and timings of the genetic operators
+ * executed by an algorithm. Algorithms query {@link #isEnabled()} once per
+ * generation and neither read the clock nor call {@link #record} when it
+ * returns {@code false}, so the default {@link #NONE} instance costs nothing.
+ * <p>
+ * Implementations must be thread-safe as operators may be applied by several
+ * threads concurrently.
+ * @since 4.0
+ */
+public interface EvolutionMetrics {
+
+    /** Metrics which discard everything; instrumentation is disabled. */
+    EvolutionMetrics NONE = new EvolutionMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(Operation operation, int count, long nanos) {
+            // nothing to record
+        }
+
+        @Override
+        public void generationCompleted(int generation) {
+            // nothing to record
+        }
+    };
+
+    /**
+     * The instrumented operations of the evolution process.
+     */
+    enum Operation {
+        /** selection of parent chromosomes. */
+        SELECTION,
+        /** crossover of parent chromosomes. */
+        CROSSOVER,
+        /** mutation of offspring chromosomes. */
+        MUTATION,
+        /** fitness evaluation of chromosomes. */
+        EVALUATION
+    }
+
+    /**
+     * Indicates whether the operations should be measured.
+     * @return true if the operations should be measured
+     */
+    boolean isEnabled();
+
+    /**
+     * Records the execution of an operation.
+     * @param operation the operation
+     * @param count     number of chromosomes produced or evaluated
+     * @param nanos     elapsed time in nanoseconds
+     */
+    void record(Operation operation, int count, long nanos);
+
+    /**
+     * Notifies that a generation has been completely produced and evaluated.
+     * @param generation the generation index
+     */
+    void generationCompleted(int generation);
+
+}
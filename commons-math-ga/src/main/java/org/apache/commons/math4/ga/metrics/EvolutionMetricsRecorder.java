@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe {@link EvolutionMetrics} which accumulates counters and timers
+ * for every {@link EvolutionMetrics.Operation operation}. Both the running
+ * totals and the figures of the last completed generation can be read at any
+ * time, e.g. by a monitoring system polling the recorder.
+ * @since 4.0
+ */
+public class EvolutionMetricsRecorder implements EvolutionMetrics {
+
+    /** number of operations. */
+    private static final int OPERATIONS = Operation.values().length;
+
+    /** total counts per operation. */
+    private final AtomicLongArray totalCounts = new AtomicLongArray(OPERATIONS);
+
+    /** total elapsed nanoseconds per operation. */
+    private final AtomicLongArray totalNanos = new AtomicLongArray(OPERATIONS);
+
+    /** counts per operation of the generation in progress. */
+    private final AtomicLongArray currentCounts = new AtomicLongArray(OPERATIONS);
+
+    /** elapsed nanoseconds per operation of the generation in progress. */
+    private final AtomicLongArray currentNanos = new AtomicLongArray(OPERATIONS);
+
+    /** counts per operation of the last completed generation. */
+    private volatile long[] lastCounts = new long[OPERATIONS];
+
+    /** elapsed nanoseconds per operation of the last completed generation. */
+    private volatile long[] lastNanos = new long[OPERATIONS];
+
+    /** index of the last completed generation, -1 if none. */
+    private volatile int lastGeneration = -1;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(Operation operation, int count, long nanos) {
+        final int index = operation.ordinal();
+        totalCounts.addAndGet(index, count);
+        totalNanos.addAndGet(index, nanos);
+        currentCounts.addAndGet(index, count);
+        currentNanos.addAndGet(index, nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void generationCompleted(int generation) {
+        final long[] counts = new long[OPERATIONS];
+        final long[] nanos = new long[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            counts[i] = currentCounts.getAndSet(i, 0);
+            nanos[i] = currentNanos.getAndSet(i, 0);
+        }
+        lastCounts = counts;
+        lastNanos = nanos;
+        lastGeneration = generation;
+    }
+
+    /**
+     * Returns the number of chromosomes processed by the operation since creation.
+     * @param operation the operation
+     * @return total count
+     */
+    public long getCount(Operation operation) {
+        return totalCounts.get(operation.ordinal());
+    }
+
+    /**
+     * Returns the time spent in the operation since creation.
+     * @param operation the operation
+     * @return total elapsed time in nanoseconds
+     */
+    public long getNanos(Operation operation) {
+        return totalNanos.get(operation.ordinal());
+    }
+
+    /**
+     * Returns the number of chromosomes processed by the operation during the
+     * last completed generation.
+     * @param operation the operation
+     * @return count of the last generation
+     */
+    public long getLastGenerationCount(Operation operation) {
+        return lastCounts[operation.ordinal()];
+    }
+
+    /**
+     * Returns the time spent in the operation during the last completed
+     * generation.
+     * @param operation the operation
+     * @return elapsed time of the last generation in nanoseconds
+     */
+    public long getLastGenerationNanos(Operation operation) {
+        return lastNanos[operation.ordinal()];
+    }
+
+    /**
+     * Returns the index of the last completed generation.
+     * @return last generation, -1 if no generation has been completed
+     */
+    public int getLastGeneration() {
+        return lastGeneration;
+    }
+
+}
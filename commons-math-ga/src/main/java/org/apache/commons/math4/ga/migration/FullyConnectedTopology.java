@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.migration;
+
+/**
+ * Fully connected migration topology. The emigrants of every island move to all
+ * other islands.
+ * @since 4.0
+ */
+public class FullyConnectedTopology implements MigrationTopology {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] getDestinations(int island, int islandCount) {
+        if (islandCount < 2) {
+            return new int[0];
+        }
+        final int[] destinations = new int[islandCount - 1];
+        for (int i = 0, j = 0; i < islandCount; i++) {
+            if (i != island) {
+                destinations[j++] = i;
+            }
+        }
+        return destinations;
+    }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.migration;
+
+/**
+ * This abstraction represents the topology used to exchange chromosomes between
+ * the islands of an island model genetic algorithm.
+ * @since 4.0
+ */
+public interface MigrationTopology {
+
+    /**
+     * Returns the islands which receive the emigrants of the given island.
+     * @param island      index of the source island
+     * @param islandCount total number of islands
+     * @return indexes of the destination islands
+     */
+    int[] getDestinations(int island, int islandCount);
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.migration;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Random migration topology. At every migration the emigrants of an island move
+ * to randomly chosen distinct islands other than the source island.
+ * @since 4.0
+ */
+public class RandomTopology implements MigrationTopology {
+
+    /** number of destination islands per migration. **/
+    private final int destinationCount;
+
+    /**
+     * Creates a topology sending emigrants to a single random island.
+     */
+    public RandomTopology() {
+        this(1);
+    }
+
+    /**
+     * @param destinationCount number of destination islands per migration
+     */
+    public RandomTopology(int destinationCount) {
+        if (destinationCount <= 0) {
+            throw new GeneticException(GeneticException.NOT_STRICTLY_POSITIVE, destinationCount);
+        }
+        this.destinationCount = destinationCount;
+    }
+
+    /**
+     * Returns the number of destination islands per migration.
+     * @return destination count
+     */
+    public int getDestinationCount() {
+        return destinationCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] getDestinations(int island, int islandCount) {
+        if (islandCount < 2) {
+            return new int[0];
+        }
+        // partial Fisher-Yates shuffle of all islands except the source.
+        final int[] candidates = new int[islandCount - 1];
+        for (int i = 0, j = 0; i < islandCount; i++) {
+            if (i != island) {
+                candidates[j++] = i;
+            }
+        }
+        final int count = Math.min(destinationCount, candidates.length);
+        final UniformRandomProvider randomProvider = RandomProviderManager.getRandomProvider();
+        for (int i = 0; i < count; i++) {
+            final int k = i + randomProvider.nextInt(candidates.length - i);
+            final int tmp = candidates[i];
+            candidates[i] = candidates[k];
+            candidates[k] = tmp;
+        }
+        final int[] destinations = new int[count];
+        System.arraycopy(candidates, 0, destinations, 0, count);
+        return destinations;
+    }
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.multiobjective;
+
+import java.util.Arrays;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+
+/**
+ * Pareto ranking of objective vectors, all objectives being maximized.
+ * <p>
+ * Fronts are computed with the efficient non-dominated sort (sequential
+ * search variant): individuals are processed in decreasing lexicographic
+ * order, so that an individual can only be dominated by the ones processed
+ * before it, and each is assigned to the first front none of whose members
+ * dominates it. This takes O(MN<sup>2</sup>) comparisons in the worst case for
+ * N individuals and M objectives and usually far fewer, and works on primitive
+ * arrays only.
+ * @since 4.0
+ */
+public final class NonDominatedSorting {
+
+    /** Initial capacity of the front list. */
+    private static final int INITIAL_FRONTS = 8;
+
+    /** Size below which index ranges are sorted by insertion. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /** Orders two indices. */
+    @FunctionalInterface
+    private interface IndexComparator {
+        /**
+         * Compares two indices.
+         * @param i first index
+         * @param j second index
+         * @return a negative integer, zero, or a positive integer as {@code i}
+         *         is ordered before, together with, or after {@code j}
+         */
+        int compare(int i, int j);
+    }
+
+    /** Class contains only static methods. */
+    private NonDominatedSorting() {
+    }
+
+    /**
+     * Checks whether the first vector Pareto dominates the second one, i.e. is
+     * not worse in any objective and better in at least one.
+     * @param a first objective vector
+     * @param b second objective vector
+     * @return true if {@code a} dominates {@code b}
+     */
+    public static boolean dominates(final double[] a, final double[] b) {
+        boolean better = false;
+        for (int k = 0; k < a.length; k++) {
+            if (a[k] < b[k]) {
+                return false;
+            }
+            if (a[k] > b[k]) {
+                better = true;
+            }
+        }
+        return better;
+    }
+
+    /**
+     * Computes the non-dominated front of each individual.
+     * @param objectives the objective vectors of the individuals, all of the
+     *                   same length
+     * @return the rank of each individual, 0 being the Pareto front
+     */
+    public static int[] sort(final double[][] objectives) {
+        final int size = objectives.length;
+        checkObjectives(objectives);
+        final int[] ranks = new int[size];
+        if (size == 0) {
+            return ranks;
+        }
+        final int[] order = identity(size);
+        sort(order, 0, size, new int[size], (i, j) -> compareLexicographically(objectives[j], objectives[i]));
+
+        int[][] fronts = new int[INITIAL_FRONTS][];
+        int[] frontSizes = new int[INITIAL_FRONTS];
+        int frontCount = 0;
+        for (int individual : order) {
+            int front = 0;
+            while (front < frontCount && isDominated(objectives, fronts[front], frontSizes[front], individual)) {
+                front++;
+            }
+            if (front == frontCount) {
+                if (frontCount == fronts.length) {
+                    fronts = Arrays.copyOf(fronts, 2 * frontCount);
+                    frontSizes = Arrays.copyOf(frontSizes, 2 * frontCount);
+                }
+                fronts[frontCount++] = new int[INITIAL_FRONTS];
+            }
+            if (frontSizes[front] == fronts[front].length) {
+                fronts[front] = Arrays.copyOf(fronts[front], 2 * frontSizes[front]);
+            }
+            fronts[front][frontSizes[front]++] = individual;
+            ranks[individual] = front;
+        }
+        return ranks;
+    }
+
+    /**
+     * Computes the crowding distance of each individual within its front. The
+     * distance is the sum over all objectives of the normalized distance
+     * between the two neighbours of the individual along the objective; the
+     * extreme individuals of a front get an infinite distance.
+     * @param objectives the objective vectors of the individuals
+     * @param ranks      the ranks computed by {@link #sort(double[][])}
+     * @return the crowding distance of each individual
+     */
+    public static double[] crowdingDistance(final double[][] objectives, final int[] ranks) {
+        final int size = objectives.length;
+        if (ranks.length != size) {
+            throw new GeneticException(GeneticException.SIZE_MISMATCH, ranks.length, size);
+        }
+        final double[] distance = new double[size];
+        if (size == 0) {
+            return distance;
+        }
+        final int[] byRank = sortByRank(ranks);
+        final int[] tmp = new int[size];
+        final int objectiveCount = objectives[0].length;
+        int from = 0;
+        while (from < size) {
+            int to = from + 1;
+            while (to < size && ranks[byRank[to]] == ranks[byRank[from]]) {
+                to++;
+            }
+            for (int k = 0; k < objectiveCount; k++) {
+                final int objective = k;
+                sort(byRank, from, to, tmp,
+                    (i, j) -> Double.compare(objectives[i][objective], objectives[j][objective]));
+                final double min = objectives[byRank[from]][k];
+                final double max = objectives[byRank[to - 1]][k];
+                distance[byRank[from]] = Double.POSITIVE_INFINITY;
+                distance[byRank[to - 1]] = Double.POSITIVE_INFINITY;
+                if (max > min) {
+                    for (int i = from + 1; i < to - 1; i++) {
+                        distance[byRank[i]] += (objectives[byRank[i + 1]][k] - objectives[byRank[i - 1]][k]) /
+                                (max - min);
+                    }
+                }
+            }
+            from = to;
+        }
+        return distance;
+    }
+
+    /**
+     * Orders the individuals by the crowded comparison operator: by increasing
+     * rank and, within a front, by decreasing crowding distance. The order is
+     * stable, so individuals which compare equal keep their relative order.
+     * @param ranks    the rank of each individual
+     * @param crowding the crowding distance of each individual
+     * @return the indices of the individuals, best first
+     */
+    public static int[] crowdedOrder(final int[] ranks, final double[] crowding) {
+        if (ranks.length != crowding.length) {
+            throw new GeneticException(GeneticException.SIZE_MISMATCH, ranks.length, crowding.length);
+        }
+        final int[] order = identity(ranks.length);
+        sort(order, 0, order.length, new int[order.length], (i, j) -> ranks[i] != ranks[j] ?
+                Integer.compare(ranks[i], ranks[j]) : Double.compare(crowding[j], crowding[i]));
+        return order;
+    }
+
+    /**
+     * Checks that all objective vectors have the same, positive length.
+     * @param objectives the objective vectors
+     */
+    private static void checkObjectives(final double[][] objectives) {
+        if (objectives.length == 0) {
+            return;
+        }
+        final int objectiveCount = objectives[0].length;
+        if (objectiveCount == 0) {
+            throw new GeneticException(GeneticException.NO_DATA);
+        }
+        for (double[] vector : objectives) {
+            if (vector.length != objectiveCount) {
+                throw new GeneticException(GeneticException.SIZE_MISMATCH, vector.length, objectiveCount);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a member of the front dominates the individual. Members
+     * are checked from the most recently added one, which is the closest in
+     * lexicographic order.
+     * @param objectives the objective vectors
+     * @param front      the members of the front
+     * @param frontSize  the number of members
+     * @param individual the individual
+     * @return true if the individual is dominated
+     */
+    private static boolean isDominated(final double[][] objectives, final int[] front, final int frontSize,
+            final int individual) {
+        final double[] vector = objectives[individual];
+        for (int i = frontSize - 1; i >= 0; i--) {
+            if (dominates(objectives[front[i]], vector)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compares two vectors lexicographically.
+     * @param a first vector
+     * @param b second vector
+     * @return the comparison of the first differing objective
+     */
+    private static int compareLexicographically(final double[] a, final double[] b) {
+        for (int k = 0; k < a.length; k++) {
+            final int c = Double.compare(a[k], b[k]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Orders the individuals by rank with a counting sort.
+     * @param ranks the rank of each individual
+     * @return the indices of the individuals, grouped by increasing rank
+     */
+    private static int[] sortByRank(final int[] ranks) {
+        int maxRank = 0;
+        for (int rank : ranks) {
+            maxRank = Math.max(maxRank, rank);
+        }
+        final int[] start = new int[maxRank + 2];
+        for (int rank : ranks) {
+            start[rank + 1]++;
+        }
+        for (int r = 0; r <= maxRank; r++) {
+            start[r + 1] += start[r];
+        }
+        final int[] order = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            order[start[ranks[i]]++] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Creates the identity permutation.
+     * @param size the size
+     * @return indices from 0 to {@code size - 1}
+     */
+    private static int[] identity(final int size) {
+        final int[] indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    /**
+     * Stable merge sort of a range of indices.
+     * @param indices    the indices
+     * @param from       the first index of the range, inclusive
+     * @param to         the last index of the range, exclusive
+     * @param tmp        work array as long as {@code indices}
+     * @param comparator the order
+     */
+    private static void sort(final int[] indices, final int from, final int to, final int[] tmp,
+            final IndexComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                final int value = indices[i];
+                int j = i - 1;
+                while (j >= from && comparator.compare(indices[j], value) > 0) {
+                    indices[j + 1] = indices[j];
+                    j--;
+                }
+                indices[j + 1] = value;
+            }
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        sort(indices, from, mid, tmp, comparator);
+        sort(indices, mid, to, tmp, comparator);
+        if (comparator.compare(indices[mid - 1], indices[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(indices, from, tmp, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || left < mid && comparator.compare(tmp[left], tmp[right]) <= 0) {
+                indices[i] = tmp[left++];
+            } else {
+                indices[i] = tmp[right++];
+            }
+        }
+    }
+
+}
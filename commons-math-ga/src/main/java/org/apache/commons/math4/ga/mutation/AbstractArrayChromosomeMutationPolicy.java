@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.mutation;
+
+import java.util.BitSet;
+
+import org.apache.commons.math4.ga.chromosome.AbstractArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * This abstraction represents an abstract mutation policy for array
+ * chromosomes. The genes are mutated in place in a copy of the original
+ * representation without boxing.
+ * @param <A> type of the primitive array representation e.g. double[]
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public abstract class AbstractArrayChromosomeMutationPolicy<A, P> implements MutationPolicy<P> {
+
+    /**
+     * Mutate the given chromosome. Randomly changes few genes depending on mutation
+     * rate.
+     * @param original     the original chromosome.
+     * @param mutationRate the rate of mutation per gene
+     * @return the mutated chromosome.
+     */
+    @Override
+    public Chromosome<P> mutate(Chromosome<P> original, double mutationRate) {
+        // check for validity.
+        checkValidity(original);
+
+        @SuppressWarnings("unchecked")
+        final AbstractArrayChromosome<A, P> chromosome = (AbstractArrayChromosome<A, P>) original;
+        final int length = chromosome.getLength();
+        final A newRep = chromosome.getRepresentation();
+
+        // calculate the total mutation rate of all the alleles i.e. chromosome.
+        final double chromosomeMutationRate = mutationRate * length;
+        final UniformRandomProvider randomProvider = RandomProviderManager.getRandomProvider();
+
+        // if chromosomeMutationRate >= 1 then more than one allele will be mutated.
+        if (chromosomeMutationRate >= 1) {
+            final int noOfMutation = (int) Math.min(Math.round(chromosomeMutationRate), length);
+            final BitSet mutatedGenes = new BitSet(length);
+            int mutationCount = 0;
+            while (mutationCount < noOfMutation) {
+                final int index = randomProvider.nextInt(length);
+                if (!mutatedGenes.get(index)) {
+                    mutatedGenes.set(index);
+                    mutateGene(newRep, index);
+                    mutationCount++;
+                }
+            }
+        } else if (randomProvider.nextDouble() < chromosomeMutationRate) {
+            mutateGene(newRep, randomProvider.nextInt(length));
+        }
+
+        return chromosome.newChromosome(newRep, false);
+    }
+
+    /**
+     * Checks input chromosome validity.
+     * @param original chromosome to be mutated
+     */
+    protected abstract void checkValidity(Chromosome<P> original);
+
+    /**
+     * Mutates an individual gene/allele in place.
+     * @param representation the representation being mutated
+     * @param index          index of the gene to mutate
+     */
+    protected abstract void mutateGene(A representation, int index);
+
+}
@@ -19,21 +19,44 @@ package org.apache.commons.math4.ga.mutation;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
 import org.apache.commons.math4.ga.chromosome.Chromosome;
 import org.apache.commons.math4.ga.internal.exception.GeneticException;
 import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
 
 /**
  * Mutation for {@link BinaryChromosome}s. Randomly changes few genes.
+ * <p>
+ * The genes to be mutated are sampled into a mask having the same layout as the
+ * packed chromosome representation, which is then applied word by word using
+ * XOR.
  * @param <P> phenotype of chromosome
  * @since 4.0
  */
 public class BinaryMutation<P> implements MutationPolicy<P> {
 
+    /** whether a subclass overrides the deprecated {@link #getMutableGeneIndexes(long, double)}. */
+    private final boolean geneIndexesOverridden;
+
+    /**
+     * Creates a binary mutation.
+     */
+    public BinaryMutation() {
+        boolean overridden = false;
+        for (Class<?> c = getClass(); c != BinaryMutation.class && !overridden; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("getMutableGeneIndexes", long.class, double.class);
+                overridden = true;
+            } catch (NoSuchMethodException e) {
+                // not declared by this class.
+            }
+        }
+        this.geneIndexesOverridden = overridden;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -42,31 +65,16 @@ public class BinaryMutation<P> implements MutationPolicy<P> {
         // check for validity.
         checkValidity(original);
         final BinaryChromosome<P> chromosome = (BinaryChromosome<P>) original;
-        final long[] representation = chromosome.getRepresentation();
-        final long[] newRep = new long[representation.length];
-        System.arraycopy(representation, 0, newRep, 0, representation.length);
-
-        final Map<Integer, Set<Integer>> mutableGeneIndexMap = getMutableGeneIndexes(chromosome.getLength(),
-                mutationRate);
-        for (Entry<Integer, Set<Integer>> entry : mutableGeneIndexMap.entrySet()) {
-            final int alleleBlockIndex = entry.getKey();
-            long mask = 0;
-            final Set<Integer> alleleElementIndexes = mutableGeneIndexMap.get(alleleBlockIndex);
-            for (int index : alleleElementIndexes) {
-                mask += index == 0 ? Long.MIN_VALUE : Math.pow(2, Long.SIZE - 1 - index);
-            }
-            newRep[alleleBlockIndex] = newRep[alleleBlockIndex] ^ mask;
+        final long[] newRep = chromosome.getRepresentation();
+
+        final long[] mutationMask = geneIndexesOverridden ?
+                toMutationMask(newRep.length, getMutableGeneIndexes(chromosome.getLength(), mutationRate)) :
+                getMutationMask(chromosome.getLength(), mutationRate);
+        for (int i = 0; i < newRep.length; i++) {
+            newRep[i] ^= mutationMask[i];
         }
-//        for (int alleleBlockIndex : mutableGeneIndexMap.keySet()) {
-//            long mask = 0;
-//            final Set<Integer> alleleElementIndexes = mutableGeneIndexMap.get(alleleBlockIndex);
-//            for (int index : alleleElementIndexes) {
-//                mask += index == 0 ? Long.MIN_VALUE : Math.pow(2, Long.SIZE - 1 - index);
-//            }
-//            newRep[alleleBlockIndex] = newRep[alleleBlockIndex] ^ mask;
-//        }
-
-        return chromosome.newChromosome(newRep, chromosome.getLength());
+
+        return chromosome.newChromosome(newRep, chromosome.getLength(), false);
     }
 
     /**
@@ -80,56 +88,93 @@ public class BinaryMutation<P> implements MutationPolicy<P> {
     }
 
     /**
-     * Selects and returns mutable gene indexes based on mutation rate.
+     * Selects the mutable genes based on mutation rate and returns them as a mask
+     * of the packed chromosome representation. Each bit set in the mask denotes an
+     * allele to be flipped.
      * @param length       no of alleles/genes in chromosome
      * @param mutationRate mutation rate of the allele/gene
-     * @return mutable gene indexes
+     * @return mutation mask
      */
-    protected Map<Integer, Set<Integer>> getMutableGeneIndexes(long length, double mutationRate) {
+    protected long[] getMutationMask(long length, double mutationRate) {
+        final long[] mask = new long[(int) ((length + Long.SIZE - 1) / Long.SIZE)];
+        final int offset = (int) (length % Long.SIZE == 0 ? 0 : Long.SIZE - length % Long.SIZE);
+        final UniformRandomProvider randomProvider = RandomProviderManager.getRandomProvider();
 
         // calculate the total mutation rate of all the alleles i.e. chromosome.
         final double chromosomeMutationRate = mutationRate * length;
-        final Map<Integer, Set<Integer>> indexMap = new HashMap<>();
 
         // if chromosomeMutationRate >= 1 then more than one allele will be mutated.
         if (chromosomeMutationRate >= 1) {
-            final int noOfMutation = (int) Math.round(chromosomeMutationRate);
-            final Set<Long> mutationIndexes = new HashSet<>();
-            for (int i = 0; i < noOfMutation; i++) {
-                final long mutationIndex = generateMutationIndex(length, mutationIndexes);
-                mutationIndexes.add(mutationIndex);
-                updateIndexMap(indexMap, length, mutationIndex);
+            final long noOfMutation = Math.min(length, Math.round(chromosomeMutationRate));
+            long mutationCount = 0;
+            while (mutationCount < noOfMutation) {
+                // an allele which has already been selected is sampled again.
+                if (updateMask(mask, offset + randomProvider.nextLong(length))) {
+                    mutationCount++;
+                }
             }
-        } else if (RandomProviderManager.getRandomProvider().nextDouble() < chromosomeMutationRate) {
-            updateIndexMap(indexMap, length);
+        } else if (randomProvider.nextDouble() < chromosomeMutationRate) {
+            updateMask(mask, offset + randomProvider.nextLong(length));
         }
-        return indexMap;
+        return mask;
     }
 
-    private long generateMutationIndex(long length, Set<Long> mutationIndexes) {
-        long mutationIndex = 0;
-        do {
-            mutationIndex = RandomProviderManager.getRandomProvider().nextLong(length);
-        } while (mutationIndexes.contains(mutationIndex));
-        return mutationIndex;
+    /**
+     * Selects and returns mutable gene indexes based on mutation rate, as sets of
+     * bit indexes (counted from the most significant bit) keyed by the index of
+     * the block of the packed representation.
+     * @param length       no of alleles/genes in chromosome
+     * @param mutationRate mutation rate of the allele/gene
+     * @return mutable gene indexes
+     * @deprecated use {@link #getMutationMask(long, double)}; overriding this
+     *             method is still honoured by {@link #mutate(Chromosome, double)}
+     */
+    @Deprecated
+    protected Map<Integer, Set<Integer>> getMutableGeneIndexes(long length, double mutationRate) {
+        final long[] mask = getMutationMask(length, mutationRate);
+        final Map<Integer, Set<Integer>> indexMap = new HashMap<>();
+        for (int i = 0; i < mask.length; i++) {
+            long block = mask[i];
+            while (block != 0) {
+                final int leadingZeros = Long.numberOfLeadingZeros(block);
+                indexMap.computeIfAbsent(i, k -> new HashSet<>()).add(leadingZeros);
+                block &= ~(Long.MIN_VALUE >>> leadingZeros);
+            }
+        }
+        return indexMap;
     }
 
-    private void updateIndexMap(Map<Integer, Set<Integer>> indexMap, long length, long mutationIndex) {
-        final int offset = (int) (length % Long.SIZE == 0 ? 0 : Long.SIZE - length % Long.SIZE);
-        final long offsettedMutableAlleleIndex = offset + mutationIndex;
-
-        final int alleleBlockIndex = (int) (offsettedMutableAlleleIndex / Long.SIZE);
-
-        if (!indexMap.containsKey(alleleBlockIndex)) {
-            indexMap.put(alleleBlockIndex, new HashSet<>());
+    /**
+     * Converts gene indexes, as returned by
+     * {@link #getMutableGeneIndexes(long, double)}, into a mutation mask.
+     * @param size       number of blocks of the representation
+     * @param indexMap   bit indexes keyed by block index
+     * @return mutation mask
+     */
+    private static long[] toMutationMask(int size, Map<Integer, Set<Integer>> indexMap) {
+        final long[] mask = new long[size];
+        for (Map.Entry<Integer, Set<Integer>> entry : indexMap.entrySet()) {
+            for (int index : entry.getValue()) {
+                mask[entry.getKey()] |= Long.MIN_VALUE >>> index;
+            }
         }
-        final int alleleElementIndex = (int) (offsettedMutableAlleleIndex % Long.SIZE);
-
-        indexMap.get(alleleBlockIndex).add(alleleElementIndex);
+        return mask;
     }
 
-    private void updateIndexMap(Map<Integer, Set<Integer>> indexMap, long length) {
-        updateIndexMap(indexMap, length, RandomProviderManager.getRandomProvider().nextLong(length));
+    /**
+     * Sets the bit of the mask corresponding to the given allele index.
+     * @param mask                 the mutation mask
+     * @param offsettedAlleleIndex allele index including the unused leading bits
+     * @return {@code false} if the bit has already been set
+     */
+    private boolean updateMask(long[] mask, long offsettedAlleleIndex) {
+        final int alleleBlockIndex = (int) (offsettedAlleleIndex / Long.SIZE);
+        final long bit = Long.MIN_VALUE >>> (offsettedAlleleIndex % Long.SIZE);
+        if ((mask[alleleBlockIndex] & bit) != 0) {
+            return false;
+        }
+        mask[alleleBlockIndex] |= bit;
+        return true;
     }
 
 }
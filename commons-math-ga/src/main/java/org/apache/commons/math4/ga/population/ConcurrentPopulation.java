@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.population;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.math4.ga.selection.SelectionPolicy;
+
+/**
+ * Thread-safe {@link ListPopulation} used by steady-state evolution, where
+ * worker threads select parents and insert offspring concurrently. Reads are
+ * served from snapshots of the chromosome list, so iteration never observes a
+ * partially updated population. Selection through
+ * {@link #select(SelectionPolicy)} runs under the read lock and reads the
+ * chromosome list without copying it.
+ * <p>
+ * The least fit chromosome is tracked by a binary min-heap of list positions,
+ * so {@link #replaceWorst(Chromosome)} takes logarithmic time.
+ *
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class ConcurrentPopulation<P> extends ListPopulation<P> {
+
+    /** lock guarding the chromosome list. **/
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Positions in the chromosome list ordered as a min-heap on fitness, or
+     * {@code null} if the list has been modified by other means than
+     * {@link #replaceWorst(Chromosome)} since the heap was built.
+     */
+    private int[] worstHeap;
+
+    /**
+     * Creates a new, empty population.
+     * @param populationLimit maximal size of the population
+     */
+    public ConcurrentPopulation(final int populationLimit) {
+        super(populationLimit);
+    }
+
+    /**
+     * Creates a new population containing the given chromosomes.
+     * @param chromosomes     list of chromosomes to be added to the population
+     * @param populationLimit maximal size of the population
+     */
+    public ConcurrentPopulation(final List<Chromosome<P>> chromosomes, final int populationLimit) {
+        super(chromosomes, populationLimit);
+    }
+
+    /**
+     * Inserts the chromosome into the population. If the population is full the
+     * chromosome replaces the least fit chromosome, provided it is at least as
+     * fit.
+     * @param chromosome the chromosome to insert, its fitness is evaluated
+     *                   before the population is locked
+     * @return true if the chromosome has been inserted
+     */
+    public boolean replaceWorst(final Chromosome<P> chromosome) {
+        chromosome.evaluate();
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            final List<Chromosome<P>> chromosomes = getChromosomeList();
+            if (chromosomes.size() < getPopulationLimit()) {
+                chromosomes.add(chromosome);
+                worstHeap = null;
+                return true;
+            }
+            if (worstHeap == null) {
+                buildHeap(chromosomes);
+            }
+            final int worstIndex = worstHeap[0];
+            if (chromosome.compareTo(chromosomes.get(worstIndex)) >= 0) {
+                chromosomes.set(worstIndex, chromosome);
+                siftDown(chromosomes, 0);
+                return true;
+            }
+            return false;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Selects parents with the given policy while holding the read lock. During
+     * the selection {@link #getChromosomes()} and {@link #iterator()} return a
+     * view of the chromosome list instead of a copy.
+     * @param selectionPolicy the selection policy
+     * @return the selected chromosomes
+     */
+    public ChromosomePair<P> select(final SelectionPolicy<P> selectionPolicy) {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return selectionPolicy.select(this);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addChromosomes(final Collection<Chromosome<P>> chromosomeColl) {
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            super.addChromosomes(chromosomeColl);
+            worstHeap = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addChromosome(final Chromosome<P> chromosome) {
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            super.addChromosome(chromosome);
+            worstHeap = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the chromosomes in this population. If
+     * the calling thread holds the lock, i.e. during
+     * {@link #select(SelectionPolicy)}, an unmodifiable view is returned.
+     * @return the unmodifiable list of chromosomes
+     */
+    @Override
+    public List<Chromosome<P>> getChromosomes() {
+        if (isLockedByCurrentThread()) {
+            return Collections.unmodifiableList(getChromosomeList());
+        }
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return Collections.unmodifiableList(new ArrayList<>(getChromosomeList()));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Chromosome<P> getFittestChromosome() {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return super.getFittestChromosome();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPopulationLimit(final int populationLimit) {
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            super.setPopulationLimit(populationLimit);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPopulationSize() {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return super.getPopulationSize();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return super.toString();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the chromosomes, or over the
+     * chromosomes themselves if the calling thread holds the lock.
+     * @return chromosome iterator
+     */
+    @Override
+    public Iterator<Chromosome<P>> iterator() {
+        return getChromosomes().iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Population<P> nextGeneration(final double elitismRate) {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return super.nextGeneration(elitismRate);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Indicates whether the calling thread holds the read or the write lock.
+     * @return true if the chromosome list can be read without copying
+     */
+    private boolean isLockedByCurrentThread() {
+        return lock.getReadHoldCount() > 0 || lock.isWriteLockedByCurrentThread();
+    }
+
+    /**
+     * Builds the min-heap of list positions. The write lock must be held.
+     * @param chromosomes the chromosome list
+     */
+    private void buildHeap(final List<Chromosome<P>> chromosomes) {
+        worstHeap = new int[chromosomes.size()];
+        for (int i = 0; i < worstHeap.length; i++) {
+            worstHeap[i] = i;
+        }
+        for (int i = worstHeap.length / 2 - 1; i >= 0; i--) {
+            siftDown(chromosomes, i);
+        }
+    }
+
+    /**
+     * Moves the heap entry at the given node down until both children refer to
+     * chromosomes at least as fit. The write lock must be held.
+     * @param chromosomes the chromosome list
+     * @param node        index of the node in the heap
+     */
+    private void siftDown(final List<Chromosome<P>> chromosomes, final int node) {
+        final int size = worstHeap.length;
+        final int position = worstHeap[node];
+        final Chromosome<P> chromosome = chromosomes.get(position);
+        int current = node;
+        int child = 2 * current + 1;
+        while (child < size) {
+            if (child + 1 < size &&
+                chromosomes.get(worstHeap[child + 1]).compareTo(chromosomes.get(worstHeap[child])) < 0) {
+                child++;
+            }
+            if (chromosomes.get(worstHeap[child]).compareTo(chromosome) >= 0) {
+                break;
+            }
+            worstHeap[current] = worstHeap[child];
+            current = child;
+            child = 2 * current + 1;
+        }
+        worstHeap[current] = position;
+    }
+
+}
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 
 import org.apache.commons.math4.ga.chromosome.Chromosome;
 import org.apache.commons.math4.ga.internal.exception.GeneticException;
@@ -192,6 +193,10 @@ public class ListPopulation<P> implements Population<P> {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The elite chromosomes are selected with a bounded min-heap in O(n log k)
+     * time, where k is the number of elite chromosomes. The chromosome list of
+     * this population is left unchanged.
      */
     @Override
     public Population<P> nextGeneration(final double elitismRate) {
@@ -205,13 +210,24 @@ public class ListPopulation<P> implements Population<P> {
             // individuals.
             final ListPopulation<P> nextGeneration = new ListPopulation<>(getPopulationLimit());
 
-            // Sort the chromosome according to ascending order of fitness.
-            Collections.sort(oldChromosomes);
-
             // index of the last "not good enough" chromosome
             final int boundIndex = (int) Math.ceil((1.0 - elitismRate) * oldChromosomes.size());
-            for (int i = boundIndex; i < oldChromosomes.size(); i++) {
-                nextGeneration.addChromosome(oldChromosomes.get(i));
+            final int eliteCount = oldChromosomes.size() - boundIndex;
+
+            // min-heap of the fittest chromosomes seen so far.
+            final PriorityQueue<Chromosome<P>> elite = new PriorityQueue<>(Math.max(1, eliteCount));
+            for (Chromosome<P> chromosome : oldChromosomes) {
+                if (elite.size() < eliteCount) {
+                    elite.add(chromosome);
+                } else if (eliteCount > 0 && chromosome.compareTo(elite.peek()) > 0) {
+                    elite.poll();
+                    elite.add(chromosome);
+                }
+            }
+
+            // add elite chromosomes in ascending order of fitness.
+            while (!elite.isEmpty()) {
+                nextGeneration.addChromosome(elite.poll());
             }
             return nextGeneration;
         }
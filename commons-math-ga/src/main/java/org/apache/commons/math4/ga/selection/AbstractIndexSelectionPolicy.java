@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.selection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * An abstraction of selection policies working on a primitive snapshot of the
+ * fitness of a generation. The parents of a whole generation are selected as
+ * indices into the snapshot in one call, so that selection is a tight loop over
+ * a {@code double[]} instead of repeated fitness look-ups on chromosome objects.
+ * <p>
+ * {@link org.apache.commons.math4.ga.AbstractGeneticAlgorithm
+ * AbstractGeneticAlgorithm} detects these policies and selects all parents of a
+ * generation at once.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public abstract class AbstractIndexSelectionPolicy<P> implements SelectionPolicy<P> {
+
+    /**
+     * Selects two chromosomes from the population.
+     * @param population the population from which the chromosomes are chosen.
+     * @return the selected chromosomes.
+     */
+    @Override
+    public ChromosomePair<P> select(final Population<P> population) {
+        final List<Chromosome<P>> parents = select(population, 2);
+        return new ChromosomePair<>(parents.get(0), parents.get(1));
+    }
+
+    /**
+     * Selects {@code count} parents from the population. The fitness of the
+     * population is copied into a snapshot once and all parents are selected
+     * with {@link #select(double[], int[])}.
+     * @param population the population from which the chromosomes are chosen
+     * @param count      number of parents to select
+     * @return the selected chromosomes
+     */
+    public List<Chromosome<P>> select(final Population<P> population, final int count) {
+        final List<Chromosome<P>> chromosomes = new ArrayList<>(population.getPopulationSize());
+        for (Chromosome<P> chromosome : population) {
+            chromosomes.add(chromosome);
+        }
+        final double[] fitness = new double[chromosomes.size()];
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = chromosomes.get(i).evaluate();
+        }
+
+        final int[] parents = select(fitness, count);
+        final List<Chromosome<P>> selected = new ArrayList<>(count);
+        for (int parent : parents) {
+            selected.add(chromosomes.get(parent));
+        }
+        return selected;
+    }
+
+    /**
+     * Selects {@code count} parents.
+     * @param fitness the fitness of the individuals
+     * @param count   number of parents to select
+     * @return the indices of the selected individuals
+     */
+    public int[] select(final double[] fitness, final int count) {
+        if (count < 0) {
+            throw new GeneticException(GeneticException.TOO_SMALL, count, 0);
+        }
+        final int[] parents = new int[count];
+        select(fitness, parents);
+        return parents;
+    }
+
+    /**
+     * Selects as many parents as {@code parents} can hold.
+     * @param fitness the fitness of the individuals
+     * @param parents receives the indices of the selected individuals
+     */
+    public void select(final double[] fitness, final int[] parents) {
+        if (fitness.length == 0) {
+            throw new GeneticException(GeneticException.NO_DATA);
+        }
+        if (parents.length != 0) {
+            selectIndices(fitness, parents);
+        }
+    }
+
+    /**
+     * Performs the selection.
+     * @param fitness the fitness of the individuals, not empty
+     * @param parents receives the indices of the selected individuals, not
+     *                empty
+     */
+    protected abstract void selectIndices(double[] fitness, int[] parents);
+
+    /**
+     * Checks that the fitness values can be used as selection weights.
+     * @param fitness the fitness of the individuals
+     * @return the sum of the fitness values
+     */
+    protected static double checkWeights(final double[] fitness) {
+        double total = 0;
+        for (double value : fitness) {
+            if (!(value >= 0) || Double.isInfinite(value)) {
+                throw new GeneticException(GeneticException.OUT_OF_RANGE, value, "fitness", 0, Double.MAX_VALUE);
+            }
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * Randomly permutes the values.
+     * @param values the values
+     * @param random the random generator
+     */
+    protected static void shuffle(final int[] values, final UniformRandomProvider random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.selection;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Tournament selection over a fitness snapshot. Each parent is the fittest of
+ * {@link #getArity() arity} individuals drawn without replacement; among
+ * individuals of equal fitness the one drawn first wins. Candidates are drawn by
+ * a partial Fisher-Yates shuffle of an index array which is allocated once per
+ * call, so a tournament costs O(arity).
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class IndexTournamentSelection<P> extends AbstractIndexSelectionPolicy<P> {
+
+    /** number of individuals included in the tournament selections. */
+    private final int arity;
+
+    /**
+     * @param arity how many individuals will be drawn to the tournament
+     */
+    public IndexTournamentSelection(final int arity) {
+        if (arity <= 0) {
+            throw new GeneticException(GeneticException.NOT_STRICTLY_POSITIVE, arity);
+        }
+        this.arity = arity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void selectIndices(final double[] fitness, final int[] parents) {
+        final int size = fitness.length;
+        if (size < arity) {
+            throw new GeneticException(GeneticException.TOO_LARGE, arity, size);
+        }
+        // any permutation is a valid start for a partial shuffle, so it is never reset
+        final int[] candidates = new int[size];
+        for (int i = 0; i < size; i++) {
+            candidates[i] = i;
+        }
+        final UniformRandomProvider random = RandomProviderManager.getRandomProvider();
+
+        for (int p = 0; p < parents.length; p++) {
+            int winner = -1;
+            for (int k = 0; k < arity; k++) {
+                final int j = k + random.nextInt(size - k);
+                final int candidate = candidates[j];
+                candidates[j] = candidates[k];
+                candidates[k] = candidate;
+                if (winner < 0 || fitness[candidate] > fitness[winner]) {
+                    winner = candidate;
+                }
+            }
+            parents[p] = winner;
+        }
+    }
+
+    /**
+     * Gets the arity (number of individuals drawn to the tournament).
+     * @return arity of the tournament
+     */
+    public int getArity() {
+        return arity;
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.selection;
+
+import java.util.Arrays;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Linear ranking selection over a fitness snapshot. Individuals are ranked by
+ * fitness from 0 (worst) to n-1 (best) and selected with probability
+ * <pre>
+ * (2 - s) / n + 2 rank (s - 1) / (n (n - 1))
+ * </pre>
+ * where the selection pressure {@code s} is between 1 (uniform selection) and
+ * 2 (the worst individual is never selected). Individuals of equal fitness share
+ * the lowest of their ranks.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class LinearRankingSelection<P> extends AbstractIndexSelectionPolicy<P> {
+
+    /** the selection pressure. */
+    private final double selectionPressure;
+
+    /**
+     * @param selectionPressure the expected number of offspring of the best
+     *                          individual, between 1 and 2 inclusive
+     */
+    public LinearRankingSelection(final double selectionPressure) {
+        if (selectionPressure < 1 || selectionPressure > 2) {
+            throw new GeneticException(GeneticException.OUT_OF_RANGE, selectionPressure, "selectionPressure", 1,
+                    2);
+        }
+        this.selectionPressure = selectionPressure;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void selectIndices(final double[] fitness, final int[] parents) {
+        final int size = fitness.length;
+        final double[] sorted = fitness.clone();
+        Arrays.sort(sorted);
+
+        final double base = (2 - selectionPressure) / size;
+        final double slope = size == 1 ? 0 : 2 * (selectionPressure - 1) / ((double) size * (size - 1));
+        // cumulative selection weights in population order
+        final double[] cumulative = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += base + slope * rank(sorted, fitness[i]);
+            cumulative[i] = total;
+        }
+
+        final UniformRandomProvider random = RandomProviderManager.getRandomProvider();
+        for (int p = 0; p < parents.length; p++) {
+            parents[p] = upperBound(cumulative, random.nextDouble() * total);
+        }
+    }
+
+    /**
+     * Returns the lowest rank of the value.
+     * @param sorted the sorted fitness values
+     * @param value  the value
+     * @return rank
+     */
+    private static int rank(final double[] sorted, final double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (Double.compare(sorted[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index whose cumulative weight exceeds the target.
+     * @param cumulative the cumulative weights
+     * @param target     the target
+     * @return index
+     */
+    private static int upperBound(final double[] cumulative, final double target) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (cumulative[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the selection pressure.
+     * @return selection pressure
+     */
+    public double getSelectionPressure() {
+        return selectionPressure;
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.selection;
+
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Roulette wheel (fitness proportionate) selection over a fitness snapshot.
+ * The fitness values, which must be non-negative, are turned into an alias
+ * table (Vose's method) once per call, after which each parent is drawn in
+ * constant time with one integer and one real random number. If all fitness
+ * values are zero, individuals are selected uniformly.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class RouletteWheelSelection<P> extends AbstractIndexSelectionPolicy<P> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void selectIndices(final double[] fitness, final int[] parents) {
+        final int size = fitness.length;
+        final double total = checkWeights(fitness);
+
+        // probability of keeping the column and the alternative index of the column
+        final double[] probability = new double[size];
+        final int[] alias = new int[size];
+        // work lists of columns with scaled weight below and above one
+        final int[] small = new int[size];
+        final int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            probability[i] = total == 0 ? 1 : fitness[i] * size / total;
+            alias[i] = i;
+            if (probability[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            final int less = small[--smallCount];
+            final int more = large[--largeCount];
+            alias[less] = more;
+            probability[more] = probability[more] + probability[less] - 1;
+            if (probability[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // remaining columns are full up to rounding errors
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+
+        final UniformRandomProvider random = RandomProviderManager.getRandomProvider();
+        for (int p = 0; p < parents.length; p++) {
+            final int column = random.nextInt(size);
+            parents[p] = random.nextDouble() < probability[column] ? column : alias[column];
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.selection;
+
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Stochastic universal sampling over a fitness snapshot. Parents are selected
+ * in proportion to their fitness, which must be non-negative, by a single spin
+ * of a wheel with equally spaced pointers; every individual is selected either
+ * the floor or the ceiling of its expected number of times. The selected
+ * indices are shuffled so that consecutive parents are not neighbours in the
+ * population. If all fitness values are zero, individuals are selected
+ * uniformly.
+ * @param <P> phenotype of chromosome
+ * @since 4.0
+ */
+public class StochasticUniversalSampling<P> extends AbstractIndexSelectionPolicy<P> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void selectIndices(final double[] fitness, final int[] parents) {
+        final double total = checkWeights(fitness);
+        final boolean uniform = total == 0;
+        final double wheel = uniform ? fitness.length : total;
+        final double step = wheel / parents.length;
+        final UniformRandomProvider random = RandomProviderManager.getRandomProvider();
+        final double start = random.nextDouble() * step;
+
+        final int last = fitness.length - 1;
+        int index = 0;
+        double cumulative = uniform ? 1 : fitness[0];
+        for (int p = 0; p < parents.length; p++) {
+            final double pointer = start + p * step;
+            while (cumulative <= pointer && index < last) {
+                index++;
+                cumulative += uniform ? 1 : fitness[index];
+            }
+            parents[p] = index;
+        }
+        shuffle(parents, random);
+    }
+
+}
@@ -16,8 +16,6 @@
  */
 package org.apache.commons.math4.ga.selection;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.math4.ga.chromosome.Chromosome;
@@ -26,6 +24,7 @@ import org.apache.commons.math4.ga.internal.exception.GeneticException;
 import org.apache.commons.math4.ga.population.ListPopulation;
 import org.apache.commons.math4.ga.population.Population;
 import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.apache.commons.rng.UniformRandomProvider;
 
 /**
  * Tournament selection scheme. Each of the two selected chromosomes is selected
@@ -80,20 +79,45 @@ public class TournamentSelection<P> implements SelectionPolicy<P> {
             throw new GeneticException(GeneticException.TOO_LARGE, arity, population.getPopulationSize());
         }
 
-        // create a copy of the chromosome list
-        final List<Chromosome<P>> chromosomes = new ArrayList<>(population.getChromosomes());
-        final List<Chromosome<P>> selectedChromosomes = new ArrayList<>();
+        final List<Chromosome<P>> chromosomes = population.getChromosomes();
+        final int size = chromosomes.size();
+        final UniformRandomProvider random = RandomProviderManager.getRandomProvider();
 
-        for (int i = 0; i < this.arity; i++) {
-            // select a random individual and add it to the tournament
-            final int rind = RandomProviderManager.getRandomProvider().nextInt(chromosomes.size());
-            selectedChromosomes.add(chromosomes.get(rind));
-            // do not select it again
-            chromosomes.remove(rind);
+        // draw arity distinct indices (Floyd's algorithm), without copying the list
+        final int[] drawn = new int[arity];
+        Chromosome<P> winner = null;
+        for (int i = 0; i < arity; i++) {
+            final int bound = size - arity + i;
+            int index = random.nextInt(bound + 1);
+            if (contains(drawn, i, index)) {
+                index = bound;
+            }
+            drawn[i] = index;
+
+            // the winner takes it all
+            final Chromosome<P> candidate = chromosomes.get(index);
+            if (winner == null || candidate.compareTo(winner) > 0) {
+                winner = candidate;
+            }
         }
+        return winner;
+    }
 
-        // the winner takes it all
-        return Collections.max(selectedChromosomes);
+    /**
+     * Indicates whether the first {@code length} elements of the array contain
+     * the value.
+     * @param values array
+     * @param length number of elements to search
+     * @param value  the value
+     * @return true if the value is found
+     */
+    private static boolean contains(final int[] values, final int length, final int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -153,7 +153,7 @@ public interface ChromosomeRepresentationUtils {
         final long[] representation = new long[elementCount];
         int remainder = (int) (length % Long.SIZE);
         representation[0] = remainder == 0 ? randomProvider.nextLong() :
-                randomProvider.nextLong((long) Math.pow(2, remainder));
+                randomProvider.nextLong() >>> (Long.SIZE - remainder);
         for (int i = 1; i < elementCount; i++) {
             representation[i] = randomProvider.nextLong();
         }
@@ -208,4 +208,42 @@ public interface ChromosomeRepresentationUtils {
         return repr;
     }
 
+    /**
+     * Generates a primitive array representation corresponding to random double
+     * values of length l.
+     * @param l   length of representation
+     * @param min minimum inclusive value of chromosome gene
+     * @param max maximum exclusive value of chromosome gene
+     * @return representation as array of double
+     */
+    static double[] randomDoubleArrayRepresentation(final int l, double min, double max) {
+        if (min >= max) {
+            throw new GeneticException(GeneticException.TOO_LARGE, min, max);
+        }
+        final double range = max - min;
+        final UniformRandomProvider randomProvider = RandomProviderManager.getRandomProvider();
+        final double[] repr = new double[l];
+        for (int i = 0; i < l; i++) {
+            repr[i] = min + randomProvider.nextDouble() * range;
+        }
+        return repr;
+    }
+
+    /**
+     * Returns a primitive array representation of random integral values of length
+     * <code>length</code>.
+     * @param length length of the array
+     * @param min    minimum inclusive value of allele
+     * @param max    maximum exclusive value of allele
+     * @return a random integral array of length <code>length</code>
+     */
+    static int[] randomIntegralArrayRepresentation(final int length, final int min, final int max) {
+        final UniformRandomProvider randomProvider = RandomProviderManager.getRandomProvider();
+        final int[] repr = new int[length];
+        for (int j = 0; j < length; j++) {
+            repr[j] = min + randomProvider.nextInt(max - min);
+        }
+        return repr;
+    }
+
 }
@@ -17,7 +17,11 @@
 
 package org.apache.commons.math4.ga.utils;
 
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.rng.RandomProviderState;
+import org.apache.commons.rng.RestorableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.RandomProviderDefaultState;
 import org.apache.commons.rng.simple.RandomSource;
 import org.apache.commons.rng.simple.ThreadLocalRandomSource;
 
@@ -44,4 +48,47 @@ public final class RandomProviderManager {
         return ThreadLocalRandomSource.current(RandomProviderManager.randomSource);
     }
 
+    /**
+     * Returns the state of the random generator of the calling thread. Together
+     * with {@link #restoreState(byte[])} this allows a sequential evolution to be
+     * resumed with identical results.
+     * @return the state of the calling thread's random generator
+     * @throws GeneticException if the random generator does not support saving
+     * its state
+     */
+    public static byte[] saveState() {
+        final RandomProviderState state = getRestorableRandomProvider().saveState();
+        if (!(state instanceof RandomProviderDefaultState)) {
+            throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT,
+                    "random generator state cannot be serialized: " + state.getClass().getName());
+        }
+        return ((RandomProviderDefaultState) state).getState();
+    }
+
+    /**
+     * Restores the state of the random generator of the calling thread.
+     * @param state a state previously returned by {@link #saveState()}
+     * @throws GeneticException if the random generator does not support
+     * restoring its state
+     */
+    public static void restoreState(byte[] state) {
+        getRestorableRandomProvider().restoreState(new RandomProviderDefaultState(state));
+    }
+
+    /**
+     * Returns the random generator of the calling thread if its state can be
+     * saved and restored.
+     * @return the random generator
+     * @throws GeneticException if the random generator is not a
+     * {@link RestorableUniformRandomProvider}
+     */
+    private static RestorableUniformRandomProvider getRestorableRandomProvider() {
+        final UniformRandomProvider provider = getRandomProvider();
+        if (!(provider instanceof RestorableUniformRandomProvider)) {
+            throw new GeneticException(GeneticException.ILLEGAL_ARGUMENT,
+                    "random generator state cannot be saved or restored: " + provider.getClass().getName());
+        }
+        return (RestorableUniformRandomProvider) provider;
+    }
+
 }
@@ -20,6 +20,8 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
 import org.apache.commons.math4.ga.chromosome.Chromosome;
@@ -32,6 +34,9 @@ import org.apache.commons.math4.ga.fitness.FitnessFunction;
 import org.apache.commons.math4.ga.internal.exception.GeneticException;
 import org.apache.commons.math4.ga.listener.ConvergenceListener;
 import org.apache.commons.math4.ga.listener.ConvergenceListenerRegistry;
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics;
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics.Operation;
+import org.apache.commons.math4.ga.metrics.EvolutionMetricsRecorder;
 import org.apache.commons.math4.ga.mutation.BinaryMutation;
 import org.apache.commons.math4.ga.population.ListPopulation;
 import org.apache.commons.math4.ga.population.Population;
@@ -53,6 +58,9 @@ public class GeneticAlgorithmTestBinaryOneMax {
     private static final double MUTATION_RATE = 0.1;
     private static final int TOURNAMENT_ARITY = 2;
 
+    /** number of calls to the fitness function. */
+    private final AtomicLong fitnessEvaluations = new AtomicLong();
+
     @Test
     public void test() {
         removeListeners();
@@ -87,6 +95,130 @@ public class GeneticAlgorithmTestBinaryOneMax {
 
     }
 
+    @Test
+    public void testParallelEvaluation() {
+        removeListeners();
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            GeneticAlgorithm<List<Integer>> ga = new GeneticAlgorithm<>(new OnePointBinaryCrossover<List<Integer>>(),
+                    CROSSOVER_RATE, new BinaryMutation<List<Integer>>(), MUTATION_RATE,
+                    new TournamentSelection<List<Integer>>(TOURNAMENT_ARITY), .25, pool);
+            Assertions.assertSame(pool, ga.getExecutor());
+
+            Population<List<Integer>> initial = randomPopulation();
+            ga.evaluate(initial);
+            for (Chromosome<List<Integer>> chromosome : initial) {
+                Assertions.assertEquals(new OneMaxFitnessFunction().compute(chromosome.decode()),
+                        chromosome.evaluate());
+            }
+
+            Chromosome<List<Integer>> bestInitial = initial.getFittestChromosome();
+            Population<List<Integer>> finalPopulation = ga.evolve(initial,
+                    new FixedGenerationCount<>(NUM_GENERATIONS));
+
+            Assertions.assertTrue(finalPopulation.getFittestChromosome().compareTo(bestInitial) >= 0);
+            Assertions.assertEquals(NUM_GENERATIONS, ga.getGenerationsEvolved());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelEvaluationFailure() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            GeneticAlgorithm<String> ga = new GeneticAlgorithm<>(new OnePointBinaryCrossover<String>(),
+                    CROSSOVER_RATE, new BinaryMutation<String>(), MUTATION_RATE,
+                    new TournamentSelection<String>(TOURNAMENT_ARITY), .25, pool);
+            ListPopulation<String> population = new ListPopulation<>(POPULATION_SIZE);
+            population.addChromosome(BinaryChromosome.<String>randomChromosome(DIMENSION, c -> {
+                throw new GeneticException("Test Evaluation");
+            }, c -> "0"));
+            Assertions.assertThrows(GeneticException.class, () -> ga.evaluate(population));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testInstanceConvergenceListenerRegistry() {
+        removeListeners();
+        final List<Integer> globalGenerations = new ArrayList<>();
+        ConvergenceListenerRegistry.<List<Integer>>getInstance()
+                .addConvergenceListener((generation, population) -> globalGenerations.add(generation));
+
+        GeneticAlgorithm<List<Integer>> ga = new GeneticAlgorithm<>(new OnePointBinaryCrossover<List<Integer>>(),
+                CROSSOVER_RATE, new BinaryMutation<List<Integer>>(), MUTATION_RATE,
+                new TournamentSelection<List<Integer>>(TOURNAMENT_ARITY));
+        Assertions.assertSame(ConvergenceListenerRegistry.getInstance(), ga.getConvergenceListenerRegistry());
+
+        final ConvergenceListenerRegistry<List<Integer>> registry = new ConvergenceListenerRegistry<>(5);
+        final List<Integer> generations = new ArrayList<>();
+        registry.addConvergenceListener((generation, population) -> generations.add(generation));
+        ga.setConvergenceListenerRegistry(registry);
+
+        ga.evolve(randomPopulation(), new FixedGenerationCount<>(12));
+
+        Assertions.assertTrue(globalGenerations.isEmpty());
+        Assertions.assertEquals(3, generations.size());
+        Assertions.assertEquals(0, generations.get(0).intValue());
+        Assertions.assertEquals(5, generations.get(1).intValue());
+        Assertions.assertEquals(10, generations.get(2).intValue());
+        removeListeners();
+    }
+
+    @Test
+    public void testMetrics() {
+        removeListeners();
+        GeneticAlgorithm<List<Integer>> ga = new GeneticAlgorithm<>(new OnePointBinaryCrossover<List<Integer>>(),
+                CROSSOVER_RATE, new BinaryMutation<List<Integer>>(), MUTATION_RATE,
+                new TournamentSelection<List<Integer>>(TOURNAMENT_ARITY));
+        Assertions.assertSame(EvolutionMetrics.NONE, ga.getMetrics());
+
+        final EvolutionMetricsRecorder metrics = new EvolutionMetricsRecorder();
+        ga.setMetrics(metrics);
+        fitnessEvaluations.set(0);
+        ga.evolve(randomPopulation(), new FixedGenerationCount<>(12));
+
+        Assertions.assertEquals(12, ga.getGenerationsEvolved());
+        Assertions.assertEquals(12, metrics.getLastGeneration());
+        // only chromosomes actually evaluated are counted.
+        Assertions.assertEquals(fitnessEvaluations.get(), metrics.getCount(Operation.EVALUATION));
+        Assertions.assertTrue(metrics.getLastGenerationCount(Operation.EVALUATION) <= POPULATION_SIZE);
+        final long offspring = metrics.getLastGenerationCount(Operation.SELECTION);
+        Assertions.assertTrue(offspring > 0);
+        Assertions.assertEquals(offspring, metrics.getLastGenerationCount(Operation.CROSSOVER));
+        Assertions.assertEquals(offspring, metrics.getLastGenerationCount(Operation.MUTATION));
+        Assertions.assertEquals(12 * offspring, metrics.getCount(Operation.SELECTION));
+        Assertions.assertTrue(metrics.getNanos(Operation.EVALUATION) > 0);
+        Assertions.assertThrows(NullPointerException.class, () -> ga.setMetrics(null));
+    }
+
+    @Test
+    public void testAdaptiveMetrics() {
+        removeListeners();
+        final AdaptiveGeneticAlgorithm<List<Integer>> ga = new AdaptiveGeneticAlgorithm<>(
+                new OnePointBinaryCrossover<List<Integer>>(), (first, second, stats, generation) -> CROSSOVER_RATE,
+                new BinaryMutation<List<Integer>>(), (chromosome, stats, generation) -> MUTATION_RATE,
+                new TournamentSelection<List<Integer>>(TOURNAMENT_ARITY), .25);
+        final EvolutionMetricsRecorder metrics = new EvolutionMetricsRecorder();
+        ga.setMetrics(metrics);
+        fitnessEvaluations.set(0);
+        ga.evolve(randomPopulation(), new FixedGenerationCount<>(12));
+
+        // offspring evaluated in nextGeneration are not counted again by evolve.
+        Assertions.assertEquals(fitnessEvaluations.get(), metrics.getCount(Operation.EVALUATION));
+    }
+
+    @Test
+    public void testNullExecutor() {
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new GeneticAlgorithm<>(new OnePointCrossover<>(), .5, new BinaryMutation<>(), .5,
+                    new TournamentSelection<>(10), .25, null);
+        });
+    }
+
     private void removeListeners() {
         try {
             ConvergenceListenerRegistry<String> registry = ConvergenceListenerRegistry.<String>getInstance();
@@ -139,6 +271,7 @@ public class GeneticAlgorithmTestBinaryOneMax {
 
         @Override
         public double compute(List<Integer> decodedChromosome) {
+            fitnessEvaluations.incrementAndGet();
             double value = 0;
             for (Integer allele : decodedChromosome) {
                 value += allele;
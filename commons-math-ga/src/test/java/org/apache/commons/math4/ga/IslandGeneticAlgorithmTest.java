@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.convergence.FixedGenerationCount;
+import org.apache.commons.math4.ga.crossover.OnePointBinaryCrossover;
+import org.apache.commons.math4.ga.fitness.FitnessFunction;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.migration.FullyConnectedTopology;
+import org.apache.commons.math4.ga.migration.RandomTopology;
+import org.apache.commons.math4.ga.migration.RingTopology;
+import org.apache.commons.math4.ga.mutation.BinaryMutation;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.selection.TournamentSelection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IslandGeneticAlgorithmTest {
+
+    private static final int DIMENSION = 50;
+    private static final int ISLAND_COUNT = 4;
+    private static final int ISLAND_SIZE = 20;
+
+    private final FitnessFunction<String> fitnessFunction = phenotype -> {
+        double value = 0;
+        for (int i = 0; i < phenotype.length(); i++) {
+            value += phenotype.charAt(i) - '0';
+        }
+        return value;
+    };
+
+    @Test
+    public void testEvolveRing() {
+        final IslandGeneticAlgorithm<String> ga = new IslandGeneticAlgorithm<>(this::newAlgorithm, new RingTopology(), 5,
+                2);
+        final List<ListPopulation<String>> initial = randomIslands();
+        final double bestInitial = best(initial);
+
+        final List<Population<String>> islands = ga.evolve(initial, new FixedGenerationCount<>(4));
+
+        Assertions.assertEquals(ISLAND_COUNT, islands.size());
+        Assertions.assertEquals(20, ga.getGenerationsEvolved());
+        Assertions.assertTrue(best(islands) >= bestInitial);
+        for (Population<String> island : islands) {
+            Assertions.assertEquals(ISLAND_SIZE, island.getPopulationSize());
+        }
+    }
+
+    @Test
+    public void testEvolveWithExecutor() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final IslandGeneticAlgorithm<String> ga = new IslandGeneticAlgorithm<>(this::newAlgorithm,
+                    new FullyConnectedTopology(), 3, 1, pool);
+            final List<Population<String>> islands = ga.evolve(randomIslands(), new FixedGenerationCount<>(2));
+            Assertions.assertEquals(6, ga.getGenerationsEvolved());
+            Assertions.assertEquals(ISLAND_COUNT, islands.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testMigration() {
+        // islands evolved without crossover and mutation only exchange chromosomes.
+        final IslandGeneticAlgorithm<String> ga = new IslandGeneticAlgorithm<>(() -> new GeneticAlgorithm<>(
+            new OnePointBinaryCrossover<>(), 0, new BinaryMutation<>(), 0, new TournamentSelection<>(2), 1),
+                new RandomTopology(), 1, 1);
+        final List<ListPopulation<String>> initial = randomIslands();
+        final double bestInitial = best(initial);
+
+        final List<Population<String>> islands = ga.evolve(initial, new FixedGenerationCount<>(ISLAND_COUNT * 4));
+        for (Population<String> island : islands) {
+            Assertions.assertEquals(ISLAND_SIZE, island.getPopulationSize());
+        }
+        Assertions.assertEquals(bestInitial, best(islands));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new IslandGeneticAlgorithm<>(this::newAlgorithm, new RingTopology(), 0, 1);
+        });
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new IslandGeneticAlgorithm<>(this::newAlgorithm, new RingTopology(), 1, -1);
+        });
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new IslandGeneticAlgorithm<>(this::newAlgorithm, new RingTopology(), 1, 1).evolve(new ArrayList<>(),
+                    new FixedGenerationCount<>(1));
+        });
+    }
+
+    @Test
+    public void testSharedAlgorithm() {
+        final GeneticAlgorithm<String> algorithm = newAlgorithm();
+        final IslandGeneticAlgorithm<String> ga = new IslandGeneticAlgorithm<>(() -> algorithm, new RingTopology(),
+                1, 1);
+        Assertions.assertThrows(GeneticException.class, () -> {
+            ga.evolve(randomIslands(), new FixedGenerationCount<>(1));
+        });
+    }
+
+    private GeneticAlgorithm<String> newAlgorithm() {
+        return new GeneticAlgorithm<>(new OnePointBinaryCrossover<>(), 1, new BinaryMutation<>(), 0.1,
+                new TournamentSelection<>(2));
+    }
+
+    private List<ListPopulation<String>> randomIslands() {
+        final List<ListPopulation<String>> islands = new ArrayList<>();
+        for (int i = 0; i < ISLAND_COUNT; i++) {
+            final ListPopulation<String> island = new ListPopulation<>(ISLAND_SIZE);
+            for (int j = 0; j < ISLAND_SIZE; j++) {
+                island.addChromosome(BinaryChromosome.randomChromosome(DIMENSION, fitnessFunction,
+                    chromosome -> ((BinaryChromosome<String>) chromosome).getStringRepresentation()));
+            }
+            islands.add(island);
+        }
+        return islands;
+    }
+
+    private double best(List<? extends Population<String>> islands) {
+        double best = Double.NEGATIVE_INFINITY;
+        for (Population<String> island : islands) {
+            for (Chromosome<String> chromosome : island) {
+                best = Math.max(best, chromosome.evaluate());
+            }
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+import org.apache.commons.math4.ga.convergence.FixedGenerationCount;
+import org.apache.commons.math4.ga.crossover.UniformArrayCrossover;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.listener.ConvergenceListenerRegistry;
+import org.apache.commons.math4.ga.multiobjective.NonDominatedSorting;
+import org.apache.commons.math4.ga.multiobjective.ObjectiveFunction;
+import org.apache.commons.math4.ga.mutation.RealValuedArrayMutation;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NSGA2GeneticAlgorithmTest {
+
+    private static final int POPULATION_SIZE = 40;
+
+    private static final int DIMENSION = 5;
+
+    /** ZDT1 problem, both objectives negated for maximization. */
+    private static final ObjectiveFunction<double[]> ZDT1 = x -> {
+        double sum = 0;
+        for (int i = 1; i < x.length; i++) {
+            sum += x[i];
+        }
+        final double g = 1 + 9 * sum / (x.length - 1);
+        return new double[] {-x[0], -g * (1 - Math.sqrt(x[0] / g))};
+    };
+
+    @Test
+    public void testParetoFront() {
+        final NSGA2GeneticAlgorithm<double[]> ga = newAlgorithm(null);
+        final Population<double[]> last = ga.evolve(initialPopulation(), new FixedGenerationCount<>(60));
+
+        Assertions.assertEquals(POPULATION_SIZE, last.getPopulationSize());
+        final List<Chromosome<double[]>> front = ga.getParetoFront(last);
+        Assertions.assertTrue(front.size() > 1);
+        for (Chromosome<double[]> a : front) {
+            final double[] objectives = ga.getObjectives(a);
+            for (Chromosome<double[]> b : front) {
+                Assertions.assertFalse(NonDominatedSorting.dominates(ga.getObjectives(b), objectives));
+            }
+            // converged towards the true front, where g = 1; random solutions have g = 5.5 on average
+            final double f1 = -objectives[0];
+            final double f2 = -objectives[1];
+            Assertions.assertTrue(f2 < 2 * (1 - Math.sqrt(f1 / 2)) + 1e-9);
+        }
+    }
+
+    @Test
+    public void testParallelEvaluation() {
+        final byte[] state = RandomProviderManager.saveState();
+        final List<double[]> sequential = objectivesOfFinalFront(newAlgorithm(null));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            RandomProviderManager.restoreState(state);
+            final List<double[]> parallel = objectivesOfFinalFront(newAlgorithm(executor));
+            Assertions.assertEquals(sequential.size(), parallel.size());
+            for (int i = 0; i < sequential.size(); i++) {
+                Assertions.assertArrayEquals(sequential.get(i), parallel.get(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testObjectivesOfUnrankedChromosome() {
+        final NSGA2GeneticAlgorithm<double[]> ga = newAlgorithm(null);
+        final Population<double[]> population = initialPopulation();
+        Assertions.assertThrows(GeneticException.class,
+            () -> ga.getObjectives(population.iterator().next()));
+        Assertions.assertFalse(ga.getParetoFront(population).isEmpty());
+        // ranking a population for its front does not change the state of the algorithm
+        Assertions.assertThrows(GeneticException.class,
+            () -> ga.getObjectives(population.iterator().next()));
+    }
+
+    @Test
+    public void testParetoFrontKeepsLastRanking() {
+        final NSGA2GeneticAlgorithm<double[]> ga = newAlgorithm(null);
+        final Population<double[]> last = ga.evolve(initialPopulation(), new FixedGenerationCount<>(2));
+        final Chromosome<double[]> survivor = last.iterator().next();
+        final double[] objectives = ga.getObjectives(survivor);
+
+        final Population<double[]> other = initialPopulation();
+        ga.getParetoFront(other);
+        Assertions.assertArrayEquals(objectives, ga.getObjectives(survivor));
+        Assertions.assertThrows(GeneticException.class, () -> ga.getObjectives(other.iterator().next()));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(GeneticException.class, () -> new NSGA2GeneticAlgorithm<double[]>(
+                new UniformArrayCrossover<>(0.5), 1.5, new RealValuedArrayMutation<>(0, 1), 0.1, ZDT1));
+        Assertions.assertThrows(GeneticException.class, () -> new NSGA2GeneticAlgorithm<double[]>(
+                new UniformArrayCrossover<>(0.5), 1, new RealValuedArrayMutation<>(0, 1), -0.1, ZDT1));
+        Assertions.assertThrows(GeneticException.class, () -> new NSGA2GeneticAlgorithm<double[]>(
+                new UniformArrayCrossover<>(0.5), 1, new RealValuedArrayMutation<>(0, 1), 0.1, null));
+    }
+
+    private List<double[]> objectivesOfFinalFront(NSGA2GeneticAlgorithm<double[]> ga) {
+        final Population<double[]> last = ga.evolve(initialPopulation(), new FixedGenerationCount<>(10));
+        final List<double[]> objectives = new ArrayList<>();
+        for (Chromosome<double[]> chromosome : ga.getParetoFront(last)) {
+            objectives.add(ga.getObjectives(chromosome));
+        }
+        return objectives;
+    }
+
+    private static NSGA2GeneticAlgorithm<double[]> newAlgorithm(ExecutorService executor) {
+        final NSGA2GeneticAlgorithm<double[]> ga = executor == null ?
+            new NSGA2GeneticAlgorithm<>(new UniformArrayCrossover<>(0.5), 0.9,
+                    new RealValuedArrayMutation<>(0, 1), 1.0 / DIMENSION, ZDT1) :
+            new NSGA2GeneticAlgorithm<>(new UniformArrayCrossover<>(0.5), 0.9,
+                    new RealValuedArrayMutation<>(0, 1), 1.0 / DIMENSION, ZDT1, executor);
+        ga.setConvergenceListenerRegistry(new ConvergenceListenerRegistry<>());
+        return ga;
+    }
+
+    private static Population<double[]> initialPopulation() {
+        final Population<double[]> population = new ListPopulation<>(POPULATION_SIZE);
+        for (int i = 0; i < POPULATION_SIZE; i++) {
+            population.addChromosome(RealValuedArrayChromosome.randomChromosome(DIMENSION, x -> 0,
+                    new TransparentArrayChromosomeDecoder<>(), 0, 1));
+        }
+        return population;
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.convergence.FixedGenerationCount;
+import org.apache.commons.math4.ga.crossover.OnePointBinaryCrossover;
+import org.apache.commons.math4.ga.fitness.FitnessFunction;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.mutation.BinaryMutation;
+import org.apache.commons.math4.ga.population.ConcurrentPopulation;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.selection.TournamentSelection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SteadyStateGeneticAlgorithmTest {
+
+    private static final int DIMENSION = 50;
+    private static final int POPULATION_SIZE = 40;
+
+    private final FitnessFunction<String> fitnessFunction = phenotype -> {
+        double value = 0;
+        for (int i = 0; i < phenotype.length(); i++) {
+            value += phenotype.charAt(i) - '0';
+        }
+        return value;
+    };
+
+    @Test
+    public void testEvolve() {
+        final SteadyStateGeneticAlgorithm<String> ga = new SteadyStateGeneticAlgorithm<>(
+                new OnePointBinaryCrossover<>(), 1, new BinaryMutation<>(), 0.1, new TournamentSelection<>(2));
+        final Population<String> initial = randomPopulation(fitnessFunction);
+        final double bestInitial = initial.getFittestChromosome().evaluate();
+
+        final ConcurrentPopulation<String> population = ga.evolve(initial, new FixedGenerationCount<>(5));
+
+        Assertions.assertEquals(5, ga.getGenerationsEvolved());
+        Assertions.assertTrue(ga.getEvaluations() >= 5 * POPULATION_SIZE);
+        Assertions.assertEquals(POPULATION_SIZE, population.getPopulationSize());
+        Assertions.assertTrue(population.getFittestChromosome().evaluate() >= bestInitial);
+    }
+
+    @Test
+    public void testEvolveWithExecutor() {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            final SteadyStateGeneticAlgorithm<String> ga = new SteadyStateGeneticAlgorithm<>(
+                    new OnePointBinaryCrossover<>(), 1, new BinaryMutation<>(), 0.1, new TournamentSelection<>(2),
+                    pool, 3);
+            final Population<String> initial = randomPopulation(fitnessFunction);
+            double worstInitial = Double.POSITIVE_INFINITY;
+            for (Chromosome<String> chromosome : initial) {
+                worstInitial = Math.min(worstInitial, chromosome.evaluate());
+            }
+
+            final ConcurrentPopulation<String> population = ga.evolve(initial, new FixedGenerationCount<>(3));
+
+            Assertions.assertEquals(3, ga.getGenerationsEvolved());
+            // only offspring at least as fit as the least fit chromosome are inserted.
+            for (Chromosome<String> chromosome : population) {
+                Assertions.assertTrue(chromosome.evaluate() >= worstInitial);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testEvaluationFailure() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final FitnessFunction<String> failingFunction = phenotype -> {
+            if (evaluations.incrementAndGet() > 2 * POPULATION_SIZE) {
+                throw new GeneticException(GeneticException.NO_DATA);
+            }
+            return fitnessFunction.compute(phenotype);
+        };
+        final SteadyStateGeneticAlgorithm<String> ga = new SteadyStateGeneticAlgorithm<>(
+                new OnePointBinaryCrossover<>(), 1, new BinaryMutation<>(), 0.1, new TournamentSelection<>(2), null,
+                2);
+        Assertions.assertThrows(GeneticException.class, () -> {
+            ga.evolve(randomPopulation(failingFunction), new FixedGenerationCount<>(100));
+        });
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new SteadyStateGeneticAlgorithm<>(new OnePointBinaryCrossover<String>(), 1.5, new BinaryMutation<>(),
+                    0.1, new TournamentSelection<>(2));
+        });
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new SteadyStateGeneticAlgorithm<>(new OnePointBinaryCrossover<String>(), 1, new BinaryMutation<>(),
+                    -0.1, new TournamentSelection<>(2));
+        });
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new SteadyStateGeneticAlgorithm<>(new OnePointBinaryCrossover<String>(), 1, new BinaryMutation<>(),
+                    0.1, new TournamentSelection<>(2), null, 0);
+        });
+    }
+
+    private Population<String> randomPopulation(FitnessFunction<String> function) {
+        final ListPopulation<String> population = new ListPopulation<>(POPULATION_SIZE);
+        for (int j = 0; j < POPULATION_SIZE; j++) {
+            population.addChromosome(BinaryChromosome.randomChromosome(DIMENSION, function,
+                chromosome -> ((BinaryChromosome<String>) chromosome).getStringRepresentation()));
+        }
+        return population;
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.checkpoint;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math4.ga.GeneticAlgorithm;
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.convergence.FixedGenerationCount;
+import org.apache.commons.math4.ga.crossover.OnePointBinaryCrossover;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.listener.ConvergenceListenerRegistry;
+import org.apache.commons.math4.ga.mutation.BinaryMutation;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.selection.TournamentSelection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CheckpointListenerTest {
+
+    private static final int POPULATION_SIZE = 40;
+
+    private static final int LENGTH = 64;
+
+    @Test
+    public void testResumeProducesIdenticalResults(@TempDir Path directory) throws IOException {
+        final BinaryChromosome<String> prototype = randomChromosome();
+        final BinaryChromosomeCodec<String> codec = new BinaryChromosomeCodec<>(prototype);
+        final Path file = directory.resolve("evolution.ckpt");
+        final CheckpointListener<String> listener = new CheckpointListener<>(file, codec, 10, Runnable::run);
+
+        final GeneticAlgorithm<String> ga = newAlgorithm();
+        final ConvergenceListenerRegistry<String> registry = new ConvergenceListenerRegistry<>();
+        registry.addConvergenceListener(listener);
+        ga.setConvergenceListenerRegistry(registry);
+        final ListPopulation<String> uninterrupted = (ListPopulation<String>) ga.evolve(randomPopulation(),
+                new FixedGenerationCount<>(20));
+        listener.await();
+        Assertions.assertEquals(2, listener.getCheckpointsWritten());
+        Assertions.assertEquals(0, listener.getCheckpointsSkipped());
+
+        final Checkpoint<String> checkpoint = Checkpoint.read(file, codec);
+        Assertions.assertEquals(10, checkpoint.getGeneration());
+
+        final GeneticAlgorithm<String> resumedGa = newAlgorithm();
+        resumedGa.setConvergenceListenerRegistry(new ConvergenceListenerRegistry<>());
+        final ListPopulation<String> resumed = (ListPopulation<String>) resumedGa.evolve(checkpoint,
+                new FixedGenerationCount<>(10));
+
+        Assertions.assertEquals(20, resumedGa.getGenerationsEvolved());
+        final List<Chromosome<String>> expected = uninterrupted.getChromosomes();
+        final List<Chromosome<String>> actual = resumed.getChromosomes();
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(((BinaryChromosome<String>) expected.get(i)).getRepresentation(),
+                    ((BinaryChromosome<String>) actual.get(i)).getRepresentation());
+            Assertions.assertEquals(expected.get(i).evaluate(), actual.get(i).evaluate());
+        }
+    }
+
+    @Test
+    public void testWriteFailure(@TempDir Path directory) {
+        final BinaryChromosome<String> prototype = randomChromosome();
+        final CheckpointListener<String> listener = new CheckpointListener<>(
+                directory.resolve("missing").resolve("evolution.ckpt"), new BinaryChromosomeCodec<>(prototype), 1,
+                Runnable::run);
+        listener.notify(0, randomPopulation());
+        Assertions.assertThrows(GeneticException.class, () -> listener.notify(1, randomPopulation()));
+        Assertions.assertThrows(GeneticException.class, listener::await);
+        Assertions.assertEquals(0, listener.getCheckpointsWritten());
+    }
+
+    @Test
+    public void testAsynchronousRegistry(@TempDir Path directory) throws InterruptedException {
+        final BinaryChromosome<String> prototype = randomChromosome();
+        final CheckpointListener<String> listener = new CheckpointListener<>(directory.resolve("ckpt"),
+                new BinaryChromosomeCodec<>(prototype), 1, Runnable::run);
+        final ConvergenceListenerRegistry<String> registry = new ConvergenceListenerRegistry<>(1, 4);
+        Assertions.assertThrows(GeneticException.class, () -> registry.addConvergenceListener(listener));
+        registry.shutdown(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testInvalidInterval(@TempDir Path directory) {
+        final BinaryChromosome<String> prototype = randomChromosome();
+        Assertions.assertThrows(GeneticException.class, () -> new CheckpointListener<>(directory.resolve("ckpt"),
+                new BinaryChromosomeCodec<>(prototype), 0));
+    }
+
+    private static GeneticAlgorithm<String> newAlgorithm() {
+        return new GeneticAlgorithm<>(new OnePointBinaryCrossover<>(), 1, new BinaryMutation<>(), 0.1,
+                new TournamentSelection<>(2), .1);
+    }
+
+    private static BinaryChromosome<String> randomChromosome() {
+        return BinaryChromosome.randomChromosome(LENGTH, s -> s.replace("0", "").length(),
+            c -> ((BinaryChromosome<String>) c).getStringRepresentation());
+    }
+
+    private static ListPopulation<String> randomPopulation() {
+        final ListPopulation<String> population = new ListPopulation<>(POPULATION_SIZE);
+        for (int i = 0; i < POPULATION_SIZE; i++) {
+            population.addChromosome(randomChromosome());
+        }
+        return population;
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.checkpoint;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.IntegralValuedChromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedChromosome;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.decoder.TransparentListChromosomeDecoder;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CheckpointTest {
+
+    @Test
+    public void testRealValuedArrayRoundTrip() throws IOException {
+        final ListPopulation<double[]> population = new ListPopulation<>(30);
+        for (int i = 0; i < 20; i++) {
+            final RealValuedArrayChromosome<double[]> chromosome = RealValuedArrayChromosome.randomChromosome(8,
+                c -> Arrays.stream(c).sum(), new TransparentArrayChromosomeDecoder<>(), 0, 1);
+            if (i % 2 == 0) {
+                chromosome.evaluate();
+            }
+            population.addChromosome(chromosome);
+        }
+        final byte[] state = RandomProviderManager.saveState();
+        final Checkpoint<double[]> checkpoint = new Checkpoint<>(7, population, state);
+
+        final Checkpoint<double[]> restored = roundTrip(checkpoint,
+                new RealValuedArrayChromosomeCodec<>((RealValuedArrayChromosome<double[]>) population
+                    .getChromosomes().get(0)));
+
+        Assertions.assertEquals(7, restored.getGeneration());
+        Assertions.assertArrayEquals(state, restored.getRandomState());
+        final ListPopulation<double[]> restoredPopulation = (ListPopulation<double[]>) restored.getPopulation();
+        Assertions.assertEquals(30, restoredPopulation.getPopulationLimit());
+        Assertions.assertEquals(20, restoredPopulation.getPopulationSize());
+        for (int i = 0; i < 20; i++) {
+            final RealValuedArrayChromosome<double[]> expected =
+                    (RealValuedArrayChromosome<double[]>) population.getChromosomes().get(i);
+            final RealValuedArrayChromosome<double[]> actual =
+                    (RealValuedArrayChromosome<double[]>) restoredPopulation.getChromosomes().get(i);
+            Assertions.assertArrayEquals(expected.getRepresentation(), actual.getRepresentation());
+            Assertions.assertEquals(i % 2 == 0, actual.isEvaluated());
+            Assertions.assertEquals(expected.evaluate(), actual.evaluate());
+        }
+    }
+
+    @Test
+    public void testCodecs() throws IOException {
+        final BinaryChromosome<String> binary = BinaryChromosome.randomChromosome(150, c -> 0,
+            c -> c.toString());
+        final BinaryChromosome<String> decodedBinary = (BinaryChromosome<String>) roundTrip(binary,
+                new BinaryChromosomeCodec<>(binary));
+        Assertions.assertEquals(binary.getLength(), decodedBinary.getLength());
+        Assertions.assertArrayEquals(binary.getRepresentation(), decodedBinary.getRepresentation());
+
+        final IntegralValuedArrayChromosome<int[]> intArray = IntegralValuedArrayChromosome.randomChromosome(10,
+            c -> 0, new TransparentArrayChromosomeDecoder<>(), 0, 5);
+        final IntegralValuedArrayChromosome<int[]> decodedIntArray =
+                (IntegralValuedArrayChromosome<int[]>) roundTrip(intArray,
+                        new IntegralValuedArrayChromosomeCodec<>(intArray));
+        Assertions.assertArrayEquals(intArray.getRepresentation(), decodedIntArray.getRepresentation());
+        Assertions.assertEquals(5, decodedIntArray.getMax());
+
+        final RealValuedChromosome<List<Double>> real = RealValuedChromosome.randomChromosome(10, c -> 0,
+            new TransparentListChromosomeDecoder<>(), 0, 1);
+        Assertions.assertEquals(real.getRepresentation(), ((RealValuedChromosome<List<Double>>) roundTrip(real,
+                new RealValuedChromosomeCodec<>(real))).getRepresentation());
+
+        final IntegralValuedChromosome<List<Integer>> integral = IntegralValuedChromosome.randomChromosome(10,
+            c -> 0, new TransparentListChromosomeDecoder<>(), 0, 5);
+        Assertions.assertEquals(integral.getRepresentation(),
+                ((IntegralValuedChromosome<List<Integer>>) roundTrip(integral,
+                        new IntegralValuedChromosomeCodec<>(integral))).getRepresentation());
+    }
+
+    @Test
+    public void testFile(@TempDir Path directory) throws IOException {
+        final BinaryChromosome<String> binary = BinaryChromosome.randomChromosome(10, c -> 1,
+            c -> c.toString());
+        final ListPopulation<String> population = new ListPopulation<>(Arrays.asList(binary), 1);
+        final Path file = directory.resolve("evolution.ckpt");
+        new Checkpoint<>(3, population, RandomProviderManager.saveState()).write(file,
+                new BinaryChromosomeCodec<>(binary));
+
+        final Checkpoint<String> restored = Checkpoint.read(file, new BinaryChromosomeCodec<>(binary));
+        Assertions.assertEquals(3, restored.getGeneration());
+        Assertions.assertEquals(1, restored.getPopulation().getPopulationSize());
+    }
+
+    @Test
+    public void testNegativeInfiniteFitness() throws IOException {
+        final int[] evaluations = new int[1];
+        final BinaryChromosome<String> binary = BinaryChromosome.randomChromosome(10, c -> {
+            evaluations[0]++;
+            return Double.NEGATIVE_INFINITY;
+        }, c -> ((BinaryChromosome<String>) c).getStringRepresentation());
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, binary.evaluate());
+        Assertions.assertTrue(binary.isEvaluated());
+
+        final BinaryChromosome<String> restored = (BinaryChromosome<String>) roundTrip(binary,
+                new BinaryChromosomeCodec<>(binary));
+        // a fitness of negative infinity is restored as a cached value.
+        Assertions.assertTrue(restored.isEvaluated());
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, restored.evaluate());
+        Assertions.assertEquals(1, evaluations[0]);
+    }
+
+    @Test
+    public void testInvalidInput() {
+        final BinaryChromosome<String> binary = BinaryChromosome.randomChromosome(10, c -> 1,
+            c -> c.toString());
+        Assertions.assertThrows(IOException.class, () -> Checkpoint
+                .read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}),
+                        new BinaryChromosomeCodec<>(binary)));
+    }
+
+    private static <P> Checkpoint<P> roundTrip(Checkpoint<P> checkpoint, ChromosomeCodec<P> codec)
+            throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        checkpoint.write(output, codec);
+        return Checkpoint.read(new ByteArrayInputStream(output.toByteArray()), codec);
+    }
+
+    private static <P> Chromosome<P> roundTrip(Chromosome<P> chromosome, ChromosomeCodec<P> codec)
+            throws IOException {
+        final List<Chromosome<P>> chromosomes = new ArrayList<>();
+        chromosomes.add(chromosome);
+        final Population<P> population = new ListPopulation<>(chromosomes, 1);
+        return roundTrip(new Checkpoint<>(0, population, RandomProviderManager.saveState()), codec)
+                .getPopulation().iterator().next();
+    }
+
+}
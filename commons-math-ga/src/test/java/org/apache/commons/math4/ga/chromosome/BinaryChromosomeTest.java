@@ -75,6 +75,49 @@ public class BinaryChromosomeTest {
 
     }
 
+    @Test
+    public void testGetAllele() {
+        for (int length : new int[] {1, 10, 64, 100, 128, 250}) {
+            String representationStr = ChromosomeRepresentationUtils.randomStringRepresentation(new char[] {'0', '1'},
+                    length);
+            BinaryChromosome<String> chromosome = new BinaryChromosome<>(representationStr, c -> 0, c -> "0");
+            for (int i = 0; i < length; i++) {
+                Assertions.assertEquals(representationStr.charAt(i) == '1', chromosome.getAllele(i));
+            }
+            Assertions.assertThrows(GeneticException.class, () -> chromosome.getAllele(length));
+            Assertions.assertThrows(GeneticException.class, () -> chromosome.getAllele(-1));
+        }
+    }
+
+    @Test
+    public void testGetAlleleBits() {
+        for (int length : new int[] {12, 64, 100, 128, 250}) {
+            String representationStr = ChromosomeRepresentationUtils.randomStringRepresentation(new char[] {'0', '1'},
+                    length);
+            BinaryChromosome<String> chromosome = new BinaryChromosome<>(representationStr, c -> 0, c -> "0");
+            for (int count = 1; count <= Math.min(64, length); count++) {
+                for (int start = 0; start + count <= length; start++) {
+                    Assertions.assertEquals(
+                            Long.parseUnsignedLong(representationStr.substring(start, start + count), 2),
+                            chromosome.getAlleleBits(start, count));
+                }
+            }
+            Assertions.assertThrows(GeneticException.class, () -> chromosome.getAlleleBits(0, 0));
+            Assertions.assertThrows(GeneticException.class, () -> chromosome.getAlleleBits(0, 65));
+            Assertions.assertThrows(GeneticException.class, () -> chromosome.getAlleleBits(length - 1, 2));
+        }
+    }
+
+    @Test
+    public void testRepresentationIsNotShared() {
+        long[] representation = ChromosomeRepresentationUtils.randomBinaryRepresentation(100);
+        BinaryChromosome<String> chromosome = new BinaryChromosome<>(representation, 100, c -> 0, c -> "0");
+        String before = chromosome.getStringRepresentation();
+        representation[1] = ~representation[1];
+        chromosome.getRepresentation()[1] = ~representation[1];
+        Assertions.assertEquals(before, chromosome.getStringRepresentation());
+    }
+
     private void testStringRepresentationWithRanges(int length, int startToEndGap) {
         for (int i = 0; i < 50; i++) {
             String representationStr = ChromosomeRepresentationUtils.randomStringRepresentation(new char[] {'0', '1'},
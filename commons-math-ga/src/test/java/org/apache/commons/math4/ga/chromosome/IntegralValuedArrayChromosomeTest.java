@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.chromosome;
+
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.ChromosomeRepresentationUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IntegralValuedArrayChromosomeTest {
+
+    @Test
+    public void testIntegralValuedArrayChromosome() {
+        int min = 0;
+        int max = 10;
+        IntegralValuedArrayChromosome<int[]> chromosome = new IntegralValuedArrayChromosome<>(
+                ChromosomeRepresentationUtils.randomIntegralArrayRepresentation(10, min, max), c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), min, max);
+        Assertions.assertEquals(min, chromosome.getMin());
+        Assertions.assertEquals(max, chromosome.getMax());
+        Assertions.assertEquals(10, chromosome.getLength());
+        Assertions.assertArrayEquals(chromosome.getRepresentation(), chromosome.decode());
+    }
+
+    @Test
+    public void testCheckValidity() {
+        int min = 0;
+        int max = 10;
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new IntegralValuedArrayChromosome<>(
+                ChromosomeRepresentationUtils.randomIntegralArrayRepresentation(10, min, max), c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), max, min);
+        });
+    }
+
+    @Test
+    public void testCheckValidity1() {
+        int min = 0;
+        int max = 10;
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new IntegralValuedArrayChromosome<>(
+                ChromosomeRepresentationUtils.randomIntegralArrayRepresentation(10, min - 10, max + 10), c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), min, max);
+        });
+    }
+
+    @Test
+    public void testNewChromosome() {
+        int min = 0;
+        int max = 10;
+        IntegralValuedArrayChromosome<int[]> chromosome = new IntegralValuedArrayChromosome<>(
+                ChromosomeRepresentationUtils.randomIntegralArrayRepresentation(10, min, max), c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), min, max);
+        IntegralValuedArrayChromosome<int[]> newChromosome = chromosome
+                .newChromosome(new int[] {1, 2, 3}, true);
+        Assertions.assertEquals(chromosome.getMin(), newChromosome.getMin());
+        Assertions.assertEquals(chromosome.getMax(), newChromosome.getMax());
+        Assertions.assertEquals(chromosome.getDecoder(), newChromosome.getDecoder());
+        Assertions.assertEquals(3, newChromosome.getAllele(2));
+    }
+
+    @Test
+    public void testRandomChromosome() {
+        for (int i = 0; i < 10; i++) {
+            IntegralValuedArrayChromosome<int[]> chromosome = IntegralValuedArrayChromosome.randomChromosome(5,
+                c -> 0, new TransparentArrayChromosomeDecoder<>(), 0, 2);
+            for (int allele : chromosome.getRepresentation()) {
+                Assertions.assertTrue(allele == 0 || allele == 1);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.chromosome;
+
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.ChromosomeRepresentationUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RealValuedArrayChromosomeTest {
+
+    @Test
+    public void testNewChromosome() {
+        for (int i = 0; i < 10; i++) {
+            RealValuedArrayChromosome<double[]> chromosome = new RealValuedArrayChromosome<>(
+                    ChromosomeRepresentationUtils.randomDoubleArrayRepresentation(10, 0, 1), c -> 1,
+                    new TransparentArrayChromosomeDecoder<>());
+            RealValuedArrayChromosome<double[]> newChromosome = chromosome
+                    .newChromosome(ChromosomeRepresentationUtils.randomDoubleArrayRepresentation(10, 0, 1), false);
+            Assertions.assertEquals(chromosome.getMin(), newChromosome.getMin(), .001);
+            Assertions.assertEquals(chromosome.getMax(), newChromosome.getMax(), .001);
+            Assertions.assertEquals(10, newChromosome.getLength());
+        }
+    }
+
+    @Test
+    public void testRandomChromosome() {
+        for (int i = 0; i < 10; i++) {
+            RealValuedArrayChromosome<double[]> chromosome = RealValuedArrayChromosome.randomChromosome(5, c -> 0,
+                    new TransparentArrayChromosomeDecoder<>(), 0, 2);
+            for (int j = 0; j < chromosome.getLength(); j++) {
+                Assertions.assertTrue(chromosome.getAllele(j) >= 0 && chromosome.getAllele(j) < 2);
+            }
+        }
+    }
+
+    @Test
+    public void testRepresentationIsNotShared() {
+        final double[] representation = new double[] {0.1, 0.2, 0.3};
+        final RealValuedArrayChromosome<double[]> chromosome = new RealValuedArrayChromosome<>(representation,
+            c -> 0, new TransparentArrayChromosomeDecoder<>());
+        representation[0] = 0.9;
+        Assertions.assertEquals(0.1, chromosome.getAllele(0), .001);
+        chromosome.getRepresentation()[1] = 0.9;
+        Assertions.assertEquals(0.2, chromosome.getAllele(1), .001);
+    }
+
+    @Test
+    public void testCheckValidity() {
+        int min = 0;
+        int max = 10;
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new RealValuedArrayChromosome<>(ChromosomeRepresentationUtils.randomDoubleArrayRepresentation(10, min, max),
+                c -> 0, new TransparentArrayChromosomeDecoder<>(), max, min);
+        });
+    }
+
+    @Test
+    public void testCheckValidity1() {
+        int min = 0;
+        int max = 10;
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new RealValuedArrayChromosome<>(
+                ChromosomeRepresentationUtils.randomDoubleArrayRepresentation(10, min - 10, max + 10), c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), min, max);
+        });
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.crossover;
+
+import java.util.Arrays;
+
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.dummy.DummyListChromosome;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CycleArrayCrossoverTest {
+
+    @Test
+    public void testCrossoverExample() {
+        final int[] p1 = new int[] {8, 4, 7, 3, 6, 2, 5, 1, 9, 0};
+        final int[] p2 = new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+        final ChromosomePair<int[]> pair = new CycleArrayCrossover<int[]>().crossover(chromosome(p1),
+                chromosome(p2), 1.0);
+
+        Assertions.assertArrayEquals(new int[] {8, 1, 2, 3, 4, 5, 6, 7, 9, 0},
+                ((IntegralValuedArrayChromosome<int[]>) pair.getFirst()).getRepresentation());
+        Assertions.assertArrayEquals(new int[] {0, 4, 7, 3, 6, 2, 5, 1, 8, 9},
+                ((IntegralValuedArrayChromosome<int[]>) pair.getSecond()).getRepresentation());
+    }
+
+    @Test
+    public void testMatchesListCrossover() {
+        assertMatchesListCrossover(new CycleArrayCrossover<>(), new CycleCrossover<>());
+        assertMatchesListCrossover(new CycleArrayCrossover<>(true), new CycleCrossover<>(true));
+    }
+
+    @Test
+    public void testNotAPermutation() {
+        final IntegralValuedArrayChromosome<int[]> p1 = chromosome(new int[] {0, 1, 1, 3});
+        final IntegralValuedArrayChromosome<int[]> p2 = chromosome(new int[] {0, 1, 2, 3});
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new CycleArrayCrossover<int[]>().crossover(p1, p2, 1.0);
+        });
+    }
+
+    private static void assertMatchesListCrossover(CrossoverPolicy<int[]> arrayPolicy,
+            CrossoverPolicy<String> listPolicy) {
+        for (int i = 0; i < 100; i++) {
+            final int length = 2 + RandomProviderManager.getRandomProvider().nextInt(50);
+            final int[] p1 = randomPermutation(length);
+            final int[] p2 = randomPermutation(length);
+
+            final byte[] state = RandomProviderManager.saveState();
+            final ChromosomePair<int[]> arrayPair = arrayPolicy.crossover(chromosome(p1), chromosome(p2), 1.0);
+            RandomProviderManager.restoreState(state);
+            final ChromosomePair<String> listPair = listPolicy.crossover(new DummyListChromosome(box(p1)),
+                    new DummyListChromosome(box(p2)), 1.0);
+
+            Assertions.assertArrayEquals(box(((IntegralValuedArrayChromosome<int[]>) arrayPair.getFirst())
+                    .getRepresentation()), ((DummyListChromosome) listPair.getFirst()).getRepresentation()
+                    .toArray(new Integer[0]));
+            Assertions.assertArrayEquals(box(((IntegralValuedArrayChromosome<int[]>) arrayPair.getSecond())
+                    .getRepresentation()), ((DummyListChromosome) listPair.getSecond()).getRepresentation()
+                    .toArray(new Integer[0]));
+        }
+    }
+
+    private static IntegralValuedArrayChromosome<int[]> chromosome(int[] representation) {
+        return new IntegralValuedArrayChromosome<>(representation, c -> 0, new TransparentArrayChromosomeDecoder<>(),
+                0, representation.length);
+    }
+
+    private static int[] randomPermutation(int length) {
+        final int[] permutation = new int[length];
+        for (int i = 0; i < length; i++) {
+            permutation[i] = i;
+        }
+        for (int i = length - 1; i > 0; i--) {
+            final int j = RandomProviderManager.getRandomProvider().nextInt(i + 1);
+            final int tmp = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = tmp;
+        }
+        return permutation;
+    }
+
+    private static Integer[] box(int[] values) {
+        return Arrays.stream(values).boxed().toArray(Integer[]::new);
+    }
+
+}
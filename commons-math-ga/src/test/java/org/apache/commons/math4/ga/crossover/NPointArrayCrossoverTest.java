@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.crossover;
+
+import org.apache.commons.math4.ga.chromosome.AbstractArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.AbstractChromosome;
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+import org.apache.commons.math4.ga.decoder.AbstractArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.dummy.DummyListChromosomeDecoder;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NPointArrayCrossoverTest {
+
+    @Test
+    public void testNumberIsTooLargeException() {
+        final int[] p1 = new int[] {1, 0, 1, 0, 0, 1, 0, 1, 1};
+        final int[] p2 = new int[] {0, 1, 1, 0, 1, 0, 1, 1, 1};
+
+        final IntegralValuedArrayChromosome<int[]> p1c = new IntegralValuedArrayChromosome<>(p1, c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, 2);
+        final IntegralValuedArrayChromosome<int[]> p2c = new IntegralValuedArrayChromosome<>(p2, c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, 2);
+
+        final CrossoverPolicy<int[]> cp = new NPointArrayCrossover<int[], int[]>(15);
+        Assertions.assertThrows(GeneticException.class, () -> {
+            cp.crossover(p1c, p2c, 1.0);
+        });
+    }
+
+    @Test
+    public void testInvalidCrossoverPoints() {
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new NPointArrayCrossover<int[], int[]>(0);
+        });
+    }
+
+    @Test
+    public void testCrossoverInvalidFixedLengthChromosome() {
+        final IntegralValuedArrayChromosome<String> p1c = new IntegralValuedArrayChromosome<>(
+                new int[] {1, 0, 1, 0, 0, 1, 0, 1, 1}, chromosome -> 0,
+                new AbstractArrayChromosomeDecoder<int[], String>() {
+                    @Override
+                    protected String decode(AbstractArrayChromosome<int[], String> chromosome) {
+                        return "0";
+                    }
+                }, 0, 2);
+        final AbstractChromosome<String> p2c = new AbstractChromosome<String>(chromosome -> 0,
+                new DummyListChromosomeDecoder<>("0")) {
+        };
+
+        final CrossoverPolicy<String> cp = new NPointArrayCrossover<int[], String>(1);
+
+        Assertions.assertThrows(GeneticException.class, () -> {
+            cp.crossover(p1c, p2c, 1.0);
+        });
+        Assertions.assertThrows(GeneticException.class, () -> {
+            cp.crossover(p2c, p1c, 1.0);
+        });
+    }
+
+    @Test
+    public void testCrossoverSizeMismatch() {
+        final IntegralValuedArrayChromosome<int[]> p1c = new IntegralValuedArrayChromosome<>(new int[] {1, 0, 1},
+            c -> 0, new TransparentArrayChromosomeDecoder<>(), 0, 2);
+        final IntegralValuedArrayChromosome<int[]> p2c = new IntegralValuedArrayChromosome<>(new int[] {1, 0},
+            c -> 0, new TransparentArrayChromosomeDecoder<>(), 0, 2);
+
+        final CrossoverPolicy<int[]> cp = new NPointArrayCrossover<int[], int[]>(1);
+        Assertions.assertThrows(GeneticException.class, () -> {
+            cp.crossover(p1c, p2c, 1.0);
+        });
+    }
+
+    @Test
+    public void testCrossover() {
+        int[] p1 = new int[] {1, 0, 1, 0, 1, 0, 1, 0, 1};
+        int[] p2 = new int[] {0, 1, 0, 1, 0, 1, 0, 1, 0};
+
+        IntegralValuedArrayChromosome<int[]> p1c = new IntegralValuedArrayChromosome<>(p1, chromosome -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, 2);
+        IntegralValuedArrayChromosome<int[]> p2c = new IntegralValuedArrayChromosome<>(p2, chromosome -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, 2);
+
+        final int order = 3;
+        NPointArrayCrossover<int[], int[]> npc = new NPointArrayCrossover<>(order);
+
+        // the two parent chromosomes are different at each position, so it is easy to
+        // detect the number of crossovers that happened for each child
+        for (int i = 0; i < 20; i++) {
+            ChromosomePair<int[]> pair = npc.crossover(p1c, p2c, 1.0);
+            Assertions.assertEquals(order, detectCrossoverPoints(p1, p2,
+                    ((IntegralValuedArrayChromosome<int[]>) pair.getFirst()).getRepresentation()));
+            Assertions.assertEquals(order, detectCrossoverPoints(p2, p1,
+                    ((IntegralValuedArrayChromosome<int[]>) pair.getSecond()).getRepresentation()));
+        }
+    }
+
+    @Test
+    public void testCrossoverRealValued() {
+        double[] p1 = new double[] {0.1, 0.2, 0.3, 0.4, 0.5};
+        double[] p2 = new double[] {0.6, 0.7, 0.8, 0.9, 0.95};
+
+        RealValuedArrayChromosome<double[]> p1c = new RealValuedArrayChromosome<>(p1, chromosome -> 0,
+                new TransparentArrayChromosomeDecoder<>());
+        RealValuedArrayChromosome<double[]> p2c = new RealValuedArrayChromosome<>(p2, chromosome -> 0,
+                new TransparentArrayChromosomeDecoder<>());
+
+        NPointArrayCrossover<double[], double[]> npc = new NPointArrayCrossover<>(2);
+        for (int i = 0; i < 20; i++) {
+            ChromosomePair<double[]> pair = npc.crossover(p1c, p2c, 1.0);
+            final double[] c1 = ((RealValuedArrayChromosome<double[]>) pair.getFirst()).getRepresentation();
+            final double[] c2 = ((RealValuedArrayChromosome<double[]>) pair.getSecond()).getRepresentation();
+            Assertions.assertEquals(p1[0], c1[0], .0);
+            Assertions.assertEquals(p2[0], c2[0], .0);
+            for (int j = 0; j < p1.length; j++) {
+                // every gene is taken from exactly one of the parents.
+                Assertions.assertTrue(c1[j] == p1[j] && c2[j] == p2[j] || c1[j] == p2[j] && c2[j] == p1[j]);
+            }
+        }
+        // the parents are not modified.
+        Assertions.assertArrayEquals(p1, p1c.getRepresentation(), .0);
+        Assertions.assertArrayEquals(p2, p2c.getRepresentation(), .0);
+    }
+
+    private int detectCrossoverPoints(int[] p1Rep, int[] p2Rep, int[] cRep) {
+        int crossovers = 0;
+        int[] rep = p1Rep;
+        for (int i = 0; i < cRep.length; i++) {
+            if (rep[i] != cRep[i]) {
+                crossovers++;
+                rep = rep == p1Rep ? p2Rep : p1Rep;
+            }
+        }
+        return crossovers;
+    }
+
+}
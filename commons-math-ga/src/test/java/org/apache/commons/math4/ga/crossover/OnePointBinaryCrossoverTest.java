@@ -18,12 +18,15 @@ package org.apache.commons.math4.ga.crossover;
 
 import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
 import org.apache.commons.math4.ga.chromosome.ChromosomePair;
-import org.apache.commons.math4.ga.utils.ChromosomeRepresentationUtils;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.Test;
 import org.junit.jupiter.api.Assertions;
 
 public class OnePointBinaryCrossoverTest {
 
+    private final UniformRandomProvider random = RandomSource.XO_RO_SHI_RO_128_PP.create(20210516L);
+
     @Test
     public void testCrossover() {
 
@@ -31,11 +34,9 @@ public class OnePointBinaryCrossoverTest {
 
         // test a stochastic method.
         for (int i = 0; i < 1000; i++) {
-            long length = 32 + (long) (200 * Math.random());
-            BinaryChromosome<String> p1c = new BinaryChromosome<>(
-                    ChromosomeRepresentationUtils.randomBinaryRepresentation(length), length, c -> 0, c -> "0");
-            BinaryChromosome<String> p2c = new BinaryChromosome<>(
-                    ChromosomeRepresentationUtils.randomBinaryRepresentation(length), length, c -> 0, c -> "0");
+            long length = 32 + random.nextInt(200);
+            BinaryChromosome<String> p1c = randomChromosome(length);
+            BinaryChromosome<String> p2c = randomChromosome(length);
 
             ChromosomePair<String> pair = opc.crossover(p1c, p2c, 1.0);
 
@@ -60,6 +61,38 @@ public class OnePointBinaryCrossoverTest {
         }
     }
 
+    @Test
+    public void testCrossoverExchangesSuffix() {
+        OnePointBinaryCrossover<String> opc = new OnePointBinaryCrossover<>();
+
+        for (int i = 0; i < 1000; i++) {
+            long length = 2 + random.nextInt(200);
+            BinaryChromosome<String> p1c = randomChromosome(length);
+            BinaryChromosome<String> p2c = randomChromosome(length);
+
+            ChromosomePair<String> pair = opc.crossover(p1c, p2c, 1.0);
+            String p1 = p1c.getStringRepresentation();
+            String p2 = p2c.getStringRepresentation();
+            String c1 = ((BinaryChromosome<String>) pair.getFirst()).getStringRepresentation();
+            String c2 = ((BinaryChromosome<String>) pair.getSecond()).getStringRepresentation();
+
+            boolean found = false;
+            for (int k = 1; k < length && !found; k++) {
+                found = c1.equals(p1.substring(0, k) + p2.substring(k)) &&
+                        c2.equals(p2.substring(0, k) + p1.substring(k));
+            }
+            Assertions.assertTrue(found);
+        }
+    }
+
+    private BinaryChromosome<String> randomChromosome(long length) {
+        final StringBuilder representation = new StringBuilder((int) length);
+        for (int i = 0; i < length; i++) {
+            representation.append(random.nextBoolean() ? '1' : '0');
+        }
+        return new BinaryChromosome<>(representation.toString(), c -> 0, c -> "0");
+    }
+
     private String prependZero(String value) {
         StringBuilder modValue = new StringBuilder();
         for (int i = 64 - value.length(); i > 0; i--) {
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.crossover;
+
+import java.util.Arrays;
+
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.dummy.DummyListChromosome;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OrderedArrayCrossoverTest {
+
+    @Test
+    public void testCrossoverKeepsPermutations() {
+        for (int i = 0; i < 100; i++) {
+            final int length = 2 + RandomProviderManager.getRandomProvider().nextInt(30);
+            final ChromosomePair<int[]> pair = new OrderedArrayCrossover<int[]>()
+                    .crossover(chromosome(randomPermutation(length)), chromosome(randomPermutation(length)), 1.0);
+            assertPermutation(((IntegralValuedArrayChromosome<int[]>) pair.getFirst()).getRepresentation());
+            assertPermutation(((IntegralValuedArrayChromosome<int[]>) pair.getSecond()).getRepresentation());
+        }
+    }
+
+    @Test
+    public void testMatchesListCrossover() {
+        assertMatchesListCrossover(new OrderedArrayCrossover<>(), new OrderedCrossover<>());
+    }
+
+    @Test
+    public void testInvalidGene() {
+        final IntegralValuedArrayChromosome<int[]> p1 = chromosome(new int[] {0, 1, 2, 3});
+        final IntegralValuedArrayChromosome<int[]> p2 = new IntegralValuedArrayChromosome<>(new int[] {0, 1, 2, 7},
+            c -> 0, new TransparentArrayChromosomeDecoder<>(), 0, 8);
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new OrderedArrayCrossover<int[]>().crossover(p1, p2, 1.0);
+        });
+    }
+
+    private static void assertMatchesListCrossover(CrossoverPolicy<int[]> arrayPolicy,
+            CrossoverPolicy<String> listPolicy) {
+        for (int i = 0; i < 100; i++) {
+            final int length = 2 + RandomProviderManager.getRandomProvider().nextInt(50);
+            final int[] p1 = randomPermutation(length);
+            final int[] p2 = randomPermutation(length);
+
+            final byte[] state = RandomProviderManager.saveState();
+            final ChromosomePair<int[]> arrayPair = arrayPolicy.crossover(chromosome(p1), chromosome(p2), 1.0);
+            RandomProviderManager.restoreState(state);
+            final ChromosomePair<String> listPair = listPolicy.crossover(new DummyListChromosome(box(p1)),
+                    new DummyListChromosome(box(p2)), 1.0);
+
+            Assertions.assertArrayEquals(box(((IntegralValuedArrayChromosome<int[]>) arrayPair.getFirst())
+                    .getRepresentation()), ((DummyListChromosome) listPair.getFirst()).getRepresentation()
+                    .toArray(new Integer[0]));
+            Assertions.assertArrayEquals(box(((IntegralValuedArrayChromosome<int[]>) arrayPair.getSecond())
+                    .getRepresentation()), ((DummyListChromosome) listPair.getSecond()).getRepresentation()
+                    .toArray(new Integer[0]));
+        }
+    }
+
+    private static IntegralValuedArrayChromosome<int[]> chromosome(int[] representation) {
+        return new IntegralValuedArrayChromosome<>(representation, c -> 0, new TransparentArrayChromosomeDecoder<>(),
+                0, representation.length);
+    }
+
+    private static int[] randomPermutation(int length) {
+        final int[] permutation = new int[length];
+        for (int i = 0; i < length; i++) {
+            permutation[i] = i;
+        }
+        for (int i = length - 1; i > 0; i--) {
+            final int j = RandomProviderManager.getRandomProvider().nextInt(i + 1);
+            final int tmp = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = tmp;
+        }
+        return permutation;
+    }
+
+    private static Integer[] box(int[] values) {
+        return Arrays.stream(values).boxed().toArray(Integer[]::new);
+    }
+
+    private static void assertPermutation(int[] values) {
+        final int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            Assertions.assertEquals(i, sorted[i]);
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.crossover;
+
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class UniformArrayCrossoverTest {
+
+    private static final int LEN = 10000;
+
+    @Test
+    public void testRatioTooLow() {
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new UniformArrayCrossover<int[], int[]>(-0.5d);
+        });
+    }
+
+    @Test
+    public void testRatioTooHigh() {
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new UniformArrayCrossover<int[], int[]>(1.5d);
+        });
+    }
+
+    @Test
+    public void testCrossover() {
+        final int[] p1 = new int[LEN];
+        final int[] p2 = new int[LEN];
+        for (int i = 0; i < LEN; i++) {
+            p1[i] = 0;
+            p2[i] = 1;
+        }
+
+        // test crossover with different ratios
+        performCrossover(p1, p2, 0.5);
+        performCrossover(p1, p2, 0.7);
+        performCrossover(p1, p2, 0.2);
+        performCrossover(p1, p2, 0.0);
+        performCrossover(p1, p2, 1.0);
+    }
+
+    private void performCrossover(int[] p1, int[] p2, double ratio) {
+        final IntegralValuedArrayChromosome<int[]> p1c = new IntegralValuedArrayChromosome<>(p1, c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, 2);
+        final IntegralValuedArrayChromosome<int[]> p2c = new IntegralValuedArrayChromosome<>(p2, c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, 2);
+
+        final CrossoverPolicy<int[]> cp = new UniformArrayCrossover<int[], int[]>(ratio);
+
+        for (int i = 0; i < 20; i++) {
+            final ChromosomePair<int[]> pair = cp.crossover(p1c, p2c, 1.0);
+
+            final int[] c1 = ((IntegralValuedArrayChromosome<int[]>) pair.getFirst()).getRepresentation();
+            final int[] c2 = ((IntegralValuedArrayChromosome<int[]>) pair.getSecond()).getRepresentation();
+
+            int from1 = 0;
+            int from2 = 0;
+
+            // check first child
+            for (int val : c1) {
+                if (val == 0) {
+                    from1++;
+                } else {
+                    from2++;
+                }
+            }
+
+            Assertions.assertEquals(1.0 - ratio, (double) from1 / LEN, 0.1);
+            Assertions.assertEquals(ratio, (double) from2 / LEN, 0.1);
+
+            // the genes of the second child are complementary to the first one.
+            for (int j = 0; j < LEN; j++) {
+                Assertions.assertEquals(1, c1[j] + c2[j]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.decoder;
+
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.dummy.DummyChromosome;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AbstractBinaryChromosomeDecoderTest {
+
+    @Test
+    public void testDecode() {
+        Decoder<Long> decoder = new AbstractBinaryChromosomeDecoder<Long>() {
+
+            @Override
+            protected Long decode(BinaryChromosome<Long> chromosome) {
+                return chromosome.getAlleleBits(0, (int) chromosome.getLength());
+            }
+        };
+        BinaryChromosome<Long> chromosome = new BinaryChromosome<>("1011", c -> 0, decoder);
+        Assertions.assertEquals(Long.valueOf(11), chromosome.decode());
+    }
+
+    @Test
+    public void testDecodeWithInvalidChromosomeInstance() {
+        Decoder<String> decoder = new AbstractBinaryChromosomeDecoder<String>() {
+
+            @Override
+            protected String decode(BinaryChromosome<String> chromosome) {
+                return null;
+            }
+        };
+        Chromosome<String> ch = new DummyChromosome();
+        Assertions.assertThrows(GeneticException.class, () -> {
+            decoder.decode(ch);
+        });
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.decoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.RandomProviderManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RandomKeyArrayDecoderTest {
+
+    @Test
+    public void testDecodeChromosome() {
+        List<String> sequence = Arrays.asList("a", "b", "c", "d", "e");
+        double[] keys = new double[] {0.4, 0.1, 0.5, 0.8, 0.2};
+
+        RandomKeyArrayDecoder<String> decoder = new RandomKeyArrayDecoder<>(sequence);
+        RealValuedArrayChromosome<List<String>> chromosome = new RealValuedArrayChromosome<>(keys, c -> 0,
+                decoder);
+
+        Assertions.assertEquals(Arrays.asList("b", "e", "a", "c", "d"), chromosome.decode());
+    }
+
+    @Test
+    public void testMatchesStableSort() {
+        for (int length : new int[] {1, 2, 15, 16, 17, 1000, 5000}) {
+            final List<Integer> sequence = new ArrayList<>();
+            for (int i = 0; i < length; i++) {
+                sequence.add(i);
+            }
+            final double[] keys = new double[length];
+            for (int i = 0; i < length; i++) {
+                // plenty of ties
+                keys[i] = i % 3 == 0 ? 0.5 : RandomProviderManager.getRandomProvider().nextDouble();
+            }
+            final Integer[] expected = sequence.toArray(new Integer[0]);
+            Arrays.sort(expected, Comparator.comparingDouble(i -> keys[i]));
+
+            RandomKeyArrayDecoder<Integer> decoder = new RandomKeyArrayDecoder<>(sequence);
+            RealValuedArrayChromosome<List<Integer>> chromosome = new RealValuedArrayChromosome<>(keys, c -> 0,
+                    decoder);
+            Assertions.assertEquals(Arrays.asList(expected), chromosome.decode());
+        }
+    }
+
+    @Test
+    public void testSequenceLength() {
+        List<String> sequence = Arrays.asList("a", "b", "c", "d", "e", "f");
+        double[] keys = new double[] {0.4, 0.1, 0.5, 0.8, 0.2};
+
+        RandomKeyArrayDecoder<String> decoder = new RandomKeyArrayDecoder<>(sequence);
+        RealValuedArrayChromosome<List<String>> chromosome = new RealValuedArrayChromosome<>(keys, c -> 0,
+                decoder);
+        Assertions.assertThrows(GeneticException.class, () -> {
+            chromosome.decode();
+        });
+    }
+
+}
@@ -55,4 +55,15 @@ public class RandomKeyDecoderTest {
             chromosome.decode();
         });
     }
+
+    @Test
+    public void testTies() {
+        List<String> sequence = Arrays.asList(new String[] {"a", "b", "c", "d", "e"});
+        Double[] keys = new Double[] {0.4, 0.1, 0.4, 0.1, 0.2};
+
+        RandomKeyDecoder<String> decoder = new RandomKeyDecoder<>(sequence);
+        RealValuedChromosome<List<String>> chromosome = new RealValuedChromosome<>(keys, c -> 0, decoder);
+
+        Assertions.assertEquals(Arrays.asList("b", "d", "e", "a", "c"), chromosome.decode());
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.decoder;
+
+import org.apache.commons.math4.ga.chromosome.AbstractChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransparentArrayChromosomeDecoderTest {
+
+    @Test
+    public void testDecode() {
+        int[] rp = new int[] {1, 2, 3};
+        Chromosome<int[]> chromosome = new IntegralValuedArrayChromosome<>(rp, c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), 0, 5);
+        int[] decodedRp = chromosome.decode();
+        Assertions.assertArrayEquals(rp, decodedRp);
+        // the phenotype is a copy of the genotype.
+        decodedRp[0] = 4;
+        Assertions.assertArrayEquals(rp, chromosome.decode());
+    }
+
+    @Test
+    public void testCheckValidity() {
+        final TransparentArrayChromosomeDecoder<int[]> decoder = new TransparentArrayChromosomeDecoder<>();
+        final Chromosome<int[]> chromosome = new AbstractChromosome<int[]>(c -> 0, decoder) {
+        };
+        Assertions.assertThrows(GeneticException.class, () -> {
+            decoder.decode(chromosome);
+        });
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.fitness;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.math4.ga.GeneticAlgorithm;
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.convergence.FixedGenerationCount;
+import org.apache.commons.math4.ga.crossover.OnePointBinaryCrossover;
+import org.apache.commons.math4.ga.listener.ConvergenceListenerRegistry;
+import org.apache.commons.math4.ga.mutation.BinaryMutation;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.selection.TournamentSelection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BatchFitnessFunctionTest {
+
+    private static final int POPULATION_SIZE = 30;
+
+    @Test
+    public void testSingleEvaluation() {
+        final CountingOneMax fitnessFunction = new CountingOneMax();
+        Assertions.assertEquals(3, fitnessFunction.compute("1011"), 0);
+        Assertions.assertEquals(1, fitnessFunction.batches.get());
+        Assertions.assertEquals(1, fitnessFunction.evaluated.get());
+    }
+
+    @Test
+    public void testGeneticAlgorithmEvaluatesInBatches() {
+        final CountingOneMax fitnessFunction = new CountingOneMax();
+        final Population<String> initial = new ListPopulation<>(POPULATION_SIZE);
+        for (int i = 0; i < POPULATION_SIZE; i++) {
+            initial.addChromosome(BinaryChromosome.randomChromosome(40, fitnessFunction,
+                c -> ((BinaryChromosome<String>) c).getStringRepresentation()));
+        }
+
+        final GeneticAlgorithm<String> ga = new GeneticAlgorithm<>(new OnePointBinaryCrossover<>(), 1,
+                new BinaryMutation<>(), 0.1, new TournamentSelection<>(2), .2);
+        ga.setConvergenceListenerRegistry(new ConvergenceListenerRegistry<>());
+        final Population<String> last = ga.evolve(initial, new FixedGenerationCount<>(5));
+
+        // one batch for the initial population and one per generation
+        Assertions.assertEquals(6, fitnessFunction.batches.get());
+        Assertions.assertEquals(POPULATION_SIZE, fitnessFunction.largestBatch.get());
+        for (Chromosome<String> chromosome : last) {
+            Assertions.assertTrue(((BinaryChromosome<String>) chromosome).isEvaluated());
+            Assertions.assertEquals(chromosome.decode().replace("0", "").length(), chromosome.evaluate(), 0);
+        }
+    }
+
+    private static class CountingOneMax implements BatchFitnessFunction<String> {
+
+        private final AtomicInteger batches = new AtomicInteger();
+
+        private final AtomicInteger evaluated = new AtomicInteger();
+
+        private final AtomicInteger largestBatch = new AtomicInteger();
+
+        @Override
+        public void compute(List<String> decodedChromosomes, double[] fitness) {
+            Assertions.assertEquals(decodedChromosomes.size(), fitness.length);
+            batches.incrementAndGet();
+            evaluated.addAndGet(fitness.length);
+            largestBatch.accumulateAndGet(fitness.length, Math::max);
+            for (int i = 0; i < fitness.length; i++) {
+                fitness[i] = decodedChromosomes.get(i).replace("0", "").length();
+            }
+        }
+    }
+
+}
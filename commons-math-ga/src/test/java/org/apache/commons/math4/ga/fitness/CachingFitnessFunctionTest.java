@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.fitness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.math4.ga.chromosome.AbstractArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+import org.apache.commons.math4.ga.decoder.AbstractArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CachingFitnessFunctionTest {
+
+    @Test
+    public void testHitAndMiss() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final CachingFitnessFunction<List<Integer>> fitnessFunction = new CachingFitnessFunction<>(list -> {
+            evaluations.incrementAndGet();
+            return list.size();
+        }, 10);
+
+        final List<Integer> first = new ArrayList<>();
+        first.add(1);
+        final List<Integer> second = new ArrayList<>(first);
+
+        Assertions.assertEquals(1, fitnessFunction.compute(first), .0);
+        Assertions.assertEquals(1, fitnessFunction.compute(second), .0);
+        Assertions.assertEquals(1, evaluations.get());
+        Assertions.assertEquals(1, fitnessFunction.getHitCount());
+        Assertions.assertEquals(1, fitnessFunction.getMissCount());
+        Assertions.assertEquals(1, fitnessFunction.getSize());
+
+        fitnessFunction.clear();
+        Assertions.assertEquals(0, fitnessFunction.getSize());
+        Assertions.assertEquals(0, fitnessFunction.getHitCount());
+        Assertions.assertEquals(0, fitnessFunction.getMissCount());
+    }
+
+    @Test
+    public void testArrayPhenotype() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final CachingFitnessFunction<double[]> fitnessFunction = new CachingFitnessFunction<>(phenotype -> {
+            evaluations.incrementAndGet();
+            return phenotype[0];
+        }, 10);
+
+        final RealValuedArrayChromosome<double[]> chromosome1 = new RealValuedArrayChromosome<>(
+                new double[] {.1, .2}, fitnessFunction, new TransparentArrayChromosomeDecoder<>());
+        final RealValuedArrayChromosome<double[]> chromosome2 = new RealValuedArrayChromosome<>(
+                new double[] {.1, .2}, fitnessFunction, new TransparentArrayChromosomeDecoder<>());
+
+        Assertions.assertEquals(.1, chromosome1.evaluate(), .0);
+        Assertions.assertEquals(.1, chromosome2.evaluate(), .0);
+        Assertions.assertEquals(1, evaluations.get());
+        Assertions.assertEquals(1, fitnessFunction.getHitCount());
+    }
+
+    @Test
+    public void testGenotypeLookupDoesNotDecode() {
+        final CachingFitnessFunction<double[]> fitnessFunction = new CachingFitnessFunction<>(p -> p[0], 10);
+        final AtomicInteger decodings = new AtomicInteger();
+        final AbstractArrayChromosomeDecoder<double[], double[]> decoder =
+            new AbstractArrayChromosomeDecoder<double[], double[]>() {
+                @Override
+                protected double[] decode(AbstractArrayChromosome<double[], double[]> chromosome) {
+                    decodings.incrementAndGet();
+                    return chromosome.getRepresentation();
+                }
+            };
+
+        final RealValuedArrayChromosome<double[]> chromosome1 = new RealValuedArrayChromosome<>(
+                new double[] {.1, .2}, fitnessFunction, decoder);
+        final RealValuedArrayChromosome<double[]> chromosome2 = new RealValuedArrayChromosome<>(
+                new double[] {.1, .2}, fitnessFunction, decoder);
+        final RealValuedArrayChromosome<double[]> chromosome3 = new RealValuedArrayChromosome<>(
+                new double[] {.3, .2}, fitnessFunction, decoder);
+
+        Assertions.assertEquals(.1, chromosome1.evaluate(), .0);
+        Assertions.assertEquals(.1, chromosome2.evaluate(), .0);
+        Assertions.assertEquals(.3, chromosome3.evaluate(), .0);
+        Assertions.assertEquals(2, decodings.get());
+        Assertions.assertEquals(1, fitnessFunction.getHitCount());
+        Assertions.assertEquals(2, fitnessFunction.getMissCount());
+    }
+
+    @Test
+    public void testPhenotypeModifiedByFitnessFunction() {
+        final CachingFitnessFunction<int[][]> fitnessFunction = new CachingFitnessFunction<>(phenotype -> {
+            final int value = phenotype[0][0];
+            phenotype[0][0] = -1;
+            return value;
+        }, 10);
+
+        Assertions.assertEquals(1, fitnessFunction.compute(new int[][] {{1}}), .0);
+        Assertions.assertEquals(1, fitnessFunction.compute(new int[][] {{1}}), .0);
+        Assertions.assertEquals(1, fitnessFunction.getHitCount());
+        Assertions.assertEquals(-1, fitnessFunction.compute(new int[][] {{-1}}), .0);
+        Assertions.assertEquals(2, fitnessFunction.getMissCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        final CachingFitnessFunction<Integer> fitnessFunction = new CachingFitnessFunction<>(i -> i, 2);
+        fitnessFunction.compute(1);
+        fitnessFunction.compute(2);
+        // access 1 so that 2 becomes the least recently used.
+        fitnessFunction.compute(1);
+        fitnessFunction.compute(3);
+        Assertions.assertEquals(2, fitnessFunction.getSize());
+
+        fitnessFunction.compute(1);
+        Assertions.assertEquals(2, fitnessFunction.getHitCount());
+        fitnessFunction.compute(2);
+        Assertions.assertEquals(4, fitnessFunction.getMissCount());
+    }
+
+    @Test
+    public void testInsertionOrderEviction() {
+        final CachingFitnessFunction<Integer> fitnessFunction = new CachingFitnessFunction<>(i -> i, 2, false);
+        fitnessFunction.compute(1);
+        fitnessFunction.compute(2);
+        fitnessFunction.compute(1);
+        fitnessFunction.compute(3);
+
+        // 1 was inserted first, so it has been evicted despite the recent access.
+        fitnessFunction.compute(1);
+        Assertions.assertEquals(1, fitnessFunction.getHitCount());
+        Assertions.assertEquals(4, fitnessFunction.getMissCount());
+        Assertions.assertEquals(2, fitnessFunction.getMaximumSize());
+    }
+
+    @Test
+    public void testInvalidMaximumSize() {
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new CachingFitnessFunction<Integer>(i -> i, 0);
+        });
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.internal.stats;
+
+import org.apache.commons.math4.ga.chromosome.IntegralValuedChromosome;
+import org.apache.commons.math4.ga.dummy.DummyListChromosomeDecoder;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.apache.commons.math4.ga.stats.PopulationStatisticalSummary;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PopulationStatisticalSummaryImplTest {
+
+    @Test
+    public void testStatistics() {
+        final double[] fitness = new double[] {4, 1, 5, 2, 3};
+        final Population<String> population = new ListPopulation<>(fitness.length);
+        for (double value : fitness) {
+            population.addChromosome(IntegralValuedChromosome.randomChromosome(10, c -> value,
+                    new DummyListChromosomeDecoder<>("Fixed"), 0, 10));
+        }
+        final PopulationStatisticalSummary<String> stats = new PopulationStatisticalSummaryImpl<>(population);
+
+        Assertions.assertEquals(5, stats.getPopulationSize());
+        Assertions.assertEquals(1, stats.getMinFitness(), .00000001);
+        Assertions.assertEquals(5, stats.getMaxFitness(), .00000001);
+        Assertions.assertEquals(3, stats.getMeanFitness(), .00000001);
+        Assertions.assertEquals(2, stats.getFitnessVariance(), .00000001);
+    }
+
+    @Test
+    public void testFindRank() {
+        final double[] fitness = new double[] {4, 1, 5, 1, 3};
+        final Population<String> population = new ListPopulation<>(fitness.length);
+        final IntegralValuedChromosome<String>[] chromosomes = newChromosomes(fitness);
+        for (IntegralValuedChromosome<String> chromosome : chromosomes) {
+            population.addChromosome(chromosome);
+        }
+        final PopulationStatisticalSummary<String> stats = new PopulationStatisticalSummaryImpl<>(population);
+
+        Assertions.assertEquals(3, stats.findRank(chromosomes[0]));
+        Assertions.assertEquals(0, stats.findRank(chromosomes[1]));
+        Assertions.assertEquals(4, stats.findRank(chromosomes[2]));
+        Assertions.assertEquals(0, stats.findRank(chromosomes[3]));
+        Assertions.assertEquals(2, stats.findRank(chromosomes[4]));
+    }
+
+    @Test
+    public void testEmptyPopulation() {
+        final PopulationStatisticalSummary<String> stats = new PopulationStatisticalSummaryImpl<>(
+                new ListPopulation<>(5));
+        Assertions.assertEquals(0, stats.getPopulationSize());
+        Assertions.assertTrue(Double.isNaN(stats.getMeanFitness()));
+        Assertions.assertTrue(Double.isNaN(stats.getFitnessVariance()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private IntegralValuedChromosome<String>[] newChromosomes(double[] fitness) {
+        final IntegralValuedChromosome<String>[] chromosomes = new IntegralValuedChromosome[fitness.length];
+        for (int i = 0; i < fitness.length; i++) {
+            final double value = fitness[i];
+            chromosomes[i] = IntegralValuedChromosome.randomChromosome(10, c -> value,
+                    new DummyListChromosomeDecoder<>("Fixed"), 0, 10);
+        }
+        return chromosomes;
+    }
+
+}
@@ -19,6 +19,9 @@ package org.apache.commons.math4.ga.listener;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.math4.ga.internal.exception.GeneticException;
 import org.apache.commons.math4.ga.population.ListPopulation;
@@ -104,4 +107,72 @@ public class ConvergenceListenerRegistryTest {
         }
     }
 
+    @Test
+    public void testSampling() {
+        final ConvergenceListenerRegistry<String> registry = new ConvergenceListenerRegistry<>(3);
+        final List<Integer> generations = new ArrayList<>();
+        registry.addConvergenceListener((generation, population) -> generations.add(generation));
+        for (int generation = 0; generation < 10; generation++) {
+            registry.notifyAll(generation, new ListPopulation<>(10));
+        }
+        Assertions.assertEquals(3, registry.getSamplingInterval());
+        Assertions.assertFalse(registry.isAsynchronous());
+        Assertions.assertEquals(4, generations.size());
+        Assertions.assertEquals(9, generations.get(3).intValue());
+    }
+
+    @Test
+    public void testAsynchronousDispatch() throws InterruptedException {
+        final ConvergenceListenerRegistry<String> registry = new ConvergenceListenerRegistry<>(1, 100);
+        final List<Integer> generations = new CopyOnWriteArrayList<>();
+        final Thread caller = Thread.currentThread();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        registry.addConvergenceListener((generation, population) -> {
+            generations.add(generation);
+            threads.add(Thread.currentThread());
+        });
+        for (int generation = 0; generation < 10; generation++) {
+            registry.notifyAll(generation, new ListPopulation<>(10));
+        }
+        Assertions.assertTrue(registry.shutdown(10, TimeUnit.SECONDS));
+
+        Assertions.assertTrue(registry.isAsynchronous());
+        Assertions.assertEquals(10, generations.size());
+        for (int generation = 0; generation < 10; generation++) {
+            Assertions.assertEquals(generation, generations.get(generation).intValue());
+            Assertions.assertNotSame(caller, threads.get(generation));
+        }
+        Assertions.assertEquals(0, registry.getDroppedNotifications());
+    }
+
+    @Test
+    public void testDroppedNotifications() throws InterruptedException {
+        final ConvergenceListenerRegistry<String> registry = new ConvergenceListenerRegistry<>(1, 1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        registry.addConvergenceListener((generation, population) -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int generation = 0; generation < 10; generation++) {
+            registry.notifyAll(generation, new ListPopulation<>(10));
+        }
+        latch.countDown();
+        Assertions.assertTrue(registry.shutdown(10, TimeUnit.SECONDS));
+        // at most one notification is running and one is queued.
+        Assertions.assertTrue(registry.getDroppedNotifications() >= 8);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new ConvergenceListenerRegistry<String>(0);
+        });
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new ConvergenceListenerRegistry<String>(1, -1);
+        });
+    }
+
 }
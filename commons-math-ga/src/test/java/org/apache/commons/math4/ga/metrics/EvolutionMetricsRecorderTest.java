@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.metrics;
+
+import org.apache.commons.math4.ga.metrics.EvolutionMetrics.Operation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EvolutionMetricsRecorderTest {
+
+    @Test
+    public void testRecord() {
+        final EvolutionMetricsRecorder recorder = new EvolutionMetricsRecorder();
+        Assertions.assertTrue(recorder.isEnabled());
+        Assertions.assertEquals(-1, recorder.getLastGeneration());
+
+        recorder.record(Operation.SELECTION, 10, 100);
+        recorder.record(Operation.SELECTION, 10, 50);
+        recorder.record(Operation.EVALUATION, 20, 1000);
+        Assertions.assertEquals(20, recorder.getCount(Operation.SELECTION));
+        Assertions.assertEquals(150, recorder.getNanos(Operation.SELECTION));
+        Assertions.assertEquals(0, recorder.getLastGenerationCount(Operation.SELECTION));
+
+        recorder.generationCompleted(0);
+        Assertions.assertEquals(0, recorder.getLastGeneration());
+        Assertions.assertEquals(20, recorder.getLastGenerationCount(Operation.SELECTION));
+        Assertions.assertEquals(150, recorder.getLastGenerationNanos(Operation.SELECTION));
+        Assertions.assertEquals(1000, recorder.getLastGenerationNanos(Operation.EVALUATION));
+        Assertions.assertEquals(0, recorder.getLastGenerationCount(Operation.CROSSOVER));
+
+        recorder.record(Operation.SELECTION, 4, 10);
+        recorder.generationCompleted(1);
+        Assertions.assertEquals(1, recorder.getLastGeneration());
+        Assertions.assertEquals(4, recorder.getLastGenerationCount(Operation.SELECTION));
+        Assertions.assertEquals(0, recorder.getLastGenerationCount(Operation.EVALUATION));
+        Assertions.assertEquals(24, recorder.getCount(Operation.SELECTION));
+        Assertions.assertEquals(160, recorder.getNanos(Operation.SELECTION));
+    }
+
+    @Test
+    public void testNone() {
+        Assertions.assertFalse(EvolutionMetrics.NONE.isEnabled());
+        EvolutionMetrics.NONE.record(Operation.MUTATION, 1, 1);
+        EvolutionMetrics.NONE.generationCompleted(0);
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.migration;
+
+import java.util.Arrays;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MigrationTopologyTest {
+
+    @Test
+    public void testRingTopology() {
+        final MigrationTopology topology = new RingTopology();
+        Assertions.assertArrayEquals(new int[] {1}, topology.getDestinations(0, 4));
+        Assertions.assertArrayEquals(new int[] {0}, topology.getDestinations(3, 4));
+        Assertions.assertEquals(0, topology.getDestinations(0, 1).length);
+    }
+
+    @Test
+    public void testFullyConnectedTopology() {
+        final MigrationTopology topology = new FullyConnectedTopology();
+        Assertions.assertArrayEquals(new int[] {0, 1, 3}, topology.getDestinations(2, 4));
+        Assertions.assertEquals(0, topology.getDestinations(0, 1).length);
+    }
+
+    @Test
+    public void testRandomTopology() {
+        final RandomTopology topology = new RandomTopology(2);
+        Assertions.assertEquals(2, topology.getDestinationCount());
+        for (int i = 0; i < 100; i++) {
+            final int[] destinations = topology.getDestinations(1, 5);
+            Assertions.assertEquals(2, destinations.length);
+            Assertions.assertNotEquals(destinations[0], destinations[1]);
+            for (int destination : destinations) {
+                Assertions.assertTrue(destination >= 0 && destination < 5 && destination != 1,
+                        Arrays.toString(destinations));
+            }
+        }
+        Assertions.assertEquals(1, new RandomTopology(3).getDestinations(0, 2).length);
+        Assertions.assertEquals(0, new RandomTopology().getDestinations(0, 1).length);
+        Assertions.assertThrows(GeneticException.class, () -> new RandomTopology(0));
+    }
+
+}
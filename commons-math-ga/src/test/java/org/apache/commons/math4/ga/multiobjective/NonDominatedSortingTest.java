@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.multiobjective;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NonDominatedSortingTest {
+
+    @Test
+    public void testDominates() {
+        Assertions.assertTrue(NonDominatedSorting.dominates(new double[] {2, 1}, new double[] {1, 1}));
+        Assertions.assertFalse(NonDominatedSorting.dominates(new double[] {1, 1}, new double[] {1, 1}));
+        Assertions.assertFalse(NonDominatedSorting.dominates(new double[] {2, 0}, new double[] {1, 1}));
+    }
+
+    @Test
+    public void testSort() {
+        final double[][] objectives = {
+            {1, 1}, {3, 1}, {2, 2}, {1, 3}, {0, 0}, {2, 2}, {1, 2}
+        };
+        Assertions.assertArrayEquals(new int[] {2, 0, 0, 0, 3, 0, 1}, NonDominatedSorting.sort(objectives));
+    }
+
+    @Test
+    public void testSortMatchesPairwiseDefinition() {
+        final UniformRandomProvider random = RandomSource.XO_RO_SHI_RO_128_PP.create(7L);
+        final double[][] objectives = new double[300][3];
+        for (double[] vector : objectives) {
+            for (int k = 0; k < vector.length; k++) {
+                // few distinct values to produce ties
+                vector[k] = random.nextInt(10);
+            }
+        }
+        final int[] ranks = NonDominatedSorting.sort(objectives);
+        for (int i = 0; i < objectives.length; i++) {
+            // dominated only by lower ranks, and by some member of the previous front
+            boolean dominatedByPrevious = ranks[i] == 0;
+            for (int j = 0; j < objectives.length; j++) {
+                if (NonDominatedSorting.dominates(objectives[j], objectives[i])) {
+                    Assertions.assertTrue(ranks[j] < ranks[i]);
+                    dominatedByPrevious |= ranks[j] == ranks[i] - 1;
+                }
+            }
+            Assertions.assertTrue(dominatedByPrevious);
+        }
+    }
+
+    @Test
+    public void testCrowdingDistance() {
+        final double[][] objectives = {
+            {0, 4}, {1, 3}, {3, 1}, {4, 0}, {0, 0}
+        };
+        final int[] ranks = NonDominatedSorting.sort(objectives);
+        final double[] distance = NonDominatedSorting.crowdingDistance(objectives, ranks);
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, distance[0], 0);
+        Assertions.assertEquals(3.0 / 4 + 3.0 / 4, distance[1], 1e-15);
+        Assertions.assertEquals(3.0 / 4 + 3.0 / 4, distance[2], 1e-15);
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, distance[3], 0);
+        // single member front
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, distance[4], 0);
+    }
+
+    @Test
+    public void testCrowdedOrder() {
+        final int[] ranks = {1, 0, 0, 1, 0};
+        final double[] crowding = {5, 1, Double.POSITIVE_INFINITY, 5, 1};
+        Assertions.assertArrayEquals(new int[] {2, 1, 4, 0, 3}, NonDominatedSorting.crowdedOrder(ranks, crowding));
+    }
+
+    @Test
+    public void testEmpty() {
+        Assertions.assertEquals(0, NonDominatedSorting.sort(new double[0][]).length);
+        Assertions.assertEquals(0, NonDominatedSorting.crowdingDistance(new double[0][], new int[0]).length);
+    }
+
+    @Test
+    public void testInvalidObjectives() {
+        Assertions.assertThrows(GeneticException.class,
+            () -> NonDominatedSorting.sort(new double[][] {{1, 2}, {1}}));
+        Assertions.assertThrows(GeneticException.class,
+            () -> NonDominatedSorting.sort(new double[][] {{}}));
+        Assertions.assertThrows(GeneticException.class,
+            () -> NonDominatedSorting.crowdingDistance(new double[][] {{1}}, new int[2]));
+        Assertions.assertThrows(GeneticException.class,
+            () -> NonDominatedSorting.crowdedOrder(new int[1], new double[2]));
+    }
+
+}
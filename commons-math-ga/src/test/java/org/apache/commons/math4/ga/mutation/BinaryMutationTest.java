@@ -16,6 +16,12 @@
  */
 package org.apache.commons.math4.ga.mutation;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
 import org.apache.commons.math4.ga.chromosome.IntegralValuedChromosome;
 import org.apache.commons.math4.ga.dummy.DummyListChromosomeDecoder;
@@ -71,6 +77,36 @@ public class BinaryMutationTest {
         }
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedGeneIndexes() {
+        final BinaryMutation<String> mutation = new BinaryMutation<>();
+        final Map<Integer, Set<Integer>> indexes = mutation.getMutableGeneIndexes(100, .03);
+        int count = 0;
+        for (Map.Entry<Integer, Set<Integer>> entry : indexes.entrySet()) {
+            Assertions.assertTrue(entry.getKey() < 2);
+            for (int index : entry.getValue()) {
+                // the leading 28 bits of the first block are unused.
+                Assertions.assertTrue(entry.getKey() == 1 || index >= 28);
+                count++;
+            }
+        }
+        Assertions.assertEquals(3, count);
+
+        // an override of the deprecated method is still applied.
+        final BinaryMutation<String> legacy = new BinaryMutation<String>() {
+            @Override
+            protected Map<Integer, Set<Integer>> getMutableGeneIndexes(long length, double mutationRate) {
+                final Map<Integer, Set<Integer>> map = new HashMap<>();
+                map.put(0, new HashSet<>(Arrays.asList(54, 63)));
+                return map;
+            }
+        };
+        final BinaryChromosome<String> original = new BinaryChromosome<>("0000000000", c -> 0, c -> "0");
+        final BinaryChromosome<String> mutated = (BinaryChromosome<String>) legacy.mutate(original, .1);
+        Assertions.assertEquals("1000000001", mutated.getStringRepresentation());
+    }
+
     private int calculateNoOfMutatedBits(BinaryChromosome<String> original, BinaryChromosome<String> mutated) {
         int numDifferent = 0;
         long[] originalReps = original.getRepresentation();
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.mutation;
+
+import org.apache.commons.math4.ga.chromosome.IntegralValuedArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.ChromosomeRepresentationUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IntegralValuedArrayMutationTest {
+
+    @Test
+    public void testCheckValidity() {
+        int min = 0;
+        int max = 10;
+        RealValuedArrayChromosome<double[]> chromosome = new RealValuedArrayChromosome<>(
+                ChromosomeRepresentationUtils.randomDoubleArrayRepresentation(10, min, max), c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), min, max);
+        IntegralValuedArrayMutation<double[]> mutation = new IntegralValuedArrayMutation<>(min, max);
+        Assertions.assertThrows(GeneticException.class, () -> {
+            mutation.checkValidity(chromosome);
+        });
+    }
+
+    @Test
+    public void testCheckValidity1() {
+        int min = 0;
+        int max = 10;
+        IntegralValuedArrayChromosome<int[]> chromosome = new IntegralValuedArrayChromosome<>(
+                ChromosomeRepresentationUtils.randomIntegralArrayRepresentation(10, min, max), c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), min, max);
+        IntegralValuedArrayMutation<int[]> mutation = new IntegralValuedArrayMutation<>(min - 10, max);
+        Assertions.assertThrows(GeneticException.class, () -> {
+            mutation.checkValidity(chromosome);
+        });
+    }
+
+    @Test
+    public void testIntegralValuedArrayMutation() {
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new IntegralValuedArrayMutation<>(10, 5);
+        });
+    }
+
+    @Test
+    public void testGetMinMax() {
+        int min = 0;
+        int max = 10;
+        IntegralValuedArrayMutation<int[]> mutation = new IntegralValuedArrayMutation<>(min, max);
+        Assertions.assertEquals(min, mutation.getMin());
+        Assertions.assertEquals(max, mutation.getMax());
+    }
+
+    @Test
+    public void testMutateAllGenes() {
+        int min = 0;
+        int max = 2;
+        int[] representation = new int[100];
+        IntegralValuedArrayChromosome<int[]> original = new IntegralValuedArrayChromosome<>(representation, c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), min, max);
+        IntegralValuedArrayMutation<int[]> mutation = new IntegralValuedArrayMutation<>(min, max);
+        IntegralValuedArrayChromosome<int[]> mutated = (IntegralValuedArrayChromosome<int[]>) mutation
+                .mutate(original, 1.0);
+        for (int allele : mutated.getRepresentation()) {
+            Assertions.assertTrue(allele >= min && allele < max);
+        }
+        Assertions.assertArrayEquals(representation, original.getRepresentation());
+    }
+
+}
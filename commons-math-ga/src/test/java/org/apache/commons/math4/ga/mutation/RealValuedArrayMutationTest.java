@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.mutation;
+
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedArrayChromosome;
+import org.apache.commons.math4.ga.chromosome.RealValuedChromosome;
+import org.apache.commons.math4.ga.decoder.TransparentArrayChromosomeDecoder;
+import org.apache.commons.math4.ga.dummy.DummyListChromosomeDecoder;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.utils.ChromosomeRepresentationUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RealValuedArrayMutationTest {
+
+    @Test
+    public void testCheckValidity() {
+        double min = 0;
+        double max = 10;
+        Chromosome<String> chromosome = new RealValuedChromosome<>(
+                ChromosomeRepresentationUtils.randomDoubleRepresentation(10, min, max), c -> 0,
+                new DummyListChromosomeDecoder<>("0"), min, max);
+        RealValuedArrayMutation<String> mutation = new RealValuedArrayMutation<>(min, max);
+        Assertions.assertThrows(GeneticException.class, () -> {
+            mutation.checkValidity(chromosome);
+        });
+    }
+
+    @Test
+    public void testCheckValidity1() {
+        double min = 0;
+        double max = 10;
+        RealValuedArrayChromosome<double[]> chromosome = new RealValuedArrayChromosome<>(
+                ChromosomeRepresentationUtils.randomDoubleArrayRepresentation(10, min, max), c -> 0,
+                new TransparentArrayChromosomeDecoder<>(), min, max);
+        RealValuedArrayMutation<double[]> mutation = new RealValuedArrayMutation<>(min - 10, max);
+        Assertions.assertThrows(GeneticException.class, () -> {
+            mutation.checkValidity(chromosome);
+        });
+    }
+
+    @Test
+    public void testRealValuedArrayMutation() {
+        Assertions.assertThrows(GeneticException.class, () -> {
+            new RealValuedArrayMutation<>(10, 5);
+        });
+    }
+
+    @Test
+    public void testGetMinMax() {
+        double min = 0;
+        double max = 10;
+        RealValuedArrayMutation<String> mutation = new RealValuedArrayMutation<>(min, max);
+        Assertions.assertEquals(min, mutation.getMin(), .001);
+        Assertions.assertEquals(max, mutation.getMax(), .001);
+    }
+
+    @Test
+    public void testMutate() {
+        double min = 0;
+        double max = 10;
+        int length = 20;
+        RealValuedArrayMutation<double[]> mutation = new RealValuedArrayMutation<>(min, max);
+        for (int i = 0; i < 20; i++) {
+            RealValuedArrayChromosome<double[]> original = RealValuedArrayChromosome.randomChromosome(length, c -> 0,
+                    new TransparentArrayChromosomeDecoder<>(), min, max);
+            double[] originalRep = original.getRepresentation();
+            RealValuedArrayChromosome<double[]> mutated = (RealValuedArrayChromosome<double[]>) mutation
+                    .mutate(original, .25);
+            double[] mutatedRep = mutated.getRepresentation();
+            int changes = 0;
+            for (int j = 0; j < length; j++) {
+                Assertions.assertTrue(min <= mutatedRep[j] && mutatedRep[j] < max);
+                if (originalRep[j] != mutatedRep[j]) {
+                    changes++;
+                }
+            }
+            Assertions.assertTrue(changes <= 5);
+            // the original chromosome is left unchanged.
+            Assertions.assertArrayEquals(originalRep, original.getRepresentation(), .0);
+        }
+    }
+
+}
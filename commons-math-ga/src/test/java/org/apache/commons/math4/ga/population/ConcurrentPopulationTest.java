@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.population;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.math4.ga.chromosome.AbstractChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.chromosome.ChromosomePair;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentPopulationTest {
+
+    @Test
+    public void testReplaceWorst() {
+        final ConcurrentPopulation<String> population = new ConcurrentPopulation<>(3);
+        Assertions.assertTrue(population.replaceWorst(newChromosome(5)));
+        Assertions.assertTrue(population.replaceWorst(newChromosome(1)));
+        Assertions.assertTrue(population.replaceWorst(newChromosome(3)));
+        Assertions.assertEquals(3, population.getPopulationSize());
+
+        // less fit than every chromosome of the full population.
+        Assertions.assertFalse(population.replaceWorst(newChromosome(0)));
+        Assertions.assertTrue(population.replaceWorst(newChromosome(4)));
+
+        double min = Double.POSITIVE_INFINITY;
+        for (Chromosome<String> chromosome : population) {
+            min = Math.min(min, chromosome.evaluate());
+        }
+        Assertions.assertEquals(3, min, .0);
+        Assertions.assertEquals(5, population.getFittestChromosome().evaluate(), .0);
+    }
+
+    @Test
+    public void testSnapshot() {
+        final ConcurrentPopulation<String> population = new ConcurrentPopulation<>(3);
+        population.addChromosome(newChromosome(1));
+        final List<Chromosome<String>> snapshot = population.getChromosomes();
+        population.addChromosome(newChromosome(2));
+        Assertions.assertEquals(1, snapshot.size());
+        Assertions.assertEquals(2, population.getChromosomes().size());
+    }
+
+    @Test
+    public void testConcurrentReplaceWorst() {
+        final int size = 50;
+        final ConcurrentPopulation<String> population = new ConcurrentPopulation<>(size);
+        final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int offset = t;
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    population.replaceWorst(newChromosome(i * 4 + offset));
+                    population.getFittestChromosome();
+                }
+            }));
+        }
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+
+        Assertions.assertEquals(size, population.getPopulationSize());
+        // the fittest chromosomes inserted by all the tasks remain.
+        for (Chromosome<String> chromosome : population) {
+            Assertions.assertTrue(chromosome.evaluate() >= 4000 - size);
+        }
+    }
+
+    @Test
+    public void testReplaceWorstKeepsFittest() {
+        final int size = 20;
+        final ConcurrentPopulation<String> population = new ConcurrentPopulation<>(size);
+        final UniformRandomProvider random = RandomSource.XO_RO_SHI_RO_128_PP.create(11L);
+        final List<Double> inserted = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final double fitness = random.nextInt(100);
+            inserted.add(fitness);
+            population.replaceWorst(newChromosome(fitness));
+            if (i == 250) {
+                // invalidates the heap, which must be rebuilt
+                population.setPopulationLimit(size + 1);
+                population.addChromosome(newChromosome(-1));
+            }
+        }
+        inserted.add(-1.0);
+
+        final List<Double> expected = new ArrayList<>(inserted);
+        Collections.sort(expected, Collections.reverseOrder());
+        final List<Double> actual = new ArrayList<>();
+        for (Chromosome<String> chromosome : population) {
+            actual.add(chromosome.evaluate());
+        }
+        Collections.sort(actual, Collections.reverseOrder());
+        Assertions.assertEquals(expected.subList(0, size + 1), actual);
+    }
+
+    @Test
+    public void testSelectReadsWithoutCopy() {
+        final ConcurrentPopulation<String> population = new ConcurrentPopulation<>(3);
+        population.addChromosome(newChromosome(1));
+        population.addChromosome(newChromosome(2));
+        final List<List<Chromosome<String>>> views = new ArrayList<>();
+        population.select(p -> {
+            views.add(population.getChromosomes());
+            return new ChromosomePair<>(population.getChromosomes().get(0), population.getChromosomes().get(1));
+        });
+        population.addChromosome(newChromosome(3));
+
+        // the view handed out during the selection reflects later changes.
+        Assertions.assertEquals(3, views.get(0).size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> views.get(0).add(newChromosome(4)));
+    }
+
+    private Chromosome<String> newChromosome(double fitness) {
+        return new AbstractChromosome<String>(c -> fitness, c -> "") {
+        };
+    }
+
+}
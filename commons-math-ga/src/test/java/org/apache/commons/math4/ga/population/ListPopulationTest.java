@@ -199,4 +199,24 @@ public class ListPopulationTest {
         Assertions.assertEquals(1, population.nextGeneration(.4).getPopulationSize());
         Assertions.assertEquals(0, population.nextGeneration(.1).getPopulationSize());
     }
+
+    @Test
+    public void testNextGenerationKeepsFittest() {
+        final double[] fitness = new double[] {7, 3, 9, 1, 5, 8, 2, 6, 4, 0};
+        final ArrayList<Chromosome<String>> chromosomes = new ArrayList<>();
+        for (double value : fitness) {
+            chromosomes.add(new AbstractChromosome<String>(chromosome -> value, chromosome -> "0") {
+            });
+        }
+        final ListPopulation<String> population = new ListPopulation<>(chromosomes, fitness.length);
+
+        final ListPopulation<String> nextGeneration = (ListPopulation<String>) population.nextGeneration(.3);
+        Assertions.assertEquals(3, nextGeneration.getPopulationSize());
+        Assertions.assertEquals(7, nextGeneration.getChromosomes().get(0).evaluate(), .0);
+        Assertions.assertEquals(8, nextGeneration.getChromosomes().get(1).evaluate(), .0);
+        Assertions.assertEquals(9, nextGeneration.getChromosomes().get(2).evaluate(), .0);
+
+        // the parent population is left unchanged.
+        Assertions.assertEquals(chromosomes, population.getChromosomes());
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.selection;
+
+import java.util.List;
+
+import org.apache.commons.math4.ga.GeneticAlgorithm;
+import org.apache.commons.math4.ga.chromosome.BinaryChromosome;
+import org.apache.commons.math4.ga.chromosome.Chromosome;
+import org.apache.commons.math4.ga.convergence.FixedGenerationCount;
+import org.apache.commons.math4.ga.crossover.OnePointBinaryCrossover;
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.apache.commons.math4.ga.listener.ConvergenceListenerRegistry;
+import org.apache.commons.math4.ga.mutation.BinaryMutation;
+import org.apache.commons.math4.ga.population.ListPopulation;
+import org.apache.commons.math4.ga.population.Population;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IndexTournamentSelectionTest {
+
+    @Test
+    public void testSelect() {
+        final IndexTournamentSelection<String> ts = new IndexTournamentSelection<>(2);
+        Assertions.assertEquals(2, ts.getArity());
+
+        final double[] fitness = new double[100];
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = i;
+        }
+        final int[] parents = ts.select(fitness, 1000);
+        Assertions.assertEquals(1000, parents.length);
+        for (int parent : parents) {
+            // the worst individual should NEVER be selected
+            Assertions.assertTrue(parent > 0 && parent < fitness.length);
+        }
+    }
+
+    @Test
+    public void testFullTournamentSelectsBest() {
+        final double[] fitness = {3, 1, 7, 7, 2};
+        for (int parent : new IndexTournamentSelection<String>(fitness.length).select(fitness, 50)) {
+            Assertions.assertEquals(7, fitness[parent], 0);
+        }
+    }
+
+    @Test
+    public void testSelectFromPopulation() {
+        final ListPopulation<String> population = new ListPopulation<>(10);
+        for (int i = 0; i < population.getPopulationLimit(); i++) {
+            final int fitness = i;
+            population.addChromosome(BinaryChromosome.randomChromosome(4, c -> fitness, c -> "0"));
+        }
+        final List<Chromosome<String>> parents = new IndexTournamentSelection<String>(10).select(population, 4);
+        Assertions.assertEquals(4, parents.size());
+        for (Chromosome<String> parent : parents) {
+            Assertions.assertEquals(9, parent.evaluate(), 0);
+        }
+        Assertions.assertEquals(9, new IndexTournamentSelection<String>(10).select(population).getSecond().evaluate(),
+                0);
+    }
+
+    @Test
+    public void testGeneticAlgorithm() {
+        final Population<String> initial = new ListPopulation<>(30);
+        for (int i = 0; i < initial.getPopulationLimit(); i++) {
+            initial.addChromosome(BinaryChromosome.randomChromosome(40,
+                c -> c.replace("0", "").length(),
+                c -> ((BinaryChromosome<String>) c).getStringRepresentation()));
+        }
+        final GeneticAlgorithm<String> ga = new GeneticAlgorithm<>(new OnePointBinaryCrossover<>(), 1,
+                new BinaryMutation<>(), 0.1, new IndexTournamentSelection<>(2), .2);
+        ga.setConvergenceListenerRegistry(new ConvergenceListenerRegistry<>());
+        final Population<String> last = ga.evolve(initial, new FixedGenerationCount<>(5));
+        Assertions.assertEquals(30, last.getPopulationSize());
+    }
+
+    @Test
+    public void testInvalidArity() {
+        Assertions.assertThrows(GeneticException.class, () -> new IndexTournamentSelection<String>(0));
+        Assertions.assertThrows(GeneticException.class,
+            () -> new IndexTournamentSelection<String>(3).select(new double[] {1, 2}, 1));
+    }
+
+    @Test
+    public void testEmptyFitness() {
+        Assertions.assertThrows(GeneticException.class,
+            () -> new IndexTournamentSelection<String>(1).select(new double[0], 1));
+        Assertions.assertThrows(GeneticException.class,
+            () -> new IndexTournamentSelection<String>(1).select(new double[] {1}, -1));
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.selection;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LinearRankingSelectionTest {
+
+    @Test
+    public void testSelectionPressure() {
+        final double[] fitness = {-5, 10, 0, 3};
+        final int[] counts = count(new LinearRankingSelection<String>(2).select(fitness, 40000), fitness.length);
+        // expected proportions by rank are 0, 1/6, 2/6 and 3/6
+        Assertions.assertEquals(0, counts[0]);
+        Assertions.assertEquals(0.5, counts[1] / 40000.0, 0.02);
+        Assertions.assertEquals(1 / 6.0, counts[2] / 40000.0, 0.02);
+        Assertions.assertEquals(2 / 6.0, counts[3] / 40000.0, 0.02);
+    }
+
+    @Test
+    public void testUniform() {
+        final double[] fitness = {1, 2, 3, 4};
+        final int[] counts = count(new LinearRankingSelection<String>(1).select(fitness, 40000), fitness.length);
+        for (int c : counts) {
+            Assertions.assertEquals(0.25, c / 40000.0, 0.02);
+        }
+    }
+
+    @Test
+    public void testSingleIndividual() {
+        for (int parent : new LinearRankingSelection<String>(1.5).select(new double[] {4}, 10)) {
+            Assertions.assertEquals(0, parent);
+        }
+    }
+
+    @Test
+    public void testInvalidSelectionPressure() {
+        Assertions.assertEquals(1.5, new LinearRankingSelection<String>(1.5).getSelectionPressure(), 0);
+        Assertions.assertThrows(GeneticException.class, () -> new LinearRankingSelection<String>(0.9));
+        Assertions.assertThrows(GeneticException.class, () -> new LinearRankingSelection<String>(2.1));
+    }
+
+    private static int[] count(int[] parents, int size) {
+        final int[] counts = new int[size];
+        for (int parent : parents) {
+            counts[parent]++;
+        }
+        return counts;
+    }
+
+}
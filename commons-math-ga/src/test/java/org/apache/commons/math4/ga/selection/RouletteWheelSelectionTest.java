@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.selection;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RouletteWheelSelectionTest {
+
+    @Test
+    public void testProportions() {
+        final double[] fitness = {1, 0, 5, 2, 0, 2};
+        final int draws = 50000;
+        final int[] counts = new int[fitness.length];
+        for (int parent : new RouletteWheelSelection<String>().select(fitness, draws)) {
+            counts[parent]++;
+        }
+        for (int i = 0; i < fitness.length; i++) {
+            Assertions.assertEquals(fitness[i] / 10, counts[i] / (double) draws, 0.01);
+        }
+        // individuals with zero fitness are never selected
+        Assertions.assertEquals(0, counts[1]);
+        Assertions.assertEquals(0, counts[4]);
+    }
+
+    @Test
+    public void testAllZero() {
+        final int draws = 40000;
+        final int[] counts = new int[4];
+        final int[] parents = new int[draws];
+        new RouletteWheelSelection<String>().select(new double[4], parents);
+        for (int parent : parents) {
+            counts[parent]++;
+        }
+        for (int c : counts) {
+            Assertions.assertEquals(0.25, c / (double) draws, 0.02);
+        }
+    }
+
+    @Test
+    public void testInvalidFitness() {
+        Assertions.assertThrows(GeneticException.class,
+            () -> new RouletteWheelSelection<String>().select(new double[] {1, -1}, 2));
+        Assertions.assertThrows(GeneticException.class,
+            () -> new RouletteWheelSelection<String>().select(new double[] {1, Double.POSITIVE_INFINITY}, 2));
+        Assertions.assertThrows(GeneticException.class,
+            () -> new RouletteWheelSelection<String>().select(new double[0], 2));
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math4.ga.selection;
+
+import org.apache.commons.math4.ga.internal.exception.GeneticException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StochasticUniversalSamplingTest {
+
+    @Test
+    public void testMinimumSpread() {
+        final double[] fitness = {1, 0, 2.5, 4, 0.5, 2};
+        final double total = 10;
+        final StochasticUniversalSampling<String> sus = new StochasticUniversalSampling<>();
+        for (int run = 0; run < 100; run++) {
+            final int count = 7 + run % 5;
+            final int[] counts = new int[fitness.length];
+            for (int parent : sus.select(fitness, count)) {
+                counts[parent]++;
+            }
+            // every individual is selected the floor or the ceiling of its expected number of times
+            for (int i = 0; i < fitness.length; i++) {
+                final double expected = fitness[i] * count / total;
+                Assertions.assertTrue(counts[i] >= Math.floor(expected) && counts[i] <= Math.ceil(expected));
+            }
+        }
+    }
+
+    @Test
+    public void testAllZero() {
+        final int[] counts = new int[4];
+        for (int parent : new StochasticUniversalSampling<String>().select(new double[4], 8)) {
+            counts[parent]++;
+        }
+        Assertions.assertArrayEquals(new int[] {2, 2, 2, 2}, counts);
+    }
+
+    @Test
+    public void testNegativeFitness() {
+        Assertions.assertThrows(GeneticException.class,
+            () -> new StochasticUniversalSampling<String>().select(new double[] {1, -1}, 2));
+        Assertions.assertThrows(GeneticException.class,
+            () -> new StochasticUniversalSampling<String>().select(new double[] {1, Double.NaN}, 2));
+    }
+
+}
@@ -29,4 +29,27 @@ public interface FeatureInitializer {
      * @return the initial value.
      */
     double value();
+
+    /**
+     * Selects the initial values of a sequence of neurons.
+     * Calling this method is equivalent to calling {@link #value()}
+     * {@code count} times, and storing the results at indices
+     * {@code offset}, {@code offset + stride}, {@code offset + 2 * stride},
+     * etc. of {@code dest}.
+     *
+     * @param dest Destination (e.g. the features of several neurons
+     * stored contiguously).
+     * @param offset Index of the first value.
+     * @param stride Distance between two successive values.
+     * @param count Number of values.
+     * @since 4.0
+     */
+    default void fill(double[] dest,
+                      int offset,
+                      int stride,
+                      int count) {
+        for (int i = 0, index = offset; i < count; i++, index += stride) {
+            dest[index] = value();
+        }
+    }
 }
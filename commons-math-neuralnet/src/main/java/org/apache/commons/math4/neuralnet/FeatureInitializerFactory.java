@@ -74,6 +74,20 @@ public final class FeatureInitializerFactory {
                 arg += inc;
                 return result;
             }
+
+            /** {@inheritDoc} */
+            @Override
+            public void fill(double[] dest,
+                             int offset,
+                             int stride,
+                             int count) {
+                double x = arg;
+                for (int i = 0, index = offset; i < count; i++, index += stride) {
+                    dest[index] = f.applyAsDouble(x);
+                    x += inc;
+                }
+                arg = x;
+            }
         };
     }
 
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet;
+
+import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
+
+/**
+ * Storage of the features of the neurons of a {@link Network} in
+ * contiguous blocks of memory.
+ * Each neuron owns one row of a block: Rows are never moved, and
+ * the rows of deleted neurons are not reused.
+ * <br>
+ * Class is package-private: Neurons are
+ * {@link Network#createNeuron(double[]) created} by the network.
+ *
+ * @since 4.0
+ */
+final class FeatureMatrix {
+    /**
+     * Number of rows of the blocks allocated for the neurons created after
+     * a network has been copied or restored (the neurons that exist at that
+     * time are stored in a block of their own).
+     */
+    static final int GROWTH_BLOCK_SIZE = 64;
+    /** Per-thread buffer for reading a row without allocation. */
+    private static final ThreadLocal<double[]> BUFFER = ThreadLocal.withInitial(() -> new double[0]);
+    /** Number of features (i.e. length of a row). */
+    private final int featureSize;
+    /** Number of rows in each block. */
+    private final int blockSize;
+    /** Block currently being filled. */
+    private double[] block;
+    /** Next free row in {@link #block}. */
+    private int nextRow;
+
+    /**
+     * @param featureSize Number of features.
+     * @param blockSize Number of rows in each block.
+     * @throws IllegalArgumentException if {@code blockSize <= 0} or
+     * if the block would be too large to be allocated.
+     */
+    FeatureMatrix(int featureSize,
+                  int blockSize) {
+        if (blockSize <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE,
+                                         blockSize);
+        }
+        final long length = (long) featureSize * blockSize;
+        if (length > Integer.MAX_VALUE) {
+            throw new NeuralNetException(NeuralNetException.TOO_LARGE,
+                                         length, Integer.MAX_VALUE);
+        }
+
+        this.featureSize = featureSize;
+        this.blockSize = blockSize;
+        nextRow = blockSize;
+    }
+
+    /**
+     * Gets a buffer private to the calling thread.
+     * The same array is returned by successive calls (with the same
+     * {@code size}) from the same thread.
+     *
+     * @param size Length of the buffer.
+     * @return a buffer of length {@code size}.
+     */
+    static double[] buffer(int size) {
+        double[] b = BUFFER.get();
+        if (b.length != size) {
+            b = new double[size];
+            BUFFER.set(b);
+        }
+        return b;
+    }
+
+    /**
+     * Gets the number of rows in each block.
+     *
+     * @return the block size.
+     */
+    int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Allocates a block that is not managed by a matrix (i.e. that is
+     * dedicated to the given number of rows).
+     *
+     * @param featureSize Number of features.
+     * @param rows Number of rows.
+     * @return a new block.
+     * @throws IllegalArgumentException if the block would be too large
+     * to be allocated.
+     */
+    static double[] newBlock(int featureSize,
+                             int rows) {
+        final long length = (long) featureSize * rows;
+        if (length > Integer.MAX_VALUE) {
+            throw new NeuralNetException(NeuralNetException.TOO_LARGE,
+                                         length, Integer.MAX_VALUE);
+        }
+        return new double[(int) length];
+    }
+
+    /**
+     * Creates a neuron whose features are stored in the next free row.
+     * A new block is allocated when the current one is full.
+     *
+     * @param id Identifier.
+     * @param features Initial values of the feature set.
+     * @return a new neuron.
+     * @throws IllegalArgumentException if the length of {@code features}
+     * is not the number of features.
+     */
+    synchronized Neuron createNeuron(long id,
+                                     double[] features) {
+        if (features.length != featureSize) {
+            throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
+                                         features.length, featureSize);
+        }
+        if (nextRow == blockSize) {
+            block = new double[featureSize * blockSize];
+            nextRow = 0;
+        }
+
+        final Neuron n = new Neuron(id, features, block, nextRow * featureSize);
+        ++nextRow;
+        return n;
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet;
+
+import java.util.Arrays;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
+
+/**
+ * Indicators of the quality of the representation of a data set by a
+ * network:
+ * <ul>
+ *  <li>hit histogram,</li>
+ *  <li>quantization error (global and per neuron),</li>
+ *  <li>topographic error (global and per neuron).</li>
+ * </ul>
+ * All the indicators are computed in a single pass over the data.
+ *
+ * @see MapUtils#evaluate(Iterable,Network,DistanceMeasure)
+ * @since 4.0
+ */
+public final class MapEvaluation {
+    /** Identifiers of the neurons (in increasing order). */
+    private final long[] identifiers;
+    /** Number of samples. */
+    private final long numberOfSamples;
+    /** Number of samples for which each neuron is the best matching unit. */
+    private final long[] hits;
+    /** Sum of the distances between each neuron and the samples it best matches. */
+    private final double[] errors;
+    /** Number of samples, per best matching unit, whose second best matching unit is not adjacent. */
+    private final long[] notAdjacent;
+
+    /**
+     * @param identifiers Identifiers of the neurons.
+     * @param acc Accumulated values.
+     */
+    private MapEvaluation(long[] identifiers,
+                          Accumulator acc) {
+        this.identifiers = identifiers;
+        hits = acc.hits;
+        errors = acc.errors;
+        notAdjacent = acc.notAdjacent;
+        numberOfSamples = Arrays.stream(hits).sum();
+    }
+
+    /**
+     * Computes the indicators.
+     * The data is split (according to its {@link Iterable#spliterator()
+     * spliterator}) into chunks that are processed in parallel, each
+     * worker thread accumulating its own partial results.
+     *
+     * @param data Data.
+     * @param net Network.
+     * @param distance Distance function.
+     * @return the indicators.
+     * @throws IllegalArgumentException if the network is empty, or if the
+     * size of a sample is not compatible with the neurons features size.
+     */
+    static MapEvaluation from(Iterable<double[]> data,
+                              Network net,
+                              DistanceMeasure distance) {
+        final NeighbourhoodIndex index = new NeighbourhoodIndex(net);
+        final int size = index.size();
+        if (size == 0) {
+            throw new NeuralNetException(NeuralNetException.NO_DATA);
+        }
+
+        final Neuron[] neurons = new Neuron[size];
+        final long[] identifiers = new long[size];
+        for (int i = 0; i < size; i++) {
+            neurons[i] = index.getNeuron(i);
+            identifiers[i] = neurons[i].getIdentifier();
+        }
+        final int featureSize = net.getFeaturesSize();
+
+        final Accumulator acc = StreamSupport.stream(data.spliterator(), true)
+            .collect(() -> new Accumulator(neurons, index, distance, featureSize),
+                     Accumulator::accept,
+                     Accumulator::combine);
+        return new MapEvaluation(identifiers, acc);
+    }
+
+    /**
+     * Gets the number of samples.
+     *
+     * @return the number of samples.
+     */
+    public long getNumberOfSamples() {
+        return numberOfSamples;
+    }
+
+    /**
+     * Gets the quantization error, i.e. the average distance between
+     * a sample and its best matching unit.
+     *
+     * @return the quantization error, or {@code NaN} if there was no data.
+     */
+    public double getQuantizationError() {
+        return Arrays.stream(errors).sum() / numberOfSamples;
+    }
+
+    /**
+     * Gets the topographic error, i.e. the proportion of samples whose
+     * first and second best matching units are not adjacent.
+     *
+     * @return the topographic error, or {@code NaN} if there was no data.
+     */
+    public double getTopographicError() {
+        return Arrays.stream(notAdjacent).sum() / (double) numberOfSamples;
+    }
+
+    /**
+     * Gets the number of samples for which the given neuron is the best
+     * matching unit.
+     *
+     * @param neuron Neuron.
+     * @return the number of hits.
+     * @throws IllegalArgumentException if {@code neuron} was not part
+     * of the evaluated network.
+     */
+    public long getHits(Neuron neuron) {
+        return hits[indexOf(neuron)];
+    }
+
+    /**
+     * Gets the average distance between the given neuron and the samples
+     * for which it is the best matching unit.
+     *
+     * @param neuron Neuron.
+     * @return the quantization error of {@code neuron}, or zero if it is
+     * the best matching unit of no sample.
+     * @throws IllegalArgumentException if {@code neuron} was not part
+     * of the evaluated network.
+     */
+    public double getQuantizationError(Neuron neuron) {
+        final int i = indexOf(neuron);
+        return hits[i] == 0 ? 0 : errors[i] / hits[i];
+    }
+
+    /**
+     * Gets the proportion of the samples, among those for which the given
+     * neuron is the best matching unit, whose second best matching unit
+     * is not adjacent to it.
+     *
+     * @param neuron Neuron.
+     * @return the topographic error of {@code neuron}, or zero if it is
+     * the best matching unit of no sample.
+     * @throws IllegalArgumentException if {@code neuron} was not part
+     * of the evaluated network.
+     */
+    public double getTopographicError(Neuron neuron) {
+        final int i = indexOf(neuron);
+        return hits[i] == 0 ? 0 : notAdjacent[i] / (double) hits[i];
+    }
+
+    /**
+     * @param neuron Neuron.
+     * @return the index of the neuron.
+     * @throws IllegalArgumentException if {@code neuron} was not part
+     * of the evaluated network.
+     */
+    private int indexOf(Neuron neuron) {
+        final long id = neuron.getIdentifier();
+        final int i = Arrays.binarySearch(identifiers, id);
+        if (i < 0) {
+            throw new NeuralNetException(NeuralNetException.OUT_OF_RANGE,
+                                         id, identifiers[0], identifiers[identifiers.length - 1]);
+        }
+        return i;
+    }
+
+    /**
+     * Partial results (computed by a single thread).
+     */
+    private static final class Accumulator {
+        /** Neurons. */
+        private final Neuron[] neurons;
+        /** Neighbourhoods. */
+        private final NeighbourhoodIndex index;
+        /** Distance function. */
+        private final DistanceMeasure distance;
+        /** Buffer for reading the features. */
+        private final double[] buffer;
+        /** Hits. */
+        private final long[] hits;
+        /** Quantization errors. */
+        private final double[] errors;
+        /** Topographic errors. */
+        private final long[] notAdjacent;
+
+        /**
+         * @param neurons Neurons.
+         * @param index Neighbourhoods.
+         * @param distance Distance function.
+         * @param featureSize Number of features.
+         */
+        Accumulator(Neuron[] neurons,
+                    NeighbourhoodIndex index,
+                    DistanceMeasure distance,
+                    int featureSize) {
+            this.neurons = neurons;
+            this.index = index;
+            this.distance = distance;
+            buffer = new double[featureSize];
+            hits = new long[neurons.length];
+            errors = new double[neurons.length];
+            notAdjacent = new long[neurons.length];
+        }
+
+        /**
+         * Adds a sample.
+         *
+         * @param sample Sample.
+         */
+        void accept(double[] sample) {
+            // Search the two best matching units.
+            int best = -1;
+            double bestDistance = Double.POSITIVE_INFINITY;
+            int second = -1;
+            double secondDistance = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < neurons.length; i++) {
+                final double d = neurons[i].distance(distance, sample, buffer);
+                if (best < 0 ||
+                    Double.compare(d, bestDistance) < 0) {
+                    second = best;
+                    secondDistance = bestDistance;
+                    best = i;
+                    bestDistance = d;
+                } else if (second < 0 ||
+                           Double.compare(d, secondDistance) < 0) {
+                    second = i;
+                    secondDistance = d;
+                }
+            }
+
+            ++hits[best];
+            errors[best] += bestDistance;
+            if (second >= 0 &&
+                Arrays.binarySearch(index.getRing(best, 1), second) < 0) {
+                // First and second best matching units are not neighbours.
+                ++notAdjacent[best];
+            }
+        }
+
+        /**
+         * Adds the partial results of another accumulator.
+         *
+         * @param other Accumulator.
+         */
+        void combine(Accumulator other) {
+            for (int i = 0; i < hits.length; i++) {
+                hits[i] += other.hits[i];
+                errors[i] += other.errors[i];
+                notAdjacent[i] += other.notAdjacent[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,468 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
+
+/**
+ * Approximate search of the units (neurons) of a network that best
+ * match a given input.
+ * <br>
+ * The search is performed in a <a href="https://en.wikipedia.org/wiki/K-d_tree">
+ * k-d tree</a> built from a snapshot of the features of the neurons.
+ * Leaves are visited in increasing order of their lower bound distance
+ * to the input ("best bin first"), and the search stops when no other
+ * leaf can contain a better unit, or when the features of
+ * {@code maxChecks} units have been compared to the input.
+ * Hence, the cost of a query is bounded independently of the size of
+ * the map; when {@code maxChecks} is not smaller than the number of
+ * neurons, the search is exact (with respect to the snapshot).
+ * <br>
+ * Since the features of the neurons evolve during training, the
+ * snapshot is automatically refreshed every {@code refreshInterval}
+ * queries (it can also be {@link #refresh() refreshed} explicitly).
+ * In-between, distances are computed from the recorded features.
+ * The set of neurons is the one passed to the constructor: A new
+ * instance must be created when neurons are added to (or removed from)
+ * the network.
+ * <br>
+ * The pruning of the tree relies on the distance between two vectors
+ * being not smaller than the absolute difference of any of their
+ * coordinates; this is true of the usual distances (e.g. the
+ * {@link EuclideanDistance Euclidean distance}).
+ * <br>
+ * This class is thread-safe.
+ *
+ * @see MapRanking
+ * @since 4.0
+ */
+public class MapIndex {
+    /** Maximum number of units in a leaf of the tree. */
+    private static final int LEAF_SIZE = 8;
+    /** Per-thread queue of the nodes to be visited. */
+    private static final ThreadLocal<Queue> QUEUE = ThreadLocal.withInitial(Queue::new);
+    /** Units to be searched. */
+    private final List<Neuron> map = new ArrayList<>();
+    /** Distance function. */
+    private final DistanceMeasure distance;
+    /** Maximum number of distance computations per query. */
+    private final int maxChecks;
+    /** Number of queries between automatic refreshes. */
+    private final long refreshInterval;
+    /** Number of queries. */
+    private final AtomicLong numberOfQueries = new AtomicLong(0);
+    /** Current snapshot. */
+    private volatile Tree tree;
+
+    /**
+     * @param neurons Units to be searched.
+     * No defensive copy is performed.
+     * @param distance Distance function.
+     * @param maxChecks Maximum number of units whose features are
+     * compared to the input, in a single query.
+     * @param refreshInterval Number of queries after which the snapshot
+     * of the neurons' features is refreshed.
+     * @throws IllegalArgumentException if {@code maxChecks <= 0} or
+     * {@code refreshInterval <= 0}.
+     */
+    public MapIndex(Iterable<Neuron> neurons,
+                    DistanceMeasure distance,
+                    int maxChecks,
+                    long refreshInterval) {
+        if (maxChecks <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, maxChecks);
+        }
+        if (refreshInterval <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, refreshInterval);
+        }
+
+        this.distance = distance;
+        this.maxChecks = maxChecks;
+        this.refreshInterval = refreshInterval;
+
+        for (final Neuron n : neurons) {
+            map.add(n); // No defensive copy.
+        }
+
+        refresh();
+    }
+
+    /**
+     * Rebuilds the index from the current features of the neurons.
+     * Concurrent queries use the previous snapshot until the new one
+     * is complete.
+     */
+    public synchronized void refresh() {
+        tree = new Tree(map);
+    }
+
+    /**
+     * Retrieves the neuron whose features (approximately) best correspond
+     * to the given {@code features}.
+     *
+     * @param features Data.
+     * @return the best matching unit.
+     * @throws IllegalArgumentException if the size of the input is not
+     * compatible with the neurons features size, or if there are no
+     * neurons.
+     */
+    public Neuron best(double[] features) {
+        final List<Neuron> best = rank(features, 1);
+        if (best.isEmpty()) {
+            throw new NeuralNetException(NeuralNetException.NO_DATA);
+        }
+        return best.get(0);
+    }
+
+    /**
+     * Creates a list of the neurons whose features (approximately) best
+     * correspond to the given {@code features}.
+     *
+     * @param features Data.
+     * @param max Maximum size of the returned list.
+     * @return the list of neurons sorted in increasing order of distance
+     * to the given data.
+     * @throws IllegalArgumentException if the size of the input is not
+     * compatible with the neurons features size or {@code max <= 0}.
+     */
+    public List<Neuron> rank(double[] features,
+                             int max) {
+        if (max <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, max);
+        }
+
+        if (numberOfQueries.incrementAndGet() % refreshInterval == 0) {
+            refresh();
+        }
+
+        final Tree current = tree;
+        final List<Neuron> result = new ArrayList<>();
+        for (final int i : current.search(features, max, maxChecks, distance)) {
+            result.add(map.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Snapshot of the features, organized as a k-d tree.
+     * Nodes are stored in parallel arrays; the units of a node are those
+     * whose index is stored in the {@code [lo, hi)} range of {@link #perm}.
+     */
+    private static final class Tree {
+        /** Features (indexed as in {@link MapIndex#map}). */
+        private final double[][] points;
+        /** Permutation of the units' indices. */
+        private final int[] perm;
+        /** Split dimension ({@code -1} for leaves). */
+        private final int[] splitDim;
+        /** Split value. */
+        private final double[] splitValue;
+        /** First position (in {@link #perm}) of the node's units. */
+        private final int[] lo;
+        /** Last position (excluded) of the node's units. */
+        private final int[] hi;
+        /** Left child (units whose coordinate is not larger than the split value). */
+        private final int[] left;
+        /** Right child (units whose coordinate is not smaller than the split value). */
+        private final int[] right;
+        /** Number of nodes. */
+        private int numNodes;
+
+        /**
+         * @param map Units.
+         */
+        Tree(List<Neuron> map) {
+            final int n = map.size();
+            points = new double[n][];
+            perm = new int[n];
+            for (int i = 0; i < n; i++) {
+                points[i] = map.get(i).getFeatures();
+                perm[i] = i;
+            }
+
+            final int capacity = 2 * n + 1;
+            splitDim = new int[capacity];
+            splitValue = new double[capacity];
+            lo = new int[capacity];
+            hi = new int[capacity];
+            left = new int[capacity];
+            right = new int[capacity];
+
+            build(0, n);
+        }
+
+        /**
+         * Searches the units closest to the given input.
+         *
+         * @param x Input.
+         * @param k Maximum number of units.
+         * @param maxChecks Maximum number of distance computations.
+         * @param distance Distance function.
+         * @return the indices of the units, in increasing order of
+         * distance to the input.
+         * @throws IllegalArgumentException if the size of the input is
+         * not compatible with the neurons features size.
+         */
+        int[] search(double[] x,
+                     int k,
+                     int maxChecks,
+                     DistanceMeasure distance) {
+            final int n = points.length;
+            if (n == 0) {
+                return new int[0];
+            }
+            if (x.length != points[0].length) {
+                throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
+                                             x.length, points[0].length);
+            }
+
+            final RankingHeap heap = new RankingHeap(Math.min(k, n));
+            // Nodes to be visited, ordered by increasing lower bound.
+            final Queue queue = QUEUE.get();
+            queue.ensureCapacity(numNodes);
+            final int[] queueNode = queue.node;
+            final double[] queueBound = queue.bound;
+            queueNode[0] = 0;
+            queueBound[0] = 0;
+            int queueSize = 1;
+            int checks = 0;
+
+            while (queueSize > 0) {
+                int node = queueNode[0];
+                final double bound = queueBound[0];
+                --queueSize;
+                siftDown(queueNode, queueBound, queueSize,
+                         queueNode[queueSize], queueBound[queueSize]);
+
+                if (bound > heap.worst() ||
+                    checks >= maxChecks && heap.isFull()) {
+                    break;
+                }
+
+                // Descend to the leaf containing the input, and record
+                // the branches that are not taken.
+                while (splitDim[node] >= 0) {
+                    final double diff = x[splitDim[node]] - splitValue[node];
+                    final int far;
+                    if (diff < 0) {
+                        far = right[node];
+                        node = left[node];
+                    } else {
+                        far = left[node];
+                        node = right[node];
+                    }
+                    siftUp(queueNode, queueBound, queueSize++,
+                           far, Math.max(bound, Math.abs(diff)));
+                }
+
+                for (int p = lo[node]; p < hi[node]; p++) {
+                    final int i = perm[p];
+                    heap.offer(i, distance.applyAsDouble(points[i], x));
+                    ++checks;
+                }
+            }
+
+            return heap.drainSorted();
+        }
+
+        /**
+         * Builds the subtree of the units whose index is stored in the
+         * given range of {@link #perm}.
+         *
+         * @param from First position.
+         * @param to Last position (excluded).
+         * @return the index of the root of the subtree.
+         */
+        private int build(int from,
+                          int to) {
+            final int node = numNodes++;
+            lo[node] = from;
+            hi[node] = to;
+            splitDim[node] = -1;
+            if (to - from <= LEAF_SIZE) {
+                return node;
+            }
+
+            // Split along the dimension with the largest spread.
+            final int dim = points[perm[from]].length;
+            int bestDim = -1;
+            double bestSpread = 0;
+            for (int d = 0; d < dim; d++) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int p = from; p < to; p++) {
+                    final double v = points[perm[p]][d];
+                    min = Math.min(min, v);
+                    max = Math.max(max, v);
+                }
+                if (max - min > bestSpread) {
+                    bestSpread = max - min;
+                    bestDim = d;
+                }
+            }
+            if (bestDim < 0) {
+                // All units are identical.
+                return node;
+            }
+
+            final int mid = (from + to) >>> 1;
+            select(from, to, mid, bestDim);
+            splitDim[node] = bestDim;
+            splitValue[node] = points[perm[mid]][bestDim];
+            left[node] = build(from, mid);
+            right[node] = build(mid, to);
+            return node;
+        }
+
+        /**
+         * Partially sorts the given range of {@link #perm}, so that the
+         * unit at position {@code k} has the coordinate that it would have
+         * if the range were sorted.
+         *
+         * @param from First position.
+         * @param to Last position (excluded).
+         * @param k Position.
+         * @param d Dimension.
+         */
+        private void select(int from,
+                            int to,
+                            int k,
+                            int d) {
+            int l = from;
+            int r = to - 1;
+            while (r > l) {
+                final double pivot = points[perm[(l + r) >>> 1]][d];
+                int i = l;
+                int j = r;
+                while (i <= j) {
+                    while (points[perm[i]][d] < pivot) {
+                        ++i;
+                    }
+                    while (points[perm[j]][d] > pivot) {
+                        --j;
+                    }
+                    if (i <= j) {
+                        final int tmp = perm[i];
+                        perm[i] = perm[j];
+                        perm[j] = tmp;
+                        ++i;
+                        --j;
+                    }
+                }
+                if (k <= j) {
+                    r = j;
+                } else if (k >= i) {
+                    l = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Inserts a node in the queue (binary min-heap).
+         *
+         * @param node Queue nodes.
+         * @param bound Queue bounds.
+         * @param size Current size of the queue.
+         * @param n Node to insert.
+         * @param b Its bound.
+         */
+        private static void siftUp(int[] node,
+                                   double[] bound,
+                                   int size,
+                                   int n,
+                                   double b) {
+            int k = size;
+            while (k > 0) {
+                final int parent = (k - 1) >>> 1;
+                if (bound[parent] <= b) {
+                    break;
+                }
+                node[k] = node[parent];
+                bound[k] = bound[parent];
+                k = parent;
+            }
+            node[k] = n;
+            bound[k] = b;
+        }
+
+        /**
+         * Moves a node from the root of the queue (binary min-heap) down
+         * to its position.
+         *
+         * @param node Queue nodes.
+         * @param bound Queue bounds.
+         * @param size Current size of the queue.
+         * @param n Node to move.
+         * @param b Its bound.
+         */
+        private static void siftDown(int[] node,
+                                     double[] bound,
+                                     int size,
+                                     int n,
+                                     double b) {
+            int k = 0;
+            while (true) {
+                int child = 2 * k + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size &&
+                    bound[child + 1] < bound[child]) {
+                    ++child;
+                }
+                if (b <= bound[child]) {
+                    break;
+                }
+                node[k] = node[child];
+                bound[k] = bound[child];
+                k = child;
+            }
+            node[k] = n;
+            bound[k] = b;
+        }
+    }
+
+    /**
+     * Storage of the queue used by {@link Tree#search(double[],int,int,DistanceMeasure)
+     * searches}, reused by successive queries from the same thread.
+     */
+    private static final class Queue {
+        /** Nodes. */
+        private int[] node = new int[0];
+        /** Lower bounds of the distance to the units of the nodes. */
+        private double[] bound = new double[0];
+
+        /**
+         * Reallocates the storage if it cannot hold the given number of nodes.
+         *
+         * @param size Number of nodes.
+         */
+        void ensureCapacity(int size) {
+            if (node.length < size) {
+                node = new int[size];
+                bound = new double[size];
+            }
+        }
+    }
+}
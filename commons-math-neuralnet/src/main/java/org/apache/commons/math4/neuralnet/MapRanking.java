@@ -19,8 +19,6 @@ package org.apache.commons.math4.neuralnet;
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 
 import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
 
@@ -68,6 +66,8 @@ public class MapRanking {
     /**
      * Creates a list of the neurons whose features best correspond to the
      * given {@code features}.
+     * Only the {@code max} best units are retained while scanning the
+     * map (in a bounded heap).
      *
      * @param features Data.
      * @param max Maximum size of the returned list.
@@ -84,69 +84,53 @@ public class MapRanking {
         final int m = max <= map.size() ?
             max :
             map.size();
-        final List<PairNeuronDouble> list = new ArrayList<>(m);
+        final RankingHeap heap = new RankingHeap(m);
+        final double[] buffer = FeatureMatrix.buffer(features.length);
 
-        for (final Neuron n : map) {
-            final double d = distance.applyAsDouble(n.getFeatures(), features);
-            final PairNeuronDouble p = new PairNeuronDouble(n, d);
-
-            if (list.size() < m) {
-                list.add(p);
-                if (list.size() > 1) {
-                    // Sort if there is more than 1 element.
-                    Collections.sort(list, PairNeuronDouble.COMPARATOR);
-                }
-            } else {
-                final int last = list.size() - 1;
-                if (PairNeuronDouble.COMPARATOR.compare(p, list.get(last)) < 0) {
-                    list.set(last, p); // Replace worst entry.
-                    if (last > 0) {
-                        // Sort if there is more than 1 element.
-                        Collections.sort(list, PairNeuronDouble.COMPARATOR);
-                    }
-                }
-            }
+        for (int i = 0; i < map.size(); i++) {
+            heap.offer(i, map.get(i).distance(distance, features, buffer));
         }
 
         final List<Neuron> result = new ArrayList<>(m);
-        for (final PairNeuronDouble p : list) {
-            result.add(p.getNeuron());
+        for (final int i : heap.drainSorted()) {
+            result.add(map.get(i));
         }
 
         return result;
     }
 
     /**
-     * Helper data structure holding a (Neuron, double) pair.
+     * Retrieves the neuron whose features best correspond to the given
+     * {@code features}.
+     * This method does not allocate memory (apart from the buffer used
+     * to read features stored in a shared block, which is allocated once
+     * per thread).
+     * In case of ties, the first neuron (in the order of the list passed
+     * to the constructor) is returned.
+     *
+     * @param features Data.
+     * @return the best matching unit.
+     * @throws IllegalArgumentException if the size of the input is not
+     * compatible with the neurons features size, or if the map is empty.
      */
-    private static class PairNeuronDouble {
-        /** Comparator. */
-        static final Comparator<PairNeuronDouble> COMPARATOR
-            = new Comparator<PairNeuronDouble>() {
-                /** {@inheritDoc} */
-                @Override
-                public int compare(PairNeuronDouble o1,
-                                   PairNeuronDouble o2) {
-                    return Double.compare(o1.value, o2.value);
-                }
-            };
-        /** Key. */
-        private final Neuron neuron;
-        /** Value. */
-        private final double value;
+    public Neuron best(double[] features) {
+        final double[] buffer = FeatureMatrix.buffer(features.length);
 
-        /**
-         * @param neuron Neuron.
-         * @param value Value.
-         */
-        PairNeuronDouble(Neuron neuron, double value) {
-            this.neuron = neuron;
-            this.value = value;
+        Neuron best = null;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < map.size(); i++) {
+            final Neuron n = map.get(i);
+            final double d = n.distance(distance, features, buffer);
+            if (best == null ||
+                Double.compare(d, bestDistance) < 0) {
+                best = n;
+                bestDistance = d;
+            }
         }
 
-        /** @return the neuron. */
-        public Neuron getNeuron() {
-            return neuron;
+        if (best == null) {
+            throw new NeuralNetException(NeuralNetException.NO_DATA);
         }
+        return best;
     }
 }
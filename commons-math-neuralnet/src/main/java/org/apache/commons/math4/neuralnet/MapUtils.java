@@ -52,7 +52,7 @@ public final class MapUtils {
         int count = 0;
         for (final double[] f : data) {
             ++count;
-            d += distance.applyAsDouble(f, rank.rank(f, 1).get(0).getFeatures());
+            d += distance.applyAsDouble(f, rank.best(f).getFeatures());
         }
 
         if (count == 0) {
@@ -96,4 +96,27 @@ public final class MapUtils {
 
         return ((double) notAdjacentCount) / count;
     }
+
+    /**
+     * Computes the hit histogram, the quantization error and the
+     * topographic error (global and per neuron) in a single pass over
+     * the data.
+     * Chunks of the data are processed in parallel, as determined by
+     * its {@link Iterable#spliterator() spliterator}.
+     * The network should not be modified during the evaluation.
+     *
+     * @param data Feature vectors.
+     * @param net Network.
+     * @param distance Distance function.
+     * @return the indicators.
+     * @throws IllegalArgumentException if {@code net} is empty, or if
+     * the size of a sample is not compatible with the neurons features
+     * size.
+     * @since 4.0
+     */
+    public static MapEvaluation evaluate(Iterable<double[]> data,
+                                         Network net,
+                                         DistanceMeasure distance) {
+        return MapEvaluation.from(data, net, distance);
+    }
 }
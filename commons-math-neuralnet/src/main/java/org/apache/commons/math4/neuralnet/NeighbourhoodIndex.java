@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Neighbourhoods of the neurons of a network, grouped by "ring": The
+ * ring of radius {@code r} around a neuron contains the neurons that
+ * can be reached by traversing {@code r} links (and not less).
+ * <br>
+ * Neurons are identified by their index (see {@link #indexOf(Neuron)}),
+ * and rings are stored as arrays of indices: Walking through a
+ * neighbourhood does not allocate memory.
+ * The rings of a neuron are computed (by a breadth-first traversal)
+ * when first requested, up to the requested radius.
+ * <br>
+ * The index reflects the topology of the network at the time of its
+ * creation: It must be discarded when it is no longer
+ * {@link #isValidFor(Network) valid}, i.e. when a neuron or a link has
+ * been added to or removed from the network.
+ * <br>
+ * This class is thread-safe.
+ *
+ * @since 4.0
+ */
+public class NeighbourhoodIndex {
+    /** Empty ring. */
+    private static final int[] EMPTY = new int[0];
+    /** Indexed network. */
+    private final Network network;
+    /** Version of the topology of the network that was indexed. */
+    private final long topologyVersion;
+    /** Neurons, sorted in increasing order of their identifier. */
+    private final Neuron[] neurons;
+    /** Identifiers of the neurons. */
+    private final long[] identifiers;
+    /** Indices of the neighbours of each neuron. */
+    private final int[][] links;
+    /** Rings computed so far (per neuron). */
+    private final AtomicReferenceArray<Rings> rings;
+
+    /**
+     * @param net Network.
+     */
+    public NeighbourhoodIndex(Network net) {
+        network = net;
+        // Version must be retrieved before the topology is read.
+        topologyVersion = net.getTopologyVersion();
+
+        final Collection<Neuron> sorted = net.getNeurons(new Network.NeuronIdentifierComparator());
+        neurons = sorted.toArray(new Neuron[0]);
+        final int numNeurons = neurons.length;
+        identifiers = new long[numNeurons];
+        for (int i = 0; i < numNeurons; i++) {
+            identifiers[i] = neurons[i].getIdentifier();
+        }
+
+        links = new int[numNeurons][];
+        for (int i = 0; i < numNeurons; i++) {
+            final Collection<Neuron> neighbours = net.getNeighbours(neurons[i]);
+            final int[] l = new int[neighbours.size()];
+            int count = 0;
+            for (final Neuron n : neighbours) {
+                l[count++] = indexOf(n);
+            }
+            Arrays.sort(l);
+            links[i] = l;
+        }
+
+        rings = new AtomicReferenceArray<>(numNeurons);
+    }
+
+    /**
+     * Checks whether this index is consistent with the current topology
+     * of the given network.
+     *
+     * @param net Network.
+     * @return {@code true} if {@code net} is the network indexed by this
+     * instance, and its topology has not been modified since.
+     */
+    public boolean isValidFor(Network net) {
+        return net == network &&
+            net.getTopologyVersion() == topologyVersion;
+    }
+
+    /**
+     * Gets the number of indexed neurons.
+     *
+     * @return the number of neurons.
+     */
+    public int size() {
+        return neurons.length;
+    }
+
+    /**
+     * Gets the index of the given neuron.
+     *
+     * @param neuron Neuron.
+     * @return the index of {@code neuron}, or a negative value if it
+     * does not belong to the indexed network.
+     */
+    public int indexOf(Neuron neuron) {
+        final int i = Arrays.binarySearch(identifiers, neuron.getIdentifier());
+        return i >= 0 && neurons[i] == neuron ? i : -1;
+    }
+
+    /**
+     * Gets the neuron at the given index.
+     *
+     * @param index Index.
+     * @return the neuron.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public Neuron getNeuron(int index) {
+        return neurons[index];
+    }
+
+    /**
+     * Gets the indices of the neurons that are reachable from the
+     * given neuron by traversing {@code radius} links (and not less).
+     * The returned array must not be modified.
+     *
+     * @param index Index of the neuron at the center of the ring.
+     * @param radius Radius.
+     * @return the indices of the neurons in the ring (in increasing order),
+     * or an empty array if there is no such neuron.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public int[] getRing(int index,
+                         int radius) {
+        if (radius <= 0) {
+            return radius == 0 ? new int[] {index} : EMPTY;
+        }
+
+        Rings r = rings.get(index);
+        if (r == null ||
+            !r.contains(radius)) {
+            r = computeRings(index, radius);
+            rings.set(index, r);
+        }
+        return r.get(radius);
+    }
+
+    /**
+     * Performs a breadth-first traversal of the network.
+     *
+     * @param index Index of the starting neuron.
+     * @param radius Minimum radius to be reached.
+     * @return the rings.
+     */
+    private Rings computeRings(int index,
+                               int radius) {
+        final int numNeurons = neurons.length;
+        final boolean[] visited = new boolean[numNeurons];
+        final int[] queue = new int[numNeurons];
+        visited[index] = true;
+        queue[0] = index;
+        int ringStart = 0;
+        int tail = 1;
+
+        final int[][] result = new int[radius][];
+        for (int r = 0; r < radius; r++) {
+            final int ringEnd = tail;
+            for (int q = ringStart; q < ringEnd; q++) {
+                for (final int k : links[queue[q]]) {
+                    if (!visited[k]) {
+                        visited[k] = true;
+                        queue[tail++] = k;
+                    }
+                }
+            }
+            if (tail == ringEnd) {
+                // Whole connected component has been traversed.
+                return new Rings(Arrays.copyOf(result, r), true);
+            }
+            final int[] ring = Arrays.copyOfRange(queue, ringEnd, tail);
+            Arrays.sort(ring);
+            result[r] = ring;
+            ringStart = ringEnd;
+        }
+        return new Rings(result, false);
+    }
+
+    /**
+     * Rings around a neuron.
+     */
+    private static final class Rings {
+        /** Rings of radius 1, 2, ... */
+        private final int[][] rings;
+        /** Whether farther rings are all empty. */
+        private final boolean complete;
+
+        /**
+         * @param rings Rings.
+         * @param complete Whether farther rings are all empty.
+         */
+        Rings(int[][] rings,
+              boolean complete) {
+            this.rings = rings;
+            this.complete = complete;
+        }
+
+        /**
+         * @param radius Radius.
+         * @return {@code true} if the ring of the given radius is known.
+         */
+        boolean contains(int radius) {
+            return complete ||
+                radius <= rings.length;
+        }
+
+        /**
+         * @param radius Radius.
+         * @return the ring (must be {@link #contains(int) known}).
+         */
+        int[] get(int radius) {
+            return radius <= rings.length ? rings[radius - 1] : EMPTY;
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.commons.math4.neuralnet;
 import java.io.Serializable;
 import java.io.ObjectInputStream;
 import java.util.NoSuchElementException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Set;
@@ -29,7 +30,10 @@ import java.util.Iterator;
 import java.util.Comparator;
 import java.util.Collections;
 import java.util.Map;
+import java.util.IdentityHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -38,6 +42,10 @@ import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
 /**
  * Neural network, composed of {@link Neuron} instances and the links
  * between them.
+ * <br>
+ * The features of the neurons are either held by each neuron, or
+ * stored contiguously in blocks of memory shared by the neurons (see
+ * {@link #Network(long,int,int)}).
  *
  * Although updating a neuron's state is thread-safe, modifying the
  * network's topology (adding or removing links) is not.
@@ -59,6 +67,10 @@ public class Network
     /** Links. */
     private final ConcurrentHashMap<Long, Set<Long>> linkMap
         = new ConcurrentHashMap<>();
+    /** Contiguous storage of the features (or {@code null}). */
+    private final transient FeatureMatrix matrix;
+    /** Number of modifications of the topology. */
+    private final AtomicLong topologyVersion = new AtomicLong(0);
 
     /**
      * Comparator that prescribes an order of the neurons according
@@ -89,25 +101,41 @@ public class Network
      * @param neuronList Neurons.
      * @param neighbourIdList Links associated to each of the neurons in
      * {@code neuronList}.
+     * @param blockSize Number of neurons per block of contiguous storage
+     * allocated for the neurons created after construction (the neurons
+     * in {@code neuronList} are stored in a block of their own), or zero
+     * if each neuron holds its own features.
+     * It is capped to {@link FeatureMatrix#GROWTH_BLOCK_SIZE}.
      * @throws IllegalStateException if an inconsistency is detected
      * (which probably means that the serialized form has been corrupted).
      */
     Network(long nextId,
             int featureSize,
             Neuron[] neuronList,
-            long[][] neighbourIdList) {
+            long[][] neighbourIdList,
+            int blockSize) {
         final int numNeurons = neuronList.length;
         if (numNeurons != neighbourIdList.length) {
             throw new IllegalStateException();
         }
 
+        // Existing neurons are stored in a block of their own; "blockSize"
+        // only applies to the neurons created afterwards.
+        matrix = blockSize == 0 ?
+            null :
+            new FeatureMatrix(featureSize,
+                              Math.min(blockSize, FeatureMatrix.GROWTH_BLOCK_SIZE));
+        final double[] block = matrix == null ?
+            null :
+            FeatureMatrix.newBlock(featureSize, numNeurons);
+
         for (int i = 0; i < numNeurons; i++) {
             final Neuron n = neuronList[i];
             final long id = n.getIdentifier();
             if (id >= nextId) {
                 throw new IllegalStateException();
             }
-            neuronMap.put(id, n);
+            neuronMap.put(id, matrix == null ? n : n.copy(block, i * featureSize));
             linkMap.put(id, new HashSet<Long>());
         }
 
@@ -135,6 +163,38 @@ public class Network
                    int featureSize) {
         nextId = new AtomicLong(initialIdentifier);
         this.featureSize = featureSize;
+        matrix = null;
+    }
+
+    /**
+     * Creates a network whose neurons' features are stored contiguously,
+     * in blocks of memory that each hold the features of {@code blockSize}
+     * neurons.
+     * A neuron's features are then updated in place (under the neuron's
+     * lock) rather than replaced by a new array.
+     * Memory of deleted neurons is not reclaimed: This storage is intended
+     * for networks whose neurons are created once (such as the maps created
+     * by {@link org.apache.commons.math4.neuralnet.twod.NeuronSquareMesh2D}),
+     * in which case {@code blockSize} should be the total number of neurons.
+     * The {@link #copy() copy} of such a network, like a deserialized
+     * instance, stores the existing neurons in a single block, and allocates
+     * smaller blocks for the neurons that are created afterwards.
+     *
+     * @param initialIdentifier Identifier for the first neuron that
+     * will be added to this network.
+     * @param featureSize Size of the neuron's features.
+     * @param blockSize Number of neurons whose features are stored in
+     * the same block.
+     * @throws IllegalArgumentException if {@code blockSize <= 0} or if
+     * a block would be too large to be allocated.
+     * @since 4.0
+     */
+    public Network(long initialIdentifier,
+                   int featureSize,
+                   int blockSize) {
+        nextId = new AtomicLong(initialIdentifier);
+        this.featureSize = featureSize;
+        matrix = new FeatureMatrix(featureSize, blockSize);
     }
 
     /**
@@ -146,6 +206,26 @@ public class Network
      * @since 3.6
      */
     public synchronized Network copy() {
+        if (matrix != null) {
+            // Rows are laid out in the order of the identifiers, in a block
+            // that is not shared with the neurons created later on.
+            final Network copy = new Network(nextId.get(),
+                                             featureSize,
+                                             Math.min(matrix.getBlockSize(),
+                                                      FeatureMatrix.GROWTH_BLOCK_SIZE));
+            final Collection<Neuron> neurons = getNeurons(new NeuronIdentifierComparator());
+            final double[] block = FeatureMatrix.newBlock(featureSize, neurons.size());
+            int offset = 0;
+            for (final Neuron n : neurons) {
+                copy.neuronMap.put(n.getIdentifier(), n.copy(block, offset));
+                offset += featureSize;
+            }
+            for (final Map.Entry<Long, Set<Long>> e : linkMap.entrySet()) {
+                copy.linkMap.put(e.getKey(), new HashSet<>(e.getValue()));
+            }
+            return copy;
+        }
+
         final Network copy = new Network(nextId.get(),
                                          featureSize);
 
@@ -201,11 +281,98 @@ public class Network
         }
 
         final long id = createNextId();
-        neuronMap.put(id, new Neuron(id, features));
+        neuronMap.put(id, matrix == null ?
+                      new Neuron(id, features) :
+                      matrix.createNeuron(id, features));
         linkMap.put(id, new HashSet<Long>());
+        topologyVersion.incrementAndGet();
         return id;
     }
 
+    /**
+     * Creates neurons in bulk.
+     * This is equivalent to calling {@link #createNeuron(double[])}
+     * {@code count} times, with features drawn from the given initializers,
+     * except that
+     * <ul>
+     *  <li>no intermediate array is created: The features are generated
+     *   directly in their final storage (when the network stores them
+     *   {@link #Network(long,int,int) contiguously}, they all belong to a
+     *   new block dedicated to the created neurons);</li>
+     *  <li>the identifiers of the created neurons are consecutive.</li>
+     * </ul>
+     * The initializers are called in the same order as in a sequence of
+     * calls to {@code createNeuron}: neuron after neuron, and feature after
+     * feature for each neuron. Hence, the created features are the same,
+     * even when distinct initializers share state (such as a random number
+     * generator).
+     *
+     * @param count Number of neurons.
+     * @param featureInit Functions that will initialize the corresponding
+     * element of the features set of each created neuron.
+     * @return the identifier of the first created neuron.
+     * @throws IllegalArgumentException if the length of {@code featureInit}
+     * is different from the expected size (as set by the
+     * {@link #Network(long,int) constructor}), if {@code count <= 0}, or if
+     * the features would be too large to be stored.
+     * @since 4.0
+     */
+    public long createNeurons(int count,
+                              FeatureInitializer[] featureInit) {
+        return createNeurons(count, featureInit, null);
+    }
+
+    /**
+     * Creates neurons in bulk (see {@link #createNeurons(int,FeatureInitializer[])}).
+     * The features that are initialized by different instances are filled
+     * concurrently, in tasks run by the given {@code executor}.
+     * Hence, different instances must not share mutable state (such as a
+     * random number generator) unless that state is thread-safe.
+     * Each instance is called for all the created neurons in turn (and, if
+     * it is used for several features, for each of them in turn): Unless
+     * the instances are independent, the created features differ from those
+     * created by {@link #createNeurons(int,FeatureInitializer[])}.
+     *
+     * @param count Number of neurons.
+     * @param featureInit Functions that will initialize the corresponding
+     * element of the features set of each created neuron.
+     * @param executor Executor that will run the initialization tasks.
+     * If {@code null}, the features are initialized by the calling thread,
+     * in the order of {@link #createNeurons(int,FeatureInitializer[])}.
+     * @return the identifier of the first created neuron.
+     * @throws IllegalArgumentException if the length of {@code featureInit}
+     * is different from the expected size (as set by the
+     * {@link #Network(long,int) constructor}), if {@code count <= 0}, or if
+     * the features would be too large to be stored.
+     * @since 4.0
+     */
+    public long createNeurons(int count,
+                              FeatureInitializer[] featureInit,
+                              Executor executor) {
+        if (featureInit.length != featureSize) {
+            throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
+                                         featureInit.length, featureSize);
+        }
+        if (count <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, count);
+        }
+
+        final double[] block = FeatureMatrix.newBlock(featureSize, count);
+        fill(block, count, featureInit, executor);
+
+        final long first = nextId.getAndAdd(count);
+        for (int i = 0; i < count; i++) {
+            final long id = first + i;
+            final int offset = i * featureSize;
+            neuronMap.put(id, matrix == null ?
+                          new Neuron(id, Arrays.copyOfRange(block, offset, offset + featureSize)) :
+                          new Neuron(id, featureSize, block, offset));
+            linkMap.put(id, new HashSet<Long>());
+        }
+        topologyVersion.incrementAndGet();
+        return first;
+    }
+
     /**
      * Deletes a neuron.
      * Links from all neighbours to the removed neuron will also be
@@ -221,6 +388,7 @@ public class Network
 
         // Remove neuron.
         neuronMap.remove(neuron.getIdentifier());
+        topologyVersion.incrementAndGet();
     }
 
     /**
@@ -232,6 +400,29 @@ public class Network
         return featureSize;
     }
 
+    /**
+     * Gets the identifier that will be assigned to the next neuron
+     * created by this network.
+     *
+     * @return the next available identifier.
+     */
+    long getNextIdentifier() {
+        return nextId.get();
+    }
+
+    /**
+     * Gets a counter that is incremented whenever a neuron or a link is
+     * added to (or removed from) this network.
+     * It allows to detect that structures derived from the topology
+     * (such as a {@link NeighbourhoodIndex}) must be updated.
+     *
+     * @return the number of modifications of the topology.
+     * @since 4.0
+     */
+    public long getTopologyVersion() {
+        return topologyVersion.get();
+    }
+
     /**
      * Adds a link from neuron {@code a} to neuron {@code b}.
      * Note: the link is not bi-directional; if a bi-directional link is
@@ -259,6 +450,43 @@ public class Network
         addLinkToLinkSet(linkMap.get(aId), bId);
     }
 
+    /**
+     * Adds links from neuron {@code a} to several neurons.
+     * This is equivalent to calling {@link #addLink(Neuron,Neuron)} for
+     * each of the neurons whose identifiers are given.
+     *
+     * @param a Neuron.
+     * @param ids Identifiers of the neurons to be linked from {@code a}.
+     * @param length Number of identifiers to read from {@code ids}.
+     * @throws NoSuchElementException if the neurons do not exist in the
+     * network.
+     * @since 4.0
+     */
+    public void addLinks(Neuron a,
+                         long[] ids,
+                         int length) {
+        // Check that the neurons belong to this network.
+        final long aId = a.getIdentifier();
+        if (a != getNeuron(aId)) {
+            throw new NoSuchElementException(Long.toString(aId));
+        }
+        for (int i = 0; i < length; i++) {
+            if (!neuronMap.containsKey(ids[i])) {
+                throw new NoSuchElementException(Long.toString(ids[i]));
+            }
+        }
+
+        // Add links from "a".
+        final Set<Long> linkSet = linkMap.get(aId);
+        boolean modified = false;
+        for (int i = 0; i < length; i++) {
+            modified |= linkSet.add(ids[i]);
+        }
+        if (modified) {
+            topologyVersion.incrementAndGet();
+        }
+    }
+
     /**
      * Adds a link to neuron {@code id} in given {@code linkSet}.
      * Note: no check verifies that the identifier indeed belongs
@@ -269,7 +497,9 @@ public class Network
      */
     private void addLinkToLinkSet(Set<Long> linkSet,
                                   long id) {
-        linkSet.add(id);
+        if (linkSet.add(id)) {
+            topologyVersion.incrementAndGet();
+        }
     }
 
     /**
@@ -306,7 +536,9 @@ public class Network
      */
     private void deleteLinkFromLinkSet(Set<Long> linkSet,
                                        long id) {
-        linkSet.remove(id);
+        if (linkSet.remove(id)) {
+            topologyVersion.incrementAndGet();
+        }
     }
 
     /**
@@ -396,6 +628,64 @@ public class Network
         return neuronList;
     }
 
+    /**
+     * Fills the features of a sequence of neurons.
+     * Features initialized by the same instance are filled by the same task.
+     *
+     * @param block Storage (one row per neuron).
+     * @param count Number of neurons.
+     * @param featureInit Initializers.
+     * @param executor Executor that will run the tasks, or {@code null}
+     * to fill the features in the order of a sequence of calls to
+     * {@link #createNeuron(double[])}.
+     */
+    private void fill(double[] block,
+                      int count,
+                      FeatureInitializer[] featureInit,
+                      Executor executor) {
+        if (executor == null) {
+            if (featureSize == 1) {
+                featureInit[0].fill(block, 0, 1, count);
+            } else {
+                for (int i = 0, offset = 0; i < count; i++, offset += featureSize) {
+                    for (int k = 0; k < featureSize; k++) {
+                        block[offset + k] = featureInit[k].value();
+                    }
+                }
+            }
+            return;
+        }
+
+        // Group the features by initializer.
+        final Map<FeatureInitializer, List<Integer>> groups = new IdentityHashMap<>();
+        final List<List<Integer>> order = new ArrayList<>();
+        for (int k = 0; k < featureSize; k++) {
+            final List<Integer> g = groups.computeIfAbsent(featureInit[k], init -> new ArrayList<>());
+            if (g.isEmpty()) {
+                order.add(g);
+            }
+            g.add(k);
+        }
+
+        final CompletableFuture<?>[] tasks = new CompletableFuture<?>[order.size()];
+        for (int t = 0; t < tasks.length; t++) {
+            final int[] features = order.get(t).stream().mapToInt(Integer::intValue).toArray();
+            final FeatureInitializer init = featureInit[features[0]];
+            tasks[t] = CompletableFuture.runAsync(() -> {
+                    if (features.length == 1) {
+                        init.fill(block, features[0], featureSize, count);
+                    } else {
+                        for (int i = 0, offset = 0; i < count; i++, offset += featureSize) {
+                            for (final int k : features) {
+                                block[offset + k] = init.value();
+                            }
+                        }
+                    }
+                }, executor);
+        }
+        CompletableFuture.allOf(tasks).join();
+    }
+
     /**
      * Creates a neuron identifier.
      *
@@ -437,7 +727,11 @@ public class Network
         return new SerializationProxy(nextId.get(),
                                       featureSize,
                                       neuronList,
-                                      neighbourIdList);
+                                      neighbourIdList,
+                                      matrix == null ?
+                                      0 :
+                                      Math.min(matrix.getBlockSize(),
+                                               FeatureMatrix.GROWTH_BLOCK_SIZE));
     }
 
     /**
@@ -454,6 +748,8 @@ public class Network
         private final Neuron[] neuronList;
         /** Links. */
         private final long[][] neighbourIdList;
+        /** Block size of the contiguous storage (zero if not used). */
+        private final int blockSize;
 
         /**
          * @param nextId Next available identifier.
@@ -461,15 +757,18 @@ public class Network
          * @param neuronList Neurons.
          * @param neighbourIdList Links associated to each of the neurons in
          * {@code neuronList}.
+         * @param blockSize Block size of the contiguous storage.
          */
         SerializationProxy(long nextId,
                            int featureSize,
                            Neuron[] neuronList,
-                           long[][] neighbourIdList) {
+                           long[][] neighbourIdList,
+                           int blockSize) {
             this.nextId = nextId;
             this.featureSize = featureSize;
             this.neuronList = neuronList;
             this.neighbourIdList = neighbourIdList;
+            this.blockSize = blockSize;
         }
 
         /**
@@ -481,7 +780,8 @@ public class Network
             return new Network(nextId,
                                featureSize,
                                neuronList,
-                               neighbourIdList);
+                               neighbourIdList,
+                               blockSize);
         }
     }
 }
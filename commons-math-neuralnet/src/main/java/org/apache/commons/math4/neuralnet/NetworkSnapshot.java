@@ -0,0 +1,601 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
+
+/**
+ * Read-only view of a {@link Network}, backed by a compact binary file.
+ * <br>
+ * The file format (version 1) consists of the following sections, where
+ * all values are little-endian:
+ * <ol>
+ *  <li>a 32-byte header: the magic number {@code 0x4D464F53} ("SOFM"),
+ *   the format version, the number of features, the number of neurons,
+ *   the next available identifier (8 bytes), the number of links, and
+ *   4 reserved bytes;</li>
+ *  <li>the identifiers of the neurons, in increasing order (8 bytes each);</li>
+ *  <li>the adjacency, in <a href="https://en.wikipedia.org/wiki/Sparse_matrix">
+ *   compressed sparse row</a> layout: {@code numNeurons + 1} offsets into the
+ *   array of link targets, followed by the targets (4 bytes each), where each
+ *   target is the index of a neuron (i.e. its position in the list of
+ *   identifiers); padding to a multiple of 8 bytes;</li>
+ *  <li>the features of all the neurons, as one contiguous block of
+ *   {@code numNeurons * numFeatures} doubles (row-major).</li>
+ * </ol>
+ * <br>
+ * A {@link #map(Path) memory-mapped} snapshot does not copy the features
+ * into the heap: Opening it is almost instantaneous, and the pages are
+ * shared among the processes that map the same file.
+ * The file size is limited to 2 GB.
+ * <br>
+ * This class is thread-safe.
+ *
+ * @since 4.0
+ */
+public final class NetworkSnapshot {
+    /** Magic number ("SOFM" in ASCII, when read as little-endian bytes). */
+    private static final int MAGIC = 0x4D464F53;
+    /** Current version of the format. */
+    private static final int VERSION = 1;
+    /** Size of the header (in bytes). */
+    private static final int HEADER_SIZE = 32;
+    /** Size of the buffer used for writing. */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    /** Number of features. */
+    private final int featureSize;
+    /** Next available identifier. */
+    private final long nextId;
+    /** Identifiers. */
+    private final LongBuffer identifiers;
+    /** Offsets (in {@link #targets}) of the links of each neuron. */
+    private final IntBuffer offsets;
+    /** Link targets. */
+    private final IntBuffer targets;
+    /** Features. */
+    private final DoubleBuffer features;
+
+    /**
+     * @param buffer Contents (in the binary format).
+     * @throws IOException if the contents is not a valid snapshot.
+     */
+    private NetworkSnapshot(ByteBuffer buffer) throws IOException {
+        final ByteBuffer b = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (b.remaining() < HEADER_SIZE) {
+            throw new IOException("Truncated header");
+        }
+        final int magic = b.getInt();
+        if (magic != MAGIC) {
+            throw new IOException("Not a network snapshot");
+        }
+        final int version = b.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version: " + version);
+        }
+        featureSize = b.getInt();
+        final int numNeurons = b.getInt();
+        nextId = b.getLong();
+        final int numLinks = b.getInt();
+        b.getInt(); // Reserved.
+        if (featureSize < 0 ||
+            numNeurons < 0 ||
+            numLinks < 0) {
+            throw new IOException("Corrupted header");
+        }
+
+        final long idStart = HEADER_SIZE;
+        final long offsetStart = idStart + 8L * numNeurons;
+        final long targetStart = offsetStart + 4L * (numNeurons + 1);
+        final long featureStart = align(targetStart + 4L * numLinks);
+        final long end = featureStart + 8L * numNeurons * featureSize;
+        if (end != b.limit()) {
+            throw new IOException("Size mismatch: " + b.limit() + " != " + end);
+        }
+
+        identifiers = slice(b, idStart, offsetStart).asLongBuffer();
+        offsets = slice(b, offsetStart, targetStart).asIntBuffer();
+        targets = slice(b, targetStart, targetStart + 4L * numLinks).asIntBuffer();
+        features = slice(b, featureStart, end).asDoubleBuffer();
+
+        validate(numNeurons, numLinks);
+    }
+
+    /**
+     * @param topology Snapshot whose neurons and links are shared.
+     * @param features Features of the neurons.
+     */
+    private NetworkSnapshot(NetworkSnapshot topology,
+                            DoubleBuffer features) {
+        featureSize = topology.featureSize;
+        nextId = topology.nextId;
+        identifiers = topology.identifiers;
+        offsets = topology.offsets;
+        targets = topology.targets;
+        this.features = features;
+    }
+
+    /**
+     * Checks that the identifiers are increasing, and that the adjacency
+     * is consistent (so that no query can read out of the sections).
+     *
+     * @param numNeurons Number of neurons.
+     * @param numLinks Number of links.
+     * @throws IOException if the contents is not consistent.
+     */
+    private void validate(int numNeurons,
+                          int numLinks) throws IOException {
+        for (int i = 1; i < numNeurons; i++) {
+            if (identifiers.get(i - 1) >= identifiers.get(i)) {
+                throw new IOException("Identifiers are not increasing at index " + i);
+            }
+        }
+        if (numNeurons > 0 &&
+            identifiers.get(numNeurons - 1) >= nextId) {
+            throw new IOException("Identifier is not smaller than " + nextId);
+        }
+
+        if (offsets.get(0) != 0 ||
+            offsets.get(numNeurons) != numLinks) {
+            throw new IOException("Corrupted link offsets");
+        }
+        for (int i = 0; i < numNeurons; i++) {
+            if (offsets.get(i) > offsets.get(i + 1)) {
+                throw new IOException("Link offsets are not monotonic at index " + i);
+            }
+        }
+        for (int k = 0; k < numLinks; k++) {
+            final int t = targets.get(k);
+            if (t < 0 ||
+                t >= numNeurons) {
+                throw new IOException("Link target out of range: " + t);
+            }
+        }
+    }
+
+    /**
+     * Writes the given network to a file (which is created or overwritten).
+     * The snapshot is first written to a temporary file in the same
+     * directory, which then atomically replaces the file: Processes that
+     * have {@link #map(Path) mapped} the previous contents are not affected,
+     * and an interrupted write never leaves a truncated file.
+     *
+     * @param net Network.
+     * @param path File.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if the file would be larger than
+     * 2 GB.
+     */
+    public static void write(Network net,
+                             Path path) throws IOException {
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            encode(net, channel);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Creates a snapshot of the given network, stored in the heap.
+     * The snapshot will not reflect subsequent modifications of the
+     * network.
+     * <br>
+     * The caller is responsible for preventing concurrent modifications
+     * of the network if the snapshot must be consistent (i.e. if all of
+     * its neurons must be captured in the same state of the training).
+     *
+     * @param net Network.
+     * @return a read-only copy of the network.
+     * @throws IllegalArgumentException if the snapshot would be larger
+     * than 2 GB.
+     */
+    public static NetworkSnapshot of(Network net) {
+        try {
+            return new NetworkSnapshot(encode(net, null));
+        } catch (IOException e) {
+            // Cannot happen: Nothing is read from or written to a channel.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Maps the given file into memory.
+     * The returned snapshot remains valid after the channel used for the
+     * mapping has been closed.
+     *
+     * @param path File (in the format created by
+     * {@link #write(Network,Path) write}).
+     * @return a read-only view of the network stored in the file.
+     * @throws IOException if an I/O error occurs or if the file is not
+     * a valid snapshot.
+     */
+    public static NetworkSnapshot map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large: " + size);
+            }
+            return new NetworkSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Creates a view of the given contents.
+     *
+     * @param buffer Contents (in the format created by
+     * {@link #write(Network,Path) write}).
+     * No copy is performed.
+     * @return a read-only view of the network stored in the buffer.
+     * @throws IOException if the contents is not a valid snapshot.
+     */
+    public static NetworkSnapshot of(ByteBuffer buffer) throws IOException {
+        return new NetworkSnapshot(buffer);
+    }
+
+    /**
+     * Creates a snapshot with the same neurons and links as this snapshot,
+     * and the given features.
+     * This is faster than {@link #of(Network) encoding} a network whose
+     * topology has not changed since this snapshot was created: The
+     * neurons and links are shared with this snapshot, and no copy is
+     * made.
+     *
+     * @param values Features of all the neurons, in the order of their
+     * index (row-major, as in the file format). The array is not copied:
+     * It must not be modified afterwards.
+     * @return a new snapshot, backed by {@code values}.
+     * @throws IllegalArgumentException if the length of {@code values} is
+     * not the number of neurons times the number of features.
+     */
+    public NetworkSnapshot withFeatures(double[] values) {
+        if (values.length != features.limit()) {
+            throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
+                                         values.length, features.limit());
+        }
+
+        return new NetworkSnapshot(this, DoubleBuffer.wrap(values));
+    }
+
+    /**
+     * Gets the number of neurons.
+     *
+     * @return the number of neurons.
+     */
+    public int size() {
+        return identifiers.limit();
+    }
+
+    /**
+     * Gets the size of the neurons' features set.
+     *
+     * @return the size of the features set.
+     */
+    public int getFeaturesSize() {
+        return featureSize;
+    }
+
+    /**
+     * Gets the identifier of a neuron.
+     *
+     * @param index Index of the neuron.
+     * @return its identifier.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public long getIdentifier(int index) {
+        return identifiers.get(index);
+    }
+
+    /**
+     * Gets the index of a neuron.
+     *
+     * @param id Identifier of the neuron.
+     * @return its index, or a negative value if there is no neuron with
+     * the given identifier.
+     */
+    public int indexOf(long id) {
+        int lo = 0;
+        int hi = size() - 1;
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            final long v = identifiers.get(mid);
+            if (v < id) {
+                lo = mid + 1;
+            } else if (v > id) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    /**
+     * Gets the features of a neuron.
+     *
+     * @param index Index of the neuron.
+     * @return a copy of its features.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public double[] getFeatures(int index) {
+        final double[] f = new double[featureSize];
+        getFeatures(index, f);
+        return f;
+    }
+
+    /**
+     * Copies the features of a neuron into the given array.
+     *
+     * @param index Index of the neuron.
+     * @param dest Destination (of length {@link #getFeaturesSize()}).
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public void getFeatures(int index,
+                            double[] dest) {
+        final DoubleBuffer f = features.duplicate();
+        f.position(index * featureSize);
+        f.get(dest, 0, featureSize);
+    }
+
+    /**
+     * Gets the neighbours of a neuron.
+     *
+     * @param index Index of the neuron.
+     * @return the indices of the neurons that are linked from it, in
+     * increasing order.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public int[] getNeighbours(int index) {
+        final int start = offsets.get(index);
+        final int[] n = new int[offsets.get(index + 1) - start];
+        for (int i = 0; i < n.length; i++) {
+            n[i] = targets.get(start + i);
+        }
+        return n;
+    }
+
+    /**
+     * Searches the neuron whose features best correspond to the given
+     * {@code values}.
+     * In case of ties, the neuron with the lowest index is returned.
+     *
+     * @param values Data.
+     * @param distance Distance function.
+     * @return the index of the best matching unit, or {@code -1} if
+     * there are no neurons.
+     * @throws IllegalArgumentException if the size of the input is not
+     * compatible with the neurons features size.
+     */
+    public int findBest(double[] values,
+                        DistanceMeasure distance) {
+        if (values.length != featureSize) {
+            throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
+                                         values.length, featureSize);
+        }
+
+        final double[] buffer = FeatureMatrix.buffer(featureSize);
+        final DoubleBuffer f = features.duplicate();
+        int best = -1;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size(); i++) {
+            f.get(buffer);
+            final double d = distance.applyAsDouble(buffer, values);
+            if (best < 0 ||
+                Double.compare(d, bestDistance) < 0) {
+                best = i;
+                bestDistance = d;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Creates a (modifiable) network with the same neurons, features and
+     * links as this snapshot.
+     * The features are stored contiguously (see {@link
+     * Network#Network(long,int,int)}): Those of the neurons of this
+     * snapshot in a single block, and those of the neurons created
+     * afterwards in smaller blocks.
+     *
+     * @return a new network.
+     */
+    public Network toNetwork() {
+        final int numNeurons = size();
+        final Neuron[] neurons = new Neuron[numNeurons];
+        final long[][] neighbourIds = new long[numNeurons][];
+        for (int i = 0; i < numNeurons; i++) {
+            neurons[i] = new Neuron(identifiers.get(i), getFeatures(i));
+            final int[] n = getNeighbours(i);
+            final long[] ids = new long[n.length];
+            for (int k = 0; k < n.length; k++) {
+                ids[k] = identifiers.get(n[k]);
+            }
+            neighbourIds[i] = ids;
+        }
+
+        return new Network(nextId,
+                           featureSize,
+                           neurons,
+                           neighbourIds,
+                           FeatureMatrix.GROWTH_BLOCK_SIZE);
+    }
+
+    /**
+     * Encodes the given network.
+     *
+     * @param net Network.
+     * @param channel Destination of the encoded contents. If {@code null},
+     * the whole contents is kept in the returned buffer.
+     * @return the buffer used for encoding, ready to be read if
+     * {@code channel} is {@code null}.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if the encoded contents would be
+     * larger than 2 GB.
+     */
+    private static ByteBuffer encode(Network net,
+                                     FileChannel channel) throws IOException {
+        final Neuron[] neurons = net.getNeurons(new Network.NeuronIdentifierComparator())
+            .toArray(new Neuron[0]);
+        final int numNeurons = neurons.length;
+        final int featureSize = net.getFeaturesSize();
+        final long[] ids = new long[numNeurons];
+        for (int i = 0; i < numNeurons; i++) {
+            ids[i] = neurons[i].getIdentifier();
+        }
+
+        // Adjacency (with targets as indices).
+        final int[] offsets = new int[numNeurons + 1];
+        final int[][] links = new int[numNeurons][];
+        for (int i = 0; i < numNeurons; i++) {
+            final Collection<Neuron> neighbours = net.getNeighbours(neurons[i]);
+            final int[] l = new int[neighbours.size()];
+            int count = 0;
+            for (final Neuron n : neighbours) {
+                l[count++] = Arrays.binarySearch(ids, n.getIdentifier());
+            }
+            Arrays.sort(l);
+            links[i] = l;
+            offsets[i + 1] = offsets[i] + l.length;
+        }
+        final int numLinks = offsets[numNeurons];
+
+        final long size = align(HEADER_SIZE + 8L * numNeurons + 4L * (numNeurons + 1) + 4L * numLinks) +
+            8L * numNeurons * featureSize;
+        if (size > Integer.MAX_VALUE) {
+            throw new NeuralNetException(NeuralNetException.TOO_LARGE, size, Integer.MAX_VALUE);
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(channel == null ?
+                                                      (int) size :
+                                                      WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC)
+            .putInt(VERSION)
+            .putInt(featureSize)
+            .putInt(numNeurons)
+            .putLong(net.getNextIdentifier())
+            .putInt(numLinks)
+            .putInt(0);
+        for (final long id : ids) {
+            ensureRemaining(channel, buffer, Long.BYTES);
+            buffer.putLong(id);
+        }
+        for (final int o : offsets) {
+            ensureRemaining(channel, buffer, Integer.BYTES);
+            buffer.putInt(o);
+        }
+        for (final int[] l : links) {
+            for (final int t : l) {
+                ensureRemaining(channel, buffer, Integer.BYTES);
+                buffer.putInt(t);
+            }
+        }
+        if ((numNeurons + 1 + numLinks) % 2 != 0) {
+            // Padding.
+            ensureRemaining(channel, buffer, Integer.BYTES);
+            buffer.putInt(0);
+        }
+        final double[] row = new double[featureSize];
+        for (final Neuron n : neurons) {
+            n.getFeatures(row, 0);
+            for (final double f : row) {
+                ensureRemaining(channel, buffer, Double.BYTES);
+                buffer.putDouble(f);
+            }
+        }
+        if (channel == null) {
+            buffer.flip();
+        } else {
+            flush(channel, buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * @param b Buffer.
+     * @param from Start position.
+     * @param to End position (excluded).
+     * @return a little-endian view of the given range.
+     */
+    private static ByteBuffer slice(ByteBuffer b,
+                                    long from,
+                                    long to) {
+        final ByteBuffer d = b.duplicate();
+        d.position((int) from);
+        d.limit((int) to);
+        return d.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * @param position Position.
+     * @return the smallest multiple of 8 that is not smaller than
+     * {@code position}.
+     */
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    /**
+     * Writes the contents of the buffer if it has not enough space left.
+     *
+     * @param channel Channel (if {@code null}, the buffer is assumed to
+     * be large enough).
+     * @param buffer Buffer.
+     * @param bytes Required space.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void ensureRemaining(FileChannel channel,
+                                        ByteBuffer buffer,
+                                        int bytes) throws IOException {
+        if (channel != null &&
+            buffer.remaining() < bytes) {
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Writes the contents of the buffer.
+     *
+     * @param channel Channel.
+     * @param buffer Buffer.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void flush(FileChannel channel,
+                              ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
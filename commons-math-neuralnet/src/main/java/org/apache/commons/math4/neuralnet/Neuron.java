@@ -19,6 +19,7 @@ package org.apache.commons.math4.neuralnet;
 
 import java.io.Serializable;
 import java.io.ObjectInputStream;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -29,6 +30,11 @@ import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
  * Describes a neuron element of a neural network.
  *
  * This class aims to be thread-safe.
+ * <br>
+ * The features are either held by the neuron itself (and updated
+ * lock-free), or stored in one row of a block of memory that is shared
+ * with other neurons of the same {@link Network} (and updated in place,
+ * under the neuron's lock).
  *
  * @since 3.3
  */
@@ -39,8 +45,12 @@ public class Neuron implements Serializable {
     private final long identifier;
     /** Length of the feature set. */
     private final int size;
-    /** Neuron data. */
+    /** Neuron data (or {@code null} if stored in {@link #block}). */
     private final AtomicReference<double[]> features;
+    /** Storage shared with other neurons (or {@code null}). */
+    private final double[] block;
+    /** Index of the first feature within {@link #block}. */
+    private final int offset;
     /** Number of attempts to update a neuron. */
     private final AtomicLong numberOfAttemptedUpdates = new AtomicLong(0);
     /** Number of successful updates  of a neuron. */
@@ -63,6 +73,47 @@ public class Neuron implements Serializable {
         this.identifier = identifier;
         this.size = features.length;
         this.features = new AtomicReference<>(features.clone());
+        block = null;
+        offset = 0;
+    }
+
+    /**
+     * Creates a neuron whose features are stored in a row of the
+     * given {@code block}.
+     * The size of the feature set is fixed to the length of the given
+     * argument.
+     *
+     * @param identifier Identifier (assigned by the {@link Network}).
+     * @param features Initial values of the feature set.
+     * @param block Storage (shared with other neurons).
+     * @param offset Index of the first feature within {@code block}.
+     */
+    Neuron(long identifier,
+           double[] features,
+           double[] block,
+           int offset) {
+        this(identifier, features.length, block, offset);
+        System.arraycopy(features, 0, block, offset, size);
+    }
+
+    /**
+     * Creates a neuron whose features are the values already stored in
+     * a row of the given {@code block}.
+     *
+     * @param identifier Identifier (assigned by the {@link Network}).
+     * @param size Number of features.
+     * @param block Storage (shared with other neurons).
+     * @param offset Index of the first feature within {@code block}.
+     */
+    Neuron(long identifier,
+           int size,
+           double[] block,
+           int offset) {
+        this.identifier = identifier;
+        this.size = size;
+        this.features = null;
+        this.block = block;
+        this.offset = offset;
     }
 
     /**
@@ -82,6 +133,28 @@ public class Neuron implements Serializable {
         return copy;
     }
 
+    /**
+     * Performs a deep copy of this instance, whose features will
+     * be stored in a row of the given {@code block}.
+     *
+     * @param dest Storage of the copy.
+     * @param destOffset Index of the first feature within {@code dest}.
+     * @return a new instance with the same state as this instance.
+     */
+    synchronized Neuron copy(double[] dest,
+                             int destOffset) {
+        if (block == null) {
+            System.arraycopy(features.get(), 0, dest, destOffset, size);
+        } else {
+            System.arraycopy(block, offset, dest, destOffset, size);
+        }
+        final Neuron copy = new Neuron(identifier, size, dest, destOffset);
+        copy.numberOfAttemptedUpdates.set(numberOfAttemptedUpdates.get());
+        copy.numberOfSuccessfulUpdates.set(numberOfSuccessfulUpdates.get());
+
+        return copy;
+    }
+
     /**
      * Gets the neuron's identifier.
      *
@@ -102,11 +175,75 @@ public class Neuron implements Serializable {
 
     /**
      * Gets the neuron's features.
+     * A new array is allocated by every call, including when the features
+     * are stored in a shared block: Repeated updates should rather use
+     * {@link #moveTowards(double[],double) moveTowards}, which does not
+     * allocate in that case.
      *
      * @return a copy of the neuron's features.
      */
     public double[] getFeatures() {
-        return features.get().clone();
+        if (block == null) {
+            return features.get().clone();
+        }
+
+        synchronized (this) {
+            return Arrays.copyOfRange(block, offset, offset + size);
+        }
+    }
+
+    /**
+     * Copies the neuron's features into the given array.
+     * Contrary to {@link #getFeatures()}, no memory is allocated.
+     *
+     * @param dest Destination.
+     * @param destOffset Index (in {@code dest}) of the first feature.
+     * @throws IndexOutOfBoundsException if {@code dest} cannot hold
+     * {@link #getSize()} values from {@code destOffset}.
+     * @since 4.0
+     */
+    public void getFeatures(double[] dest,
+                            int destOffset) {
+        if (block == null) {
+            System.arraycopy(features.get(), 0, dest, destOffset, size);
+            return;
+        }
+
+        synchronized (this) {
+            System.arraycopy(block, offset, dest, destOffset, size);
+        }
+    }
+
+    /**
+     * Computes the distance between the neuron's features and the given
+     * values.
+     * No copy of the features is made when they are held by the neuron:
+     * The distance function must not modify its arguments.
+     *
+     * @param distance Distance function.
+     * @param values Values.
+     * @param buffer Array (of length {@link #getSize()}) into which the
+     * features are copied when they are stored in a shared block.
+     * @return the distance.
+     * @throws IllegalArgumentException if the length of {@code values}
+     * is not the size of the features set.
+     */
+    double distance(DistanceMeasure distance,
+                    double[] values,
+                    double[] buffer) {
+        if (values.length != size) {
+            throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
+                                         values.length, size);
+        }
+
+        if (block == null) {
+            return distance.applyAsDouble(features.get(), values);
+        }
+
+        synchronized (this) {
+            System.arraycopy(block, offset, buffer, 0, size);
+        }
+        return distance.applyAsDouble(buffer, values);
     }
 
     /**
@@ -144,10 +281,14 @@ public class Neuron implements Serializable {
                                          update.length, size);
         }
 
+        if (block != null) {
+            return compareAndSetRow(expect, update);
+        }
+
         // Get the internal reference. Note that this must not be a copy;
         // otherwise the "compareAndSet" below will always fail.
         final double[] current = features.get();
-        if (!containSameValues(current, expect)) {
+        if (!containSameValues(current, 0, expect)) {
             // Some other thread already modified the state.
             return false;
         }
@@ -165,6 +306,144 @@ public class Neuron implements Serializable {
         }
     }
 
+    /**
+     * Atomically moves the neuron's features towards the given values,
+     * according to
+     * <code>
+     *  w<sub>new</sub> = w<sub>old</sub> + rate * (values - w<sub>old</sub>)
+     * </code>.
+     * Contrary to {@link #compareAndSetFeatures(double[],double[])}, the
+     * update is always performed: When a concurrent update is detected,
+     * the new values are computed again from the current features.
+     * When the features are stored in a shared block, they are updated
+     * in place (i.e. no memory is allocated).
+     *
+     * @param values Values.
+     * @param rate Fraction of the difference to be added to the features.
+     * @throws IllegalArgumentException if the length of {@code values}
+     * is not the size of the features set.
+     * @since 4.0
+     */
+    public void moveTowards(double[] values,
+                            double rate) {
+        if (values.length != size) {
+            throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
+                                         values.length, size);
+        }
+
+        if (block != null) {
+            synchronized (this) {
+                numberOfAttemptedUpdates.incrementAndGet();
+                for (int i = 0; i < size; i++) {
+                    final double c = block[offset + i];
+                    block[offset + i] = c + rate * (values[i] - c);
+                }
+                numberOfSuccessfulUpdates.incrementAndGet();
+            }
+            return;
+        }
+
+        while (true) {
+            final double[] current = features.get();
+            final double[] update = new double[size];
+            for (int i = 0; i < size; i++) {
+                final double c = current[i];
+                update[i] = c + rate * (values[i] - c);
+            }
+
+            numberOfAttemptedUpdates.incrementAndGet();
+            if (features.compareAndSet(current, update)) {
+                numberOfSuccessfulUpdates.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Tries to atomically move the neuron's features towards the given
+     * values, as {@link #moveTowards(double[],double) moveTowards} does.
+     * As with {@link #compareAndSetFeatures(double[],double[])}, the update
+     * is performed only if the expected values match the current values.
+     * When the features are stored in a shared block, they are updated in
+     * place (i.e. no memory is allocated).
+     *
+     * @param expect Current values of the features, as assumed by the caller.
+     * @param values Values.
+     * @param rate Fraction of the difference to be added to the features.
+     * @return {@code true} if the update was successful, {@code false}
+     * otherwise.
+     * @throws IllegalArgumentException if the length of {@code values}
+     * is not the size of the features set.
+     * @since 4.0
+     */
+    public boolean compareAndMoveTowards(double[] expect,
+                                         double[] values,
+                                         double rate) {
+        if (values.length != size) {
+            throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
+                                         values.length, size);
+        }
+
+        if (block != null) {
+            synchronized (this) {
+                if (!containSameValues(block, offset, expect)) {
+                    // Some other thread already modified the state.
+                    return false;
+                }
+
+                numberOfAttemptedUpdates.incrementAndGet();
+                for (int i = 0; i < size; i++) {
+                    final double c = block[offset + i];
+                    block[offset + i] = c + rate * (values[i] - c);
+                }
+                numberOfSuccessfulUpdates.incrementAndGet();
+                return true;
+            }
+        }
+
+        final double[] current = features.get();
+        if (!containSameValues(current, 0, expect)) {
+            // Some other thread already modified the state.
+            return false;
+        }
+
+        final double[] update = new double[size];
+        for (int i = 0; i < size; i++) {
+            final double c = current[i];
+            update[i] = c + rate * (values[i] - c);
+        }
+
+        numberOfAttemptedUpdates.incrementAndGet();
+        if (features.compareAndSet(current, update)) {
+            numberOfSuccessfulUpdates.incrementAndGet();
+            return true;
+        } else {
+            // Some other thread came first (attempt failed).
+            return false;
+        }
+    }
+
+    /**
+     * Updates, in place, the features stored in the shared block.
+     *
+     * @param expect Current values of the features, as assumed by the caller.
+     * @param update Features's new values.
+     * @return {@code true} if the update was successful, {@code false}
+     * otherwise.
+     */
+    private synchronized boolean compareAndSetRow(double[] expect,
+                                                  double[] update) {
+        if (!containSameValues(block, offset, expect)) {
+            // Some other thread already modified the state.
+            return false;
+        }
+
+        numberOfAttemptedUpdates.incrementAndGet();
+        System.arraycopy(update, 0, block, offset, size);
+        numberOfSuccessfulUpdates.incrementAndGet();
+        return true;
+    }
+
     /**
      * Retrieves the number of calls to the
      * {@link #compareAndSetFeatures(double[],double[]) compareAndSetFeatures}
@@ -199,6 +478,7 @@ public class Neuron implements Serializable {
      * Checks whether the contents of both arrays is the same.
      *
      * @param current Current values.
+     * @param from Index of the first feature within {@code current}.
      * @param expect Expected values.
      * @throws IllegalArgumentException if the length of {@code expect}
      * is not the same as specified in the {@link #Neuron(long,double[])
@@ -206,6 +486,7 @@ public class Neuron implements Serializable {
      * @return {@code true} if the arrays contain the same values.
      */
     private boolean containSameValues(double[] current,
+                                      int from,
                                       double[] expect) {
         if (expect.length != size) {
             throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
@@ -213,7 +494,7 @@ public class Neuron implements Serializable {
         }
 
         for (int i = 0; i < size; i++) {
-            if (!Precision.equals(current[i], expect[i])) {
+            if (!Precision.equals(current[from + i], expect[i])) {
                 return false;
             }
         }
@@ -236,7 +517,7 @@ public class Neuron implements Serializable {
      */
     private Object writeReplace() {
         return new SerializationProxy(identifier,
-                                      features.get());
+                                      getFeatures());
     }
 
     /**
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet;
+
+/**
+ * Bounded collection of the (index, distance) pairs with the smallest
+ * distances, stored as a binary max-heap over primitive arrays.
+ * Pairs with the same distance are ranked by increasing index, so that
+ * the result does not depend on the order in which they are offered;
+ * when the indices are offered in increasing order, the ranking is the
+ * same as the one produced by a stable sort.
+ * <br>
+ * Class is not thread-safe.
+ *
+ * @since 4.0
+ */
+final class RankingHeap {
+    /** Indices. */
+    private final int[] index;
+    /** Distances. */
+    private final double[] distance;
+    /** Number of elements. */
+    private int size;
+
+    /**
+     * @param capacity Maximum number of retained pairs.
+     */
+    RankingHeap(int capacity) {
+        index = new int[capacity];
+        distance = new double[capacity];
+    }
+
+    /**
+     * Checks whether the heap is at full capacity.
+     *
+     * @return {@code true} if no more elements can be added without
+     * discarding one.
+     */
+    boolean isFull() {
+        return size == index.length;
+    }
+
+    /**
+     * Gets the largest distance retained.
+     *
+     * @return the largest distance, or {@link Double#POSITIVE_INFINITY}
+     * if the heap is not full.
+     */
+    double worst() {
+        return isFull() ? distance[0] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Offers a pair.
+     * It is retained if the heap is not full, or if it is closer than
+     * the worst retained pair (which is then discarded).
+     *
+     * @param i Index.
+     * @param d Distance.
+     */
+    void offer(int i,
+               double d) {
+        if (size < index.length) {
+            // Sift up.
+            int k = size++;
+            while (k > 0) {
+                final int parent = (k - 1) >>> 1;
+                if (ranksAfter(index[parent], distance[parent], i, d)) {
+                    break;
+                }
+                index[k] = index[parent];
+                distance[k] = distance[parent];
+                k = parent;
+            }
+            index[k] = i;
+            distance[k] = d;
+        } else if (size > 0 &&
+                   ranksAfter(index[0], distance[0], i, d)) {
+            siftDown(i, d, size);
+        }
+    }
+
+    /**
+     * Removes all the retained pairs, and returns their indices in
+     * increasing order of distance.
+     *
+     * @return the indices.
+     */
+    int[] drainSorted() {
+        final int[] sorted = new int[size];
+        while (size > 0) {
+            final int last = --size;
+            sorted[last] = index[0];
+            siftDown(index[last], distance[last], last);
+        }
+        return sorted;
+    }
+
+    /**
+     * Moves the given pair from the root down to its position.
+     *
+     * @param i Index.
+     * @param d Distance.
+     * @param n Number of elements in the heap.
+     */
+    private void siftDown(int i,
+                          double d,
+                          int n) {
+        int k = 0;
+        while (true) {
+            int child = 2 * k + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n &&
+                ranksAfter(index[child + 1], distance[child + 1], index[child], distance[child])) {
+                ++child;
+            }
+            if (!ranksAfter(index[child], distance[child], i, d)) {
+                break;
+            }
+            index[k] = index[child];
+            distance[k] = distance[child];
+            k = child;
+        }
+        index[k] = i;
+        distance[k] = d;
+    }
+
+    /**
+     * Compares two pairs.
+     *
+     * @param ia Index of the first pair.
+     * @param da Distance of the first pair.
+     * @param ib Index of the second pair.
+     * @param db Distance of the second pair.
+     * @return {@code true} if the first pair ranks after the second.
+     */
+    private static boolean ranksAfter(int ia,
+                                      double da,
+                                      int ib,
+                                      double db) {
+        final int c = Double.compare(da, db);
+        return c > 0 ||
+            c == 0 && ia > ib;
+    }
+}
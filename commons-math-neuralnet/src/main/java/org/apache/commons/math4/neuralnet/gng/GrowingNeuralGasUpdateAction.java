@@ -0,0 +1,503 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet.gng;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.math4.neuralnet.DistanceMeasure;
+import org.apache.commons.math4.neuralnet.MapRanking;
+import org.apache.commons.math4.neuralnet.Network;
+import org.apache.commons.math4.neuralnet.Neuron;
+import org.apache.commons.math4.neuralnet.UpdateAction;
+import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
+
+/**
+ * Update formula for the <a href="https://en.wikipedia.org/wiki/Neural_gas">
+ * Growing Neural Gas</a> (B. Fritzke, <em>A Growing Neural Gas Network
+ * Learns Topologies</em>, 1995).
+ * <br>
+ * Contrary to {@link org.apache.commons.math4.neuralnet.sofm.KohonenUpdateAction
+ * Kohonen's rule}, the topology of the network is learned from the data:
+ * For each sample, the {@link #update(Network,double[]) update} method
+ * <ol>
+ *  <li>finds the two neurons {@code s1} and {@code s2} whose features are
+ *   closest to the sample,</li>
+ *  <li>adds the squared distance between {@code s1} and the sample to the
+ *   accumulated error of {@code s1},</li>
+ *  <li>moves {@code s1} and its neighbours towards the sample (with rates
+ *   {@code winnerRate} and {@code neighbourRate} respectively), and
+ *   increments the age of the links of {@code s1},</li>
+ *  <li>links {@code s1} and {@code s2} (or resets the age of their link),</li>
+ *  <li>deletes the links older than {@code maxLinkAge}, and the neurons
+ *   that are left without links,</li>
+ *  <li>every {@code insertionInterval} samples, inserts a neuron halfway
+ *   between the neuron {@code q} with the largest accumulated error and its
+ *   neighbour {@code f} with the largest accumulated error (as long as the
+ *   network has fewer than {@code maxNeurons} neurons); the errors of
+ *   {@code q} and {@code f} are halved, and the new neuron inherits the
+ *   error of {@code q},</li>
+ *  <li>decreases all the accumulated errors by a factor
+ *   {@code 1 - errorDecay}.</li>
+ * </ol>
+ * Hence, neurons are created in the regions where the quantization error
+ * is high, and removed from the regions where no data is found: The size
+ * of the network adapts to the distribution of the data.
+ * <br>
+ * Links are bi-directional. The network must contain at least two neurons
+ * before the first update; its existing links are considered as new.
+ * <br>
+ * This class is thread-safe as long as an instance is used to train a
+ * single network.
+ * The search of the winning neurons is performed concurrently, while the
+ * modifications of the network are performed while holding the monitor
+ * of the network (as does {@link Network#copy()}); the steps used for the
+ * decay of the errors are counted in the order of these modifications.
+ * The {@link MapRanking} used for the search is cached, and rebuilt only
+ * when the {@link Network#getTopologyVersion() topology} of the network
+ * has been modified.
+ *
+ * @since 4.0
+ */
+public class GrowingNeuralGasUpdateAction implements UpdateAction {
+    /** Factor applied to the errors of the neurons that surround an inserted neuron. */
+    private static final double INSERTION_ERROR_FACTOR = 0.5;
+    /** Distance function. */
+    private final DistanceMeasure distance;
+    /** Learning rate of the winning neuron. */
+    private final double winnerRate;
+    /** Learning rate of the neighbours of the winning neuron. */
+    private final double neighbourRate;
+    /** Age beyond which a link is removed. */
+    private final int maxLinkAge;
+    /** Number of samples between two insertions. */
+    private final long insertionInterval;
+    /** Decay factor of the accumulated errors (per sample). */
+    private final double errorRetention;
+    /** Maximum number of neurons. */
+    private final int maxNeurons;
+    /** Number of calls to {@link #update(Network,double[])}. */
+    private final AtomicLong numberOfCalls = new AtomicLong(0);
+    /** Errors and link ages (guarded by the monitor of the network). */
+    private final Map<Long, State> states = new HashMap<>();
+    /** Winner search in the last updated network. */
+    private volatile WinnerSearch winnerSearch;
+
+    /**
+     * @param distance Distance function.
+     * @param winnerRate Learning rate of the winning neuron.
+     * @param neighbourRate Learning rate of the neighbours of the winning neuron.
+     * @param maxLinkAge Age beyond which a link is removed.
+     * @param insertionInterval Number of samples between two insertions.
+     * @param errorDecay Decay factor of the accumulated errors (per sample).
+     * @param maxNeurons Maximum number of neurons.
+     * @throws IllegalArgumentException if {@code winnerRate},
+     * {@code neighbourRate} or {@code errorDecay} is not in {@code [0, 1]},
+     * or if {@code maxLinkAge}, {@code insertionInterval} or
+     * {@code maxNeurons} is not strictly positive.
+     */
+    public GrowingNeuralGasUpdateAction(DistanceMeasure distance,
+                                        double winnerRate,
+                                        double neighbourRate,
+                                        int maxLinkAge,
+                                        long insertionInterval,
+                                        double errorDecay,
+                                        int maxNeurons) {
+        checkRate(winnerRate);
+        checkRate(neighbourRate);
+        checkRate(errorDecay);
+        if (maxLinkAge <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, maxLinkAge);
+        }
+        if (insertionInterval <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, insertionInterval);
+        }
+        if (maxNeurons <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, maxNeurons);
+        }
+
+        this.distance = distance;
+        this.winnerRate = winnerRate;
+        this.neighbourRate = neighbourRate;
+        this.maxLinkAge = maxLinkAge;
+        this.insertionInterval = insertionInterval;
+        this.errorRetention = 1 - errorDecay;
+        this.maxNeurons = maxNeurons;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the network contains less than
+     * two neurons.
+     */
+    @Override
+    public void update(Network net,
+                       double[] features) {
+        while (true) {
+            final List<Neuron> winners = getWinnerSearch(net).ranking.rank(features, 2);
+            if (winners.size() < 2) {
+                throw new NeuralNetException(NeuralNetException.TOO_SMALL, winners.size(), 2);
+            }
+
+            synchronized (net) {
+                final Neuron s1 = winners.get(0);
+                final Neuron s2 = winners.get(1);
+                if (isMember(net, s1) &&
+                    isMember(net, s2)) {
+                    // The step is taken while holding the monitor, so that
+                    // the steps of successive modifications are increasing
+                    // (and the errors only decay between them).
+                    final long numCalls = numberOfCalls.getAndIncrement();
+                    adapt(net, features, s1, s2, numCalls);
+                    if ((numCalls + 1) % insertionInterval == 0) {
+                        insert(net, numCalls);
+                    }
+                    return;
+                }
+            }
+
+            // If another thread removed one of the winning neurons, the
+            // search is performed again.
+        }
+    }
+
+    /**
+     * Retrieves the number of calls to the {@link #update(Network,double[]) update}
+     * method.
+     *
+     * @return the current number of calls.
+     */
+    public long getNumberOfCalls() {
+        return numberOfCalls.get();
+    }
+
+    /**
+     * Retrieves the accumulated error of a neuron.
+     *
+     * @param net Network.
+     * @param neuron Neuron.
+     * @return the accumulated error (zero if the neuron has never been
+     * the winner).
+     */
+    public double getError(Network net,
+                           Neuron neuron) {
+        synchronized (net) {
+            final State s = states.get(neuron.getIdentifier());
+            return s == null ?
+                0 :
+                s.getError(numberOfCalls.get());
+        }
+    }
+
+    /**
+     * Retrieves the winner search over the neurons of the given network,
+     * rebuilding the cached one if it does not reflect the current topology.
+     *
+     * @param net Network.
+     * @return the winner search.
+     */
+    private WinnerSearch getWinnerSearch(Network net) {
+        WinnerSearch search = winnerSearch;
+        if (search == null ||
+            !search.isValidFor(net)) {
+            search = new WinnerSearch(net);
+            winnerSearch = search;
+        }
+        return search;
+    }
+
+    /**
+     * Adapts the network to the given sample.
+     *
+     * @param net Network.
+     * @param features Sample.
+     * @param s1 Best matching unit.
+     * @param s2 Second best matching unit.
+     * @param numCalls Current step.
+     */
+    private void adapt(Network net,
+                       double[] features,
+                       Neuron s1,
+                       Neuron s2,
+                       long numCalls) {
+        final State state1 = getState(s1);
+        final double d = distance.applyAsDouble(s1.getFeatures(), features);
+        state1.addError(d * d, numCalls);
+
+        s1.moveTowards(features, winnerRate);
+        final List<Neuron> expired = new ArrayList<>();
+        for (final Neuron n : net.getNeighbours(s1)) {
+            n.moveTowards(features, neighbourRate);
+            final int age = state1.incrementAge(n.getIdentifier());
+            getState(n).setAge(s1.getIdentifier(), age);
+            if (age > maxLinkAge &&
+                n != s2) {
+                expired.add(n);
+            }
+        }
+
+        // Connect the two winners.
+        link(net, s1, s2);
+
+        // Remove expired links, and the neurons left without links.
+        for (final Neuron n : expired) {
+            unlink(net, s1, n);
+            if (net.getNeighbours(n).isEmpty()) {
+                net.deleteNeuron(n);
+                states.remove(n.getIdentifier());
+            }
+        }
+    }
+
+    /**
+     * Inserts a neuron in the region with the largest error.
+     *
+     * @param net Network.
+     * @param numCalls Current step.
+     */
+    private void insert(Network net,
+                        long numCalls) {
+        int size = 0;
+        for (final Neuron n : net) {
+            ++size;
+        }
+        if (size >= maxNeurons) {
+            return;
+        }
+
+        final Neuron q = findLargestError(net, numCalls);
+        if (q == null) {
+            return;
+        }
+        final Neuron f = findLargestError(net.getNeighbours(q), numCalls);
+        if (f == null) {
+            return;
+        }
+
+        final double[] wq = q.getFeatures();
+        final double[] wf = f.getFeatures();
+        final double[] wr = new double[wq.length];
+        for (int i = 0; i < wr.length; i++) {
+            wr[i] = 0.5 * (wq[i] + wf[i]);
+        }
+        final Neuron r = net.getNeuron(net.createNeuron(wr));
+
+        unlink(net, q, f);
+        link(net, q, r);
+        link(net, r, f);
+
+        final State stateQ = getState(q);
+        final State stateF = getState(f);
+        stateQ.scaleError(INSERTION_ERROR_FACTOR, numCalls);
+        stateF.scaleError(INSERTION_ERROR_FACTOR, numCalls);
+        getState(r).addError(stateQ.getError(numCalls), numCalls);
+    }
+
+    /**
+     * @param neurons Candidates.
+     * @param numCalls Current step.
+     * @return the candidate with the largest accumulated error, or
+     * {@code null} if no candidate has a positive error.
+     */
+    private Neuron findLargestError(Iterable<Neuron> neurons,
+                                    long numCalls) {
+        Neuron largest = null;
+        double largestError = 0;
+        for (final Neuron n : neurons) {
+            final State s = states.get(n.getIdentifier());
+            if (s != null) {
+                final double e = s.getError(numCalls);
+                if (e > largestError) {
+                    largest = n;
+                    largestError = e;
+                }
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * Creates a bi-directional link with age zero.
+     *
+     * @param net Network.
+     * @param a Neuron.
+     * @param b Neuron.
+     */
+    private void link(Network net,
+                      Neuron a,
+                      Neuron b) {
+        net.addLink(a, b);
+        net.addLink(b, a);
+        getState(a).setAge(b.getIdentifier(), 0);
+        getState(b).setAge(a.getIdentifier(), 0);
+    }
+
+    /**
+     * Deletes a bi-directional link.
+     *
+     * @param net Network.
+     * @param a Neuron.
+     * @param b Neuron.
+     */
+    private void unlink(Network net,
+                        Neuron a,
+                        Neuron b) {
+        net.deleteLink(a, b);
+        net.deleteLink(b, a);
+        getState(a).removeAge(b.getIdentifier());
+        getState(b).removeAge(a.getIdentifier());
+    }
+
+    /**
+     * @param n Neuron.
+     * @return the state associated with the neuron (created if necessary).
+     */
+    private State getState(Neuron n) {
+        return states.computeIfAbsent(n.getIdentifier(), id -> new State());
+    }
+
+    /**
+     * @param net Network.
+     * @param n Neuron.
+     * @return whether {@code n} belongs to {@code net}.
+     */
+    private static boolean isMember(Network net,
+                                    Neuron n) {
+        try {
+            return net.getNeuron(n.getIdentifier()) == n;
+        } catch (NoSuchElementException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param rate Rate.
+     * @throws IllegalArgumentException if {@code rate} is not in {@code [0, 1]}.
+     */
+    private static void checkRate(double rate) {
+        if (rate < 0 ||
+            rate > 1) {
+            throw new NeuralNetException(NeuralNetException.OUT_OF_RANGE, rate, 0, 1);
+        }
+    }
+
+    /**
+     * Accumulated error and link ages of a neuron.
+     * The error decay is applied lazily: The stored value is the error at
+     * the step of its last modification.
+     */
+    private final class State {
+        /** Link ages, indexed by the identifier of the neighbour. */
+        private final Map<Long, Integer> ages = new HashMap<>();
+        /** Error at {@link #step}. */
+        private double error;
+        /** Step of the last modification of {@link #error}. */
+        private long step;
+
+        /**
+         * @param numCalls Current step.
+         * @return the error at the current step.
+         */
+        double getError(long numCalls) {
+            return numCalls == step ?
+                error :
+                error * Math.pow(errorRetention, numCalls - step);
+        }
+
+        /**
+         * @param e Error to be added.
+         * @param numCalls Current step.
+         */
+        void addError(double e,
+                      long numCalls) {
+            error = getError(numCalls) + e;
+            step = numCalls;
+        }
+
+        /**
+         * @param factor Factor.
+         * @param numCalls Current step.
+         */
+        void scaleError(double factor,
+                        long numCalls) {
+            error = getError(numCalls) * factor;
+            step = numCalls;
+        }
+
+        /**
+         * @param id Neighbour.
+         * @return the new age of the link.
+         */
+        int incrementAge(long id) {
+            return ages.merge(id, 1, Integer::sum);
+        }
+
+        /**
+         * @param id Neighbour.
+         * @param age Age of the link.
+         */
+        void setAge(long id,
+                    int age) {
+            ages.put(id, age);
+        }
+
+        /**
+         * @param id Neighbour.
+         */
+        void removeAge(long id) {
+            ages.remove(id);
+        }
+    }
+
+    /**
+     * Search for the winning neurons among the neurons of a network.
+     */
+    private final class WinnerSearch {
+        /** Searched network. */
+        private final Network network;
+        /** Version of the topology of the network that was read. */
+        private final long topologyVersion;
+        /** Ranking of the neurons. */
+        private final MapRanking ranking;
+
+        /**
+         * @param net Network.
+         */
+        WinnerSearch(Network net) {
+            network = net;
+            // Version must be retrieved before the neurons are read.
+            topologyVersion = net.getTopologyVersion();
+            ranking = new MapRanking(net, distance);
+        }
+
+        /**
+         * @param net Network.
+         * @return {@code true} if {@code net} is the searched network, and
+         * its topology has not been modified since.
+         */
+        boolean isValidFor(Network net) {
+            return net == network &&
+                net.getTopologyVersion() == topologyVersion;
+        }
+    }
+}
@@ -68,7 +68,7 @@ public class NeuronString implements Serializable {
         this.wrap = wrap;
 
         final int fLen = featuresList[0].length;
-        network = new Network(0, fLen);
+        network = new Network(0, fLen, size);
         identifiers = new long[size];
 
         // Add neurons.
@@ -111,7 +111,7 @@ public class NeuronString implements Serializable {
         identifiers = new long[num];
 
         final int fLen = featureInit.length;
-        network = new Network(0, fLen);
+        network = new Network(0, fLen, size);
 
         // Add neurons.
         for (int i = 0; i < num; i++) {
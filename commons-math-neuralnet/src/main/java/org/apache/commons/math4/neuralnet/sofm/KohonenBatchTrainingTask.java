@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet.sofm;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.math4.neuralnet.Network;
+
+/**
+ * Batch trainer for Kohonen's Self-Organizing Map.
+ *
+ * @see KohonenBatchUpdateAction
+ * @since 4.0
+ */
+public class KohonenBatchTrainingTask implements Runnable {
+    /** SOFM to be trained. */
+    private final Network net;
+    /** Training data. */
+    private final List<double[]> samples;
+    /** Number of passes over the training data. */
+    private final int numberOfEpochs;
+    /** Update procedure. */
+    private final KohonenBatchUpdateAction updateAction;
+    /** Executor that runs the shards of each epoch. */
+    private final Executor executor;
+
+    /**
+     * Creates a sequential trainer for the given network.
+     *
+     * @param net Network to be trained with the batch SOFM algorithm.
+     * @param samples Training data.
+     * @param numberOfEpochs Number of passes over the training data.
+     * @param updateAction Batch SOFM update procedure.
+     */
+    public KohonenBatchTrainingTask(Network net,
+                                    List<double[]> samples,
+                                    int numberOfEpochs,
+                                    KohonenBatchUpdateAction updateAction) {
+        this(net, samples, numberOfEpochs, updateAction, Runnable::run);
+    }
+
+    /**
+     * Creates a trainer for the given network whose epochs are
+     * split into shards run by the given {@code executor}.
+     *
+     * @param net Network to be trained with the batch SOFM algorithm.
+     * @param samples Training data.
+     * @param numberOfEpochs Number of passes over the training data.
+     * @param updateAction Batch SOFM update procedure.
+     * @param executor Executor that will run the shards of each epoch.
+     */
+    public KohonenBatchTrainingTask(Network net,
+                                    List<double[]> samples,
+                                    int numberOfEpochs,
+                                    KohonenBatchUpdateAction updateAction,
+                                    Executor executor) {
+        this.net = net;
+        this.samples = samples;
+        this.numberOfEpochs = numberOfEpochs;
+        this.updateAction = updateAction;
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        for (int i = 0; i < numberOfEpochs; i++) {
+            updateAction.update(net, samples, executor);
+        }
+    }
+}
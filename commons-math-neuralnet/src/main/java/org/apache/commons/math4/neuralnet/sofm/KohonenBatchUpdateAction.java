@@ -0,0 +1,401 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet.sofm;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+import org.apache.commons.math4.neuralnet.DistanceMeasure;
+import org.apache.commons.math4.neuralnet.Network;
+import org.apache.commons.math4.neuralnet.Neuron;
+import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
+
+/**
+ * Batch update formula for <a href="http://en.wikipedia.org/wiki/Kohonen">
+ * Kohonen's Self-Organizing Map</a>.
+ * <br>
+ * Each call to the {@link #update(Network,List,Executor) update} method
+ * performs one training epoch over the whole data set:
+ * <ol>
+ *  <li>The data is split into a fixed number of contiguous shards.
+ *   Each shard searches the best-matching unit of its samples, and
+ *   accumulates, in buffers private to the shard, the sum {@code S}
+ *   of the samples and the number of hits {@code n} of each unit.</li>
+ *  <li>The shard buffers are reduced, in shard order.</li>
+ *  <li>The features {@code w} of each neuron {@code j} are updated
+ *   according to the following rule:
+ *   <code>
+ *    w<sub>new</sub> = w<sub>old</sub> + &alpha; (m<sub>j</sub> - w<sub>old</sub>)
+ *   </code>
+ *   where
+ *   <code>
+ *    m<sub>j</sub> = &Sigma;<sub>i</sub> h<sub>ij</sub> S<sub>i</sub> /
+ *    &Sigma;<sub>i</sub> h<sub>ij</sub> n<sub>i</sub>
+ *   </code>
+ *   is the neighbourhood-weighted mean of the data, with
+ *   <code>
+ *    h<sub>ij</sub> = e<sup>(-d<sup>2</sup> / 2&sigma;<sup>2</sup>)</sup>
+ *   </code>
+ *   and {@code d} the number of links to traverse in order to reach
+ *   neuron {@code j} from unit {@code i}.</li>
+ * </ol>
+ * &alpha; is the current <em>learning rate</em> (a value of 1 yields the
+ * classical batch SOM), and &sigma; is the current <em>neighbourhood size</em>.
+ * Neurons that cannot be reached from any best-matching unit are left
+ * unchanged.
+ * <br>
+ * The partition of the data only depends on the number of samples and on
+ * the number of shards set at construction; the sums are always performed
+ * in the same order. Hence, the result of an update does not depend on the
+ * {@link Executor} (nor on its number of threads).
+ * <br>
+ * Each call to the {@link #update(Network,List,Executor) update} method
+ * will increment the internal counter used to compute the current values
+ * of the learning rate and of the neighbourhood size: The functions passed
+ * to the constructor are thus evaluated once per <em>epoch</em>.
+ *
+ * @since 4.0
+ */
+public class KohonenBatchUpdateAction {
+    /** Distance function. */
+    private final DistanceMeasure distance;
+    /** Learning factor update function. */
+    private final LearningFactorFunction learningFactor;
+    /** Neighbourhood size update function. */
+    private final NeighbourhoodSizeFunction neighbourhoodSize;
+    /** Maximum number of data shards. */
+    private final int numberOfShards;
+    /** Number of calls to {@link #update(Network,List,Executor)}. */
+    private final AtomicLong numberOfCalls = new AtomicLong(0);
+
+    /**
+     * @param distance Distance function.
+     * @param learningFactor Learning factor update function.
+     * @param neighbourhoodSize Neighbourhood size update function.
+     * @param numberOfShards Number of shards into which the data (and the
+     * network) is split. It bounds the number of tasks that can run
+     * concurrently.
+     * @throws IllegalArgumentException if {@code numberOfShards <= 0}.
+     */
+    public KohonenBatchUpdateAction(DistanceMeasure distance,
+                                    LearningFactorFunction learningFactor,
+                                    NeighbourhoodSizeFunction neighbourhoodSize,
+                                    int numberOfShards) {
+        if (numberOfShards <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE,
+                                         numberOfShards);
+        }
+        this.distance = distance;
+        this.learningFactor = learningFactor;
+        this.neighbourhoodSize = neighbourhoodSize;
+        this.numberOfShards = numberOfShards;
+    }
+
+    /**
+     * Performs one (sequential) training epoch.
+     *
+     * @param net Network.
+     * @param samples Training data.
+     * @throws IllegalArgumentException if {@code samples} is empty, or
+     * if the size of a sample is not compatible with the neurons features
+     * size.
+     */
+    public void update(Network net,
+                       List<double[]> samples) {
+        update(net, samples, Runnable::run);
+    }
+
+    /**
+     * Performs one training epoch, whose shards are run by the given
+     * {@code executor}.
+     * No defensive copy of the {@code samples} is performed: The list
+     * must not be modified while this method is running.
+     *
+     * @param net Network.
+     * @param samples Training data.
+     * @param executor Executor that will run the shards.
+     * @throws IllegalArgumentException if {@code samples} is empty, or
+     * if the size of a sample is not compatible with the neurons features
+     * size.
+     */
+    public void update(Network net,
+                       List<double[]> samples,
+                       Executor executor) {
+        final int numSamples = samples.size();
+        if (numSamples == 0) {
+            throw new NeuralNetException(NeuralNetException.NO_DATA);
+        }
+        final int featureSize = net.getFeaturesSize();
+        for (final double[] sample : samples) {
+            if (sample.length != featureSize) {
+                throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
+                                             sample.length, featureSize);
+            }
+        }
+
+        final long numCalls = numberOfCalls.incrementAndGet() - 1;
+        final double currentLearning = learningFactor.value(numCalls);
+        final int currentNeighbourhood = neighbourhoodSize.value(numCalls);
+
+        // Snapshot of the network (in a reproducible order).
+        final Neuron[] neurons = net.getNeurons(new Network.NeuronIdentifierComparator())
+            .toArray(new Neuron[0]);
+        final int numNeurons = neurons.length;
+        final double[][] weights = new double[numNeurons][];
+        for (int i = 0; i < numNeurons; i++) {
+            weights[i] = neurons[i].getFeatures();
+        }
+
+        // Best-matching units search and per-shard accumulation.
+        final int dataShards = Math.min(numberOfShards, numSamples);
+        final double[][] shardSums = new double[dataShards][];
+        final long[][] shardHits = new long[dataShards][];
+        forEachShard(dataShards, executor, s -> {
+            final double[] sum = new double[numNeurons * featureSize];
+            final long[] hits = new long[numNeurons];
+            final int to = shardBound(s + 1, dataShards, numSamples);
+            for (int k = shardBound(s, dataShards, numSamples); k < to; k++) {
+                final double[] sample = samples.get(k);
+                final int best = findBest(weights, sample);
+                ++hits[best];
+                final int offset = best * featureSize;
+                for (int f = 0; f < featureSize; f++) {
+                    sum[offset + f] += sample[f];
+                }
+            }
+            shardSums[s] = sum;
+            shardHits[s] = hits;
+        });
+
+        // Reduction (always performed in the same order).
+        final double[] sum = shardSums[0];
+        final long[] hits = shardHits[0];
+        for (int s = 1; s < dataShards; s++) {
+            final double[] otherSum = shardSums[s];
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] += otherSum[i];
+            }
+            final long[] otherHits = shardHits[s];
+            for (int i = 0; i < numNeurons; i++) {
+                hits[i] += otherHits[i];
+            }
+        }
+
+        // Neighbourhood-weighted means, and update.
+        final int[][] incoming = incomingLinks(net, neurons);
+        final double i2s2 = currentNeighbourhood > 0 ?
+            1d / (2d * currentNeighbourhood * currentNeighbourhood) :
+            0;
+        final int neuronShards = Math.min(numberOfShards, numNeurons);
+        forEachShard(neuronShards, executor, s -> {
+            final int[] hops = new int[numNeurons];
+            Arrays.fill(hops, -1);
+            final int[] queue = new int[numNeurons];
+            final double[] mean = new double[featureSize];
+            final int to = shardBound(s + 1, neuronShards, numNeurons);
+            for (int j = shardBound(s, neuronShards, numNeurons); j < to; j++) {
+                // Breadth-first traversal of the units from which "j" can be
+                // reached with at most "currentNeighbourhood" links.
+                Arrays.fill(mean, 0);
+                double norm = 0;
+                queue[0] = j;
+                hops[j] = 0;
+                int head = 0;
+                int tail = 1;
+                while (head < tail) {
+                    final int i = queue[head++];
+                    final int d = hops[i];
+                    if (hits[i] != 0) {
+                        final double h = Math.exp(-d * d * i2s2);
+                        norm += h * hits[i];
+                        final int offset = i * featureSize;
+                        for (int f = 0; f < featureSize; f++) {
+                            mean[f] += h * sum[offset + f];
+                        }
+                    }
+                    if (d < currentNeighbourhood) {
+                        for (final int k : incoming[i]) {
+                            if (hops[k] < 0) {
+                                hops[k] = d + 1;
+                                queue[tail++] = k;
+                            }
+                        }
+                    }
+                }
+                for (int q = 0; q < tail; q++) {
+                    hops[queue[q]] = -1;
+                }
+
+                if (norm > 0) {
+                    for (int f = 0; f < featureSize; f++) {
+                        mean[f] /= norm;
+                    }
+                    updateNeuron(neurons[j], mean, currentLearning);
+                }
+            }
+        });
+    }
+
+    /**
+     * Retrieves the number of calls to the
+     * {@link #update(Network,List,Executor) update} method.
+     *
+     * @return the current number of calls.
+     */
+    public long getNumberOfCalls() {
+        return numberOfCalls.get();
+    }
+
+    /**
+     * Gets the number of shards.
+     *
+     * @return the number of shards set at construction.
+     */
+    public int getNumberOfShards() {
+        return numberOfShards;
+    }
+
+    /**
+     * Searches the unit whose features are closest to the given sample.
+     * In case of ties, the unit with the lowest index is selected.
+     *
+     * @param weights Features of the units.
+     * @param sample Sample data.
+     * @return the index of the best-matching unit.
+     */
+    private int findBest(double[][] weights,
+                         double[] sample) {
+        int best = 0;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < weights.length; i++) {
+            final double d = distance.applyAsDouble(weights[i], sample);
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Atomically moves the features of the given neuron towards
+     * the given target.
+     *
+     * @param n Neuron to be updated.
+     * @param target Target features.
+     * @param learningRate Learning factor.
+     */
+    private static void updateNeuron(Neuron n,
+                                     double[] target,
+                                     double learningRate) {
+        final int len = target.length;
+        while (true) {
+            final double[] expect = n.getFeatures();
+            final double[] update = new double[len];
+            for (int i = 0; i < len; i++) {
+                final double c = expect[i];
+                update[i] = c + learningRate * (target[i] - c);
+            }
+            if (n.compareAndSetFeatures(expect, update)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Computes, for each neuron, the (sorted) indices of the neurons
+     * from which it can be reached by traversing one link.
+     *
+     * @param net Network.
+     * @param neurons Neurons of {@code net}.
+     * @return the incoming links of each neuron (as indices in
+     * {@code neurons}).
+     */
+    private static int[][] incomingLinks(Network net,
+                                         Neuron[] neurons) {
+        final int numNeurons = neurons.length;
+        final Map<Long, Integer> index = new HashMap<>();
+        for (int i = 0; i < numNeurons; i++) {
+            index.put(neurons[i].getIdentifier(), i);
+        }
+
+        final int[][] outgoing = new int[numNeurons][];
+        final int[] count = new int[numNeurons];
+        for (int i = 0; i < numNeurons; i++) {
+            outgoing[i] = net.getNeighbours(neurons[i]).stream()
+                .mapToInt(n -> index.get(n.getIdentifier()))
+                .toArray();
+            for (final int k : outgoing[i]) {
+                ++count[k];
+            }
+        }
+
+        final int[][] incoming = new int[numNeurons][];
+        for (int k = 0; k < numNeurons; k++) {
+            incoming[k] = new int[count[k]];
+            count[k] = 0;
+        }
+        // Outgoing links are visited in increasing order of the source:
+        // incoming links are thus sorted.
+        for (int i = 0; i < numNeurons; i++) {
+            for (final int k : outgoing[i]) {
+                incoming[k][count[k]++] = i;
+            }
+        }
+        return incoming;
+    }
+
+    /**
+     * Computes the lower bound of a shard.
+     *
+     * @param shard Shard index.
+     * @param numShards Number of shards.
+     * @param size Number of elements to split.
+     * @return the index of the first element of the shard.
+     */
+    private static int shardBound(int shard,
+                                  int numShards,
+                                  int size) {
+        return (int) ((long) size * shard / numShards);
+    }
+
+    /**
+     * Runs the given task for each shard, and waits for all of them
+     * to complete.
+     *
+     * @param numShards Number of shards.
+     * @param executor Executor.
+     * @param task Task to be run for each shard index.
+     */
+    private static void forEachShard(int numShards,
+                                     Executor executor,
+                                     IntConsumer task) {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[numShards];
+        for (int s = 0; s < numShards; s++) {
+            final int shard = s;
+            futures[s] = CompletableFuture.runAsync(() -> task.accept(shard), executor);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet.sofm;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.commons.math4.neuralnet.Network;
+import org.apache.commons.math4.neuralnet.NetworkSnapshot;
+import org.apache.commons.math4.neuralnet.Neuron;
+import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
+
+/**
+ * Online trainer for Kohonen's Self-Organizing Map, fed by an unbounded
+ * source of samples.
+ * <br>
+ * Samples are submitted to a bounded queue: When the workers cannot keep
+ * up with the producers, {@link #put(double[]) put} blocks and
+ * {@link #offer(double[],long,TimeUnit) offer} times out, so that the
+ * rate of ingestion adapts to the rate of training.
+ * <br>
+ * The decay of the learning factor and of the neighbourhood size is
+ * controlled by a {@link StreamingSchedule} (e.g. the time elapsed
+ * since the start of the training) rather than by the number of calls
+ * to the {@link KohonenUpdateAction update action}.
+ * <br>
+ * Every {@code publicationInterval} samples, a {@link NetworkSnapshot
+ * snapshot} of the network is published: All the neurons in a snapshot
+ * are captured in the same state of the training. Readers obtain the
+ * latest snapshot with {@link #getSnapshot()}, and can query it while
+ * the training continues; the snapshot is shared by all readers, and
+ * the trained network is never exposed to them.
+ * Since the topology of the network does not change, a publication only
+ * copies the features of the neurons, while the training is paused, into
+ * a new array that backs the published snapshot (the neurons and links
+ * are shared with the previous snapshot).
+ * <br>
+ * If the update of the network fails, the training stops: The samples
+ * that are still queued are discarded, no further samples are accepted,
+ * and the failure is reported (as the cause of an
+ * {@link IllegalStateException}) by the submission methods and by
+ * {@link #awaitTermination(long,TimeUnit) awaitTermination}.
+ * <br>
+ * This class is thread-safe.
+ *
+ * @since 4.0
+ */
+public class KohonenStreamingTrainer {
+    /** Marker that instructs a worker to terminate. */
+    private static final double[] END = new double[0];
+    /** SOFM to be trained. */
+    private final Network net;
+    /** Update procedure. */
+    private final KohonenUpdateAction updateAction;
+    /** Schedule. */
+    private final StreamingSchedule schedule;
+    /** Number of samples between publications. */
+    private final long publicationInterval;
+    /** Pending samples. */
+    private final BlockingQueue<double[]> queue;
+    /**
+     * Guards the consistency of the snapshots: Workers update the network
+     * concurrently (read lock) while a publication requires exclusive
+     * access (write lock).
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Number of samples taken from the queue. */
+    private final AtomicLong numberOfSamples = new AtomicLong(0);
+    /** Number of running workers. */
+    private final AtomicInteger activeWorkers = new AtomicInteger(0);
+    /** Signals that all the workers have terminated. */
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    /** Number of workers started. */
+    private int numberOfWorkers;
+    /** Whether the trainer has been shut down. */
+    private volatile boolean isShutdown;
+    /** Latest snapshot. */
+    private volatile NetworkSnapshot snapshot;
+    /** Neurons, in the order of their index in the snapshots. */
+    private final Neuron[] neurons;
+    /** First exception thrown by the update action (or {@code null}). */
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    /**
+     * Creates a trainer for the given network.
+     * An initial snapshot is published before this constructor returns.
+     *
+     * @param net Network to be trained with the SOFM algorithm.
+     * The network must not be modified by other means as long as the
+     * training is running.
+     * @param updateAction SOFM update procedure.
+     * @param schedule Training schedule.
+     * @param queueCapacity Maximum number of pending samples.
+     * @param publicationInterval Number of samples between two
+     * publications of a snapshot.
+     * @throws IllegalArgumentException if {@code queueCapacity <= 0} or
+     * {@code publicationInterval <= 0}.
+     */
+    public KohonenStreamingTrainer(Network net,
+                                   KohonenUpdateAction updateAction,
+                                   StreamingSchedule schedule,
+                                   int queueCapacity,
+                                   long publicationInterval) {
+        if (queueCapacity <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, queueCapacity);
+        }
+        if (publicationInterval <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, publicationInterval);
+        }
+
+        this.net = net;
+        this.updateAction = updateAction;
+        this.schedule = schedule;
+        this.publicationInterval = publicationInterval;
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        snapshot = NetworkSnapshot.of(net);
+
+        neurons = new Neuron[snapshot.size()];
+        for (int i = 0; i < neurons.length; i++) {
+            neurons[i] = net.getNeuron(snapshot.getIdentifier(i));
+        }
+    }
+
+    /**
+     * Starts the workers.
+     *
+     * @param executor Executor that will run the workers.
+     * Each worker occupies one of its threads until the trainer is
+     * {@link #shutdown() shut down}.
+     * @param workers Number of workers.
+     * @throws IllegalArgumentException if {@code workers <= 0}.
+     * @throws IllegalStateException if the trainer has already been
+     * started or shut down.
+     */
+    public synchronized void start(Executor executor,
+                                   int workers) {
+        if (workers <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, workers);
+        }
+        if (numberOfWorkers != 0 ||
+            isShutdown) {
+            throw new IllegalStateException();
+        }
+
+        numberOfWorkers = workers;
+        activeWorkers.set(workers);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::work);
+        }
+    }
+
+    /**
+     * Submits a sample, waiting if necessary for space to become available.
+     *
+     * @param sample Training data.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws IllegalArgumentException if the size of the sample is not
+     * compatible with the neurons features size.
+     * @throws IllegalStateException if the trainer has been shut down,
+     * or if the training has failed (in which case the cause is the
+     * exception thrown by the update action).
+     */
+    public void put(double[] sample) throws InterruptedException {
+        checkSubmission(sample);
+        queue.put(sample);
+    }
+
+    /**
+     * Submits a sample, waiting up to the specified time if necessary for
+     * space to become available.
+     *
+     * @param sample Training data.
+     * @param timeout How long to wait before giving up.
+     * @param unit Unit of {@code timeout}.
+     * @return {@code true} if the sample has been queued, {@code false}
+     * if the time elapsed before space was available.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws IllegalArgumentException if the size of the sample is not
+     * compatible with the neurons features size.
+     * @throws IllegalStateException if the trainer has been shut down,
+     * or if the training has failed (in which case the cause is the
+     * exception thrown by the update action).
+     */
+    public boolean offer(double[] sample,
+                         long timeout,
+                         TimeUnit unit) throws InterruptedException {
+        checkSubmission(sample);
+        return queue.offer(sample, timeout, unit);
+    }
+
+    /**
+     * Initiates an orderly shutdown: No new samples are accepted, the
+     * samples already queued are processed, and a final snapshot is
+     * published once all the workers have terminated.
+     * Samples submitted concurrently with this call may be ignored.
+     *
+     * @throws InterruptedException if interrupted while waiting for
+     * space in the queue.
+     */
+    public void shutdown() throws InterruptedException {
+        final int workers;
+        synchronized (this) {
+            if (isShutdown) {
+                return;
+            }
+            isShutdown = true;
+            workers = numberOfWorkers;
+        }
+
+        if (workers == 0) {
+            // Never started.
+            terminated.countDown();
+        }
+        for (int i = 0; i < workers && failure.get() == null; i++) {
+            queue.put(END);
+        }
+    }
+
+    /**
+     * Waits until all the workers have terminated after a
+     * {@link #shutdown() shutdown} request.
+     *
+     * @param timeout Maximum time to wait.
+     * @param unit Unit of {@code timeout}.
+     * @return {@code true} if the workers have terminated, {@code false}
+     * if the time elapsed before termination.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws IllegalStateException if the training has failed (the cause
+     * is the exception thrown by the update action).
+     */
+    public boolean awaitTermination(long timeout,
+                                    TimeUnit unit) throws InterruptedException {
+        final boolean done = terminated.await(timeout, unit);
+        checkFailure();
+        return done;
+    }
+
+    /**
+     * Retrieves the latest published snapshot.
+     *
+     * @return a consistent read-only view of the network.
+     */
+    public NetworkSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Retrieves the number of samples taken from the queue by the workers.
+     *
+     * @return the number of samples.
+     */
+    public long getNumberOfSamples() {
+        return numberOfSamples.get();
+    }
+
+    /**
+     * Worker loop.
+     */
+    private void work() {
+        try {
+            while (true) {
+                final double[] sample = queue.take();
+                if (sample == END ||
+                    failure.get() != null) {
+                    break;
+                }
+                train(sample);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            fail(e);
+        } finally {
+            if (activeWorkers.decrementAndGet() == 0) {
+                if (failure.get() == null) {
+                    publish();
+                } else {
+                    // Unblock the producers.
+                    queue.clear();
+                }
+                terminated.countDown();
+            }
+        }
+    }
+
+    /**
+     * Records a failure of the training, and stops the other workers.
+     *
+     * @param e Exception thrown by the update action.
+     */
+    private void fail(RuntimeException e) {
+        if (!failure.compareAndSet(null, e)) {
+            return;
+        }
+        isShutdown = true;
+        // Workers waiting for a sample stop on the marker; otherwise,
+        // they stop at the next sample.
+        queue.clear();
+        for (int i = 1; i < numberOfWorkers; i++) {
+            queue.offer(END);
+        }
+    }
+
+    /**
+     * Updates the network and publishes a snapshot if required.
+     *
+     * @param sample Training data.
+     */
+    private void train(double[] sample) {
+        final long n = numberOfSamples.getAndIncrement();
+        lock.readLock().lock();
+        try {
+            updateAction.update(net, sample, schedule.value(n));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if ((n + 1) % publicationInterval == 0) {
+            publish();
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the current state of the network.
+     * Only the copy of the features is performed while the workers are
+     * paused.
+     * The features are copied into a new array, since the previous
+     * snapshots may still be in use by readers.
+     */
+    private synchronized void publish() {
+        final int featureSize = net.getFeaturesSize();
+        final double[] publication = new double[neurons.length * featureSize];
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < neurons.length; i++) {
+                neurons[i].getFeatures(publication, i * featureSize);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        snapshot = snapshot.withFeatures(publication);
+    }
+
+    /**
+     * @param sample Training data.
+     * @throws IllegalArgumentException if the size of the sample is not
+     * compatible with the neurons features size.
+     * @throws IllegalStateException if the trainer has been shut down.
+     */
+    private void checkSubmission(double[] sample) {
+        checkFailure();
+        if (isShutdown) {
+            throw new IllegalStateException();
+        }
+        if (sample.length != net.getFeaturesSize()) {
+            throw new NeuralNetException(NeuralNetException.SIZE_MISMATCH,
+                                         sample.length, net.getFeaturesSize());
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if the training has failed.
+     */
+    private void checkFailure() {
+        final RuntimeException e = failure.get();
+        if (e != null) {
+            throw new IllegalStateException("Training failed", e);
+        }
+    }
+}
@@ -17,16 +17,18 @@
 
 package org.apache.commons.math4.neuralnet.sofm;
 
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.DoubleUnaryOperator;
 
 import org.apache.commons.math4.neuralnet.DistanceMeasure;
+import org.apache.commons.math4.neuralnet.MapIndex;
 import org.apache.commons.math4.neuralnet.MapRanking;
+import org.apache.commons.math4.neuralnet.NeighbourhoodIndex;
 import org.apache.commons.math4.neuralnet.Network;
 import org.apache.commons.math4.neuralnet.Neuron;
 import org.apache.commons.math4.neuralnet.UpdateAction;
+import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
 
 /**
  * Update formula for <a href="http://en.wikipedia.org/wiki/Kohonen">
@@ -62,6 +64,28 @@ import org.apache.commons.math4.neuralnet.UpdateAction;
  * to the constructor of this class) must take into account whether this
  * class's instance will be shared by multiple threads, as this will impact
  * the training process.
+ * Alternatively, the schedule can be controlled by the caller (see
+ * {@link #update(Network,double[],long)}).
+ * <br>
+ * The neighbourhoods are retrieved from a {@link NeighbourhoodIndex}
+ * that is cached (and rebuilt only when the topology of the network
+ * has been modified).
+ * So is the structure used to search for the winning neuron: By default,
+ * a {@link MapRanking} (exact search); or a {@link MapIndex} (approximate
+ * search whose cost does not depend on the size of the map), see
+ * {@link #KohonenUpdateAction(DistanceMeasure,LearningFactorFunction,
+ * NeighbourhoodSizeFunction,int,long)}.
+ * <br>
+ * The winning neuron is updated with
+ * {@link Neuron#compareAndMoveTowards(double[],double[],double)}: If
+ * another thread modified its features in the meantime, the winner search
+ * is performed again.
+ * The other neurons are updated with
+ * {@link Neuron#moveTowards(double[],double)}.
+ * Both work in place, and hence do not allocate memory, only when the
+ * features are stored contiguously (see {@link Network#Network(long,int,int)},
+ * used e.g. by {@link org.apache.commons.math4.neuralnet.twod.NeuronSquareMesh2D});
+ * otherwise, a new array is allocated by the update of each neuron.
  *
  * @since 3.3
  */
@@ -74,6 +98,16 @@ public class KohonenUpdateAction implements UpdateAction {
     private final NeighbourhoodSizeFunction neighbourhoodSize;
     /** Number of calls to {@link #update(Network,double[])}. */
     private final AtomicLong numberOfCalls = new AtomicLong(0);
+    /** Maximum number of distance computations per winner search (or zero). */
+    private final int maxChecks;
+    /** Number of winner searches between refreshes of the {@link MapIndex}. */
+    private final long refreshInterval;
+    /** Neighbourhoods of the last updated network. */
+    private volatile NeighbourhoodIndex neighbourhoods;
+    /** Winner search in the last updated network. */
+    private volatile WinnerSearch winnerSearch;
+    /** Features of the winning neuron, as assumed by the updating thread. */
+    private final ThreadLocal<double[]> expectBuffer = ThreadLocal.withInitial(() -> new double[0]);
 
     /**
      * @param distance Distance function.
@@ -86,6 +120,43 @@ public class KohonenUpdateAction implements UpdateAction {
         this.distance = distance;
         this.learningFactor = learningFactor;
         this.neighbourhoodSize = neighbourhoodSize;
+        maxChecks = 0;
+        refreshInterval = 0;
+    }
+
+    /**
+     * Creates an update action whose winning neuron is searched with a
+     * {@link MapIndex} (i.e. approximately).
+     *
+     * @param distance Distance function.
+     * @param learningFactor Learning factor update function.
+     * @param neighbourhoodSize Neighbourhood size update function.
+     * @param maxChecks Maximum number of units whose features are
+     * compared to a training sample, in a single search.
+     * @param refreshInterval Number of searches after which the snapshot
+     * of the neurons' features held by the index is refreshed.
+     * @throws IllegalArgumentException if {@code maxChecks <= 0} or
+     * {@code refreshInterval <= 0}.
+     *
+     * @since 4.0
+     */
+    public KohonenUpdateAction(DistanceMeasure distance,
+                               LearningFactorFunction learningFactor,
+                               NeighbourhoodSizeFunction neighbourhoodSize,
+                               int maxChecks,
+                               long refreshInterval) {
+        if (maxChecks <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, maxChecks);
+        }
+        if (refreshInterval <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, refreshInterval);
+        }
+
+        this.distance = distance;
+        this.learningFactor = learningFactor;
+        this.neighbourhoodSize = neighbourhoodSize;
+        this.maxChecks = maxChecks;
+        this.refreshInterval = refreshInterval;
     }
 
     /**
@@ -94,41 +165,53 @@ public class KohonenUpdateAction implements UpdateAction {
     @Override
     public void update(Network net,
                        double[] features) {
-        final long numCalls = numberOfCalls.incrementAndGet() - 1;
+        update(net, features, numberOfCalls.getAndIncrement());
+    }
+
+    /**
+     * Updates the network with the learning rate and neighbourhood size
+     * computed at the given point of the training schedule, instead of
+     * at the current value of the internal counter.
+     * This allows the decay to be driven by an external clock (e.g. the
+     * time elapsed since the start of an online training).
+     *
+     * @param net Network.
+     * @param features Training data.
+     * @param numCalls Argument passed to the learning factor and
+     * neighbourhood size functions.
+     *
+     * @since 4.0
+     */
+    public void update(Network net,
+                       double[] features,
+                       long numCalls) {
         final double currentLearning = learningFactor.value(numCalls);
-        final Neuron best = findAndUpdateBestNeuron(net,
+        final NeighbourhoodIndex index = getNeighbourhoodIndex(net);
+        final Neuron best = findAndUpdateBestNeuron(getWinnerSearch(index),
                                                     features,
                                                     currentLearning);
 
         final int currentNeighbourhood = neighbourhoodSize.value(numCalls);
-        // The farther away the neighbour is from the winning neuron, the
-        // smaller the learning rate will become.
-        final Gaussian neighbourhoodDecay
-            = new Gaussian(currentLearning, currentNeighbourhood);
 
         if (currentNeighbourhood > 0) {
-            // Initial set of neurons only contains the winning neuron.
-            Collection<Neuron> neighbours = new HashSet<>();
-            neighbours.add(best);
-            // Winning neuron must be excluded from the neighbours.
-            final HashSet<Neuron> exclude = new HashSet<>();
-            exclude.add(best);
-
-            int radius = 1;
-            do {
-                // Retrieve immediate neighbours of the current set of neurons.
-                neighbours = net.getNeighbours(neighbours, exclude);
-
-                // Update all the neighbours.
-                for (final Neuron n : neighbours) {
-                    updateNeighbouringNeuron(n, features, neighbourhoodDecay.applyAsDouble(radius));
+            final int bestIndex = index.indexOf(best);
+            // The farther away the neighbour is from the winning neuron, the
+            // smaller the learning rate will become (Gaussian decay).
+            final double i2s2 = 1d / (2d * currentNeighbourhood * currentNeighbourhood);
+
+            for (int radius = 1; radius <= currentNeighbourhood; radius++) {
+                // Each neuron belongs to a single ring: It is updated only
+                // once per training step.
+                final int[] ring = index.getRing(bestIndex, radius);
+                if (ring.length == 0) {
+                    break;
                 }
 
-                // Add the neighbours to the exclude list so that they will
-                // not be updated more than once per training step.
-                exclude.addAll(neighbours);
-                ++radius;
-            } while (radius <= currentNeighbourhood);
+                final double rate = currentLearning * Math.exp(-radius * radius * i2s2);
+                for (final int n : ring) {
+                    index.getNeuron(n).moveTowards(features, rate);
+                }
+            }
         }
     }
 
@@ -143,60 +226,63 @@ public class KohonenUpdateAction implements UpdateAction {
     }
 
     /**
-     * Tries to update a neuron.
+     * Retrieves the neighbourhoods of the given network, rebuilding the
+     * cached index if it does not reflect the current topology.
      *
-     * @param n Neuron to be updated.
-     * @param features Training data.
-     * @param learningRate Learning factor.
-     * @return {@code true} if the update succeeded, {@code true} if a
-     * concurrent update has been detected.
+     * @param net Network.
+     * @return the neighbourhood index.
      */
-    private boolean attemptNeuronUpdate(Neuron n,
-                                        double[] features,
-                                        double learningRate) {
-        final double[] expect = n.getFeatures();
-        final double[] update = computeFeatures(expect,
-                                                features,
-                                                learningRate);
-
-        return n.compareAndSetFeatures(expect, update);
+    private NeighbourhoodIndex getNeighbourhoodIndex(Network net) {
+        NeighbourhoodIndex index = neighbourhoods;
+        if (index == null ||
+            !index.isValidFor(net)) {
+            index = new NeighbourhoodIndex(net);
+            neighbourhoods = index;
+        }
+        return index;
     }
 
     /**
-     * Atomically updates the given neuron.
+     * Retrieves the winner search over the neurons of the given
+     * neighbourhood index, creating it if the cached one was built
+     * for another index (i.e. another network or topology).
      *
-     * @param n Neuron to be updated.
-     * @param features Training data.
-     * @param learningRate Learning factor.
+     * @param index Neighbourhoods of the network.
+     * @return the winner search.
      */
-    private void updateNeighbouringNeuron(Neuron n,
-                                          double[] features,
-                                          double learningRate) {
-        while (true) {
-            if (attemptNeuronUpdate(n, features, learningRate)) {
-                break;
-            }
+    private WinnerSearch getWinnerSearch(NeighbourhoodIndex index) {
+        WinnerSearch search = winnerSearch;
+        if (search == null ||
+            search.neighbourhoods != index) {
+            search = new WinnerSearch(index);
+            winnerSearch = search;
         }
+        return search;
     }
 
     /**
      * Searches for the neuron whose features are closest to the given
      * sample, and atomically updates its features.
      *
-     * @param net Network.
+     * @param search Winner search.
      * @param features Sample data.
      * @param learningRate Current learning factor.
      * @return the winning neuron.
      */
-    private Neuron findAndUpdateBestNeuron(Network net,
+    private Neuron findAndUpdateBestNeuron(WinnerSearch search,
                                            double[] features,
                                            double learningRate) {
-        final MapRanking rank = new MapRanking(net, distance);
+        double[] expect = expectBuffer.get();
+        if (expect.length != features.length) {
+            expect = new double[features.length];
+            expectBuffer.set(expect);
+        }
 
         while (true) {
-            final Neuron best = rank.rank(features, 1).get(0);
+            final Neuron best = search.best(features);
 
-            if (attemptNeuronUpdate(best, features, learningRate)) {
+            best.getFeatures(expect, 0);
+            if (best.compareAndMoveTowards(expect, features, learningRate)) {
                 return best;
             }
 
@@ -207,48 +293,43 @@ public class KohonenUpdateAction implements UpdateAction {
     }
 
     /**
-     * Computes the new value of the features set.
-     *
-     * @param current Current values of the features.
-     * @param sample Training data.
-     * @param learningRate Learning factor.
-     * @return the new values for the features.
-     */
-    private double[] computeFeatures(double[] current,
-                                     double[] sample,
-                                     double learningRate) {
-        final int len = current.length;
-        final double[] r = new double[len];
-        for (int i = 0; i < len; i++) {
-            final double c = current[i];
-            final double s = sample[i];
-            r[i] = c + learningRate * (s - c);
-        }
-        return r;
-    }
-
-    /**
-     * Gaussian function with zero mean.
+     * Search for the winning neuron among the neurons of an indexed
+     * network.
      */
-    private static class Gaussian implements DoubleUnaryOperator {
-        /** Inverse of twice the square of the standard deviation. */
-        private final double i2s2;
-        /** Normalization factor. */
-        private final double norm;
+    private final class WinnerSearch {
+        /** Neighbourhoods of the network at the time of creation. */
+        private final NeighbourhoodIndex neighbourhoods;
+        /** Exact search (or {@code null}). */
+        private final MapRanking ranking;
+        /** Approximate search (or {@code null}). */
+        private final MapIndex mapIndex;
 
         /**
-         * @param norm Normalization factor.
-         * @param sigma Standard deviation.
+         * @param neighbourhoods Neighbourhoods of the network.
          */
-        Gaussian(double norm,
-                 double sigma) {
-            this.norm = norm;
-            i2s2 = 1d / (2 * sigma * sigma);
+        WinnerSearch(NeighbourhoodIndex neighbourhoods) {
+            this.neighbourhoods = neighbourhoods;
+            final List<Neuron> neurons = new ArrayList<>(neighbourhoods.size());
+            for (int i = 0; i < neighbourhoods.size(); i++) {
+                neurons.add(neighbourhoods.getNeuron(i));
+            }
+            if (maxChecks == 0) {
+                ranking = new MapRanking(neurons, distance);
+                mapIndex = null;
+            } else {
+                ranking = null;
+                mapIndex = new MapIndex(neurons, distance, maxChecks, refreshInterval);
+            }
         }
 
-        @Override
-        public double applyAsDouble(double x) {
-            return norm * Math.exp(-x * x * i2s2);
+        /**
+         * @param features Sample data.
+         * @return the best matching unit.
+         */
+        Neuron best(double[] features) {
+            return mapIndex == null ?
+                ranking.best(features) :
+                mapIndex.best(features);
         }
     }
 }
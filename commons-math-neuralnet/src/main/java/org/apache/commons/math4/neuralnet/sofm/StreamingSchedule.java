@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet.sofm;
+
+/**
+ * Provides the current step of an online training task, i.e. the
+ * argument passed to the {@link LearningFactorFunction} and
+ * {@link NeighbourhoodSizeFunction} functions, as a function of
+ * the number of samples already processed.
+ *
+ * @see StreamingScheduleFactory
+ * @since 4.0
+ */
+public interface StreamingSchedule {
+    /**
+     * Computes the current step of the training task.
+     *
+     * @param numSamples Number of samples already processed.
+     * @return the current step.
+     */
+    long value(long numSamples);
+}
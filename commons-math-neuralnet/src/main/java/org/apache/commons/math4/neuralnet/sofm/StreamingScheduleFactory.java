@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet.sofm;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
+
+/**
+ * Factory for creating instances of {@link StreamingSchedule}.
+ * <br>
+ * The schedules created by this factory stop advancing once they
+ * reach their {@code horizon}: From then on, the learning factor
+ * and neighbourhood size remain at their final values, so that the
+ * map keeps adapting to a data source whose distribution drifts
+ * over time.
+ *
+ * @since 4.0
+ */
+public final class StreamingScheduleFactory {
+    /** Class contains only static methods. */
+    private StreamingScheduleFactory() {}
+
+    /**
+     * Creates a schedule driven by the number of processed samples.
+     * It will compute {@code min(numSamples, horizon)}.
+     *
+     * @param horizon Number of samples after which the schedule stops
+     * advancing.
+     * @return the schedule.
+     * @throws IllegalArgumentException if {@code horizon <= 0}.
+     */
+    public static StreamingSchedule window(final long horizon) {
+        if (horizon <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, horizon);
+        }
+
+        return numSamples -> Math.min(numSamples, horizon);
+    }
+
+    /**
+     * Creates a schedule driven by the time elapsed since its creation.
+     * It will compute {@code min(t, horizon)} where {@code t} is the
+     * elapsed time, in the given {@code unit}.
+     *
+     * @param unit Unit of the schedule steps.
+     * @param horizon Elapsed time (in the given {@code unit}) after which
+     * the schedule stops advancing.
+     * @return the schedule.
+     * @throws IllegalArgumentException if {@code horizon <= 0}.
+     */
+    public static StreamingSchedule time(TimeUnit unit,
+                                         long horizon) {
+        return time(System::nanoTime, unit, horizon);
+    }
+
+    /**
+     * Creates a schedule driven by the time elapsed since its creation.
+     * It will compute {@code min(t, horizon)} where {@code t} is the
+     * elapsed time, in the given {@code unit}.
+     *
+     * @param nanoClock Time source, in nanoseconds (e.g.
+     * {@link System#nanoTime()}).
+     * @param unit Unit of the schedule steps.
+     * @param horizon Elapsed time (in the given {@code unit}) after which
+     * the schedule stops advancing.
+     * @return the schedule.
+     * @throws IllegalArgumentException if {@code horizon <= 0}.
+     */
+    public static StreamingSchedule time(final LongSupplier nanoClock,
+                                         final TimeUnit unit,
+                                         final long horizon) {
+        if (horizon <= 0) {
+            throw new NeuralNetException(NeuralNetException.NOT_STRICTLY_POSITIVE, horizon);
+        }
+
+        final long start = nanoClock.getAsLong();
+        return numSamples -> Math.min(unit.convert(nanoClock.getAsLong() - start, TimeUnit.NANOSECONDS),
+                                      horizon);
+    }
+}
@@ -21,18 +21,19 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Collection;
+import java.util.concurrent.Executor;
 import java.io.Serializable;
 import java.io.ObjectInputStream;
 
 import org.apache.commons.math4.neuralnet.DistanceMeasure;
 import org.apache.commons.math4.neuralnet.EuclideanDistance;
 import org.apache.commons.math4.neuralnet.FeatureInitializer;
+import org.apache.commons.math4.neuralnet.MapEvaluation;
+import org.apache.commons.math4.neuralnet.MapUtils;
 import org.apache.commons.math4.neuralnet.Network;
 import org.apache.commons.math4.neuralnet.Neuron;
 import org.apache.commons.math4.neuralnet.SquareNeighbourhood;
-import org.apache.commons.math4.neuralnet.MapRanking;
 import org.apache.commons.math4.neuralnet.internal.NeuralNetException;
-import org.apache.commons.math4.neuralnet.twod.util.LocationFinder;
 
 /**
  * Neural network with the topology of a two-dimensional surface.
@@ -52,6 +53,8 @@ public class NeuronSquareMesh2D
     private static final long serialVersionUID = 1L;
     /** Minimal number of rows or columns. */
     private static final int MIN_ROWS = 2;
+    /** Maximum number of neighbours of a neuron (Moore neighbourhood). */
+    private static final int MAX_NEIGHBOURS = 8;
     /** Underlying network. */
     private final Network network;
     /** Number of rows. */
@@ -128,7 +131,7 @@ public class NeuronSquareMesh2D
         neighbourhood = neighbourhoodType;
 
         final int fLen = featuresList[0][0].length;
-        network = new Network(0, fLen);
+        network = new Network(0, fLen, numberOfRows * numberOfColumns);
         identifiers = new long[numberOfRows][numberOfColumns];
 
         // Add neurons.
@@ -173,6 +176,44 @@ public class NeuronSquareMesh2D
                               boolean wrapColDim,
                               SquareNeighbourhood neighbourhoodType,
                               FeatureInitializer[] featureInit) {
+        this(numRows, wrapRowDim, numCols, wrapColDim, neighbourhoodType, featureInit, null);
+    }
+
+    /**
+     * Creates a two-dimensional network composed of square cells,
+     * whose features are initialized concurrently (see {@link
+     * Network#createNeurons(int,FeatureInitializer[],Executor)}).
+     * The features initialized by different elements of
+     * {@code featureInit} are filled in tasks run by the given
+     * {@code executor}: Distinct instances must not share mutable state
+     * (such as a random number generator) unless that state is
+     * thread-safe.
+     *
+     * @param numRows Number of neurons in the first dimension.
+     * @param wrapRowDim Whether to wrap the first dimension (i.e the first
+     * and last neurons will be linked together).
+     * @param numCols Number of neurons in the second dimension.
+     * @param wrapColDim Whether to wrap the second dimension (i.e the first
+     * and last neurons will be linked together).
+     * @param neighbourhoodType Neighbourhood type.
+     * @param featureInit Array of functions that will initialize the
+     * corresponding element of the features set of each newly created
+     * neuron. In particular, the size of this array defines the size of
+     * feature set.
+     * @param executor Executor that will run the initialization tasks.
+     * If {@code null}, the features are initialized sequentially, as by
+     * {@link #NeuronSquareMesh2D(int,boolean,int,boolean,SquareNeighbourhood,FeatureInitializer[])}.
+     * @throws IllegalArgumentException if {@code numRows < 2} or
+     * {@code numCols < 2}.
+     * @since 4.0
+     */
+    public NeuronSquareMesh2D(int numRows,
+                              boolean wrapRowDim,
+                              int numCols,
+                              boolean wrapColDim,
+                              SquareNeighbourhood neighbourhoodType,
+                              FeatureInitializer[] featureInit,
+                              Executor executor) {
         if (numRows < MIN_ROWS) {
             throw new NeuralNetException(NeuralNetException.TOO_SMALL, numRows, MIN_ROWS);
         }
@@ -188,16 +229,13 @@ public class NeuronSquareMesh2D
         identifiers = new long[numberOfRows][numberOfColumns];
 
         final int fLen = featureInit.length;
-        network = new Network(0, fLen);
+        network = new Network(0, fLen, numberOfRows * numberOfColumns);
 
-        // Add neurons.
+        // Add neurons (in row-major order).
+        long id = network.createNeurons(numRows * numCols, featureInit, executor);
         for (int i = 0; i < numRows; i++) {
             for (int j = 0; j < numCols; j++) {
-                final double[] features = new double[fLen];
-                for (int fIndex = 0; fIndex < fLen; fIndex++) {
-                    features[fIndex] = featureInit[fIndex].value();
-                }
-                identifiers[i][j] = network.createNeuron(features);
+                identifiers[i][j] = id++;
             }
         }
 
@@ -441,12 +479,12 @@ public class NeuronSquareMesh2D
      */
     private void createLinks() {
         // "linkEnd" will store the identifiers of the "neighbours".
-        final List<Long> linkEnd = new ArrayList<>();
+        final long[] linkEnd = new long[MAX_NEIGHBOURS];
         final int iLast = numberOfRows - 1;
         final int jLast = numberOfColumns - 1;
         for (int i = 0; i < numberOfRows; i++) {
             for (int j = 0; j < numberOfColumns; j++) {
-                linkEnd.clear();
+                int numLinks = 0;
 
                 switch (neighbourhood) {
 
@@ -454,51 +492,51 @@ public class NeuronSquareMesh2D
                     // Add links to "diagonal" neighbours.
                     if (i > 0) {
                         if (j > 0) {
-                            linkEnd.add(identifiers[i - 1][j - 1]);
+                            linkEnd[numLinks++] = identifiers[i - 1][j - 1];
                         }
                         if (j < jLast) {
-                            linkEnd.add(identifiers[i - 1][j + 1]);
+                            linkEnd[numLinks++] = identifiers[i - 1][j + 1];
                         }
                     }
                     if (i < iLast) {
                         if (j > 0) {
-                            linkEnd.add(identifiers[i + 1][j - 1]);
+                            linkEnd[numLinks++] = identifiers[i + 1][j - 1];
                         }
                         if (j < jLast) {
-                            linkEnd.add(identifiers[i + 1][j + 1]);
+                            linkEnd[numLinks++] = identifiers[i + 1][j + 1];
                         }
                     }
                     if (wrapRows) {
                         if (i == 0) {
                             if (j > 0) {
-                                linkEnd.add(identifiers[iLast][j - 1]);
+                                linkEnd[numLinks++] = identifiers[iLast][j - 1];
                             }
                             if (j < jLast) {
-                                linkEnd.add(identifiers[iLast][j + 1]);
+                                linkEnd[numLinks++] = identifiers[iLast][j + 1];
                             }
                         } else if (i == iLast) {
                             if (j > 0) {
-                                linkEnd.add(identifiers[0][j - 1]);
+                                linkEnd[numLinks++] = identifiers[0][j - 1];
                             }
                             if (j < jLast) {
-                                linkEnd.add(identifiers[0][j + 1]);
+                                linkEnd[numLinks++] = identifiers[0][j + 1];
                             }
                         }
                     }
                     if (wrapColumns) {
                         if (j == 0) {
                             if (i > 0) {
-                                linkEnd.add(identifiers[i - 1][jLast]);
+                                linkEnd[numLinks++] = identifiers[i - 1][jLast];
                             }
                             if (i < iLast) {
-                                linkEnd.add(identifiers[i + 1][jLast]);
+                                linkEnd[numLinks++] = identifiers[i + 1][jLast];
                             }
                         } else if (j == jLast) {
                             if (i > 0) {
-                                linkEnd.add(identifiers[i - 1][0]);
+                                linkEnd[numLinks++] = identifiers[i - 1][0];
                             }
                             if (i < iLast) {
-                                linkEnd.add(identifiers[i + 1][0]);
+                                linkEnd[numLinks++] = identifiers[i + 1][0];
                             }
                         }
                     }
@@ -506,16 +544,16 @@ public class NeuronSquareMesh2D
                         wrapColumns) {
                         if (i == 0 &&
                             j == 0) {
-                            linkEnd.add(identifiers[iLast][jLast]);
+                            linkEnd[numLinks++] = identifiers[iLast][jLast];
                         } else if (i == 0 &&
                                    j == jLast) {
-                            linkEnd.add(identifiers[iLast][0]);
+                            linkEnd[numLinks++] = identifiers[iLast][0];
                         } else if (i == iLast &&
                                    j == 0) {
-                            linkEnd.add(identifiers[0][jLast]);
+                            linkEnd[numLinks++] = identifiers[0][jLast];
                         } else if (i == iLast &&
                                    j == jLast) {
-                            linkEnd.add(identifiers[0][0]);
+                            linkEnd[numLinks++] = identifiers[0][0];
                         }
                     }
 
@@ -527,31 +565,31 @@ public class NeuronSquareMesh2D
                 case VON_NEUMANN:
                     // Links to preceding and following "row".
                     if (i > 0) {
-                        linkEnd.add(identifiers[i - 1][j]);
+                        linkEnd[numLinks++] = identifiers[i - 1][j];
                     }
                     if (i < iLast) {
-                        linkEnd.add(identifiers[i + 1][j]);
+                        linkEnd[numLinks++] = identifiers[i + 1][j];
                     }
                     if (wrapRows) {
                         if (i == 0) {
-                            linkEnd.add(identifiers[iLast][j]);
+                            linkEnd[numLinks++] = identifiers[iLast][j];
                         } else if (i == iLast) {
-                            linkEnd.add(identifiers[0][j]);
+                            linkEnd[numLinks++] = identifiers[0][j];
                         }
                     }
 
                     // Links to preceding and following "column".
                     if (j > 0) {
-                        linkEnd.add(identifiers[i][j - 1]);
+                        linkEnd[numLinks++] = identifiers[i][j - 1];
                     }
                     if (j < jLast) {
-                        linkEnd.add(identifiers[i][j + 1]);
+                        linkEnd[numLinks++] = identifiers[i][j + 1];
                     }
                     if (wrapColumns) {
                         if (j == 0) {
-                            linkEnd.add(identifiers[i][jLast]);
+                            linkEnd[numLinks++] = identifiers[i][jLast];
                         } else if (j == jLast) {
-                            linkEnd.add(identifiers[i][0]);
+                            linkEnd[numLinks++] = identifiers[i][0];
                         }
                     }
                     break;
@@ -560,13 +598,9 @@ public class NeuronSquareMesh2D
                     throw new IllegalStateException(); // Cannot happen.
                 }
 
-                final Neuron aNeuron = network.getNeuron(identifiers[i][j]);
-                for (final long b : linkEnd) {
-                    final Neuron bNeuron = network.getNeuron(b);
-                    // Link to all neighbours.
-                    // The reverse links will be added as the loop proceeds.
-                    network.addLink(aNeuron, bNeuron);
-                }
+                // Link to all neighbours.
+                // The reverse links will be added as the loop proceeds.
+                network.addLinks(network.getNeuron(identifiers[i][j]), linkEnd, numLinks);
             }
         }
     }
@@ -699,14 +733,10 @@ public class NeuronSquareMesh2D
          */
         static DataVisualization from(NeuronSquareMesh2D map,
                                       Iterable<double[]> data) {
-            final LocationFinder finder = new LocationFinder(map);
-            final MapRanking rank = new MapRanking(map, DISTANCE);
             final Network net = map.getNetwork();
             final int nR = map.getNumberOfRows();
             final int nC = map.getNumberOfColumns();
 
-            // Hit bins.
-            final int[][] hitCounter = new int[nR][nC];
             // Hit bins.
             final double[][] hitHistogram = new double[nR][nC];
             // Quantization error bins.
@@ -716,30 +746,9 @@ public class NeuronSquareMesh2D
             // U-matrix.
             final double[][] uMatrix = new double[nR][nC];
 
-            int numSamples = 0;
-            for (final double[] sample : data) {
-                ++numSamples;
-
-                final List<Neuron> winners = rank.rank(sample, 2);
-                final Neuron best = winners.get(0);
-                final Neuron secondBest = winners.get(1);
-
-                final LocationFinder.Location locBest = finder.getLocation(best);
-                final int rowBest = locBest.getRow();
-                final int colBest = locBest.getColumn();
-                // Increment hit counter.
-                hitCounter[rowBest][colBest] += 1;
-
-                // Aggregate quantization error.
-                quantizationError[rowBest][colBest] += DISTANCE.applyAsDouble(sample, best.getFeatures());
-
-                // Aggregate topographic error.
-                if (!net.getNeighbours(best).contains(secondBest)) {
-                    // Increment count if first and second best matching units
-                    // are not neighbours.
-                    topographicError[rowBest][colBest] += 1;
-                }
-            }
+            // Single (parallel) pass over the data.
+            final MapEvaluation evaluation = MapUtils.evaluate(data, net, DISTANCE);
+            final int numSamples = (int) evaluation.getNumberOfSamples();
 
             for (int r = 0; r < nR; r++) {
                 for (int c = 0; c < nC; c++) {
@@ -753,11 +762,11 @@ public class NeuronSquareMesh2D
                         uDistance += DISTANCE.applyAsDouble(features, n.getFeatures());
                     }
 
-                    final int hitCount = hitCounter[r][c];
+                    final long hitCount = evaluation.getHits(neuron);
                     if (hitCount != 0) {
                         hitHistogram[r][c] = hitCount / (double) numSamples;
-                        quantizationError[r][c] /= hitCount;
-                        topographicError[r][c] /= hitCount;
+                        quantizationError[r][c] = evaluation.getQuantizationError(neuron);
+                        topographicError[r][c] = evaluation.getTopographicError(neuron);
                     }
 
                     uMatrix[r][c] = uDistance / neighbourCount;
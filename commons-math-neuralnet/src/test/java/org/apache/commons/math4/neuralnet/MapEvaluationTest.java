@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+import org.apache.commons.math4.neuralnet.twod.NeuronSquareMesh2D;
+
+/**
+ * Tests for {@link MapEvaluation} class.
+ */
+public class MapEvaluationTest {
+    private final UniformRandomProvider rng = RandomSource.SPLIT_MIX_64.create();
+    private final DistanceMeasure dist = new EuclideanDistance();
+
+    @Test
+    public void testConsistencyWithMapUtils() {
+        final FeatureInitializer init = FeatureInitializerFactory.uniform(rng, 0, 1);
+        final FeatureInitializer[] initArray = {init, init};
+        final Network net = new NeuronSquareMesh2D(6, false,
+                                                   5, true,
+                                                   SquareNeighbourhood.MOORE,
+                                                   initArray).getNetwork();
+        final List<double[]> data = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            data.add(new double[] {rng.nextDouble(), rng.nextDouble()});
+        }
+
+        final MapEvaluation eval = MapUtils.evaluate(data, net, dist);
+        Assert.assertEquals(data.size(), eval.getNumberOfSamples());
+        Assert.assertEquals(MapUtils.computeQuantizationError(data, net, dist),
+                            eval.getQuantizationError(), 1e-12);
+        Assert.assertEquals(MapUtils.computeTopographicError(data, net, dist),
+                            eval.getTopographicError(), 1e-12);
+
+        // Per-neuron indicators.
+        final MapRanking rank = new MapRanking(net, dist);
+        long totalHits = 0;
+        double totalError = 0;
+        double totalTopographicError = 0;
+        for (Neuron n : net) {
+            final long hits = eval.getHits(n);
+            totalHits += hits;
+            totalError += hits * eval.getQuantizationError(n);
+            totalTopographicError += hits * eval.getTopographicError(n);
+        }
+        Assert.assertEquals(data.size(), totalHits);
+        Assert.assertEquals(eval.getQuantizationError(), totalError / data.size(), 1e-12);
+        Assert.assertEquals(eval.getTopographicError(), totalTopographicError / data.size(), 1e-12);
+
+        final double[] sample = data.get(0);
+        final Neuron best = rank.best(sample);
+        Assert.assertTrue(eval.getHits(best) > 0);
+    }
+
+    /*
+     * Test assumes that the network is
+     *
+     *  0-----1-----2
+     */
+    @Test
+    public void testPerNeuronIndicators() {
+        final Network net = new Network(0, 1);
+        final long id0 = net.createNeuron(new double[] {0});
+        final long id1 = net.createNeuron(new double[] {1});
+        final long id2 = net.createNeuron(new double[] {2});
+        final Neuron n0 = net.getNeuron(id0);
+        final Neuron n1 = net.getNeuron(id1);
+        final Neuron n2 = net.getNeuron(id2);
+        net.addLink(n0, n1);
+        net.addLink(n1, n0);
+        net.addLink(n1, n2);
+        net.addLink(n2, n1);
+
+        final List<double[]> data = new ArrayList<>();
+        // Best: 0, second: 1.
+        data.add(new double[] {0.25});
+        // Best: 2, second: 1.
+        data.add(new double[] {1.75});
+        // Best: 0, second: 1.
+        data.add(new double[] {-0.5});
+
+        final MapEvaluation eval = MapUtils.evaluate(data, net, dist);
+        Assert.assertEquals(2, eval.getHits(n0));
+        Assert.assertEquals(0, eval.getHits(n1));
+        Assert.assertEquals(1, eval.getHits(n2));
+        Assert.assertEquals(0.375, eval.getQuantizationError(n0), 1e-15);
+        Assert.assertEquals(0, eval.getQuantizationError(n1), 0d);
+        Assert.assertEquals(0.25, eval.getQuantizationError(n2), 1e-15);
+        Assert.assertEquals(0, eval.getTopographicError(), 0d);
+
+        // Second best matching unit is not adjacent anymore.
+        net.deleteLink(n0, n1);
+        final MapEvaluation eval2 = MapUtils.evaluate(data, net, dist);
+        Assert.assertEquals(1, eval2.getTopographicError(n0), 0d);
+        Assert.assertEquals(0, eval2.getTopographicError(n2), 0d);
+        Assert.assertEquals(2d / 3, eval2.getTopographicError(), 1e-15);
+    }
+
+    @Test
+    public void testNoData() {
+        final Network net = new Network(0, 1);
+        final Neuron n = net.getNeuron(net.createNeuron(new double[] {0}));
+        final MapEvaluation eval = MapUtils.evaluate(Collections.emptyList(), net, dist);
+        Assert.assertEquals(0, eval.getNumberOfSamples());
+        Assert.assertEquals(0, eval.getHits(n));
+        Assert.assertTrue(Double.isNaN(eval.getQuantizationError()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyNetwork() {
+        MapUtils.evaluate(Collections.singletonList(new double[] {1}), new Network(0, 1), dist);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownNeuron() {
+        final Network net = new Network(0, 1);
+        net.createNeuron(new double[] {0});
+        MapUtils.evaluate(Collections.singletonList(new double[] {1}), net, dist)
+            .getHits(new Neuron(12, new double[] {0}));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+import org.apache.commons.math4.neuralnet.twod.NeuronSquareMesh2D;
+
+/**
+ * Tests for {@link MapIndex} class.
+ */
+public class MapIndexTest {
+    private final UniformRandomProvider rng = RandomSource.SPLIT_MIX_64.create();
+    private final DistanceMeasure dist = new EuclideanDistance();
+
+    @Test
+    public void testExactSearch() {
+        final Network net = createNetwork(20, 3);
+        final MapRanking ranking = new MapRanking(net, dist);
+        // Number of checks not smaller than the number of neurons.
+        final MapIndex index = new MapIndex(net, dist, 400, Long.MAX_VALUE);
+
+        for (int i = 0; i < 200; i++) {
+            final double[] f = randomFeatures(3);
+            Assert.assertSame(ranking.best(f), index.best(f));
+            Assert.assertEquals(ranking.rank(f, 7), index.rank(f, 7));
+        }
+    }
+
+    @Test
+    public void testApproximateSearch() {
+        final Network net = createNetwork(100, 2);
+        final MapRanking ranking = new MapRanking(net, dist);
+        final MapIndex index = new MapIndex(net, dist, 64, Long.MAX_VALUE);
+
+        final int numQueries = 1000;
+        int exact = 0;
+        for (int i = 0; i < numQueries; i++) {
+            final double[] f = randomFeatures(2);
+            if (ranking.best(f) == index.best(f)) {
+                ++exact;
+            }
+        }
+        // In low dimension, the best-bin-first search almost always
+        // finds the exact best matching unit.
+        Assert.assertTrue(exact > 0.9 * numQueries);
+    }
+
+    @Test
+    public void testRefresh() {
+        final List<Neuron> list = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            list.add(new Neuron(i, new double[] {i}));
+        }
+        final long refreshInterval = 5;
+        final MapIndex index = new MapIndex(list, dist, 100, refreshInterval);
+        final double[] f = {100};
+        Assert.assertEquals(29, index.best(f).getIdentifier());
+
+        // Move neuron 0 closest to the input.
+        final Neuron n = list.get(0);
+        Assert.assertTrue(n.compareAndSetFeatures(n.getFeatures(), new double[] {99}));
+
+        // Snapshot is stale until the refresh occurs.
+        for (int i = 2; i < refreshInterval; i++) {
+            Assert.assertEquals(29, index.best(f).getIdentifier());
+        }
+        Assert.assertEquals(0, index.best(f).getIdentifier());
+
+        Assert.assertTrue(n.compareAndSetFeatures(n.getFeatures(), new double[] {0}));
+        index.refresh();
+        Assert.assertEquals(29, index.best(f).getIdentifier());
+    }
+
+    @Test
+    public void testIdenticalFeatures() {
+        final List<Neuron> list = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            list.add(new Neuron(i, new double[] {1, 2}));
+        }
+        final MapIndex index = new MapIndex(list, dist, 10, 100);
+        final List<Neuron> sorted = index.rank(new double[] {0, 0}, 3);
+        for (int i = 0; i < sorted.size(); i++) {
+            Assert.assertEquals(i, sorted.get(i).getIdentifier());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSizeMismatch() {
+        new MapIndex(createNetwork(3, 2), dist, 10, 10).best(new double[] {1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoData() {
+        new MapIndex(new ArrayList<>(), dist, 10, 10).best(new double[] {1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxChecksPrecondition() {
+        new MapIndex(createNetwork(3, 2), dist, 0, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRefreshIntervalPrecondition() {
+        new MapIndex(createNetwork(3, 2), dist, 10, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankPrecondition() {
+        new MapIndex(createNetwork(3, 2), dist, 10, 10).rank(new double[] {1, 2}, 0);
+    }
+
+    /**
+     * @param size Number of rows and columns.
+     * @param dim Number of features.
+     * @return a square map with random features in the unit hypercube.
+     */
+    private Network createNetwork(int size,
+                                  int dim) {
+        final FeatureInitializer init = FeatureInitializerFactory.uniform(rng, 0, 1);
+        final FeatureInitializer[] initArray = new FeatureInitializer[dim];
+        for (int i = 0; i < dim; i++) {
+            initArray[i] = init;
+        }
+        return new NeuronSquareMesh2D(size, false,
+                                      size, false,
+                                      SquareNeighbourhood.VON_NEUMANN,
+                                      initArray).getNetwork();
+    }
+
+    /**
+     * @param dim Number of features.
+     * @return a point in the unit hypercube.
+     */
+    private double[] randomFeatures(int dim) {
+        final double[] f = new double[dim];
+        for (int i = 0; i < dim; i++) {
+            f[i] = rng.nextDouble();
+        }
+        return f;
+    }
+}
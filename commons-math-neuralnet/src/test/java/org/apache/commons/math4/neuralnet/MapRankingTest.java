@@ -20,6 +20,7 @@ package org.apache.commons.math4.neuralnet;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.List;
+import java.util.ArrayList;
 
 import org.junit.Test;
 import org.junit.Assert;
@@ -28,6 +29,7 @@ import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.simple.RandomSource;
 
 import org.apache.commons.math4.neuralnet.oned.NeuronString;
+import org.apache.commons.math4.neuralnet.twod.NeuronSquareMesh2D;
 
 /**
  * Tests for {@link MapRanking} class.
@@ -121,4 +123,54 @@ public class MapRankingTest {
             Assert.assertEquals(expected[i], sorted.get(i).getIdentifier());
         }
     }
+
+    @Test
+    public void testRankWithTies() {
+        final List<Neuron> list = new ArrayList<>();
+        final double[] values = {2, 1, 0, 1, 2, 1};
+        for (int i = 0; i < values.length; i++) {
+            list.add(new Neuron(i, new double[] {values[i]}));
+        }
+
+        final MapRanking rank = new MapRanking(list, new EuclideanDistance());
+        // Units at the same distance are ranked in the order of the list.
+        final long[] expected = new long[] {2, 1, 3, 5, 0, 4};
+        for (int max = 1; max <= values.length; max++) {
+            final List<Neuron> sorted = rank.rank(new double[] {0}, max);
+            Assert.assertEquals(max, sorted.size());
+            for (int i = 0; i < max; i++) {
+                Assert.assertEquals(expected[i], sorted.get(i).getIdentifier());
+            }
+        }
+        Assert.assertEquals(values.length, rank.rank(new double[] {0}, 10).size());
+    }
+
+    @Test
+    public void testBest() {
+        final UniformRandomProvider rng = RandomSource.SPLIT_MIX_64.create();
+        final FeatureInitializer init = FeatureInitializerFactory.uniform(rng, 0, 1);
+        final FeatureInitializer[] initArray = {init, init, init};
+        final Network net = new NeuronSquareMesh2D(10, false,
+                                                   10, false,
+                                                   SquareNeighbourhood.MOORE,
+                                                   initArray).getNetwork();
+        final MapRanking rank = new MapRanking(net, new EuclideanDistance());
+
+        for (int i = 0; i < 100; i++) {
+            final double[] f = {rng.nextDouble(), rng.nextDouble(), rng.nextDouble()};
+            Assert.assertSame(rank.rank(f, 1).get(0), rank.best(f));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBestSizeMismatch() {
+        final List<Neuron> list = new ArrayList<>();
+        list.add(new Neuron(0, new double[] {1, 2}));
+        new MapRanking(list, new EuclideanDistance()).best(new double[] {1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBestNoData() {
+        new MapRanking(new ArrayList<>(), new EuclideanDistance()).best(new double[] {1});
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+import org.apache.commons.math4.neuralnet.oned.NeuronString;
+import org.apache.commons.math4.neuralnet.twod.NeuronSquareMesh2D;
+
+/**
+ * Tests for {@link NeighbourhoodIndex}.
+ */
+public class NeighbourhoodIndexTest {
+    private final UniformRandomProvider rng = RandomSource.SPLIT_MIX_64.create();
+    private final FeatureInitializer init = FeatureInitializerFactory.uniform(rng, 0, 2);
+
+    /*
+     * Test assumes that the network is
+     *
+     *  0-----1-----2-----3-----4
+     */
+    @Test
+    public void testRingsOfString() {
+        final FeatureInitializer[] initArray = {init};
+        final Network net = new NeuronString(5, false, initArray).getNetwork();
+        final NeighbourhoodIndex index = new NeighbourhoodIndex(net);
+        Assert.assertEquals(5, index.size());
+
+        final int center = index.indexOf(net.getNeuron(1));
+        Assert.assertArrayEquals(new int[] {1}, index.getRing(center, 0));
+        Assert.assertArrayEquals(new int[] {0, 2}, index.getRing(center, 1));
+        Assert.assertArrayEquals(new int[] {3}, index.getRing(center, 2));
+        Assert.assertArrayEquals(new int[] {4}, index.getRing(center, 3));
+        Assert.assertEquals(0, index.getRing(center, 4).length);
+        Assert.assertEquals(0, index.getRing(center, 100).length);
+        // Rings of smaller radius are still available.
+        Assert.assertArrayEquals(new int[] {0, 2}, index.getRing(center, 1));
+
+        for (int i = 0; i < index.size(); i++) {
+            Assert.assertEquals(i, index.indexOf(index.getNeuron(i)));
+        }
+    }
+
+    /*
+     * Test assumes that the network is
+     *
+     *  0-----1-----2
+     *  |     |     |
+     *  |     |     |
+     *  3-----4-----5
+     *  |     |     |
+     *  |     |     |
+     *  6-----7-----8
+     */
+    @Test
+    public void testRingsOfMesh() {
+        final FeatureInitializer[] initArray = {init};
+        final Network net = new NeuronSquareMesh2D(3, false,
+                                                   3, false,
+                                                   SquareNeighbourhood.VON_NEUMANN,
+                                                   initArray).getNetwork();
+        final NeighbourhoodIndex index = new NeighbourhoodIndex(net);
+
+        // Rings are requested with a radius larger than needed.
+        Assert.assertArrayEquals(new int[] {2, 4, 6}, index.getRing(0, 2));
+        Assert.assertArrayEquals(new int[] {1, 3}, index.getRing(0, 1));
+        Assert.assertArrayEquals(new int[] {5, 7}, index.getRing(0, 3));
+        Assert.assertArrayEquals(new int[] {8}, index.getRing(0, 4));
+
+        Assert.assertArrayEquals(new int[] {1, 3, 5, 7}, index.getRing(4, 1));
+        Assert.assertArrayEquals(new int[] {0, 2, 6, 8}, index.getRing(4, 2));
+        Assert.assertEquals(0, index.getRing(4, 3).length);
+    }
+
+    @Test
+    public void testInvalidation() {
+        final FeatureInitializer[] initArray = {init};
+        final Network net = new NeuronString(3, false, initArray).getNetwork();
+        final NeighbourhoodIndex index = new NeighbourhoodIndex(net);
+        Assert.assertTrue(index.isValidFor(net));
+        Assert.assertFalse(index.isValidFor(net.copy()));
+
+        // Adding an existing link does not modify the topology.
+        net.addLink(net.getNeuron(0), net.getNeuron(1));
+        Assert.assertTrue(index.isValidFor(net));
+
+        net.deleteLink(net.getNeuron(0), net.getNeuron(1));
+        Assert.assertFalse(index.isValidFor(net));
+
+        final NeighbourhoodIndex updated = new NeighbourhoodIndex(net);
+        Assert.assertTrue(updated.isValidFor(net));
+        Assert.assertEquals(0, updated.getRing(0, 1).length);
+        Assert.assertArrayEquals(new int[] {0, 2}, updated.getRing(1, 1));
+
+        net.createNeuron(new double[] {0});
+        Assert.assertFalse(updated.isValidFor(net));
+    }
+
+    @Test
+    public void testIndexOfForeignNeuron() {
+        final FeatureInitializer[] initArray = {init};
+        final Network net = new NeuronString(3, false, initArray).getNetwork();
+        final NeighbourhoodIndex index = new NeighbourhoodIndex(net);
+        Assert.assertTrue(index.indexOf(net.copy().getNeuron(1)) < 0);
+    }
+}
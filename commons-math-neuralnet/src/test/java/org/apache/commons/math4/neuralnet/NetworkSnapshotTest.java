@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+import org.apache.commons.math4.neuralnet.twod.NeuronSquareMesh2D;
+
+/**
+ * Tests for {@link NetworkSnapshot}.
+ */
+public class NetworkSnapshotTest {
+    /** Random generator. */
+    private final UniformRandomProvider rng = RandomSource.SPLIT_MIX_64.create();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final Network net = createNetwork();
+        final Path file = Files.createTempFile("network", ".snapshot");
+        try {
+            NetworkSnapshot.write(net, file);
+            final NetworkSnapshot snapshot = NetworkSnapshot.map(file);
+
+            Assert.assertEquals(net.getFeaturesSize(), snapshot.getFeaturesSize());
+            final Collection<Neuron> neurons = net.getNeurons(new Network.NeuronIdentifierComparator());
+            Assert.assertEquals(neurons.size(), snapshot.size());
+
+            int index = 0;
+            for (final Neuron n : neurons) {
+                Assert.assertEquals(n.getIdentifier(), snapshot.getIdentifier(index));
+                Assert.assertEquals(index, snapshot.indexOf(n.getIdentifier()));
+                Assert.assertArrayEquals(n.getFeatures(), snapshot.getFeatures(index), 0d);
+
+                final long[] expected = net.getNeighbours(n).stream()
+                    .mapToLong(Neuron::getIdentifier).sorted().toArray();
+                final long[] actual = Arrays.stream(snapshot.getNeighbours(index))
+                    .mapToLong(snapshot::getIdentifier).toArray();
+                Assert.assertArrayEquals(expected, actual);
+                ++index;
+            }
+            Assert.assertTrue(snapshot.indexOf(Long.MAX_VALUE) < 0);
+
+            // Reconstruction.
+            final Network copy = snapshot.toNetwork();
+            for (final Neuron n : neurons) {
+                final Neuron c = copy.getNeuron(n.getIdentifier());
+                Assert.assertArrayEquals(n.getFeatures(), c.getFeatures(), 0d);
+                Assert.assertEquals(net.getNeighbours(n).size(), copy.getNeighbours(c).size());
+                for (final Neuron m : net.getNeighbours(n)) {
+                    Assert.assertTrue(copy.getNeighbours(c).contains(copy.getNeuron(m.getIdentifier())));
+                }
+            }
+            // New identifiers must not clash with the existing ones.
+            final long id = copy.createNeuron(new double[net.getFeaturesSize()]);
+            Assert.assertTrue(id > snapshot.getIdentifier(snapshot.size() - 1));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFindBest() throws IOException {
+        final Network net = createNetwork();
+        final Path file = Files.createTempFile("network", ".snapshot");
+        try {
+            NetworkSnapshot.write(net, file);
+            final NetworkSnapshot snapshot = NetworkSnapshot.map(file);
+            final DistanceMeasure dist = new EuclideanDistance();
+            final MapRanking ranking = new MapRanking(net, dist);
+
+            for (int i = 0; i < 100; i++) {
+                final double[] f = {rng.nextDouble(), rng.nextDouble()};
+                final int best = snapshot.findBest(f, dist);
+                Assert.assertEquals(ranking.best(f).getIdentifier(), snapshot.getIdentifier(best));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidMagic() throws IOException {
+        NetworkSnapshot.of(ByteBuffer.allocate(64));
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncated() throws IOException {
+        final Network net = createNetwork();
+        final Path file = Files.createTempFile("network", ".snapshot");
+        try {
+            NetworkSnapshot.write(net, file);
+            final byte[] content = Files.readAllBytes(file);
+            NetworkSnapshot.of(ByteBuffer.wrap(Arrays.copyOf(content, content.length - 8)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testWithFeatures() {
+        final Network net = createNetwork();
+        final NetworkSnapshot snapshot = NetworkSnapshot.of(net);
+        final double[] values = new double[snapshot.size() * snapshot.getFeaturesSize()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+
+        final NetworkSnapshot updated = snapshot.withFeatures(values);
+        Assert.assertEquals(snapshot.size(), updated.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            Assert.assertEquals(snapshot.getIdentifier(i), updated.getIdentifier(i));
+            Assert.assertArrayEquals(snapshot.getNeighbours(i), updated.getNeighbours(i));
+            Assert.assertArrayEquals(new double[] {2 * i, 2 * i + 1}, updated.getFeatures(i), 0d);
+        }
+        // The original snapshot is not affected.
+        Assert.assertArrayEquals(net.getNeuron(snapshot.getIdentifier(0)).getFeatures(),
+                                 snapshot.getFeatures(0), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithFeaturesSizeMismatch() {
+        NetworkSnapshot.of(createNetwork()).withFeatures(new double[3]);
+    }
+
+    @Test
+    public void testOverwriteMapped() throws IOException {
+        final Network net = createNetwork();
+        final Path file = Files.createTempFile("network", ".snapshot");
+        try {
+            NetworkSnapshot.write(net, file);
+            final NetworkSnapshot snapshot = NetworkSnapshot.map(file);
+            final double[] before = snapshot.getFeatures(0);
+
+            // The file is replaced, rather than overwritten in place.
+            NetworkSnapshot.write(createNetwork(), file);
+            Assert.assertArrayEquals(before, snapshot.getFeatures(0), 0d);
+            Assert.assertFalse(Arrays.equals(before, NetworkSnapshot.map(file).getFeatures(0)));
+            Assert.assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testLinkTargetOutOfRange() throws IOException {
+        final ByteBuffer content = encode(createNetwork());
+        // First link target (after the 32-byte header, 35 identifiers and 36 offsets).
+        content.putInt(32 + 8 * 35 + 4 * 36, 35);
+        NetworkSnapshot.of(content);
+    }
+
+    @Test(expected = IOException.class)
+    public void testNonMonotonicOffsets() throws IOException {
+        final ByteBuffer content = encode(createNetwork());
+        // Second offset.
+        final int position = 32 + 8 * 35 + 4;
+        content.putInt(position, content.getInt(position + 4) + 1);
+        NetworkSnapshot.of(content);
+    }
+
+    /**
+     * @param net Network.
+     * @return the contents of the snapshot file of the network.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static ByteBuffer encode(Network net) throws IOException {
+        final Path file = Files.createTempFile("network", ".snapshot");
+        try {
+            NetworkSnapshot.write(net, file);
+            return ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * @return a 2D network with random features in [0, 1].
+     */
+    private Network createNetwork() {
+        final FeatureInitializer init = FeatureInitializerFactory.uniform(rng, 0, 1);
+        final FeatureInitializer[] initArray = {init, init};
+        return new NeuronSquareMesh2D(5, false,
+                                      7, true,
+                                      SquareNeighbourhood.MOORE,
+                                      initArray).getNetwork();
+    }
+}
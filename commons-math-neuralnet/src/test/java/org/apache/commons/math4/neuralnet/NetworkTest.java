@@ -24,6 +24,8 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.Collection;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -175,6 +177,181 @@ public class NetworkTest {
         Assert.assertTrue(copyNeighbours.contains(copyNeuron1));
     }
 
+    @Test
+    public void testContiguousStorage() {
+        // Block size smaller than the number of neurons: Several blocks
+        // will be allocated.
+        final Network net = new Network(0, 3, 2);
+        final int numNeurons = 5;
+        for (int i = 0; i < numNeurons; i++) {
+            net.createNeuron(new double[] {i, i + 0.1, i + 0.2});
+        }
+
+        final Neuron n = net.getNeuron(2);
+        final double[] expect = n.getFeatures();
+        Assert.assertTrue(n.compareAndSetFeatures(expect, new double[] {-1, -2, -3}));
+        // Modifying the returned array does not modify the neuron.
+        n.getFeatures()[0] = 123;
+
+        for (int i = 0; i < numNeurons; i++) {
+            final double[] features = net.getNeuron(i).getFeatures();
+            if (i == 2) {
+                Assert.assertArrayEquals(new double[] {-1, -2, -3}, features, 0d);
+            } else {
+                Assert.assertArrayEquals(new double[] {i, i + 0.1, i + 0.2}, features, 0d);
+            }
+        }
+
+        // Copy is independent.
+        final Network copy = net.copy();
+        final Neuron nCopy = copy.getNeuron(2);
+        Assert.assertTrue(nCopy.compareAndSetFeatures(nCopy.getFeatures(), new double[] {4, 5, 6}));
+        Assert.assertArrayEquals(new double[] {-1, -2, -3}, n.getFeatures(), 0d);
+        // Counters are copied too.
+        Assert.assertEquals(2, nCopy.getNumberOfSuccessfulUpdates());
+        Assert.assertEquals(1, n.getNumberOfSuccessfulUpdates());
+        Assert.assertEquals(numNeurons, copy.createNeuron(new double[3]));
+    }
+
+    @Test
+    public void testContiguousStorageGrowthAfterCopy() {
+        final int numNeurons = 50;
+        final Network net = new Network(0, 2, numNeurons);
+        for (int i = 0; i < numNeurons; i++) {
+            net.createNeuron(new double[] {i, -i});
+        }
+
+        // Neurons created after the copy are stored in new (smaller) blocks.
+        final Network copy = net.copy();
+        for (int i = numNeurons; i < 2 * numNeurons; i++) {
+            Assert.assertEquals(i, copy.createNeuron(new double[] {i, -i}));
+        }
+        copy.getNeuron(0).moveTowards(new double[] {10, 10}, 1);
+
+        Assert.assertEquals(numNeurons, net.getNeurons(new Network.NeuronIdentifierComparator()).size());
+        Assert.assertArrayEquals(new double[] {0, 0}, net.getNeuron(0).getFeatures(), 0d);
+        Assert.assertArrayEquals(new double[] {10, 10}, copy.getNeuron(0).getFeatures(), 0d);
+        for (int i = 1; i < 2 * numNeurons; i++) {
+            Assert.assertArrayEquals(new double[] {i, -i}, copy.getNeuron(i).getFeatures(), 0d);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testContiguousStorageWrongBlockSize() {
+        new Network(0, 3, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testContiguousStorageSizeMismatch() {
+        new Network(0, 3, 4).createNeuron(new double[2]);
+    }
+
+    @Test
+    public void testCreateNeurons() {
+        final int numNeurons = 5;
+
+        for (final Network net : new Network[] {new Network(0, 3), new Network(0, 3, 2)}) {
+            final FeatureInitializer shared = FeatureInitializerFactory.function(x -> x, 0, 1);
+            final FeatureInitializer[] initArray = {
+                FeatureInitializerFactory.function(x -> -x, 0, 1),
+                shared,
+                shared,
+            };
+
+            net.createNeuron(new double[] {7, 8, 9});
+            Assert.assertEquals(1, net.createNeurons(numNeurons, initArray));
+
+            Assert.assertArrayEquals(new double[] {7, 8, 9}, net.getNeuron(0).getFeatures(), 0d);
+            for (int i = 0; i < numNeurons; i++) {
+                // Shared initializer is called once per feature, in order.
+                Assert.assertArrayEquals(new double[] {-i, 2 * i, 2 * i + 1},
+                                         net.getNeuron(i + 1).getFeatures(), 0d);
+                Assert.assertTrue(net.getNeighbours(net.getNeuron(i + 1)).isEmpty());
+            }
+            Assert.assertEquals(numNeurons + 1, net.createNeuron(new double[3]));
+        }
+    }
+
+    @Test
+    public void testCreateNeuronsWithSharedState() {
+        final int numNeurons = 4;
+        final double[] counter = new double[1];
+        // Distinct instances that draw from the same source.
+        final FeatureInitializer[] initArray = {
+            () -> counter[0]++,
+            () -> -counter[0]++,
+        };
+
+        final Network bulk = new Network(0, 2, numNeurons);
+        bulk.createNeurons(numNeurons, initArray);
+
+        counter[0] = 0;
+        final Network single = new Network(0, 2, numNeurons);
+        for (int i = 0; i < numNeurons; i++) {
+            single.createNeuron(new double[] {initArray[0].value(), initArray[1].value()});
+        }
+
+        for (int i = 0; i < numNeurons; i++) {
+            Assert.assertArrayEquals(new double[] {2 * i, -(2 * i + 1)}, bulk.getNeuron(i).getFeatures(), 0d);
+            Assert.assertArrayEquals(single.getNeuron(i).getFeatures(), bulk.getNeuron(i).getFeatures(), 0d);
+        }
+    }
+
+    @Test
+    public void testCreateNeuronsConcurrently() {
+        final int numNeurons = 1000;
+        final Network net = new Network(0, 2, 100);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            net.createNeurons(numNeurons,
+                              new FeatureInitializer[] {
+                                  FeatureInitializerFactory.function(x -> x, 0, 1),
+                                  FeatureInitializerFactory.function(x -> x, 0, -1),
+                              },
+                              executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int i = 0; i < numNeurons; i++) {
+            Assert.assertArrayEquals(new double[] {i, -i}, net.getNeuron(i).getFeatures(), 0d);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateNeuronsSizeMismatch() {
+        new Network(0, 3).createNeurons(2, new FeatureInitializer[] {init});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateNeuronsWrongCount() {
+        new Network(0, 1).createNeurons(0, new FeatureInitializer[] {init});
+    }
+
+    @Test
+    public void testAddLinks() {
+        final Network net = new Network(0, 1);
+        for (int i = 0; i < 4; i++) {
+            net.createNeuron(new double[] {i});
+        }
+        final long version = net.getTopologyVersion();
+
+        net.addLinks(net.getNeuron(0), new long[] {1, 3, 2}, 2);
+        final Collection<Neuron> neighbours = net.getNeighbours(net.getNeuron(0));
+        Assert.assertEquals(2, neighbours.size());
+        Assert.assertTrue(neighbours.contains(net.getNeuron(1)));
+        Assert.assertTrue(neighbours.contains(net.getNeuron(3)));
+        Assert.assertTrue(net.getNeighbours(net.getNeuron(1)).isEmpty());
+        Assert.assertNotEquals(version, net.getTopologyVersion());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testAddLinksUnknownNeuron() {
+        final Network net = new Network(0, 1);
+        net.createNeuron(new double[] {0});
+        net.addLinks(net.getNeuron(0), new long[] {1}, 1);
+    }
+
     @Test
     public void testSerialize()
         throws IOException,
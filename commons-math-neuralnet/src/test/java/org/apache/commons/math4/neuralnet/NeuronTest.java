@@ -86,6 +86,66 @@ public class NeuronTest {
         Assert.assertEquals(update[0],  n.getFeatures()[0], 0d);
     }
 
+    @Test
+    public void testMoveTowards() {
+        final double[] target = {1, 2};
+
+        // Features held by the neuron.
+        final Neuron n = new Neuron(1, new double[] {0, 0});
+        n.moveTowards(target, 0.25);
+        Assert.assertArrayEquals(new double[] {0.25, 0.5}, n.getFeatures(), 0d);
+        Assert.assertEquals(1, n.getNumberOfSuccessfulUpdates());
+
+        // Features stored in a shared block.
+        final Network net = new Network(0, 2, 2);
+        final Neuron a = net.getNeuron(net.createNeuron(new double[] {0, 0}));
+        final Neuron b = net.getNeuron(net.createNeuron(new double[] {3, 4}));
+        a.moveTowards(target, 0.25);
+        Assert.assertArrayEquals(new double[] {0.25, 0.5}, a.getFeatures(), 0d);
+        Assert.assertArrayEquals(new double[] {3, 4}, b.getFeatures(), 0d);
+        Assert.assertEquals(1, a.getNumberOfAttemptedUpdates());
+        Assert.assertEquals(1, a.getNumberOfSuccessfulUpdates());
+    }
+
+    @Test
+    public void testCompareAndMoveTowards() {
+        final double[] target = {1, 2};
+
+        // Features held by the neuron, then stored in a shared block.
+        final Network net = new Network(0, 2, 2);
+        for (final Neuron n : new Neuron[] {new Neuron(1, new double[] {0, 0}),
+                                            net.getNeuron(net.createNeuron(new double[] {0, 0}))}) {
+            final double[] expect = n.getFeatures();
+            Assert.assertTrue(n.compareAndMoveTowards(expect, target, 0.25));
+            Assert.assertArrayEquals(new double[] {0.25, 0.5}, n.getFeatures(), 0d);
+
+            // The neuron has been updated since "expect" was retrieved.
+            Assert.assertFalse(n.compareAndMoveTowards(expect, target, 0.25));
+            Assert.assertArrayEquals(new double[] {0.25, 0.5}, n.getFeatures(), 0d);
+            Assert.assertEquals(1, n.getNumberOfAttemptedUpdates());
+            Assert.assertEquals(1, n.getNumberOfSuccessfulUpdates());
+        }
+    }
+
+    @Test
+    public void testGetFeaturesInto() {
+        final double[] dest = new double[5];
+
+        // Features held by the neuron.
+        new Neuron(1, new double[] {1, 2}).getFeatures(dest, 0);
+        // Features stored in a shared block.
+        final Network net = new Network(0, 2, 2);
+        net.createNeuron(new double[] {0, 0});
+        net.getNeuron(net.createNeuron(new double[] {3, 4})).getFeatures(dest, 2);
+
+        Assert.assertArrayEquals(new double[] {1, 2, 3, 4, 0}, dest, 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMoveTowardsSizeMismatch() {
+        new Neuron(1, new double[] {0, 0}).moveTowards(new double[] {1}, 0.5);
+    }
+
     @Test
     public void testCopy() {
         final Neuron n = new Neuron(1, new double[] {9.87 });
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet.gng;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+import org.apache.commons.math4.neuralnet.DistanceMeasure;
+import org.apache.commons.math4.neuralnet.EuclideanDistance;
+import org.apache.commons.math4.neuralnet.MapRanking;
+import org.apache.commons.math4.neuralnet.Network;
+import org.apache.commons.math4.neuralnet.Neuron;
+
+/**
+ * Tests for {@link GrowingNeuralGasUpdateAction} class.
+ */
+public class GrowingNeuralGasUpdateActionTest {
+    private final UniformRandomProvider rng = RandomSource.SPLIT_MIX_64.create();
+    private final DistanceMeasure dist = new EuclideanDistance();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPrecondition() {
+        new GrowingNeuralGasUpdateAction(dist, 1.5, 0.01, 50, 100, 0.005, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooFewNeurons() {
+        final Network net = new Network(0, 2);
+        net.createNeuron(new double[] {0, 0});
+        createAction(10).update(net, new double[] {1, 1});
+    }
+
+    @Test
+    public void testGrowth() {
+        final Network net = createNetwork();
+        final int maxNeurons = 50;
+        final GrowingNeuralGasUpdateAction update = createAction(maxNeurons);
+
+        for (int i = 0; i < 20000; i++) {
+            update.update(net, sample());
+        }
+        Assert.assertEquals(20000, update.getNumberOfCalls());
+
+        final int size = size(net);
+        Assert.assertTrue(size > 2);
+        Assert.assertTrue(size <= maxNeurons);
+        checkTopology(net);
+
+        // The neurons are located within the data.
+        final MapRanking ranking = new MapRanking(net, dist);
+        double error = 0;
+        final int numSamples = 1000;
+        for (int i = 0; i < numSamples; i++) {
+            final double[] s = sample();
+            error += dist.applyAsDouble(ranking.best(s).getFeatures(), s);
+        }
+        Assert.assertTrue(error / numSamples < 0.2);
+
+        // No link crosses the gap between the clusters.
+        for (final Neuron n : net) {
+            final boolean left = n.getFeatures()[0] < 2;
+            for (final Neuron m : net.getNeighbours(n)) {
+                Assert.assertEquals(left, m.getFeatures()[0] < 2);
+            }
+        }
+    }
+
+    @Test
+    public void testMaxNeurons() {
+        final Network net = createNetwork();
+        final int maxNeurons = 6;
+        final GrowingNeuralGasUpdateAction update = createAction(maxNeurons);
+
+        for (int i = 0; i < 5000; i++) {
+            update.update(net, sample());
+        }
+        Assert.assertEquals(maxNeurons, size(net));
+    }
+
+    @Test
+    public void testError() {
+        final Network net = createNetwork();
+        final GrowingNeuralGasUpdateAction update = createAction(10);
+        final double[] s = {10, 10};
+        final Neuron best = new MapRanking(net, dist).best(s);
+        final double d = dist.applyAsDouble(best.getFeatures(), s);
+
+        // Errors decay at the end of each step.
+        final double decay = 1 - 0.005;
+        update.update(net, s);
+        Assert.assertEquals(d * d * decay, update.getError(net, best), 1e-12);
+        update.update(net, new double[] {-10, -10});
+        Assert.assertEquals(d * d * decay * decay, update.getError(net, best), 1e-12);
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException, ExecutionException {
+        final Network net = createNetwork();
+        final GrowingNeuralGasUpdateAction update = createAction(40);
+        final int numTasks = 4;
+        final int numSamples = 5000;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(numTasks);
+        try {
+            final List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < numTasks; t++) {
+                final long seed = rng.nextLong();
+                tasks.add(executor.submit(() -> {
+                    final UniformRandomProvider r = RandomSource.SPLIT_MIX_64.create(seed);
+                    for (int i = 0; i < numSamples; i++) {
+                        update.update(net, sample(r));
+                    }
+                }));
+            }
+            for (final Future<?> f : tasks) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(numTasks * numSamples, update.getNumberOfCalls());
+        Assert.assertTrue(size(net) > 2);
+        checkTopology(net);
+    }
+
+    @Test
+    public void testErrorsDoNotGrowWithoutHit() throws InterruptedException, ExecutionException {
+        // Neurons do not move; no links are removed, and no neurons inserted.
+        final Network net = new Network(0, 1);
+        final Neuron a = net.getNeuron(net.createNeuron(new double[] {0}));
+        final Neuron b = net.getNeuron(net.createNeuron(new double[] {10}));
+        final double[] stalled = {0};
+        final CountDownLatch searching = new CountDownLatch(1);
+        final CountDownLatch resume = new CountDownLatch(1);
+        final AtomicBoolean first = new AtomicBoolean(true);
+        final DistanceMeasure slow = (x, y) -> {
+            if ((x == stalled || y == stalled) &&
+                first.getAndSet(false)) {
+                searching.countDown();
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return dist.applyAsDouble(x, y);
+        };
+        final GrowingNeuralGasUpdateAction update
+            = new GrowingNeuralGasUpdateAction(slow, 0, 0, Integer.MAX_VALUE, Long.MAX_VALUE, 0.5, 2);
+        update.update(net, new double[] {11});
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The search of the winners of this sample is delayed, while
+            // other samples are processed.
+            final Future<?> task = executor.submit(() -> update.update(net, stalled));
+            searching.await();
+            for (int i = 0; i < 2000; i++) {
+                update.update(net, new double[] {1});
+            }
+            final double errorA = update.getError(net, a);
+            final double errorB = update.getError(net, b);
+
+            resume.countDown();
+            task.get();
+            // "a" is hit by a sample at distance zero, "b" is not hit.
+            Assert.assertTrue(update.getError(net, a) <= errorA);
+            Assert.assertTrue(update.getError(net, b) <= errorB);
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(2002, update.getNumberOfCalls());
+    }
+
+    /**
+     * @param maxNeurons Maximum number of neurons.
+     * @return the update action.
+     */
+    private GrowingNeuralGasUpdateAction createAction(int maxNeurons) {
+        return new GrowingNeuralGasUpdateAction(dist, 0.05, 0.006, 50, 100, 0.005, maxNeurons);
+    }
+
+    /**
+     * @return a network with two neurons.
+     */
+    private Network createNetwork() {
+        final Network net = new Network(0, 2);
+        net.createNeuron(new double[] {rng.nextDouble(), rng.nextDouble()});
+        net.createNeuron(new double[] {rng.nextDouble(), rng.nextDouble()});
+        return net;
+    }
+
+    /**
+     * @return a sample drawn from two separate squares.
+     */
+    private double[] sample() {
+        return sample(rng);
+    }
+
+    /**
+     * @param r Generator.
+     * @return a sample drawn from two separate squares.
+     */
+    private static double[] sample(UniformRandomProvider r) {
+        final double offset = r.nextBoolean() ? 0 : 3;
+        return new double[] {offset + r.nextDouble(), r.nextDouble()};
+    }
+
+    /**
+     * @param net Network.
+     * @return the number of neurons.
+     */
+    private static int size(Network net) {
+        return net.getNeurons(new Network.NeuronIdentifierComparator()).size();
+    }
+
+    /**
+     * Checks that all links are bi-directional and that no neuron is isolated.
+     *
+     * @param net Network.
+     */
+    private static void checkTopology(Network net) {
+        for (final Neuron n : net) {
+            Assert.assertFalse(net.getNeighbours(n).isEmpty());
+            for (final Neuron m : net.getNeighbours(n)) {
+                Assert.assertTrue(net.getNeighbours(m).contains(n));
+            }
+        }
+    }
+}
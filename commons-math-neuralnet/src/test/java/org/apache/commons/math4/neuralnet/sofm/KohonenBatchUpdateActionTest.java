@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet.sofm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+import org.apache.commons.math4.neuralnet.DistanceMeasure;
+import org.apache.commons.math4.neuralnet.EuclideanDistance;
+import org.apache.commons.math4.neuralnet.FeatureInitializer;
+import org.apache.commons.math4.neuralnet.FeatureInitializerFactory;
+import org.apache.commons.math4.neuralnet.MapRanking;
+import org.apache.commons.math4.neuralnet.Network;
+import org.apache.commons.math4.neuralnet.Neuron;
+import org.apache.commons.math4.neuralnet.OffsetFeatureInitializer;
+import org.apache.commons.math4.neuralnet.SquareNeighbourhood;
+import org.apache.commons.math4.neuralnet.oned.NeuronString;
+import org.apache.commons.math4.neuralnet.twod.NeuronSquareMesh2D;
+
+/**
+ * Tests for {@link KohonenBatchUpdateAction} class.
+ */
+public class KohonenBatchUpdateActionTest {
+    private final UniformRandomProvider rng = RandomSource.SPLIT_MIX_64.create();
+    private final DistanceMeasure dist = new EuclideanDistance();
+
+    /*
+     * Test assumes that the network is
+     *
+     *  0-----1-----2
+     */
+    @Test
+    public void testUpdateWithoutNeighbourhood() {
+        final FeatureInitializer init
+            = new OffsetFeatureInitializer(FeatureInitializerFactory.uniform(rng, 0, 0.1));
+        final FeatureInitializer[] initArray = {init};
+        final Network net = new NeuronString(3, false, initArray).getNetwork();
+
+        // With a unit learning rate and no neighbourhood, an epoch moves
+        // each neuron to the centroid of the samples that it best matches.
+        final KohonenBatchUpdateAction update
+            = new KohonenBatchUpdateAction(dist, n -> 1, n -> 0, 2);
+        final List<double[]> samples = Arrays.asList(new double[] {0.1},
+                                                     new double[] {0.2},
+                                                     new double[] {1.1},
+                                                     new double[] {2.4},
+                                                     new double[] {2.6});
+        update.update(net, samples);
+
+        final double[] expected = {0.15, 1.1, 2.5};
+        int count = 0;
+        for (Neuron n : net.getNeurons(new Network.NeuronIdentifierComparator())) {
+            Assert.assertEquals(expected[count++], n.getFeatures()[0], 1e-15);
+        }
+        Assert.assertEquals(1, update.getNumberOfCalls());
+    }
+
+    /*
+     * Test assumes that the network is
+     *
+     *  0-----1-----2
+     */
+    @Test
+    public void testUpdateWithNeighbourhood() {
+        final FeatureInitializer init
+            = new OffsetFeatureInitializer(FeatureInitializerFactory.uniform(rng, 0, 0.1));
+        final FeatureInitializer[] initArray = {init};
+        final Network net = new NeuronString(3, false, initArray).getNetwork();
+
+        // The single sample attracts the neighbours of its best-matching
+        // unit: All the neurons are mapped to it.
+        final KohonenBatchUpdateAction update
+            = new KohonenBatchUpdateAction(dist, n -> 1, n -> 2, 1);
+        final double[] features = {0.3};
+        update.update(net, Collections.singletonList(features));
+
+        for (Neuron n : net) {
+            Assert.assertEquals(0, dist.applyAsDouble(n.getFeatures(), features), 1e-15);
+        }
+    }
+
+    @Test
+    public void testTrainingReducesQuantizationError() {
+        // Neurons are initially crowded in a corner of the data domain.
+        final FeatureInitializer init = FeatureInitializerFactory.uniform(rng, 0, 0.1);
+        final FeatureInitializer[] initArray = {init, init};
+        final Network net = new NeuronSquareMesh2D(5, false,
+                                                   5, false,
+                                                   SquareNeighbourhood.VON_NEUMANN,
+                                                   initArray).getNetwork();
+        final List<double[]> samples = createSamples(1000);
+
+        final double before = quantizationError(net, samples);
+        final KohonenBatchUpdateAction update
+            = new KohonenBatchUpdateAction(dist,
+                                           LearningFactorFunctionFactory.exponentialDecay(1, 0.5, 10),
+                                           NeighbourhoodSizeFunctionFactory.exponentialDecay(3, 1, 10),
+                                           4);
+        new KohonenBatchTrainingTask(net, samples, 20, update).run();
+
+        Assert.assertEquals(20, update.getNumberOfCalls());
+        Assert.assertTrue(quantizationError(net, samples) < 0.3 * before);
+    }
+
+    @Test
+    public void testParallelIsDeterministic() {
+        final FeatureInitializer init = FeatureInitializerFactory.uniform(rng, 0, 1);
+        final FeatureInitializer[] initArray = {init, init};
+        final Network sequential = new NeuronSquareMesh2D(6, true,
+                                                          6, false,
+                                                          SquareNeighbourhood.MOORE,
+                                                          initArray).getNetwork();
+        final Network parallel = sequential.copy();
+        final List<double[]> samples = createSamples(2000);
+
+        final int epochs = 5;
+        new KohonenBatchTrainingTask(sequential, samples, epochs, createAction()).run();
+
+        final ExecutorService service = Executors.newFixedThreadPool(4);
+        try {
+            new KohonenBatchTrainingTask(parallel, samples, epochs, createAction(), service).run();
+        } finally {
+            service.shutdown();
+        }
+
+        for (Neuron n : sequential) {
+            Assert.assertArrayEquals(n.getFeatures(),
+                                     parallel.getNeuron(n.getIdentifier()).getFeatures(),
+                                     0d);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoData() {
+        final FeatureInitializer[] initArray = {FeatureInitializerFactory.uniform(rng, 0, 1)};
+        final Network net = new NeuronString(3, false, initArray).getNetwork();
+        createAction().update(net, new ArrayList<>());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSizeMismatch() {
+        final FeatureInitializer[] initArray = {FeatureInitializerFactory.uniform(rng, 0, 1)};
+        final Network net = new NeuronString(3, false, initArray).getNetwork();
+        createAction().update(net, Collections.singletonList(new double[] {0.1, 0.2}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNumberOfShardsNotStrictlyPositive() {
+        new KohonenBatchUpdateAction(dist, n -> 1, n -> 1, 0);
+    }
+
+    /**
+     * @return an action with decaying learning rate and neighbourhood,
+     * and 7 shards.
+     */
+    private KohonenBatchUpdateAction createAction() {
+        return new KohonenBatchUpdateAction(dist,
+                                            LearningFactorFunctionFactory.exponentialDecay(0.9, 0.1, 5),
+                                            NeighbourhoodSizeFunctionFactory.exponentialDecay(3, 1, 5),
+                                            7);
+    }
+
+    /**
+     * @param size Number of samples.
+     * @return samples uniformly distributed in the unit square.
+     */
+    private List<double[]> createSamples(int size) {
+        final List<double[]> samples = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            samples.add(new double[] {rng.nextDouble(), rng.nextDouble()});
+        }
+        return samples;
+    }
+
+    /**
+     * @param net Network.
+     * @param samples Data.
+     * @return the mean distance between the samples and their best
+     * matching unit.
+     */
+    private double quantizationError(Network net,
+                                     List<double[]> samples) {
+        final MapRanking rank = new MapRanking(net, dist);
+        double sum = 0;
+        for (double[] s : samples) {
+            sum += dist.applyAsDouble(rank.rank(s, 1).get(0).getFeatures(), s);
+        }
+        return sum / samples.size();
+    }
+}
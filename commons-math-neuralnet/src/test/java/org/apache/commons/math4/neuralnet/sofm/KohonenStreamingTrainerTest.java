@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet.sofm;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+import org.apache.commons.math4.neuralnet.DistanceMeasure;
+import org.apache.commons.math4.neuralnet.EuclideanDistance;
+import org.apache.commons.math4.neuralnet.FeatureInitializer;
+import org.apache.commons.math4.neuralnet.FeatureInitializerFactory;
+import org.apache.commons.math4.neuralnet.Network;
+import org.apache.commons.math4.neuralnet.NetworkSnapshot;
+import org.apache.commons.math4.neuralnet.SquareNeighbourhood;
+import org.apache.commons.math4.neuralnet.twod.NeuronSquareMesh2D;
+
+/**
+ * Tests for {@link KohonenStreamingTrainer} class.
+ */
+public class KohonenStreamingTrainerTest {
+    private final UniformRandomProvider rng = RandomSource.SPLIT_MIX_64.create();
+    private final DistanceMeasure dist = new EuclideanDistance();
+
+    @Test
+    public void testTraining() throws InterruptedException {
+        final Network net = createNetwork();
+        final KohonenUpdateAction update
+            = new KohonenUpdateAction(dist,
+                                      LearningFactorFunctionFactory.exponentialDecay(0.5, 0.05, 5000),
+                                      NeighbourhoodSizeFunctionFactory.exponentialDecay(3, 1, 5000));
+        final KohonenStreamingTrainer trainer
+            = new KohonenStreamingTrainer(net, update, StreamingScheduleFactory.window(5000), 64, 1000);
+
+        final NetworkSnapshot initial = trainer.getSnapshot();
+        final double[][] samples = createSamples(1000);
+        final double before = quantizationError(initial, samples);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            trainer.start(executor, 4);
+            final int numSamples = 10000;
+            for (int i = 0; i < numSamples; i++) {
+                trainer.put(new double[] {rng.nextDouble(), rng.nextDouble()});
+            }
+            trainer.shutdown();
+            Assert.assertTrue(trainer.awaitTermination(1, TimeUnit.MINUTES));
+            Assert.assertEquals(numSamples, trainer.getNumberOfSamples());
+        } finally {
+            executor.shutdown();
+        }
+
+        final NetworkSnapshot last = trainer.getSnapshot();
+        Assert.assertNotSame(initial, last);
+        Assert.assertTrue(quantizationError(last, samples) < 0.3 * before);
+
+        // Published snapshots are not affected by the training.
+        Assert.assertEquals(before, quantizationError(initial, samples), 0d);
+        // The last snapshot reflects the final state.
+        final NetworkSnapshot current = NetworkSnapshot.of(net);
+        for (int i = 0; i < current.size(); i++) {
+            Assert.assertArrayEquals(current.getFeatures(i), last.getFeatures(i), 0d);
+        }
+    }
+
+    @Test
+    public void testBoundedIngestion() throws InterruptedException {
+        final KohonenStreamingTrainer trainer
+            = new KohonenStreamingTrainer(createNetwork(),
+                                          new KohonenUpdateAction(dist, n -> 0.1, n -> 1),
+                                          StreamingScheduleFactory.window(10),
+                                          2, 10);
+        // Workers not started: The queue fills up.
+        Assert.assertTrue(trainer.offer(new double[] {0, 0}, 0, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(trainer.offer(new double[] {0, 0}, 0, TimeUnit.MILLISECONDS));
+        Assert.assertFalse(trainer.offer(new double[] {0, 0}, 10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSizeMismatch() throws InterruptedException {
+        final KohonenStreamingTrainer trainer
+            = new KohonenStreamingTrainer(createNetwork(),
+                                          new KohonenUpdateAction(dist, n -> 0.1, n -> 1),
+                                          StreamingScheduleFactory.window(10),
+                                          2, 10);
+        trainer.put(new double[] {0});
+    }
+
+    @Test
+    public void testShutdown() throws InterruptedException {
+        final KohonenStreamingTrainer trainer
+            = new KohonenStreamingTrainer(createNetwork(),
+                                          new KohonenUpdateAction(dist, n -> 0.1, n -> 1),
+                                          StreamingScheduleFactory.window(10),
+                                          2, 10);
+        trainer.shutdown();
+        Assert.assertTrue(trainer.awaitTermination(0, TimeUnit.MILLISECONDS));
+
+        try {
+            trainer.put(new double[] {0, 0});
+            Assert.fail("exception expected");
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+        try {
+            trainer.start(Runnable::run, 1);
+            Assert.fail("exception expected");
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testUpdateFailure() throws InterruptedException {
+        final AtomicInteger calls = new AtomicInteger();
+        final RuntimeException error = new RuntimeException("update failed");
+        final LearningFactorFunction learning = n -> {
+            if (calls.incrementAndGet() == 20) {
+                throw error;
+            }
+            return 0.1;
+        };
+        final KohonenStreamingTrainer trainer
+            = new KohonenStreamingTrainer(createNetwork(),
+                                          new KohonenUpdateAction(dist, learning, n -> 1),
+                                          StreamingScheduleFactory.window(10),
+                                          2, 10);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            trainer.start(executor, 2);
+            IllegalStateException rejected = null;
+            for (int i = 0; i < 1000 && rejected == null; i++) {
+                try {
+                    trainer.put(new double[] {0, 0});
+                } catch (IllegalStateException e) {
+                    rejected = e;
+                }
+            }
+            Assert.assertNotNull(rejected);
+            Assert.assertSame(error, rejected.getCause());
+
+            trainer.shutdown();
+            try {
+                trainer.awaitTermination(1, TimeUnit.MINUTES);
+                Assert.fail("exception expected");
+            } catch (IllegalStateException e) {
+                Assert.assertSame(error, e.getCause());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @return a 2D network whose neurons are crowded in a corner of
+     * the unit square.
+     */
+    private Network createNetwork() {
+        final FeatureInitializer init = FeatureInitializerFactory.uniform(rng, 0, 0.1);
+        final FeatureInitializer[] initArray = {init, init};
+        return new NeuronSquareMesh2D(5, false,
+                                      5, false,
+                                      SquareNeighbourhood.VON_NEUMANN,
+                                      initArray).getNetwork();
+    }
+
+    /**
+     * @param n Number of samples.
+     * @return samples uniformly distributed in the unit square.
+     */
+    private double[][] createSamples(int n) {
+        final double[][] samples = new double[n][];
+        for (int i = 0; i < n; i++) {
+            samples[i] = new double[] {rng.nextDouble(), rng.nextDouble()};
+        }
+        return samples;
+    }
+
+    /**
+     * @param snapshot Map.
+     * @param samples Data.
+     * @return the mean distance between the samples and their best
+     * matching unit.
+     */
+    private double quantizationError(NetworkSnapshot snapshot,
+                                     double[][] samples) {
+        double sum = 0;
+        for (final double[] s : samples) {
+            sum += dist.applyAsDouble(snapshot.getFeatures(snapshot.findBest(s, dist)), s);
+        }
+        return sum / samples.length;
+    }
+}
@@ -96,4 +96,68 @@ public class KohonenUpdateActionTest {
             Assert.assertTrue(distancesAfter[i] < distancesBefore[i]);
         }
     }
+
+    /*
+     * Test assumes that the network is
+     *
+     *  0-----1-----2
+     */
+    @Test
+    public void testUpdateAfterTopologyChange() {
+        final FeatureInitializer init
+            = new OffsetFeatureInitializer(FeatureInitializerFactory.uniform(rng, 0, 0.1));
+        final FeatureInitializer[] initArray = {init};
+        final Network net = new NeuronString(3, false, initArray).getNetwork();
+        final DistanceMeasure dist = new EuclideanDistance();
+        final UpdateAction update = new KohonenUpdateAction(dist, n -> 0.5, n -> 3);
+
+        final double[] features = new double[] {-1};
+        update.update(net, features);
+        // All neurons were updated.
+        for (Neuron n : net) {
+            Assert.assertEquals(1, n.getNumberOfSuccessfulUpdates());
+        }
+
+        // Disconnect neuron 2.
+        net.deleteLink(net.getNeuron(1), net.getNeuron(2));
+        net.deleteLink(net.getNeuron(2), net.getNeuron(1));
+        final double[] before = net.getNeuron(2).getFeatures();
+        update.update(net, features);
+        Assert.assertArrayEquals(before, net.getNeuron(2).getFeatures(), 0d);
+        Assert.assertEquals(2, net.getNeuron(0).getNumberOfSuccessfulUpdates());
+        Assert.assertEquals(2, net.getNeuron(1).getNumberOfSuccessfulUpdates());
+    }
+
+    @Test
+    public void testUpdateWithMapIndex() {
+        final FeatureInitializer init
+            = new OffsetFeatureInitializer(FeatureInitializerFactory.uniform(rng, 0, 0.1));
+        final FeatureInitializer[] initArray = {init};
+        final Network net = new NeuronString(3, false, initArray).getNetwork();
+        final DistanceMeasure dist = new EuclideanDistance();
+        // Search is exact: "maxChecks" is larger than the number of neurons.
+        final UpdateAction update = new KohonenUpdateAction(dist, n -> 1, n -> 0, 10, 1);
+
+        final double[] features = new double[] {2.4};
+        update.update(net, features);
+        Assert.assertArrayEquals(features, net.getNeuron(2).getFeatures(), 0d);
+
+        // The search is rebuilt when a neuron is added.
+        final long id = net.createNeuron(new double[] {-5});
+        final double[] other = new double[] {-4};
+        update.update(net, other);
+        Assert.assertArrayEquals(other, net.getNeuron(id).getFeatures(), 0d);
+        Assert.assertEquals(1, net.getNeuron(2).getNumberOfSuccessfulUpdates());
+        Assert.assertEquals(0, net.getNeuron(0).getNumberOfSuccessfulUpdates());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMapIndexWrongMaxChecks() {
+        new KohonenUpdateAction(new EuclideanDistance(), n -> 1, n -> 0, 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMapIndexWrongRefreshInterval() {
+        new KohonenUpdateAction(new EuclideanDistance(), n -> 1, n -> 0, 1, 0);
+    }
 }
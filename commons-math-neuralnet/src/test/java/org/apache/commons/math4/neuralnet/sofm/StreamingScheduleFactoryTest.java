@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math4.neuralnet.sofm;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+/**
+ * Tests for {@link StreamingScheduleFactory} class.
+ */
+public class StreamingScheduleFactoryTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void testWindowPrecondition() {
+        StreamingScheduleFactory.window(0);
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void testTimePrecondition() {
+        StreamingScheduleFactory.time(TimeUnit.SECONDS, 0);
+    }
+
+    @Test
+    public void testWindow() {
+        final StreamingSchedule s = StreamingScheduleFactory.window(100);
+
+        Assert.assertEquals(0, s.value(0));
+        Assert.assertEquals(42, s.value(42));
+        Assert.assertEquals(100, s.value(100));
+        Assert.assertEquals(100, s.value(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testTime() {
+        final AtomicLong clock = new AtomicLong(123456789);
+        final StreamingSchedule s = StreamingScheduleFactory.time(clock::get, TimeUnit.MILLISECONDS, 60000);
+
+        Assert.assertEquals(0, s.value(1000));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        Assert.assertEquals(2000, s.value(0));
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+        Assert.assertEquals(60000, s.value(0));
+    }
+}
@@ -26,6 +26,8 @@ import java.util.Collection;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.StreamSupport;
 import java.util.stream.Collectors;
 
@@ -651,6 +653,53 @@ public class NeuronSquareMesh2DTest {
         Assert.assertEquals(16, neighbours.size());
     }
 
+    @Test
+    public void testConcurrentInitialization() {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (SquareNeighbourhood type : SquareNeighbourhood.values()) {
+                final NeuronSquareMesh2D expected
+                    = new NeuronSquareMesh2D(5, true, 4, false, type,
+                                             new FeatureInitializer[] {
+                                                 FeatureInitializerFactory.function(x -> x, 0, 1),
+                                                 FeatureInitializerFactory.function(x -> 2 * x, 3, 1),
+                                                 FeatureInitializerFactory.function(x -> -x, 1, 2),
+                                             });
+                final NeuronSquareMesh2D actual
+                    = new NeuronSquareMesh2D(5, true, 4, false, type,
+                                             new FeatureInitializer[] {
+                                                 FeatureInitializerFactory.function(x -> x, 0, 1),
+                                                 FeatureInitializerFactory.function(x -> 2 * x, 3, 1),
+                                                 FeatureInitializerFactory.function(x -> -x, 1, 2),
+                                             },
+                                             executor);
+
+                final Network expectedNet = expected.getNetwork();
+                final Network actualNet = actual.getNetwork();
+                for (int i = 0; i < 5; i++) {
+                    for (int j = 0; j < 4; j++) {
+                        final Neuron e = expected.getNeuron(i, j);
+                        final Neuron a = actual.getNeuron(i, j);
+                        Assert.assertEquals(e.getIdentifier(), a.getIdentifier());
+                        Assert.assertArrayEquals(e.getFeatures(), a.getFeatures(), 0d);
+
+                        final Set<Long> eIds = new HashSet<>();
+                        for (Neuron n : expectedNet.getNeighbours(e)) {
+                            eIds.add(n.getIdentifier());
+                        }
+                        final Set<Long> aIds = new HashSet<>();
+                        for (Neuron n : actualNet.getNeighbours(a)) {
+                            aIds.add(n.getIdentifier());
+                        }
+                        Assert.assertEquals(eIds, aIds);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testSerialize()
         throws IOException,